@@ -41,6 +41,8 @@
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : renamed method name
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Added draw() for a subset of the chart layers;
+ * 16-Oct-2026 : Send the progress events once per ChartLayerCache draw;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
@@ -1094,10 +1096,72 @@ public class AFreeChart implements Drawable, TitleChangeListener,
      */
     public void draw(Canvas canvas, RectShape chartArea, PointF anchor,
             ChartRenderingInfo info) {
-        EntityCollection entities = null;
-        
+        draw(canvas, chartArea, anchor, info, ChartLayerCache.ALL_LAYERS);
+    }
+
+    /**
+     * Draws some of the layers of the chart on a graphics device.  The
+     * background layer contains the chart background, the titles and the
+     * plot background, axes and gridlines, the data layer contains the data
+     * items and the foreground layer contains the annotations and crosshairs
+     * (a plot that doesn't support layered drawing is drawn entirely in the
+     * data layer).  The chart layout is calculated for every call, so that
+     * the layers line up.
+     * <P>
+     * The rendering info is only recorded by a call that draws the data
+     * layer.
+     * 
+     * @param canvas
+     *            the graphics device.
+     * @param chartArea
+     *            the area within which the chart should be drawn.
+     * @param anchor
+     *            the anchor point (in Java2D space) for the chart (
+     *            <code>null</code> permitted).
+     * @param info
+     *            records info about the drawing (null means collect no info).
+     * @param layers
+     *            the layers to draw (a combination of the layer flags
+     *            defined by {@link ChartLayerCache}).
+     *
+     * @see ChartLayerCache
+     */
+    public void draw(Canvas canvas, RectShape chartArea, PointF anchor,
+            ChartRenderingInfo info, int layers) {
         notifyListeners(new ChartProgressEvent(this, this,
                 ChartProgressEvent.DRAWING_STARTED, 0));
+        drawLayers(canvas, chartArea, anchor, info, layers);
+        notifyListeners(new ChartProgressEvent(this, this,
+                ChartProgressEvent.DRAWING_FINISHED, 100));
+    }
+
+    /**
+     * Draws some of the layers of the chart, without sending progress
+     * events.  {@link ChartLayerCache} uses this to draw its layers, and
+     * sends a single pair of progress events for each of its draws.
+     *
+     * @param canvas
+     *            the graphics device.
+     * @param chartArea
+     *            the area within which the chart should be drawn.
+     * @param anchor
+     *            the anchor point (in Java2D space) for the chart (
+     *            <code>null</code> permitted).
+     * @param info
+     *            records info about the drawing (null means collect no info).
+     * @param layers
+     *            the layers to draw.
+     *
+     * @see #draw(Canvas, RectShape, PointF, ChartRenderingInfo, int)
+     */
+    void drawLayers(Canvas canvas, RectShape chartArea, PointF anchor,
+            ChartRenderingInfo info, int layers) {
+        EntityCollection entities = null;
+        boolean background = (layers & ChartLayerCache.BACKGROUND_LAYER) != 0;
+        boolean data = (layers & ChartLayerCache.DATA_LAYER) != 0;
+        if (!data) {
+            info = null;
+        }
         
         // record the chart area, if info is requested...
         if (info != null) {
@@ -1115,12 +1179,12 @@ public class AFreeChart implements Drawable, TitleChangeListener,
                 (float) chartArea.getMaxX() , (float) chartArea.getMaxY());
 
         // draw the chart background...
-        if (this.backgroundPaintType != null) {
+        if (background && this.backgroundPaintType != null) {
             Paint paint = PaintUtility.createPaint(Paint.ANTI_ALIAS_FLAG, this.backgroundPaintType);
             chartArea.fill(canvas, paint);
         }
 
-        if (isBorderVisible()) {
+        if (background && isBorderVisible()) {
             PaintType paintType = getBorderPaintType();
             if (paintType != null) {
                 RectShape borderArea = new RectShape(chartArea
@@ -1137,6 +1201,12 @@ public class AFreeChart implements Drawable, TitleChangeListener,
         if (this.padding != null)
             this.padding.trim(nonTitleArea);
 
+        // the titles are laid out for every layer, but only painted in the
+        // background layer...
+        canvas.save();
+        if (!background) {
+            canvas.clipRect(0.0f, 0.0f, 0.0f, 0.0f);
+        }
         if (this.title != null) {
             EntityCollection e = drawTitle(this.title, canvas, nonTitleArea,
                     (entities != null));
@@ -1157,6 +1227,8 @@ public class AFreeChart implements Drawable, TitleChangeListener,
             }
         }
         
+        canvas.restore();
+        
         RectShape plotArea = nonTitleArea;
 
         // draw the plot (axes and data visualisation)
@@ -1164,12 +1236,19 @@ public class AFreeChart implements Drawable, TitleChangeListener,
         if (info != null) {
             plotInfo = info.getPlotInfo();
         }
-        this.plot.draw(canvas, plotArea, anchor, null, plotInfo);
+        if (this.plot.isLayeredDrawingSupported()) {
+            this.plot.setDrawLayers(layers);
+            try {
+                this.plot.draw(canvas, plotArea, anchor, null, plotInfo);
+            }
+            finally {
+                this.plot.setDrawLayers(ChartLayerCache.ALL_LAYERS);
+            }
+        } else if (data) {
+            this.plot.draw(canvas, plotArea, anchor, null, plotInfo);
+        }
 
         canvas.clipRect(savedClip, Op.REPLACE);
-
-        notifyListeners(new ChartProgressEvent(this, this,
-                ChartProgressEvent.DRAWING_FINISHED, 100));
     }
 
     /**
@@ -0,0 +1,605 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -----------------------
+ * AsyncChartRenderer.java
+ * -----------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Log frames that fail, and stop if nothing has changed;
+ * 16-Oct-2026 : Added post(), publish the rendering info only when the data
+ *               layer is redrawn, keep a canvas per buffer and keep running
+ *               after a frame fails;
+ */
+
+package org.afree.chart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.afree.chart.event.ChartChangeEvent;
+import org.afree.chart.event.ChartChangeListener;
+import org.afree.chart.event.ChartProgressEvent;
+import org.afree.chart.event.ChartProgressListener;
+import org.afree.graphics.geom.RectShape;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PointF;
+import android.util.Log;
+
+/**
+ * Renders a chart into an off-screen bitmap on a worker thread, so that a
+ * view only has to copy the last finished frame to the screen in its
+ * <code>onDraw()</code> method.
+ * <P>
+ * The renderer uses two bitmaps: the worker thread draws the chart (through
+ * a {@link ChartLayerCache}) into the back buffer, and when the frame is
+ * finished the back and front buffers are swapped.  {@link #draw(Canvas,
+ * float, float)} draws the front buffer and never waits for a frame to be
+ * rendered.
+ * <P>
+ * The renderer listens to the chart, and any number of
+ * {@link ChartChangeEvent}s that arrive while a frame is being rendered are
+ * coalesced into a single new frame.  A frame that was started for a size
+ * that has since changed, or that was cancelled with {@link #cancel()}, is
+ * discarded instead of being swapped to the front.
+ * <P>
+ * Progress is reported to the registered {@link ChartProgressListener}s on
+ * the worker thread: a {@link ChartProgressEvent#DRAWING_STARTED} event when
+ * a frame is started and a {@link ChartProgressEvent#DRAWING_FINISHED} event
+ * when a frame has been swapped to the front.  A view will typically call
+ * <code>postInvalidate()</code> when it receives the latter.
+ * <P>
+ * The worker thread holds the chart's lock while it draws the chart.  Changes
+ * to the chart (or its plot and datasets) from other threads, for example
+ * zooming from a touch handler on the UI thread, should be passed to
+ * {@link #post(Runnable)}: the worker thread applies them, under the same
+ * lock, before it starts the next frame, so the caller never waits for a
+ * frame to be rendered.  A frame that fails is discarded, the exception is
+ * logged and the worker thread waits for the next request.
+ * <P>
+ * The rendering info is only replaced when the data layer of a frame has
+ * been redrawn (see {@link ChartLayerCache}), and the renderer never changes
+ * an info after it has been published.
+ *
+ * @see ChartLayerCache
+ */
+public class AsyncChartRenderer implements ChartChangeListener, Runnable {
+
+    /** The tag for log messages. */
+    private static final String TAG = "AsyncChartRenderer";
+
+    /** The chart. */
+    private AFreeChart chart;
+
+    /** The layer cache that the worker thread draws the chart with. */
+    private ChartLayerCache layerCache;
+
+    /** The lock that guards the request state and the front buffer. */
+    private final Object lock = new Object();
+
+    /** The worker thread (<code>null</code> if not started). */
+    private Thread thread;
+
+    /** Is the worker thread running? */
+    private boolean running;
+
+    /** Has the renderer been disposed? */
+    private boolean disposed;
+
+    /** Has a new frame been requested? */
+    private boolean requested;
+
+    /** The requested width. */
+    private int width;
+
+    /** The requested height. */
+    private int height;
+
+    /** The anchor for the next frame (<code>null</code> permitted). */
+    private PointF anchor;
+
+    /**
+     * A counter that is incremented whenever the frame that is being
+     * rendered becomes stale.
+     */
+    private long generation;
+
+    /** The buffer that was last swapped to the front. */
+    private Bitmap frontBuffer;
+
+    /** The rendering info for the front buffer. */
+    private ChartRenderingInfo frontInfo;
+
+    /** The canvas that draws on the front buffer. */
+    private Canvas frontCanvas;
+
+    /** The buffer that the worker thread draws into. */
+    private Bitmap backBuffer;
+
+    /** The canvas that draws on the back buffer. */
+    private Canvas backCanvas;
+
+    /** The rendering info that the worker thread updates. */
+    private ChartRenderingInfo renderingInfo;
+
+    /**
+     * Has the rendering info been updated since it was last published?  Only
+     * accessed by the worker thread.
+     */
+    private boolean renderingInfoUpdated;
+
+    /** The changes that are applied before the next frame. */
+    private List pendingChanges;
+
+    /**
+     * Is the worker thread applying the pending changes?  Only set by the
+     * worker thread.
+     */
+    private boolean applyingChanges;
+
+    /** The registered progress listeners. */
+    private List<ChartProgressListener> progressListeners;
+
+    /**
+     * Creates a new renderer and registers it with the chart.  The worker
+     * thread is not started until {@link #start()} is called.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     */
+    public AsyncChartRenderer(AFreeChart chart) {
+        if (chart == null) {
+            throw new IllegalArgumentException("Null 'chart' argument.");
+        }
+        this.chart = chart;
+        this.layerCache = new ChartLayerCache(chart);
+        this.renderingInfo = new ChartRenderingInfo();
+        this.pendingChanges = new ArrayList();
+        this.progressListeners
+                = new CopyOnWriteArrayList<ChartProgressListener>();
+        chart.addChangeListener(this);
+    }
+
+    /**
+     * Returns the chart.
+     *
+     * @return The chart (never <code>null</code>).
+     */
+    public AFreeChart getChart() {
+        return this.chart;
+    }
+
+    /**
+     * Returns the layer cache that the worker thread draws the chart with,
+     * for example to switch on incremental rendering.
+     *
+     * @return The layer cache (never <code>null</code>).
+     */
+    public ChartLayerCache getLayerCache() {
+        return this.layerCache;
+    }
+
+    /**
+     * Starts the worker thread and requests a frame.  This method does
+     * nothing if the thread is already running.
+     */
+    public void start() {
+        synchronized (this.lock) {
+            if (this.disposed) {
+                throw new IllegalStateException("Renderer has been disposed.");
+            }
+            if (this.running) {
+                return;
+            }
+            this.running = true;
+            this.requested = true;
+            this.lock.notifyAll();
+            if (this.thread != null) {
+                return;  // the worker thread hasn't stopped yet
+            }
+            this.thread = new Thread(this, "AFreeChart renderer");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+    }
+
+    /**
+     * Stops the worker thread after the frame that is being rendered (if
+     * any) has finished, and discards that frame.  The renderer can be
+     * started again later.
+     */
+    public void stop() {
+        synchronized (this.lock) {
+            this.running = false;
+            this.generation++;
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Sets the size of the frames.  If the size changes, the frame that is
+     * being rendered is discarded and a new frame is requested.
+     *
+     * @param width  the width (in pixels).
+     * @param height  the height (in pixels).
+     */
+    public void setSize(int width, int height) {
+        synchronized (this.lock) {
+            if (width == this.width && height == this.height) {
+                return;
+            }
+            this.width = width;
+            this.height = height;
+            this.generation++;
+            this.requested = true;
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Requests a new frame.  Requests that arrive before the worker thread
+     * starts the frame are coalesced.
+     */
+    public void requestRender() {
+        synchronized (this.lock) {
+            this.requested = true;
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Requests a new frame with the given anchor point (used to set the
+     * crosshair values).
+     *
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     */
+    public void requestRender(PointF anchor) {
+        synchronized (this.lock) {
+            this.anchor = anchor;
+            this.requested = true;
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Queues a change to the chart (or its plot and datasets) and requests a
+     * new frame.  The worker thread runs the change, with the chart's lock
+     * held, before it starts the next frame.  Changes are run in the order
+     * in which they are posted, and the change events that they trigger
+     * don't request another frame.  Changes that are pending when the
+     * renderer is stopped are run before the first frame after it is
+     * started again.
+     *
+     * @param change  the change (<code>null</code> not permitted).
+     */
+    public void post(Runnable change) {
+        if (change == null) {
+            throw new IllegalArgumentException("Null 'change' argument.");
+        }
+        synchronized (this.lock) {
+            this.pendingChanges.add(change);
+            this.requested = true;
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Discards the frame that is being rendered (if any), so that it is not
+     * swapped to the front.  Frames that are requested afterwards are
+     * rendered as usual.
+     */
+    public void cancel() {
+        synchronized (this.lock) {
+            this.generation++;
+        }
+    }
+
+    /**
+     * Receives notification of a change to the chart and requests a new
+     * frame.
+     *
+     * @param event  the event.
+     */
+    public void chartChanged(ChartChangeEvent event) {
+        synchronized (this.lock) {
+            if (this.applyingChanges && Thread.currentThread() == this.thread) {
+                return;  // the frame that is being started shows the change
+            }
+            this.requested = true;
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Draws the last finished frame.  This method doesn't wait for a frame
+     * that is being rendered.
+     *
+     * @param canvas  the canvas.
+     * @param x  the x-coordinate of the top left corner of the frame.
+     * @param y  the y-coordinate of the top left corner of the frame.
+     *
+     * @return A boolean that indicates whether a frame was drawn
+     *     (<code>false</code> if no frame has been finished yet).
+     */
+    public boolean draw(Canvas canvas, float x, float y) {
+        synchronized (this.lock) {
+            if (this.frontBuffer == null) {
+                return false;
+            }
+            canvas.drawBitmap(this.frontBuffer, x, y, null);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the rendering info for the last finished frame.  The info is
+     * replaced, never changed, when a frame with a redrawn data layer is
+     * finished.
+     *
+     * @return The rendering info (<code>null</code> if no frame has been
+     *     finished yet).
+     */
+    public ChartRenderingInfo getChartRenderingInfo() {
+        synchronized (this.lock) {
+            return this.frontInfo;
+        }
+    }
+
+    /**
+     * Registers an object for notification of progress events.  The events
+     * are sent on the worker thread.
+     *
+     * @param listener  the object being registered.
+     *
+     * @see #removeProgressListener(ChartProgressListener)
+     */
+    public void addProgressListener(ChartProgressListener listener) {
+        this.progressListeners.add(listener);
+    }
+
+    /**
+     * Deregisters an object for notification of progress events.
+     *
+     * @param listener  the object being deregistered.
+     *
+     * @see #addProgressListener(ChartProgressListener)
+     */
+    public void removeProgressListener(ChartProgressListener listener) {
+        this.progressListeners.remove(listener);
+    }
+
+    /**
+     * Sends a {@link ChartProgressEvent} to all registered listeners.
+     *
+     * @param type  the event type.
+     * @param percent  the percentage complete.
+     */
+    protected void notifyListeners(int type, int percent) {
+        if (this.progressListeners.size() == 0) {
+            return;
+        }
+        ChartProgressEvent event = new ChartProgressEvent(this, this.chart,
+                type, percent);
+        for (int i = this.progressListeners.size() - 1; i >= 0; i--) {
+            this.progressListeners.get(i).chartProgress(event);
+        }
+    }
+
+    /**
+     * Renders the requested frames until the renderer is stopped.  This
+     * method is called on the worker thread.
+     */
+    public void run() {
+        try {
+            while (true) {
+                int w;
+                int h;
+                PointF a;
+                long g;
+                List changes = null;
+                synchronized (this.lock) {
+                    while (this.running && !this.requested) {
+                        try {
+                            this.lock.wait();
+                        }
+                        catch (InterruptedException e) {
+                            this.running = false;
+                        }
+                    }
+                    if (!this.running) {
+                        this.thread = null;
+                        if (this.disposed) {
+                            recycle();
+                        }
+                        return;
+                    }
+                    this.requested = false;
+                    w = this.width;
+                    h = this.height;
+                    a = this.anchor;
+                    this.anchor = null;
+                    g = this.generation;
+                    if (!this.pendingChanges.isEmpty()) {
+                        changes = this.pendingChanges;
+                        this.pendingChanges = new ArrayList();
+                    }
+                }
+                try {
+                    if (changes != null) {
+                        applyChanges(changes);
+                    }
+                    if (w > 0 && h > 0) {
+                        renderFrame(w, h, a, g);
+                    }
+                }
+                catch (RuntimeException e) {
+                    // the frame is discarded, and the next request redraws
+                    // all the layers
+                    Log.e(TAG, "Unable to render the chart.", e);
+                    this.layerCache.invalidate(ChartLayerCache.ALL_LAYERS);
+                }
+            }
+        }
+        finally {
+            synchronized (this.lock) {
+                if (this.thread == Thread.currentThread()) {
+                    // the frame failed with an error
+                    this.thread = null;
+                    this.running = false;
+                    if (this.disposed) {
+                        recycle();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the changes that were posted with {@link #post(Runnable)}, with
+     * the chart's lock held.  A change that fails is logged and skipped.
+     *
+     * @param changes  the changes.
+     */
+    private void applyChanges(List changes) {
+        synchronized (this.chart) {
+            this.applyingChanges = true;
+            try {
+                for (int i = 0; i < changes.size(); i++) {
+                    try {
+                        ((Runnable) changes.get(i)).run();
+                    }
+                    catch (RuntimeException e) {
+                        Log.e(TAG, "Unable to change the chart.", e);
+                    }
+                }
+            }
+            finally {
+                this.applyingChanges = false;
+            }
+        }
+    }
+
+    /**
+     * Renders one frame into the back buffer and swaps it to the front,
+     * unless it has become stale in the meantime.
+     *
+     * @param w  the width.
+     * @param h  the height.
+     * @param a  the anchor point (<code>null</code> permitted).
+     * @param g  the generation that the frame was requested in.
+     */
+    private void renderFrame(int w, int h, PointF a, long g) {
+        notifyListeners(ChartProgressEvent.DRAWING_STARTED, 0);
+        if (this.backBuffer == null || this.backBuffer.getWidth() != w
+                || this.backBuffer.getHeight() != h) {
+            if (this.backBuffer != null) {
+                this.backBuffer.recycle();
+            }
+            this.backBuffer = Bitmap.createBitmap(w, h,
+                    Bitmap.Config.ARGB_8888);
+            this.backCanvas = new Canvas(this.backBuffer);
+        }
+        this.backBuffer.eraseColor(Color.TRANSPARENT);
+        int layers;
+        synchronized (this.chart) {
+            layers = this.layerCache.draw(this.backCanvas, new RectShape(0.0,
+                    0.0, w, h), a, this.renderingInfo);
+        }
+        if ((layers & ChartLayerCache.DATA_LAYER) != 0) {
+            this.renderingInfoUpdated = true;
+        }
+        synchronized (this.lock) {
+            if (g != this.generation || !this.running) {
+                // the frame is stale
+                if (this.renderingInfoUpdated) {
+                    // the next frame has to rebuild the info from scratch
+                    this.layerCache.invalidate(ChartLayerCache.DATA_LAYER);
+                }
+                return;
+            }
+            Bitmap b = this.frontBuffer;
+            Canvas c = this.frontCanvas;
+            this.frontBuffer = this.backBuffer;
+            this.frontCanvas = this.backCanvas;
+            this.backBuffer = b;
+            this.backCanvas = c;
+            if (this.renderingInfoUpdated) {
+                // hand the info over instead of copying it
+                this.frontInfo = this.renderingInfo;
+                this.renderingInfo = new ChartRenderingInfo();
+                this.renderingInfoUpdated = false;
+            }
+        }
+        notifyListeners(ChartProgressEvent.DRAWING_FINISHED, 100);
+    }
+
+    /**
+     * Stops the worker thread, deregisters the renderer from the chart and
+     * releases the bitmaps (when the worker thread has finished the frame
+     * that it is rendering, if any).
+     */
+    public void dispose() {
+        this.chart.removeChangeListener(this);
+        synchronized (this.lock) {
+            this.disposed = true;
+            this.running = false;
+            this.generation++;
+            this.lock.notifyAll();
+            if (this.thread == null) {
+                recycle();
+            }
+        }
+    }
+
+    /**
+     * Releases the bitmaps and the layer cache.
+     */
+    private void recycle() {
+        this.layerCache.dispose();
+        if (this.frontBuffer != null) {
+            this.frontBuffer.recycle();
+            this.frontBuffer = null;
+            this.frontCanvas = null;
+        }
+        if (this.backBuffer != null) {
+            this.backBuffer.recycle();
+            this.backBuffer = null;
+            this.backCanvas = null;
+        }
+        this.frontInfo = null;
+    }
+
+}
@@ -0,0 +1,751 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * --------------------
+ * ChartLayerCache.java
+ * --------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Send the chart progress events once per draw;
+ * 16-Oct-2026 : Return the redrawn layers from draw();
+ * 16-Oct-2026 : Draw incrementally with an entity collection when the
+ *               renderers use virtual entities;
+ */
+
+package org.afree.chart;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.afree.chart.axis.Axis;
+import org.afree.chart.axis.ValueAxis;
+import org.afree.chart.event.ChartChangeEvent;
+import org.afree.chart.event.ChartChangeEventType;
+import org.afree.chart.event.ChartChangeListener;
+import org.afree.chart.event.ChartProgressEvent;
+import org.afree.chart.plot.CategoryPlot;
+import org.afree.chart.plot.CombinedDomainCategoryPlot;
+import org.afree.chart.plot.CombinedDomainXYPlot;
+import org.afree.chart.plot.CombinedRangeCategoryPlot;
+import org.afree.chart.plot.CombinedRangeXYPlot;
+import org.afree.chart.plot.Plot;
+import org.afree.chart.plot.PlotOrientation;
+import org.afree.chart.plot.XYPlot;
+import org.afree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.afree.chart.renderer.xy.XYItemRenderer;
+import org.afree.data.Range;
+import org.afree.data.xy.XYDataset;
+import org.afree.graphics.geom.RectShape;
+import org.afree.ui.RectangleEdge;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PointF;
+import android.graphics.PorterDuff;
+
+/**
+ * An off-screen cache that keeps the background, data and foreground layers
+ * of a chart in separate bitmaps, so that a change to one layer doesn't
+ * redraw the others:
+ * <ul>
+ * <li>the background layer contains the chart background, the titles and
+ * legend and the plot background, axes, gridlines and background markers;</li>
+ * <li>the data layer contains the data items;</li>
+ * <li>the foreground layer contains the annotations, foreground markers and
+ * crosshairs.</li>
+ * </ul>
+ * The cache listens to the chart and uses the type of each
+ * {@link ChartChangeEvent} to invalidate the affected layers: a
+ * {@link ChartChangeEventType#DATASET_UPDATED} event invalidates the data
+ * layer (and the background layer too if the axis ranges, categories or
+ * legend items have changed), a
+ * {@link ChartChangeEventType#FOREGROUND_UPDATED} event invalidates the
+ * foreground layer and any other event invalidates all the layers.
+ * <P>
+ * The cache uses three bitmaps of the size of the chart.  The rendering info
+ * is only updated when the data layer is redrawn.
+ * <P>
+ * For a live {@link XYPlot} whose domain axis scrolls as new items are
+ * added (for example a time series with a maximum item age), incremental
+ * rendering can be switched on with {@link #setIncrementalRendering(boolean)}.
+ * When the domain axis range has only been translated since the last draw
+ * and the range axes are unchanged, the data layer is then shifted by the
+ * pixel distance, and only the items in the newly exposed part (plus a
+ * margin) are drawn, see {@link XYPlot#setRenderedDomainRange(Range)}.
+ * This assumes that items only change in the newly exposed part of the
+ * domain range.  Any other change causes a full redraw.
+ * <P>
+ * An incremental draw only creates entities for the items that it draws, so
+ * when the rendering info has an entity collection the data layer is only
+ * drawn incrementally if the renderers for all the datasets use virtual
+ * entities (see
+ * {@link AbstractXYItemRenderer#setUseVirtualEntities(boolean)}), which
+ * stand for all the items of a dataset.
+ *
+ * @see AFreeChart#draw(Canvas, RectShape, PointF, ChartRenderingInfo, int)
+ */
+public class ChartLayerCache implements ChartChangeListener {
+
+    /** The background layer flag. */
+    public static final int BACKGROUND_LAYER = 1;
+
+    /** The data layer flag. */
+    public static final int DATA_LAYER = 2;
+
+    /** The foreground layer flag. */
+    public static final int FOREGROUND_LAYER = 4;
+
+    /** All layers. */
+    public static final int ALL_LAYERS = BACKGROUND_LAYER | DATA_LAYER
+            | FOREGROUND_LAYER;
+
+    /** The default incremental rendering margin (in pixels). */
+    public static final int DEFAULT_INCREMENTAL_MARGIN = 8;
+
+    /** The layers, in the order in which they are drawn on screen. */
+    private static final int[] LAYERS = {BACKGROUND_LAYER, DATA_LAYER,
+            FOREGROUND_LAYER};
+
+    /** The chart. */
+    private AFreeChart chart;
+
+    /** The bitmaps for the layers (in the order of {@link #LAYERS}). */
+    private Bitmap[] bitmaps;
+
+    /** The canvases that draw on the bitmaps. */
+    private Canvas[] canvases;
+
+    /** The width of the bitmaps. */
+    private int width;
+
+    /** The height of the bitmaps. */
+    private int height;
+
+    /** The layers that need to be redrawn. */
+    private int invalidLayers;
+
+    /**
+     * The state that the background layer was drawn for (see
+     * {@link #createBackgroundState()}).
+     */
+    private List backgroundState;
+
+    /** A flag that controls whether scrolling is drawn incrementally. */
+    private boolean incrementalRendering;
+
+    /**
+     * The number of pixels either side of the newly exposed part of the data
+     * layer that are redrawn as well.
+     */
+    private int incrementalMargin;
+
+    /** A spare bitmap that the data layer is shifted into. */
+    private Bitmap scrollBitmap;
+
+    /** The canvas that draws on the spare bitmap. */
+    private Canvas scrollCanvas;
+
+    /** Can the data layer be scrolled incrementally? */
+    private boolean dataScrollable;
+
+    /** The data area that the data layer was drawn for. */
+    private RectShape dataArea;
+
+    /** The domain axis range that the data layer was drawn for. */
+    private Range domainRange;
+
+    /** The range axis ranges that the data layer was drawn for. */
+    private List rangeState;
+
+    /**
+     * The offset (in pixels, along the domain axis) at which the data layer
+     * is drawn, since the layer is shifted by whole pixels only.
+     */
+    private double dataOffset;
+
+    /**
+     * Creates a new cache and registers it with the chart.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     */
+    public ChartLayerCache(AFreeChart chart) {
+        if (chart == null) {
+            throw new IllegalArgumentException("Null 'chart' argument.");
+        }
+        this.chart = chart;
+        this.invalidLayers = ALL_LAYERS;
+        this.incrementalMargin = DEFAULT_INCREMENTAL_MARGIN;
+        chart.addChangeListener(this);
+    }
+
+    /**
+     * Returns the chart.
+     *
+     * @return The chart (never <code>null</code>).
+     */
+    public AFreeChart getChart() {
+        return this.chart;
+    }
+
+    /**
+     * Returns the layers that will be redrawn by the next call to
+     * {@link #draw(Canvas, RectShape, PointF, ChartRenderingInfo)}.
+     *
+     * @return A combination of the layer flags.
+     */
+    public synchronized int getInvalidLayers() {
+        return this.invalidLayers;
+    }
+
+    /**
+     * Marks layers to be redrawn by the next call to
+     * {@link #draw(Canvas, RectShape, PointF, ChartRenderingInfo)}.
+     *
+     * @param layers  a combination of the layer flags.
+     */
+    public synchronized void invalidate(int layers) {
+        this.invalidLayers |= layers;
+        if ((layers & DATA_LAYER) != 0) {
+            this.dataScrollable = false;
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether scrolling the domain axis of an
+     * {@link XYPlot} is drawn incrementally.
+     *
+     * @return A boolean.
+     *
+     * @see #setIncrementalRendering(boolean)
+     */
+    public boolean isIncrementalRendering() {
+        return this.incrementalRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether scrolling the domain axis of an
+     * {@link XYPlot} is drawn incrementally.
+     *
+     * @param incremental  the new flag value.
+     *
+     * @see #isIncrementalRendering()
+     */
+    public synchronized void setIncrementalRendering(boolean incremental) {
+        this.incrementalRendering = incremental;
+        this.dataScrollable = false;
+    }
+
+    /**
+     * Returns the number of pixels either side of the newly exposed part of
+     * the data layer that are redrawn as well, when scrolling is drawn
+     * incrementally.
+     *
+     * @return The margin (in pixels).
+     *
+     * @see #setIncrementalMargin(int)
+     */
+    public int getIncrementalMargin() {
+        return this.incrementalMargin;
+    }
+
+    /**
+     * Sets the number of pixels either side of the newly exposed part of the
+     * data layer that are redrawn as well.  This should cover the size of
+     * the item shapes and the width of the lines.
+     *
+     * @param margin  the margin (in pixels, must be positive).
+     *
+     * @see #getIncrementalMargin()
+     */
+    public void setIncrementalMargin(int margin) {
+        if (margin < 0) {
+            throw new IllegalArgumentException("Requires 'margin' >= 0.");
+        }
+        this.incrementalMargin = margin;
+    }
+
+    /**
+     * Receives notification of a chart change event and invalidates the
+     * affected layers.
+     *
+     * @param event  the event.
+     */
+    public void chartChanged(ChartChangeEvent event) {
+        ChartChangeEventType type = event.getType();
+        if (ChartChangeEventType.DATASET_UPDATED.equals(type)) {
+            synchronized (this) {
+                // the data layer may still be scrolled
+                this.invalidLayers |= DATA_LAYER;
+            }
+        } else if (ChartChangeEventType.FOREGROUND_UPDATED.equals(type)) {
+            invalidate(FOREGROUND_LAYER);
+        } else {
+            invalidate(ALL_LAYERS);
+        }
+    }
+
+    /**
+     * Draws the chart, redrawing the invalid layers only.  A layer above a
+     * redrawn layer is always redrawn as well, and the data layer is redrawn
+     * when an anchor point is given, since the crosshairs may lock on to the
+     * data.
+     *
+     * @param canvas  the graphics device.
+     * @param area  the area within which the chart should be drawn.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  records info about the drawing (<code>null</code> means
+     *     collect no info).
+     *
+     * @return The layers that were redrawn (a combination of the layer
+     *     flags, <code>0</code> if nothing was drawn).  The info is only
+     *     updated when the data layer was redrawn.
+     */
+    public synchronized int draw(Canvas canvas, RectShape area,
+            PointF anchor, ChartRenderingInfo info) {
+        int w = (int) Math.ceil(area.getWidth());
+        int h = (int) Math.ceil(area.getHeight());
+        if (w <= 0 || h <= 0) {
+            return 0;
+        }
+        this.chart.notifyListeners(new ChartProgressEvent(this.chart,
+                this.chart, ChartProgressEvent.DRAWING_STARTED, 0));
+        if (this.bitmaps == null || w != this.width || h != this.height) {
+            recycle();
+            this.bitmaps = new Bitmap[LAYERS.length];
+            this.canvases = new Canvas[LAYERS.length];
+            for (int i = 0; i < LAYERS.length; i++) {
+                this.bitmaps[i] = Bitmap.createBitmap(w, h,
+                        Bitmap.Config.ARGB_8888);
+                this.canvases[i] = new Canvas(this.bitmaps[i]);
+            }
+            this.width = w;
+            this.height = h;
+            this.invalidLayers = ALL_LAYERS;
+            this.dataScrollable = false;
+        }
+
+        int layers = this.invalidLayers;
+        if (anchor != null) {
+            layers |= DATA_LAYER;
+            this.dataScrollable = false;
+        }
+        List state = null;
+        if ((layers & (BACKGROUND_LAYER | DATA_LAYER)) != 0) {
+            // the axis ranges may have changed with the data
+            state = createBackgroundState();
+            if (!state.equals(this.backgroundState)) {
+                layers |= BACKGROUND_LAYER;
+            }
+        }
+        if ((layers & BACKGROUND_LAYER) != 0) {
+            layers |= DATA_LAYER;
+            this.backgroundState = state;
+        }
+        if ((layers & DATA_LAYER) != 0) {
+            layers |= FOREGROUND_LAYER;
+        }
+        this.invalidLayers = 0;
+
+        // the data layer is drawn first, because it resets the info...
+        if ((layers & DATA_LAYER) != 0) {
+            drawDataLayer(area, anchor, info);
+        }
+        drawLayer(0, area, anchor, info, layers);
+        drawLayer(2, area, anchor, info, layers);
+
+        float x = (float) area.getX();
+        float y = (float) area.getY();
+        canvas.drawBitmap(this.bitmaps[0], x, y, null);
+        if (this.dataOffset == 0.0) {
+            canvas.drawBitmap(this.bitmaps[1], x, y, null);
+        } else {
+            canvas.save();
+            canvas.clipRect(this.dataArea.getMinX(), this.dataArea.getMinY(),
+                    this.dataArea.getMaxX(), this.dataArea.getMaxY());
+            if (isVertical()) {
+                canvas.drawBitmap(this.bitmaps[1],
+                        (float) (x + this.dataOffset), y, null);
+            } else {
+                canvas.drawBitmap(this.bitmaps[1], x,
+                        (float) (y + this.dataOffset), null);
+            }
+            canvas.restore();
+        }
+        canvas.drawBitmap(this.bitmaps[2], x, y, null);
+        this.chart.notifyListeners(new ChartProgressEvent(this.chart,
+                this.chart, ChartProgressEvent.DRAWING_FINISHED, 100));
+        return layers;
+    }
+
+    /**
+     * Redraws the data layer, incrementally if possible.
+     *
+     * @param area  the chart area.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  the rendering info (<code>null</code> permitted).
+     */
+    private void drawDataLayer(RectShape area, PointF anchor,
+            ChartRenderingInfo info) {
+        XYPlot plot = getScrollablePlot();
+        if (plot == null || (info != null
+                && info.getEntityCollection() != null
+                && !hasVirtualEntities(plot))) {
+            this.dataScrollable = false;
+            this.dataOffset = 0.0;
+            drawLayer(1, area, anchor, info, DATA_LAYER);
+            return;
+        }
+        if (info == null) {
+            // records the data area only
+            info = new ChartRenderingInfo(null);
+        }
+        if (!this.dataScrollable || !scrollDataLayer(plot, area, info)) {
+            this.dataOffset = 0.0;
+            drawLayer(1, area, anchor, info, DATA_LAYER);
+        }
+        this.dataArea = (RectShape) info.getPlotInfo().getDataArea().clone();
+        this.domainRange = plot.getDomainAxis().getRange();
+        this.rangeState = createRangeState(plot);
+        this.dataScrollable = true;
+    }
+
+    /**
+     * Shifts the data layer to follow a translation of the domain axis range
+     * and draws the items in the newly exposed part.
+     *
+     * @param plot  the plot.
+     * @param area  the chart area.
+     * @param info  the rendering info.
+     *
+     * @return <code>false</code> if the data layer can't be scrolled and
+     *     needs a full redraw.
+     */
+    private boolean scrollDataLayer(XYPlot plot, RectShape area,
+            ChartRenderingInfo info) {
+        ValueAxis axis = plot.getDomainAxis();
+        Range range = axis.getRange();
+        double length = range.getLength();
+        if (Math.abs(length - this.domainRange.getLength()) > length * 1.0E-9
+                || !createRangeState(plot).equals(this.rangeState)) {
+            return false;  // zoomed or rescaled
+        }
+        RectangleEdge edge = plot.getDomainAxisEdge();
+        double start = axis.valueToJava2D(range.getLowerBound(),
+                this.dataArea, edge);
+        double shift = axis.valueToJava2D(this.domainRange.getLowerBound(),
+                this.dataArea, edge) - start;
+        double check = axis.valueToJava2D(this.domainRange.getUpperBound(),
+                this.dataArea, edge) - axis.valueToJava2D(
+                range.getUpperBound(), this.dataArea, edge);
+        boolean vertical = isVertical();
+        double min = vertical ? this.dataArea.getMinX() : this.dataArea.getMinY();
+        double max = vertical ? this.dataArea.getMaxX() : this.dataArea.getMaxY();
+        int pixels = (int) Math.round(shift + this.dataOffset);
+        if (shift == 0.0 || Math.abs(check - shift) > 0.01
+                || Math.abs(pixels) + this.incrementalMargin >= max - min) {
+            return false;
+        }
+        double offset = shift + this.dataOffset - pixels;
+
+        // shift the layer (clipped to the data area) by whole pixels...
+        float origin = (float) (vertical ? area.getX() : area.getY());
+        float x = (float) (this.dataArea.getMinX() - area.getX());
+        float y = (float) (this.dataArea.getMinY() - area.getY());
+        float w = this.dataArea.getWidth();
+        float h = this.dataArea.getHeight();
+        if (this.scrollBitmap == null) {
+            this.scrollBitmap = Bitmap.createBitmap(this.width, this.height,
+                    Bitmap.Config.ARGB_8888);
+            this.scrollCanvas = new Canvas(this.scrollBitmap);
+        }
+        this.scrollBitmap.eraseColor(Color.TRANSPARENT);
+        this.scrollCanvas.save();
+        this.scrollCanvas.clipRect(x, y, x + w, y + h);
+        this.scrollCanvas.drawBitmap(this.bitmaps[1], vertical ? pixels : 0,
+                vertical ? 0 : pixels, null);
+        this.scrollCanvas.restore();
+        Bitmap b = this.bitmaps[1];
+        this.bitmaps[1] = this.scrollBitmap;
+        this.scrollBitmap = b;
+        Canvas c = this.canvases[1];
+        this.canvases[1] = this.scrollCanvas;
+        this.scrollCanvas = c;
+
+        // ...then clear and redraw the exposed part, with the margin
+        double low;
+        double high;
+        if (pixels > 0 || (pixels == 0 && shift > 0.0)) {
+            low = min - origin;
+            high = low + pixels + this.incrementalMargin;
+        } else {
+            high = max - origin;
+            low = high + pixels - this.incrementalMargin;
+        }
+        low = Math.floor(low);
+        high = Math.ceil(high);
+        Canvas layerCanvas = this.canvases[1];
+        layerCanvas.save();
+        if (vertical) {
+            layerCanvas.clipRect((float) low, y, (float) high, y + h);
+            layerCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+            layerCanvas.translate((float) (-area.getX() - offset),
+                    (float) -area.getY());
+        } else {
+            layerCanvas.clipRect(x, (float) low, x + w, (float) high);
+            layerCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+            layerCanvas.translate((float) -area.getX(),
+                    (float) (-area.getY() - offset));
+        }
+        double v0 = axis.java2DToValue(low + origin + offset
+                - this.incrementalMargin, this.dataArea, edge);
+        double v1 = axis.java2DToValue(high + origin + offset
+                + this.incrementalMargin, this.dataArea, edge);
+        plot.setRenderedDomainRange(new Range(Math.min(v0, v1),
+                Math.max(v0, v1)));
+        try {
+            this.chart.drawLayers(layerCanvas, area, null, info, DATA_LAYER);
+        }
+        finally {
+            plot.setRenderedDomainRange(null);
+            layerCanvas.restore();
+        }
+        this.dataOffset = offset;
+        // the layout may have changed, for example for a wider tick label
+        return this.dataArea.equals(info.getPlotInfo().getDataArea());
+    }
+
+    /**
+     * Returns the plot if the data layer can be drawn incrementally.
+     *
+     * @return The plot (possibly <code>null</code>).
+     */
+    private XYPlot getScrollablePlot() {
+        if (!this.incrementalRendering) {
+            return null;
+        }
+        Plot plot = this.chart.getPlot();
+        if (!(plot instanceof XYPlot) || plot instanceof CombinedDomainXYPlot
+                || plot instanceof CombinedRangeXYPlot) {
+            return null;
+        }
+        XYPlot p = (XYPlot) plot;
+        if (p.getDomainAxisCount() != 1 || p.getDomainAxis() == null) {
+            return null;
+        }
+        return p;
+    }
+
+    /**
+     * Returns <code>true</code> if the renderers for all the datasets in a
+     * plot use virtual entities, so that the entities don't depend on the
+     * items that are drawn.
+     *
+     * @param plot  the plot.
+     *
+     * @return A boolean.
+     */
+    private boolean hasVirtualEntities(XYPlot plot) {
+        for (int i = 0; i < plot.getDatasetCount(); i++) {
+            XYDataset dataset = plot.getDataset(i);
+            if (dataset == null) {
+                continue;
+            }
+            XYItemRenderer r = plot.getRendererForDataset(dataset);
+            if (r != null && !(r instanceof AbstractXYItemRenderer
+                    && ((AbstractXYItemRenderer) r).getUseVirtualEntities())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the domain axis of the chart is
+     * horizontal.
+     *
+     * @return A boolean.
+     */
+    private boolean isVertical() {
+        Plot plot = this.chart.getPlot();
+        return !(plot instanceof XYPlot) || ((XYPlot) plot).getOrientation()
+                == PlotOrientation.VERTICAL;
+    }
+
+    /**
+     * Returns the ranges of the range axes of a plot.
+     *
+     * @param plot  the plot.
+     *
+     * @return The ranges.
+     */
+    private List createRangeState(XYPlot plot) {
+        List state = new ArrayList();
+        for (int i = 0; i < plot.getRangeAxisCount(); i++) {
+            addAxisState(plot.getRangeAxis(i), state);
+        }
+        return state;
+    }
+
+    /**
+     * Redraws one of the layers, if it is invalid.
+     *
+     * @param index  the layer index (in the order of {@link #LAYERS}).
+     * @param area  the chart area.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  the rendering info (<code>null</code> permitted).
+     * @param layers  the invalid layers.
+     */
+    private void drawLayer(int index, RectShape area, PointF anchor,
+            ChartRenderingInfo info, int layers) {
+        int layer = LAYERS[index];
+        if ((layers & layer) == 0) {
+            return;
+        }
+        this.bitmaps[index].eraseColor(Color.TRANSPARENT);
+        Canvas layerCanvas = this.canvases[index];
+        layerCanvas.save();
+        layerCanvas.translate((float) -area.getX(), (float) -area.getY());
+        this.chart.drawLayers(layerCanvas, area, anchor, info, layer);
+        layerCanvas.restore();
+    }
+
+    /**
+     * Returns the state that the background layer depends on, apart from
+     * the properties of the chart that send a general change event when they
+     * change.  This implementation returns the ranges of the value axes, the
+     * categories of the category plots and the legend item labels.
+     *
+     * @return The state (never <code>null</code>).
+     */
+    protected List createBackgroundState() {
+        List state = new ArrayList();
+        addPlotState(this.chart.getPlot(), state);
+        if (this.chart.getLegend() != null) {
+            LegendItemCollection items = this.chart.getPlot().getLegendItems();
+            if (items != null) {
+                for (int i = 0; i < items.getItemCount(); i++) {
+                    state.add(items.get(i).getLabel());
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Adds the axis ranges and categories of a plot (and its subplots) to
+     * the background state.
+     *
+     * @param plot  the plot.
+     * @param state  the state.
+     */
+    private void addPlotState(Plot plot, List state) {
+        if (plot instanceof XYPlot) {
+            XYPlot p = (XYPlot) plot;
+            for (int i = 0; i < p.getDomainAxisCount(); i++) {
+                addAxisState(p.getDomainAxis(i), state);
+            }
+            for (int i = 0; i < p.getRangeAxisCount(); i++) {
+                addAxisState(p.getRangeAxis(i), state);
+            }
+        } else if (plot instanceof CategoryPlot) {
+            CategoryPlot p = (CategoryPlot) plot;
+            List categories = p.getCategories();
+            if (categories != null) {
+                state.add(new ArrayList(categories));
+            }
+            for (int i = 0; i < p.getRangeAxisCount(); i++) {
+                addAxisState(p.getRangeAxis(i), state);
+            }
+        }
+
+        List subplots = null;
+        if (plot instanceof CombinedDomainXYPlot) {
+            subplots = ((CombinedDomainXYPlot) plot).getSubplots();
+        } else if (plot instanceof CombinedRangeXYPlot) {
+            subplots = ((CombinedRangeXYPlot) plot).getSubplots();
+        } else if (plot instanceof CombinedDomainCategoryPlot) {
+            subplots = ((CombinedDomainCategoryPlot) plot).getSubplots();
+        } else if (plot instanceof CombinedRangeCategoryPlot) {
+            subplots = ((CombinedRangeCategoryPlot) plot).getSubplots();
+        }
+        if (subplots != null) {
+            Iterator iterator = subplots.iterator();
+            while (iterator.hasNext()) {
+                addPlotState((Plot) iterator.next(), state);
+            }
+        }
+    }
+
+    /**
+     * Adds the range of an axis to the background state.
+     *
+     * @param axis  the axis (<code>null</code> permitted).
+     * @param state  the state.
+     */
+    private void addAxisState(Axis axis, List state) {
+        if (axis instanceof ValueAxis) {
+            state.add(((ValueAxis) axis).getRange());
+        }
+    }
+
+    /**
+     * Deregisters the cache from the chart and releases the bitmaps.
+     */
+    public synchronized void dispose() {
+        this.chart.removeChangeListener(this);
+        recycle();
+    }
+
+    /**
+     * Releases the bitmaps.
+     */
+    private void recycle() {
+        if (this.bitmaps != null) {
+            for (int i = 0; i < this.bitmaps.length; i++) {
+                this.bitmaps[i].recycle();
+            }
+            this.bitmaps = null;
+            this.canvases = null;
+        }
+        if (this.scrollBitmap != null) {
+            this.scrollBitmap.recycle();
+            this.scrollBitmap = null;
+            this.scrollCanvas = null;
+        }
+        this.dataScrollable = false;
+        this.dataOffset = 0.0;
+    }
+
+}
@@ -40,6 +40,7 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Added a tick cache that is cleared by change events;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
@@ -103,7 +104,10 @@
 package org.afree.chart.axis;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.EventListener;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -301,6 +305,15 @@ public abstract class Axis implements Cloneable, Serializable {
     /** Storage for registered listeners. */
     private transient List<AxisChangeListener> listenerList;
 
+    /** The number of tick lists that the tick cache holds. */
+    private static final int TICK_CACHE_SIZE = 4;
+
+    /**
+     * The most recently calculated tick lists (<code>null</code> until the
+     * first list is stored).
+     */
+    private transient TickCache tickCache;
+
     /**
      * Constructs an axis, using default values where necessary.
      * 
@@ -1247,6 +1260,7 @@ public abstract class Axis implements Cloneable, Serializable {
      * @param event  information about the change to the axis.
      */
     protected void notifyListeners(AxisChangeEvent event) {
+        clearTickCache();
         if(listenerList.size() == 0) {
             return;
         }
@@ -1256,6 +1270,259 @@ public abstract class Axis implements Cloneable, Serializable {
     }
 
 
+    /**
+     * Returns a key for the tick list that {@link #refreshTicks(Canvas,
+     * AxisState, RectShape, RectangleEdge)} calculates for the specified
+     * area and edge, or <code>null</code> if the list shouldn't be cached.
+     * The key must hold (and compare equal on) every input to the tick
+     * calculation that can change without an {@link AxisChangeEvent}, such
+     * as the axis range or the categories of the plot; a change that fires
+     * an event clears the cache.
+     * <p>
+     * This implementation returns <code>null</code>.
+     * 
+     * @param dataArea
+     *            the area passed to <code>refreshTicks()</code>.
+     * @param edge
+     *            the edge on which the axis is located.
+     * 
+     * @return The key (possibly <code>null</code>).
+     */
+    protected Object getTickCacheKey(RectShape dataArea, RectangleEdge edge) {
+        return null;
+    }
+
+    /**
+     * Returns a copy of the tick list that was stored for the specified key
+     * by {@link #putCachedTicks(Object, List, AxisState, TickUnit)}, and
+     * restores the maximum tick label size in the axis state and the tick
+     * unit (see {@link #restoreTickUnit(TickUnit)}) if they were stored with
+     * it.
+     * 
+     * @param key
+     *            the key (<code>null</code> permitted, in which case the
+     *            method returns <code>null</code>).
+     * @param state
+     *            the axis state (<code>null</code> permitted).
+     * 
+     * @return The ticks, or <code>null</code> if there are none for the key.
+     */
+    protected synchronized List getCachedTicks(Object key, AxisState state) {
+        if (key == null) {
+            return null;
+        }
+        TickCache cache = getTickCache();
+        TickCache.Entry entry = cache.get(key);
+        if (entry == null) {
+            cache.missCount++;
+            return null;
+        }
+        cache.hitCount++;
+        if (state != null && !Double.isNaN(entry.max)) {
+            state.setMax(entry.max);
+        }
+        if (entry.tickUnit != null) {
+            restoreTickUnit(entry.tickUnit);
+        }
+        return new ArrayList(entry.ticks);
+    }
+
+    /**
+     * Stores a tick list for the specified key, discarding the least
+     * recently used list if the cache is full.  The ticks must not be
+     * modified after they are stored.
+     * 
+     * @param key
+     *            the key (<code>null</code> permitted, in which case the
+     *            method does nothing).
+     * @param ticks
+     *            the ticks (<code>null</code> not permitted).
+     * @param state
+     *            the axis state that holds the maximum tick label size, or
+     *            <code>null</code> if the tick calculation doesn't set it.
+     * @param tickUnit
+     *            the tick unit that the tick calculation selected, or
+     *            <code>null</code> if it doesn't select one.
+     */
+    protected synchronized void putCachedTicks(Object key, List ticks,
+            AxisState state, TickUnit tickUnit) {
+        if (key == null) {
+            return;
+        }
+        double max = (state != null ? state.getMax() : Double.NaN);
+        getTickCache().put(key, new ArrayList(ticks), max, tickUnit);
+    }
+
+    /**
+     * Sets the tick unit that was stored with a cached tick list, without
+     * sending an {@link AxisChangeEvent}, so that the axis is left in the
+     * same state as if the ticks had been calculated again.  Axes that
+     * store a tick unit with their ticks must override this method.
+     * <p>
+     * This implementation does nothing.
+     * 
+     * @param unit
+     *            the tick unit (never <code>null</code>).
+     */
+    protected void restoreTickUnit(TickUnit unit) {
+        // nothing to do
+    }
+
+    /**
+     * Removes all the tick lists from the cache.  This is called for each
+     * {@link AxisChangeEvent}; the hit and miss counts are kept.
+     */
+    public synchronized void clearTickCache() {
+        if (this.tickCache != null && this.tickCache.owner == this) {
+            this.tickCache.clear();
+        }
+    }
+
+    /**
+     * Returns the number of times that a tick list was found in the cache.
+     * 
+     * @return The hit count.
+     * 
+     * @see #getTickCacheMissCount()
+     */
+    public synchronized long getTickCacheHitCount() {
+        return getTickCache().hitCount;
+    }
+
+    /**
+     * Returns the number of times that a tick list had to be calculated
+     * because it wasn't found in the cache.
+     * 
+     * @return The miss count.
+     * 
+     * @see #getTickCacheHitCount()
+     */
+    public synchronized long getTickCacheMissCount() {
+        return getTickCache().missCount;
+    }
+
+    /**
+     * Returns the tick cache, creating a new one if there is none or if the
+     * current one was copied from another axis by <code>clone()</code>.
+     * 
+     * @return The tick cache.
+     */
+    private TickCache getTickCache() {
+        if (this.tickCache == null || this.tickCache.owner != this) {
+            this.tickCache = new TickCache(this);
+        }
+        return this.tickCache;
+    }
+
+    /**
+     * A small cache of tick lists, most recently used first.
+     */
+    private static class TickCache {
+
+        /** The axis that the cache belongs to. */
+        private Axis owner;
+
+        /** The entries, most recently used first. */
+        private LinkedList entries;
+
+        /** The number of tick lists found in the cache. */
+        private long hitCount;
+
+        /** The number of tick lists not found in the cache. */
+        private long missCount;
+
+        /**
+         * Creates a new cache.
+         * 
+         * @param owner
+         *            the axis that the cache belongs to.
+         */
+        TickCache(Axis owner) {
+            this.owner = owner;
+            this.entries = new LinkedList();
+        }
+
+        /**
+         * Returns the entry for a key, and moves it to the front.
+         * 
+         * @param key
+         *            the key.
+         * 
+         * @return The entry (possibly <code>null</code>).
+         */
+        Entry get(Object key) {
+            Iterator iterator = this.entries.iterator();
+            while (iterator.hasNext()) {
+                Entry entry = (Entry) iterator.next();
+                if (entry.key.equals(key)) {
+                    iterator.remove();
+                    this.entries.addFirst(entry);
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds an entry at the front, replacing any entry with the same key
+         * and discarding the last entry if the cache is full.
+         * 
+         * @param key
+         *            the key.
+         * @param ticks
+         *            the ticks.
+         * @param max
+         *            the maximum tick label size (<code>NaN</code> if not
+         *            set).
+         * @param tickUnit
+         *            the tick unit (<code>null</code> permitted).
+         */
+        void put(Object key, List ticks, double max, TickUnit tickUnit) {
+            Iterator iterator = this.entries.iterator();
+            while (iterator.hasNext()) {
+                if (((Entry) iterator.next()).key.equals(key)) {
+                    iterator.remove();
+                }
+            }
+            Entry entry = new Entry();
+            entry.key = key;
+            entry.ticks = ticks;
+            entry.max = max;
+            entry.tickUnit = tickUnit;
+            this.entries.addFirst(entry);
+            if (this.entries.size() > TICK_CACHE_SIZE) {
+                this.entries.removeLast();
+            }
+        }
+
+        /**
+         * Removes all the entries.
+         */
+        void clear() {
+            this.entries.clear();
+        }
+
+        /**
+         * A tick list with its key.
+         */
+        static class Entry {
+
+            /** The key. */
+            Object key;
+
+            /** The ticks. */
+            List ticks;
+
+            /** The maximum tick label size (<code>NaN</code> if not set). */
+            double max;
+
+            /** The tick unit (<code>null</code> if not set). */
+            TickUnit tickUnit;
+
+        }
+
+    }
+
     /**
      * Returns a RectShape that encloses the axis label. This is typically used
      * for layout purposes (it gives the maximum dimensions of the label).
@@ -0,0 +1,193 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ------------------
+ * AxisTransform.java
+ * ------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Added inverseTransform() method;
+ */
+
+package org.afree.chart.axis;
+
+import org.afree.graphics.geom.RectShape;
+import org.afree.ui.RectangleEdge;
+
+/**
+ * Converts data values to Java2D coordinates for one axis, data area and
+ * edge, with the axis range, the area bounds and the inversion flag worked
+ * out once when the transform is created (see
+ * {@link ValueAxis#getTransform(RectShape, RectangleEdge)}).  A value is
+ * first mapped onto the axis scale (for example, a logarithm or a timeline
+ * value) by {@link #toAxisScale(double)}, then converted with a single
+ * multiply and add.  {@link #inverseTransform(double)} converts a Java2D
+ * coordinate back to a data value.
+ * <P>
+ * A transform is a snapshot: it doesn't follow later changes to the axis,
+ * so it should be created for each drawing of the plot.
+ */
+public class AxisTransform {
+
+    /** The scale factor (Java2D units per axis unit). */
+    private double scale;
+
+    /** The Java2D coordinate of zero on the axis scale. */
+    private double offset;
+
+    /**
+     * Creates a new transform.
+     *
+     * @param scale  the scale factor (Java2D units per axis unit).
+     * @param offset  the Java2D coordinate of zero on the axis scale.
+     */
+    public AxisTransform(double scale, double offset) {
+        this.scale = scale;
+        this.offset = offset;
+    }
+
+    /**
+     * Creates a new transform that maps an axis range onto one edge of a
+     * data area, in the same way as {@link NumberAxis#valueToJava2D(double,
+     * RectShape, RectangleEdge)}: from left to right along the top or bottom
+     * edge and from bottom to top along the left or right edge, or the other
+     * way round if the axis is inverted.
+     *
+     * @param lower  the lower bound of the axis (on the axis scale).
+     * @param upper  the upper bound of the axis (on the axis scale).
+     * @param area  the data area (<code>null</code> not permitted).
+     * @param edge  the edge along which the axis lies.
+     * @param inverted  a flag that indicates whether the axis is inverted.
+     */
+    public AxisTransform(double lower, double upper, RectShape area,
+            RectangleEdge edge, boolean inverted) {
+        double start = 0.0;
+        double end = 0.0;
+        if (RectangleEdge.isTopOrBottom(edge)) {
+            start = area.getMinX();
+            end = area.getMaxX();
+        }
+        else if (RectangleEdge.isLeftOrRight(edge)) {
+            start = area.getMaxY();
+            end = area.getMinY();
+        }
+        if (inverted) {
+            double temp = start;
+            start = end;
+            end = temp;
+        }
+        this.scale = (end - start) / (upper - lower);
+        this.offset = start - lower * this.scale;
+    }
+
+    /**
+     * Returns the scale factor (Java2D units per axis unit).
+     *
+     * @return The scale factor.
+     */
+    public double getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Returns the Java2D coordinate of zero on the axis scale.
+     *
+     * @return The offset.
+     */
+    public double getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Maps a data value onto the axis scale.  This implementation returns
+     * the value unchanged, subclasses override it for axes that aren't
+     * linear.
+     *
+     * @param value  the data value.
+     *
+     * @return The value on the axis scale.
+     */
+    protected double toAxisScale(double value) {
+        return value;
+    }
+
+    /**
+     * Maps a value on the axis scale back to a data value, the inverse of
+     * {@link #toAxisScale(double)}.  This implementation returns the value
+     * unchanged.
+     *
+     * @param value  the value on the axis scale.
+     *
+     * @return The data value.
+     */
+    protected double fromAxisScale(double value) {
+        return value;
+    }
+
+    /**
+     * Converts a data value to a Java2D coordinate.
+     *
+     * @param value  the data value.
+     *
+     * @return The Java2D coordinate.
+     */
+    public double transform(double value) {
+        return toAxisScale(value) * this.scale + this.offset;
+    }
+
+    /**
+     * Converts a number of data values to Java2D coordinates.
+     *
+     * @param src  the data values (<code>null</code> not permitted).
+     * @param dst  an array for the coordinates, at least <code>n</code>
+     *     long (<code>null</code> not permitted).
+     * @param n  the number of values to convert.
+     */
+    public void transform(double[] src, float[] dst, int n) {
+        for (int i = 0; i < n; i++) {
+            dst[i] = (float) transform(src[i]);
+        }
+    }
+
+    /**
+     * Converts a Java2D coordinate to a data value.
+     *
+     * @param coordinate  the Java2D coordinate.
+     *
+     * @return The data value.
+     */
+    public double inverseTransform(double coordinate) {
+        return fromAxisScale((coordinate - this.offset) / this.scale);
+    }
+
+}
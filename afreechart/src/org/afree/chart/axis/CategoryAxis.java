@@ -40,6 +40,7 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Cache the ticks in refreshTicks();
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
@@ -114,6 +115,7 @@
 package org.afree.chart.axis;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -1141,6 +1143,11 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 
         CategoryPlot plot = (CategoryPlot) getPlot();
         List categories = plot.getCategoriesForAxis(this);
+        Object key = getTickCacheKey(dataArea, edge, categories);
+        List cached = getCachedTicks(key, state);
+        if (cached != null) {
+            return cached;
+        }
         double max = 0.0;
 
         if (categories != null) {
@@ -1184,9 +1191,34 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
             }
         }
         state.setMax(max);
+        putCachedTicks(key, ticks, state, null);
         return ticks;
 
     }
+
+    /**
+     * Returns a key for the ticks calculated for the specified area, edge
+     * and categories (the other inputs can only be changed by methods that
+     * send an {@link AxisChangeEvent}).
+     * 
+     * @param dataArea
+     *            the area passed to <code>refreshTicks()</code>.
+     * @param edge
+     *            the location of the axis.
+     * @param categories
+     *            the categories (<code>null</code> permitted).
+     * 
+     * @return The key.
+     */
+    private Object getTickCacheKey(RectShape dataArea, RectangleEdge edge,
+            List categories) {
+        return Arrays.asList(new Object[] {edge,
+                new Float(dataArea.getX()), new Float(dataArea.getY()),
+                new Float(dataArea.getWidth()),
+                new Float(dataArea.getHeight()),
+                categories != null ? new java.util.ArrayList(categories)
+                        : null});
+    }
     /**
      * Draws the tick marks.
      * 
@@ -40,6 +40,11 @@
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 17-Dec-2010 : performance tuning
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Added getTransform() method;
+ * 16-Oct-2026 : Cache the ticks in refreshTicks();
+ * 16-Oct-2026 : The transforms convert Java2D coordinates back to values
+ * 16-Oct-2026 : Use the default transform in subclasses that override
+ *               valueToJava2D();
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
@@ -149,6 +154,7 @@ package org.afree.chart.axis;
 import java.io.Serializable;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -804,6 +810,39 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
     }
 
+    /**
+     * Returns a transform that converts data values to Java2D coordinates,
+     * with the timeline values of the axis bounds worked out once.  If a
+     * subclass overrides {@link #valueToJava2D(double, RectShape,
+     * RectangleEdge)} (and not this method), the transform calls that
+     * method instead.
+     *
+     * @param area  the area for plotting the data (<code>null</code> not
+     *              permitted).
+     * @param edge  the axis location.
+     *
+     * @return The transform.
+     *
+     * @see #valueToJava2D(double, RectShape, RectangleEdge)
+     */
+    public AxisTransform getTransform(RectShape area, RectangleEdge edge) {
+        if (isValueToJava2DOverridden(DateAxis.class)) {
+            return super.getTransform(area, edge);
+        }
+        final Timeline t = this.timeline;
+        DateRange range = (DateRange) this.mRange;
+        return new AxisTransform(t.toTimelineValue(range.getLowerMillis()),
+                t.toTimelineValue(range.getUpperMillis()), area, edge,
+                this.mInverted) {
+            protected double toAxisScale(double value) {
+                return t.toTimelineValue((long) value);
+            }
+            protected double fromAxisScale(double value) {
+                return t.toMillisecond((long) value);
+            }
+        };
+    }
+
     /**
      * Translates a date to Java2D coordinates, based on the range displayed by
      * this axis for the specified data area.
@@ -1576,17 +1615,52 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                              RectShape dataArea,
                              RectangleEdge edge) {
 
-        List result = null;
+        Object key = getTickCacheKey(dataArea, edge);
+        List result = getCachedTicks(key, state);
+        if (result != null) {
+            return result;
+        }
         if (RectangleEdge.isTopOrBottom(edge)) {
             result = refreshTicksHorizontal(canvas, dataArea, edge);
         }
         else if (RectangleEdge.isLeftOrRight(edge)) {
             result = refreshTicksVertical(canvas, dataArea, edge);
         }
+        if (result != null) {
+            putCachedTicks(key, result, null, getTickUnit());
+        }
         return result;
 
     }
 
+    /**
+     * Returns a key for the ticks calculated for the specified area and
+     * edge, made up of the area, the edge, the axis range, the tick unit
+     * and the auto tick unit selection flag (the other inputs can only be
+     * changed by methods that send an {@link AxisChangeEvent}).
+     *
+     * @param dataArea  the area passed to <code>refreshTicks()</code>.
+     * @param edge  the location of the axis.
+     *
+     * @return The key.
+     */
+    protected Object getTickCacheKey(RectShape dataArea, RectangleEdge edge) {
+        return Arrays.asList(new Object[] {edge,
+                new Float(dataArea.getX()), new Float(dataArea.getY()),
+                new Float(dataArea.getWidth()),
+                new Float(dataArea.getHeight()), this.mRange, getTickUnit(),
+                Boolean.valueOf(isAutoTickUnitSelection())});
+    }
+
+    /**
+     * Sets the tick unit that was stored with a cached tick list.
+     *
+     * @param unit  the tick unit.
+     */
+    protected void restoreTickUnit(TickUnit unit) {
+        setTickUnit((DateTickUnit) unit, false, false);
+    }
+
     /**
      * Corrects the given tick date for the position setting.
      *
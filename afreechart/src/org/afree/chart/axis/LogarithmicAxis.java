@@ -39,6 +39,11 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Added getTransform() method;
+ * 16-Oct-2026 : Don't cache the ticks;
+ * 16-Oct-2026 : The transforms convert Java2D coordinates back to values
+ * 16-Oct-2026 : Use the default transform in subclasses that override
+ *               valueToJava2D();
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
@@ -667,6 +672,51 @@ public class LogarithmicAxis extends NumberAxis {
 
     }
 
+    /**
+     * Returns a transform that converts data values to Java2D coordinates,
+     * with the logarithms of the axis bounds worked out once.  If a subclass
+     * overrides {@link #valueToJava2D(double, RectShape, RectangleEdge)}
+     * (and not this method), the transform calls that method instead.
+     *
+     * @param area  the area for plotting the data (<code>null</code> not
+     *              permitted).
+     * @param edge  the axis location.
+     *
+     * @return The transform.
+     *
+     * @see #valueToJava2D(double, RectShape, RectangleEdge)
+     */
+    public AxisTransform getTransform(RectShape area, RectangleEdge edge) {
+        if (isValueToJava2DOverridden(LogarithmicAxis.class)) {
+            // NumberAxis.getTransform() returns the default transform
+            return super.getTransform(area, edge);
+        }
+        Range range = getRange();
+        return new AxisTransform(switchedLog10(range.getLowerBound()),
+                switchedLog10(range.getUpperBound()), area, edge,
+                isInverted()) {
+            protected double toAxisScale(double value) {
+                return switchedLog10(value);
+            }
+            protected double fromAxisScale(double value) {
+                return switchedPow10(value);
+            }
+        };
+    }
+
+    /**
+     * Returns <code>null</code>, so that the ticks are not cached: the flags
+     * of this axis can be changed without an axis change event.
+     *
+     * @param dataArea  the area passed to <code>refreshTicks()</code>.
+     * @param edge  the location of the axis.
+     *
+     * @return <code>null</code>.
+     */
+    protected Object getTickCacheKey(RectShape dataArea, RectangleEdge edge) {
+        return null;
+    }
+
     /**
      * Converts a coordinate in Java2D space to the corresponding data
      * value, assuming that the axis runs along one edge of the specified
@@ -41,6 +41,10 @@
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 17-Dec-2010 : performance tuning
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Added getTransform() method;
+ * 16-Oct-2026 : Cache the ticks in refreshTicks();
+ * 16-Oct-2026 : Use the default transform in subclasses that override
+ *               valueToJava2D();
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
@@ -119,6 +123,7 @@ package org.afree.chart.axis;
 import java.io.Serializable;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -572,6 +577,31 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
 
     }
 
+    /**
+     * Returns a transform that converts data values to Java2D coordinates
+     * with a single multiply and add, using the current axis range.  If a
+     * subclass overrides {@link #valueToJava2D(double, RectShape,
+     * RectangleEdge)} (and not this method), the transform calls that
+     * method instead.
+     *
+     * @param area
+     *            the area for plotting the data (<code>null</code> not
+     *            permitted).
+     * @param edge
+     *            the axis location.
+     *
+     * @return The transform.
+     *
+     * @see #valueToJava2D(double, RectShape, RectangleEdge)
+     */
+    public AxisTransform getTransform(RectShape area, RectangleEdge edge) {
+        if (isValueToJava2DOverridden(NumberAxis.class)) {
+            return super.getTransform(area, edge);
+        }
+        return new AxisTransform(this.mRange.getLowerBound(),
+                this.mRange.getUpperBound(), area, edge, this.mInverted);
+    }
+
     /**
      * Converts a coordinate in Java2D space to the corresponding data value,
      * assuming that the axis runs along one edge of the specified dataArea.
@@ -1176,16 +1206,53 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
     public List refreshTicks(Canvas canvas, AxisState state, RectShape dataArea,
             RectangleEdge edge) {
 
-        List result = new java.util.ArrayList();
+        Object key = getTickCacheKey(dataArea, edge);
+        List result = getCachedTicks(key, state);
+        if (result != null) {
+            return result;
+        }
+        result = new java.util.ArrayList();
         if (RectangleEdge.isTopOrBottom(edge)) {
             result = refreshTicksHorizontal(canvas, dataArea, edge);
         } else if (RectangleEdge.isLeftOrRight(edge)) {
             result = refreshTicksVertical(canvas, dataArea, edge);
         }
+        putCachedTicks(key, result, null, getTickUnit());
         return result;
 
     }
 
+    /**
+     * Returns a key for the ticks calculated for the specified area and
+     * edge, made up of the area, the edge, the axis range, the tick unit
+     * and the auto tick unit selection flag (the other inputs can only be
+     * changed by methods that send an {@link AxisChangeEvent}).
+     * 
+     * @param dataArea
+     *            the area passed to <code>refreshTicks()</code>.
+     * @param edge
+     *            the location of the axis.
+     * 
+     * @return The key.
+     */
+    protected Object getTickCacheKey(RectShape dataArea, RectangleEdge edge) {
+        return Arrays.asList(new Object[] {edge,
+                new Float(dataArea.getX()), new Float(dataArea.getY()),
+                new Float(dataArea.getWidth()),
+                new Float(dataArea.getHeight()), this.mRange, getTickUnit(),
+                Boolean.valueOf(isAutoTickUnitSelection())});
+    }
+
+    /**
+     * Sets the tick unit that was stored with a cached tick list.
+     * 
+     * @param unit
+     *            the tick unit.
+     */
+    protected void restoreTickUnit(TickUnit unit) {
+        setTickUnit((NumberTickUnit) unit, false, false);
+    }
+
     /**
      * Calculates the positions of the tick labels for the axis, storing the
      * results in the tick label list (ready for drawing).
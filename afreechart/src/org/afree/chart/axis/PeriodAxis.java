@@ -40,6 +40,10 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Added getTransform() method;
+ * 16-Oct-2026 : Read font metrics through TextUtilities;
+ * 16-Oct-2026 : Use the default transform in subclasses that override
+ *               valueToJava2D();
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2004-2009, by Object Refinery Limited and Contributors.
@@ -650,7 +654,7 @@ public class PeriodAxis extends ValueAxis
         for (int i = 0; i < this.labelInfo.length; i++) {
             PeriodAxisLabelInfo info = this.labelInfo[i];
             Paint paint = PaintUtility.createPaint(Paint.ANTI_ALIAS_FLAG, info.getLabelPaintType(), info.getLabelFont());
-            FontMetrics fm = paint.getFontMetrics();
+            FontMetrics fm = TextUtilities.getFontMetrics(paint);
             tickLabelBandsDimension
 //                += info.getPadding().extendHeight(fm.getHeight());
             += info.getPadding().extendHeight(fm.bottom-fm.top);
@@ -883,7 +887,7 @@ public class PeriodAxis extends ValueAxis
                 this.labelInfo[band].getLabelPaintType(), 
                 this.labelInfo[band].getLabelFont());
 //        FontMetrics fmFontMetrics fm = canvas.getFontMetrics(info.getLabelFont());
-        FontMetrics fm = paint.getFontMetrics();
+        FontMetrics fm = TextUtilities.getFontMetrics(paint);
         if (edge == RectangleEdge.BOTTOM) {
 //            delta1 = this.labelInfo[band].getPadding().calculateTopOutset(
 //                    fm.getHeight);
@@ -1087,6 +1091,29 @@ public class PeriodAxis extends ValueAxis
 
     }
 
+    /**
+     * Returns a transform that converts data values to Java2D coordinates
+     * with a single multiply and add, using the current first and last
+     * periods.  If a subclass overrides {@link #valueToJava2D(double,
+     * RectShape, RectangleEdge)} (and not this method), the transform calls
+     * that method instead.
+     *
+     * @param area  the area for plotting the data (<code>null</code> not
+     *              permitted).
+     * @param edge  the edge along which the axis lies.
+     *
+     * @return The transform.
+     *
+     * @see #valueToJava2D(double, RectShape, RectangleEdge)
+     */
+    public AxisTransform getTransform(RectShape area, RectangleEdge edge) {
+        if (isValueToJava2DOverridden(PeriodAxis.class)) {
+            return super.getTransform(area, edge);
+        }
+        return new AxisTransform(this.first.getFirstMillisecond(),
+                this.last.getLastMillisecond(), area, edge, isInverted());
+    }
+
     /**
      * Converts a coordinate in Java2D space to the corresponding data value,
      * assuming that the axis runs along one edge of the specified dataArea.
@@ -39,6 +39,9 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Index the exception segments for counting and searching
+ * 16-Oct-2026 : Add the exceptions in addExceptions() and
+ *               addBaseTimelineExclusions() in a single batch;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2003-2008, by Bill Kelemen and Contributors.
@@ -75,7 +78,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.SimpleTimeZone;
+import java.util.SortedMap;
 import java.util.TimeZone;
+import java.util.TreeMap;
 
 /**
  * A {@link Timeline} that implements a "segmented" timeline with included,
@@ -274,6 +279,21 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     private List exceptionSegments = new ArrayList();
 
+    /**
+     * An index of the exception segments, used to count and find exception
+     * segments without iterating over the list (created on demand, and
+     * replaced whenever the exception segments change).
+     */
+    private transient volatile ExceptionIndex exceptionIndex;
+
+    /**
+     * The exception segments that are being added in a batch, keyed by
+     * their start (<code>null</code> if no batch is being added).  The batch
+     * is merged into the exception segments when it is finished, so that
+     * the index is only created again once.
+     */
+    private transient SortedMap pendingExceptions;
+
     /**
      * This base timeline is used to specify exceptions at a higher level. For
      * example, if we are a intraday timeline and want to exclude holidays,
@@ -540,6 +560,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     public void setExceptionSegments(List exceptionSegments) {
         this.exceptionSegments = exceptionSegments;
+        this.exceptionIndex = null;
     }
 
     /**
@@ -689,12 +710,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
                 lastIndex = result.segmentStart;
                 // move forward exceptionSegmentCount segments skipping
                 // excluded segments
-                for (int i = 0; i < exceptionSegmentCount; i++) {
-                    do {
-                        result.inc();
-                    }
-                    while (result.inExcludeSegments());
-                }
+                skipIncludedSegments(result, exceptionSegmentCount);
             }
             lastIndex = result.segmentStart;
 
@@ -873,8 +889,14 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      *                       exclude.
      */
     public void addExceptions(List exceptionList) {
-        for (Iterator iter = exceptionList.iterator(); iter.hasNext();) {
-            addException((Date) iter.next());
+        startExceptionBatch();
+        try {
+            for (Iterator iter = exceptionList.iterator(); iter.hasNext();) {
+                addException((Date) iter.next());
+            }
+        }
+        finally {
+            finishExceptionBatch();
         }
     }
 
@@ -890,11 +912,94 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     private void addException(Segment segment) {
          if (segment.inIncludeSegments()) {
-             int p = binarySearchExceptionSegments(segment);
-             this.exceptionSegments.add(-(p + 1), segment);
+             if (this.pendingExceptions != null) {
+                 this.pendingExceptions.put(
+                         new Long(segment.getSegmentStart()), segment);
+             }
+             else {
+                 int p = binarySearchExceptionSegments(segment);
+                 this.exceptionSegments.add(-(p + 1), segment);
+                 this.exceptionIndex = null;
+             }
          }
     }
 
+    /**
+     * Starts a batch of exception segments: until the batch is finished,
+     * the segments are added to the pending exceptions instead of the
+     * exception segment list.
+     */
+    private void startExceptionBatch() {
+        this.pendingExceptions = new TreeMap();
+    }
+
+    /**
+     * Finishes a batch of exception segments, by merging the pending
+     * exceptions into the (sorted) exception segment list.
+     */
+    private void finishExceptionBatch() {
+        SortedMap pending = this.pendingExceptions;
+        this.pendingExceptions = null;
+        if (pending.isEmpty()) {
+            return;
+        }
+        List merged = new ArrayList(this.exceptionSegments.size()
+                + pending.size());
+        Iterator iterator = pending.values().iterator();
+        Segment next = (Segment) iterator.next();
+        for (int i = 0; i < this.exceptionSegments.size(); i++) {
+            Segment segment = (Segment) this.exceptionSegments.get(i);
+            while (next != null
+                    && next.getSegmentStart() < segment.getSegmentStart()) {
+                merged.add(next);
+                next = (iterator.hasNext() ? (Segment) iterator.next() : null);
+            }
+            merged.add(segment);
+        }
+        while (next != null) {
+            merged.add(next);
+            next = (iterator.hasNext() ? (Segment) iterator.next() : null);
+        }
+        this.exceptionSegments.clear();
+        this.exceptionSegments.addAll(merged);
+        this.exceptionIndex = null;
+    }
+
+    /**
+     * Returns <code>true</code> if a segment is contained in (or contains)
+     * one of the pending exceptions of the batch that is being added.
+     *
+     * @param segment  the segment.
+     *
+     * @return A boolean.
+     */
+    private boolean inPendingExceptions(Segment segment) {
+        if (this.pendingExceptions == null) {
+            return false;
+        }
+        long segmentStart = segment.getSegmentStart();
+        long segmentEnd = segment.getSegmentEnd();
+        // the pending exception with the largest start up to the end of the
+        // segment is the only one that can overlap it without being
+        // contained in it
+        SortedMap head = this.pendingExceptions.headMap(
+                new Long(segmentEnd + 1));
+        if (head.isEmpty()) {
+            return false;
+        }
+        Segment last = (Segment) head.get(head.lastKey());
+        long lastStart = last.getSegmentStart();
+        long lastEnd = last.getSegmentEnd();
+        if (lastEnd < segmentStart) {
+            return false;
+        }
+        if ((segmentStart <= lastStart && lastEnd <= segmentEnd)
+                || (lastStart <= segmentStart && segmentEnd <= lastEnd)) {
+            return true;
+        }
+        throw new IllegalStateException("Invalid condition.");
+    }
+
     /**
      * Adds a segment relative to the baseTimeline as an exception. Because a
      * base segment is normally larger than our segments, this may add one or
@@ -980,46 +1085,57 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
 
         }
 
-        // cycle over all the base segments groups in the range
-        while (baseSegment.getSegmentStart() <= toBaseDomainValue) {
-
-            long baseExclusionRangeEnd = baseSegment.getSegmentStart()
-                 + this.baseTimeline.getSegmentsExcluded()
-                 * this.baseTimeline.getSegmentSize() - 1;
-
-            // cycle through all the segments contained in the base exclusion
-            // area
-            Segment segment = getSegment(baseSegment.getSegmentStart());
-            while (segment.getSegmentStart() <= baseExclusionRangeEnd) {
-                if (segment.inIncludeSegments()) {
-
-                    // find all consecutive included segments
-                    long fromDomainValue = segment.getSegmentStart();
-                    long toDomainValue;
-                    do {
-                        toDomainValue = segment.getSegmentEnd();
+        startExceptionBatch();
+        try {
+            // cycle over all the base segments groups in the range
+            while (baseSegment.getSegmentStart() <= toBaseDomainValue) {
+
+                long baseExclusionRangeEnd = baseSegment.getSegmentStart()
+                     + this.baseTimeline.getSegmentsExcluded()
+                     * this.baseTimeline.getSegmentSize() - 1;
+
+                // cycle through all the segments contained in the base
+                // exclusion area
+                Segment segment = getSegment(baseSegment.getSegmentStart());
+                while (segment.getSegmentStart() <= baseExclusionRangeEnd) {
+                    if (segment.inIncludeSegments()) {
+
+                        // find all consecutive included segments
+                        long fromDomainValue = segment.getSegmentStart();
+                        long toDomainValue;
+                        do {
+                            toDomainValue = segment.getSegmentEnd();
+                            segment.inc();
+                        }
+                        while (segment.inIncludeSegments());
+
+                        // add the interval as an exception
+                        addException(new BaseTimelineSegmentRange(
+                                fromDomainValue, toDomainValue));
+                    }
+                    else {
+                        // this is not one of our included segment, skip it
                         segment.inc();
                     }
-                    while (segment.inIncludeSegments());
-
-                    // add the interval as an exception
-                    addException(new BaseTimelineSegmentRange(
-                            fromDomainValue, toDomainValue));
-                }
-                else {
-                    // this is not one of our included segment, skip it
-                    segment.inc();
                 }
-            }
 
-            // go to next base segment group
-            baseSegment.inc(this.baseTimeline.getGroupSegmentCount());
+                // go to next base segment group
+                baseSegment.inc(this.baseTimeline.getGroupSegmentCount());
+            }
+        }
+        finally {
+            finishExceptionBatch();
         }
     }
 
     /**
      * Returns the number of exception segments wholly contained in the
      * (fromDomainValue, toDomainValue) interval.
+     * <P>
+     * The exception segments are found by a binary search, and the segments
+     * between the first and last one in the interval are counted from the
+     * running totals kept by the index, so the time taken doesn't depend on
+     * the number of exception segments.
      *
      * @param fromMillisecond  the beginning of the interval.
      * @param toMillisecond  the end of the interval.
@@ -1032,20 +1148,125 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
             return (0);
         }
 
-        int n = 0;
-        for (Iterator iter = this.exceptionSegments.iterator();
-             iter.hasNext();) {
-            Segment segment = (Segment) iter.next();
-            Segment intersection = segment.intersect(fromMillisecond,
+        ExceptionIndex index = getExceptionIndex();
+        int first = index.firstEndingAtOrAfter(fromMillisecond);
+        int last = index.lastStartingAtOrBefore(toMillisecond);
+        if (first > last) {
+            return (0);
+        }
+
+        long n = getIntersectionCount(index, first, fromMillisecond,
+                toMillisecond);
+        if (last > first) {
+            // the segments in between are wholly inside the interval
+            n += index.counts[last] - index.counts[first + 1];
+            n += getIntersectionCount(index, last, fromMillisecond,
                     toMillisecond);
-            if (intersection != null) {
-                n += intersection.getSegmentCount();
-            }
         }
 
         return (n);
     }
 
+    /**
+     * Returns the number of segments in the intersection of an exception
+     * segment and an interval, as {@link Segment#intersect(long, long)}
+     * (or {@link SegmentRange#intersect(long, long)}) would.
+     *
+     * @param index  the exception index.
+     * @param i  the index of the exception segment.
+     * @param from  the start of the interval.
+     * @param to  the end of the interval.
+     *
+     * @return The segment count.
+     */
+    private long getIntersectionCount(ExceptionIndex index, int i, long from,
+            long to) {
+        long segmentStart = index.starts[i];
+        long segmentEnd = index.ends[i];
+        if (!index.ranges[i]) {
+            return (from <= segmentStart && segmentEnd <= to) ? 1 : 0;
+        }
+        long start = Math.max(from, segmentStart);
+        long end = Math.min(to, segmentEnd);
+        if (start > end) {
+            return 0;
+        }
+        return toSegmentNumber(end) - toSegmentNumber(start) + 1;
+    }
+
+    /**
+     * Returns the index of the exception segments, creating it if the
+     * exception segments have changed.
+     *
+     * @return The index.
+     */
+    private ExceptionIndex getExceptionIndex() {
+        ExceptionIndex index = this.exceptionIndex;
+        if (index == null || index.segments != this.exceptionSegments
+                || index.size != this.exceptionSegments.size()) {
+            index = new ExceptionIndex(this.exceptionSegments);
+            this.exceptionIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Calculates the segment number for a given millisecond.
+     *
+     * @param millis  the millisecond (as encoded by java.util.Date).
+     *
+     * @return The segment number.
+     */
+    private long toSegmentNumber(long millis) {
+        if (millis >= this.startTime) {
+            return (millis - this.startTime) / this.segmentSize;
+        }
+        else {
+            return ((millis - this.startTime) / this.segmentSize) - 1;
+        }
+    }
+
+    /**
+     * Moves a segment forward by a number of included segments, skipping
+     * the excluded segments (but not the exception segments).  This is the
+     * same as calling {@link Segment#inc()} until the segment is not in the
+     * excluded segments, <code>count</code> times.
+     *
+     * @param segment  the segment.
+     * @param count  the number of included segments.
+     */
+    private void skipIncludedSegments(Segment segment, long count) {
+        long number = segment.getSegmentNumber();
+        long group = floorDiv(number, this.groupSegmentCount);
+        long position = number - group * this.groupSegmentCount;
+
+        // the included segments are numbered consecutively, and the target
+        // is count segments after the last one at or before the segment
+        long included = group * this.segmentsIncluded
+                + Math.min(position, this.segmentsIncluded - 1) + count;
+        long targetGroup = floorDiv(included, this.segmentsIncluded);
+        long target = targetGroup * this.groupSegmentCount
+                + (included - targetGroup * this.segmentsIncluded);
+        segment.inc(target - number);
+    }
+
+    /**
+     * Returns the largest integer that is less than or equal to the
+     * quotient of two integers.
+     *
+     * @param x  the dividend.
+     * @param y  the divisor (greater than zero).
+     *
+     * @return The quotient, rounded down.
+     */
+    private static long floorDiv(long x, long y) {
+        long q = x / y;
+        if (x % y < 0) {
+            q--;
+        }
+        return q;
+    }
+
     /**
      * Returns a segment that contains a domainValue. If the domainValue is
      * not contained in the timeline (because it is not contained in the
@@ -1146,22 +1367,27 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      *         and only if the key is found.
      */
     private int binarySearchExceptionSegments(Segment segment) {
+        ExceptionIndex index = getExceptionIndex();
+        long segmentStart = segment.getSegmentStart();
+        long segmentEnd = segment.getSegmentEnd();
         int low = 0;
-        int high = this.exceptionSegments.size() - 1;
+        int high = index.size - 1;
 
         while (low <= high) {
-            int mid = (low + high) / 2;
-            Segment midSegment = (Segment) this.exceptionSegments.get(mid);
+            int mid = (low + high) >>> 1;
+            long midStart = index.starts[mid];
+            long midEnd = index.ends[mid];
 
             // first test for equality (contains or contained)
-            if (segment.contains(midSegment) || midSegment.contains(segment)) {
+            if ((segmentStart <= midStart && midEnd <= segmentEnd)
+                    || (midStart <= segmentStart && segmentEnd <= midEnd)) {
                 return mid;
             }
 
-            if (midSegment.before(segment)) {
+            if (midEnd < segmentStart) {
                 low = mid + 1;
             }
-            else if (midSegment.after(segment)) {
+            else if (midStart > segmentEnd) {
                 high = mid - 1;
             }
             else {
@@ -1281,14 +1507,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
          * @return The segment number.
          */
         public long calculateSegmentNumber(long millis) {
-            if (millis >= SegmentedTimeline.this.startTime) {
-                return (millis - SegmentedTimeline.this.startTime)
-                    / SegmentedTimeline.this.segmentSize;
-            }
-            else {
-                return ((millis - SegmentedTimeline.this.startTime)
-                    / SegmentedTimeline.this.segmentSize) - 1;
-            }
+            return toSegmentNumber(millis);
         }
 
         /**
@@ -1556,7 +1775,8 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
          * @return <code>true</code> if we are an exception segment.
          */
         public boolean inExceptionSegments() {
-            return binarySearchExceptionSegments(this) >= 0;
+            return binarySearchExceptionSegments(this) >= 0
+                    || inPendingExceptions(this);
         }
 
         /**
@@ -1766,4 +1986,101 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
 
     }
 
+    /**
+     * A sorted copy of the bounds of the exception segments, with the running
+     * total of their segment counts.
+     */
+    private static class ExceptionIndex {
+
+        /** The exception segment list that the index was created from. */
+        private final List segments;
+
+        /** The number of exception segments. */
+        private final int size;
+
+        /** The start of each exception segment. */
+        private final long[] starts;
+
+        /** The end of each exception segment. */
+        private final long[] ends;
+
+        /** Flags that indicate which exception segments are ranges. */
+        private final boolean[] ranges;
+
+        /**
+         * The total segment count of the exception segments before each
+         * one (with the total of all of them at the end).
+         */
+        private final long[] counts;
+
+        /**
+         * Creates an index for a sorted list of exception segments.
+         *
+         * @param segments  the segments.
+         */
+        ExceptionIndex(List segments) {
+            this.segments = segments;
+            this.size = segments.size();
+            this.starts = new long[this.size];
+            this.ends = new long[this.size];
+            this.ranges = new boolean[this.size];
+            this.counts = new long[this.size + 1];
+            for (int i = 0; i < this.size; i++) {
+                Segment segment = (Segment) segments.get(i);
+                this.starts[i] = segment.getSegmentStart();
+                this.ends[i] = segment.getSegmentEnd();
+                this.ranges[i] = (segment instanceof SegmentRange);
+                this.counts[i + 1] = this.counts[i]
+                        + segment.getSegmentCount();
+            }
+        }
+
+        /**
+         * Returns the index of the first exception segment that ends at or
+         * after a millisecond.
+         *
+         * @param millis  the millisecond.
+         *
+         * @return The index (<code>size</code> if there is none).
+         */
+        int firstEndingAtOrAfter(long millis) {
+            int low = 0;
+            int high = this.size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.ends[mid] < millis) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the index of the last exception segment that starts at or
+         * before a millisecond.
+         *
+         * @param millis  the millisecond.
+         *
+         * @return The index (-1 if there is none).
+         */
+        int lastStartingAtOrBefore(long millis) {
+            int low = 0;
+            int high = this.size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.starts[mid] <= millis) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low - 1;
+        }
+
+    }
+
 }
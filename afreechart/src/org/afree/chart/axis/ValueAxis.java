@@ -40,6 +40,11 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 15-Dec-2010 : performance tuning
+ * 16-Oct-2026 : Added getTransform() method;
+ * 16-Oct-2026 : The transforms convert Java2D coordinates back to values
+ * 16-Oct-2026 : Added isValueToJava2DOverridden() method
+ * 16-Oct-2026 : Look up the declaring class of valueToJava2D() once per
+ *               axis class;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
@@ -126,8 +131,10 @@
 package org.afree.chart.axis;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 
 import org.afree.ui.RectangleEdge;
@@ -179,6 +186,13 @@ public abstract class ValueAxis extends Axis implements Cloneable, Serializable
     /** The maximum tick count. */
     public static final int MAXIMUM_TICK_COUNT = 500;
 
+    /**
+     * Maps each axis class to the most specific class (the class itself or
+     * one of its superclasses) that declares a
+     * {@link #valueToJava2D(double, RectShape, RectangleEdge)} method.
+     */
+    private static final Map VALUE_TO_JAVA2D_CLASSES = new HashMap();
+
     /**
      * A flag that controls whether an arrow is drawn at the positive end of the
      * axis line.
@@ -1607,6 +1621,92 @@ public abstract class ValueAxis extends Axis implements Cloneable, Serializable
     public abstract double java2DToValue(double java2DValue, RectShape area,
             RectangleEdge edge);
 
+    /**
+     * Returns a transform that converts data values to Java2D coordinates
+     * in the same way as {@link #valueToJava2D(double, RectShape,
+     * RectangleEdge)}, for use when many values are converted with the same
+     * axis range, area and edge (for example, while a renderer draws the
+     * items of a dataset).
+     * <p>
+     * This implementation returns a transform that calls
+     * {@link #valueToJava2D(double, RectShape, RectangleEdge)} and
+     * {@link #java2DToValue(double, RectShape, RectangleEdge)} for each
+     * value, so unlike the transforms of the subclasses it follows later
+     * changes to the axis.  Subclasses that can work out the conversion in
+     * advance should override it, and return this transform when
+     * {@link #isValueToJava2DOverridden(Class)} shows that a further
+     * subclass has changed the conversion.
+     *
+     * @param area
+     *            the area for plotting the data (<code>null</code> not
+     *            permitted).
+     * @param edge
+     *            the edge along which the axis lies.
+     *
+     * @return The transform (never <code>null</code>).
+     *
+     * @see #valueToJava2D(double, RectShape, RectangleEdge)
+     */
+    public AxisTransform getTransform(final RectShape area,
+            final RectangleEdge edge) {
+        return new AxisTransform(1.0, 0.0) {
+            public double transform(double value) {
+                return valueToJava2D(value, area, edge);
+            }
+            public double inverseTransform(double coordinate) {
+                return java2DToValue(coordinate, area, edge);
+            }
+        };
+    }
+
+    /**
+     * Returns <code>true</code> if the class of this axis, or one of its
+     * superclasses below <code>base</code>, declares a
+     * {@link #valueToJava2D(double, RectShape, RectangleEdge)} method.  An
+     * axis class that provides its own transform uses this to find out
+     * whether the transform still matches the conversion.
+     *
+     * @param base  the class that provides the transform.
+     *
+     * @return A boolean.
+     *
+     * @see #getTransform(RectShape, RectangleEdge)
+     */
+    protected boolean isValueToJava2DOverridden(Class base) {
+        Class declaring;
+        synchronized (VALUE_TO_JAVA2D_CLASSES) {
+            declaring = (Class) VALUE_TO_JAVA2D_CLASSES.get(getClass());
+            if (declaring == null) {
+                declaring = findValueToJava2DClass(getClass());
+                VALUE_TO_JAVA2D_CLASSES.put(getClass(), declaring);
+            }
+        }
+        return declaring != base && base.isAssignableFrom(declaring);
+    }
+
+    /**
+     * Returns the most specific class, starting from <code>c</code> and
+     * moving up through its superclasses, that declares a
+     * {@link #valueToJava2D(double, RectShape, RectangleEdge)} method.
+     *
+     * @param c  the axis class.
+     *
+     * @return The declaring class.
+     */
+    private static Class findValueToJava2DClass(Class c) {
+        for (; c != ValueAxis.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("valueToJava2D", new Class[] {
+                        Double.TYPE, RectShape.class, RectangleEdge.class});
+                return c;
+            }
+            catch (NoSuchMethodException e) {
+                // not declared in this class, try the superclass
+            }
+        }
+        return ValueAxis.class;
+    }
+
     /**
      * Automatically sets the axis range to fit the range of values in the
      * dataset. Sometimes this can depend on the renderer used as well (for
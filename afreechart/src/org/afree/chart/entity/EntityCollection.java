@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Added getEntities(RectShape) method
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2002-2008, by Object Refinery Limited.
@@ -63,6 +64,9 @@ package org.afree.chart.entity;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+
+import org.afree.graphics.geom.RectShape;
 
 /**
  * This interface defines the methods used to access an ordered list of
@@ -103,6 +107,17 @@ public interface EntityCollection {
      */
     public ChartEntity getEntity(double x, double y);
 
+    /**
+     * Returns the entities whose area intersects the specified rectangle,
+     * in the order of the collection.
+     * 
+     * @param area
+     *            the rectangle (<code>null</code> not permitted).
+     * 
+     * @return A list of entities (possibly empty).
+     */
+    public List getEntities(RectShape area);
+
     /**
      * Returns an entity from the collection.
      * 
@@ -0,0 +1,410 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ----------------
+ * EntityIndex.java
+ * ----------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Test entities with non-finite bounds for every query;
+ */
+
+package org.afree.chart.entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.afree.graphics.geom.RectShape;
+
+/**
+ * A uniform grid over the bounds of the entities in a list, used by
+ * {@link StandardEntityCollection} to find the entities at a point or in a
+ * rectangle without testing every entity.
+ * <P>
+ * The grid has about one cell per entity (but the cells are no smaller than
+ * the median entity), and each entity is registered in the cells that its
+ * bounds overlap.  Entities that overlap many cells (such
+ * as the plot and axis entities), and entities with bounds that are not
+ * finite, are kept in a separate list that is always tested.  The cells are stored in two arrays: the start of each cell in the
+ * second array, and the entity indices in ascending order for each cell.
+ * <P>
+ * The index is a snapshot: it must be rebuilt when entities are added or
+ * removed, or when the area of an entity is changed.
+ */
+final class EntityIndex {
+
+    /**
+     * The maximum number of cells that an entity is registered in; entities
+     * that overlap more cells are tested for every query.
+     */
+    private static final int MAX_CELLS_PER_ENTITY = 16;
+
+    /** The maximum number of cells. */
+    private static final int MAX_CELLS = 1 << 16;
+
+    /**
+     * The padding added to the bounds of each entity, since a shape may
+     * round the coordinates of the point that it tests to whole pixels.
+     */
+    private static final float PADDING = 1.0f;
+
+    /** The entities. */
+    private List entities;
+
+    /**
+     * The padded bounds of the entities (minX, minY, maxX, maxY for each).
+     */
+    private float[] bounds;
+
+    /** The x-coordinate of the left edge of the grid. */
+    private float originX;
+
+    /** The y-coordinate of the top edge of the grid. */
+    private float originY;
+
+    /** The x-coordinate of the right edge of the grid. */
+    private float limitX;
+
+    /** The y-coordinate of the bottom edge of the grid. */
+    private float limitY;
+
+    /** The width of a cell. */
+    private float cellWidth;
+
+    /** The height of a cell. */
+    private float cellHeight;
+
+    /** The number of columns. */
+    private int columns;
+
+    /** The number of rows. */
+    private int rows;
+
+    /**
+     * The start of each cell in {@link #cellEntities} (with one more element
+     * for the end of the last cell).
+     */
+    private int[] cellStart;
+
+    /** The entity indices for each cell, in ascending order. */
+    private int[] cellEntities;
+
+    /** The entities that are tested for every query, in ascending order. */
+    private int[] largeEntities;
+
+    /**
+     * Creates an index for a list of entities.
+     *
+     * @param entities  the entities (<code>null</code> not permitted).
+     */
+    EntityIndex(List entities) {
+        this.entities = entities;
+        int count = entities.size();
+        this.bounds = new float[count * 4];
+        boolean[] finite = new boolean[count];
+        int finiteCount = 0;
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        RectShape r = new RectShape();
+        for (int i = 0; i < count; i++) {
+            ChartEntity entity = (ChartEntity) entities.get(i);
+            entity.getArea().getBounds(r);
+            int b = i * 4;
+            this.bounds[b] = r.getMinX() - PADDING;
+            this.bounds[b + 1] = r.getMinY() - PADDING;
+            this.bounds[b + 2] = r.getMaxX() + PADDING;
+            this.bounds[b + 3] = r.getMaxY() + PADDING;
+            if (!isFinite(this.bounds[b]) || !isFinite(this.bounds[b + 1])
+                    || !isFinite(this.bounds[b + 2])
+                    || !isFinite(this.bounds[b + 3])) {
+                // left out of the grid, and always passed to the entity
+                this.bounds[b] = Float.NEGATIVE_INFINITY;
+                this.bounds[b + 1] = Float.NEGATIVE_INFINITY;
+                this.bounds[b + 2] = Float.POSITIVE_INFINITY;
+                this.bounds[b + 3] = Float.POSITIVE_INFINITY;
+                continue;
+            }
+            finite[i] = true;
+            finiteCount++;
+            minX = Math.min(minX, this.bounds[b]);
+            minY = Math.min(minY, this.bounds[b + 1]);
+            maxX = Math.max(maxX, this.bounds[b + 2]);
+            maxY = Math.max(maxY, this.bounds[b + 3]);
+        }
+        if (finiteCount == 0) {
+            // no grid, every entity is tested
+            this.cellStart = new int[1];
+            this.cellEntities = new int[0];
+            this.largeEntities = new int[count];
+            for (int i = 0; i < count; i++) {
+                this.largeEntities[i] = i;
+            }
+            return;
+        }
+
+        // choose about one cell per entity, in the aspect ratio of the bounds,
+        // but no smaller than a typical entity (so that most entities are
+        // registered in a few cells only)
+        float width = Math.max(maxX - minX, 1.0f);
+        float height = Math.max(maxY - minY, 1.0f);
+        int cells = Math.max(1, Math.min(finiteCount, MAX_CELLS));
+        this.columns = Math.max(1, Math.min(cells,
+                (int) Math.round(Math.sqrt(cells * width / height))));
+        this.rows = Math.max(1, Math.min(cells, cells / this.columns));
+        float[] widths = new float[finiteCount];
+        float[] heights = new float[finiteCount];
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (finite[i]) {
+                widths[n] = this.bounds[i * 4 + 2] - this.bounds[i * 4];
+                heights[n] = this.bounds[i * 4 + 3] - this.bounds[i * 4 + 1];
+                n++;
+            }
+        }
+        Arrays.sort(widths);
+        Arrays.sort(heights);
+        this.columns = Math.max(1, Math.min(this.columns,
+                (int) (width / widths[finiteCount / 2])));
+        this.rows = Math.max(1, Math.min(this.rows,
+                (int) (height / heights[finiteCount / 2])));
+        this.originX = minX;
+        this.originY = minY;
+        this.limitX = maxX;
+        this.limitY = maxY;
+        this.cellWidth = width / this.columns;
+        this.cellHeight = height / this.rows;
+
+        // count the entities in each cell, then fill the cells
+        int cellCount = this.columns * this.rows;
+        this.cellStart = new int[cellCount + 1];
+        int largeCount = 0;
+        for (int i = 0; i < count; i++) {
+            int b = i * 4;
+            int c0 = column(this.bounds[b]);
+            int c1 = column(this.bounds[b + 2]);
+            int r0 = row(this.bounds[b + 1]);
+            int r1 = row(this.bounds[b + 3]);
+            if (!finite[i]
+                    || (c1 - c0 + 1) * (r1 - r0 + 1) > MAX_CELLS_PER_ENTITY) {
+                largeCount++;
+                continue;
+            }
+            for (int row = r0; row <= r1; row++) {
+                for (int c = c0; c <= c1; c++) {
+                    this.cellStart[row * this.columns + c + 1]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            this.cellStart[cell + 1] += this.cellStart[cell];
+        }
+        this.cellEntities = new int[this.cellStart[cellCount]];
+        this.largeEntities = new int[largeCount];
+        int[] next = new int[cellCount];
+        System.arraycopy(this.cellStart, 0, next, 0, cellCount);
+        largeCount = 0;
+        for (int i = 0; i < count; i++) {
+            int b = i * 4;
+            int c0 = column(this.bounds[b]);
+            int c1 = column(this.bounds[b + 2]);
+            int r0 = row(this.bounds[b + 1]);
+            int r1 = row(this.bounds[b + 3]);
+            if (!finite[i]
+                    || (c1 - c0 + 1) * (r1 - r0 + 1) > MAX_CELLS_PER_ENTITY) {
+                this.largeEntities[largeCount++] = i;
+                continue;
+            }
+            for (int row = r0; row <= r1; row++) {
+                for (int c = c0; c <= c1; c++) {
+                    this.cellEntities[next[row * this.columns + c]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a coordinate is neither infinite nor
+     * NaN.
+     *
+     * @param value  the coordinate.
+     *
+     * @return A boolean.
+     */
+    private static boolean isFinite(float value) {
+        return !Float.isNaN(value) && !Float.isInfinite(value);
+    }
+
+    /**
+     * Returns the column that contains an x-coordinate.
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column (clamped to the grid).
+     */
+    private int column(float x) {
+        int c = (int) ((x - this.originX) / this.cellWidth);
+        return Math.max(0, Math.min(c, this.columns - 1));
+    }
+
+    /**
+     * Returns the row that contains a y-coordinate.
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row (clamped to the grid).
+     */
+    private int row(float y) {
+        int r = (int) ((y - this.originY) / this.cellHeight);
+        return Math.max(0, Math.min(r, this.rows - 1));
+    }
+
+    /**
+     * Returns the number of entities in the index.
+     *
+     * @return The entity count.
+     */
+    int getEntityCount() {
+        return this.bounds.length / 4;
+    }
+
+    /**
+     * Returns the last entity (in the order of the list) with an area that
+     * contains the specified point.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    ChartEntity getEntity(double x, double y) {
+        float fx = (float) x;
+        float fy = (float) y;
+        int i = -1;
+        int start = 0;
+        if (this.columns > 0 && fx >= this.originX && fx <= this.limitX
+                && fy >= this.originY && fy <= this.limitY) {
+            int cell = row(fy) * this.columns + column(fx);
+            i = this.cellStart[cell + 1] - 1;
+            start = this.cellStart[cell];
+        }
+        // outside the grid only the large entities can contain the point
+        int j = this.largeEntities.length - 1;
+
+        // merge the cell and the large entities, from the last to the first
+        while (i >= start || j >= 0) {
+            int index;
+            if (j < 0 || (i >= start
+                    && this.cellEntities[i] > this.largeEntities[j])) {
+                index = this.cellEntities[i--];
+            }
+            else {
+                index = this.largeEntities[j--];
+            }
+            int b = index * 4;
+            if (fx >= this.bounds[b] && fx <= this.bounds[b + 2]
+                    && fy >= this.bounds[b + 1] && fy <= this.bounds[b + 3]) {
+                ChartEntity entity = StandardEntityCollection.hit(
+                        (ChartEntity) this.entities.get(index), x, y);
+                if (entity != null) {
+                    return entity;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entities with an area that intersects a rectangle, in the
+     * order of the list.
+     *
+     * @param area  the rectangle (<code>null</code> not permitted).
+     *
+     * @return A list of entities (possibly empty).
+     */
+    List getEntities(RectShape area) {
+        List result = new ArrayList();
+        float x0 = area.getMinX();
+        float y0 = area.getMinY();
+        float x1 = area.getMaxX();
+        float y1 = area.getMaxY();
+        int c0 = 0;
+        int c1 = -1;
+        int r0 = 0;
+        int r1 = -1;
+        if (this.columns > 0 && x1 >= this.originX && x0 <= this.limitX
+                && y1 >= this.originY && y0 <= this.limitY) {
+            c0 = column(x0);
+            c1 = column(x1);
+            r0 = row(y0);
+            r1 = row(y1);
+        }
+        // outside the grid only the large entities can intersect the area
+        int size = this.largeEntities.length;
+        for (int r = r0; r <= r1; r++) {
+            int cell = r * this.columns;
+            size += this.cellStart[cell + c1 + 1] - this.cellStart[cell + c0];
+        }
+        int[] candidates = new int[size];
+        int n = 0;
+        for (int r = r0; r <= r1; r++) {
+            int cell = r * this.columns;
+            int from = this.cellStart[cell + c0];
+            int to = this.cellStart[cell + c1 + 1];
+            System.arraycopy(this.cellEntities, from, candidates, n,
+                    to - from);
+            n += to - from;
+        }
+        System.arraycopy(this.largeEntities, 0, candidates, n,
+                this.largeEntities.length);
+        Arrays.sort(candidates);
+        int previous = -1;
+        for (int k = 0; k < candidates.length; k++) {
+            int index = candidates[k];
+            if (index == previous) {
+                continue;  // the entity is in more than one cell
+            }
+            previous = index;
+            int b = index * 4;
+            if (this.bounds[b] <= x1 && this.bounds[b + 2] >= x0
+                    && this.bounds[b + 1] <= y1 && this.bounds[b + 3] >= y0) {
+                StandardEntityCollection.addIntersecting(result,
+                        (ChartEntity) this.entities.get(index), area);
+            }
+        }
+        return result;
+    }
+
+}
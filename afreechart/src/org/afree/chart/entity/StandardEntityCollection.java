@@ -39,6 +39,8 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use a spatial index for the point and rectangle queries
+ * 16-Oct-2026 : Resolve virtual entities in queries
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2008, by Object Refinery Limited.
@@ -69,11 +71,22 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import org.afree.graphics.geom.RectShape;
 import org.afree.util.ObjectUtilities;
 import org.afree.util.PublicCloneable;
 
 /**
  * A standard implementation of the {@link EntityCollection} interface.
+ * <P>
+ * When the collection holds more than a few entities, the point and
+ * rectangle queries use a spatial index (a uniform grid) that is built on
+ * the first query after the entities have changed, so that a touch on a
+ * chart with many item entities doesn't test every entity.  The index
+ * assumes that the area of an entity isn't changed after the entity has
+ * been added.
+ * <P>
+ * A {@link VirtualXYItemEntity} is never returned by the queries: it is
+ * replaced by the entities for the items at the point or in the rectangle.
  */
 public class StandardEntityCollection implements EntityCollection,
         Cloneable, PublicCloneable, Serializable {
@@ -81,9 +94,18 @@ public class StandardEntityCollection implements EntityCollection,
     /** For serialization. */
     private static final long serialVersionUID = 5384773031184897047L;
 
+    /** The smallest number of entities that the spatial index is used for. */
+    private static final int INDEX_THRESHOLD = 64;
+
     /** Storage for the entities. */
     private List entities;
 
+    /**
+     * The spatial index for the entities (<code>null</code> if it needs to be
+     * rebuilt).
+     */
+    private transient EntityIndex index;
+
     /**
      * Constructs a new entity collection (initially empty).
      */
@@ -119,6 +141,7 @@ public class StandardEntityCollection implements EntityCollection,
      */
     public void clear() {
         this.entities.clear();
+        this.index = null;
     }
 
     /**
@@ -132,6 +155,7 @@ public class StandardEntityCollection implements EntityCollection,
             throw new IllegalArgumentException("Null 'entity' argument.");
         }
         this.entities.add(entity);
+        this.index = null;
     }
 
     /**
@@ -142,6 +166,7 @@ public class StandardEntityCollection implements EntityCollection,
      */
     public void addAll(EntityCollection collection) {
         this.entities.addAll(collection.getEntities());
+        this.index = null;
     }
 
     /**
@@ -157,15 +182,102 @@ public class StandardEntityCollection implements EntityCollection,
      */
     public ChartEntity getEntity(double x, double y) {
         int entityCount = this.entities.size();
+        if (entityCount >= INDEX_THRESHOLD) {
+            return getIndex().getEntity(x, y);
+        }
         for (int i = entityCount - 1; i >= 0; i--) {
-            ChartEntity entity = (ChartEntity) this.entities.get(i);
-            if (entity.getArea().contains((float)x, (float)y)) {
+            ChartEntity entity = hit((ChartEntity) this.entities.get(i), x, y);
+            if (entity != null) {
                 return entity;
             }
         }
         return null;
     }
 
+    /**
+     * Returns the entities whose area intersects the specified rectangle,
+     * in the order of the collection.
+     * 
+     * @param area
+     *            the rectangle (<code>null</code> not permitted).
+     * 
+     * @return A list of entities (possibly empty).
+     */
+    public List getEntities(RectShape area) {
+        if (area == null) {
+            throw new IllegalArgumentException("Null 'area' argument.");
+        }
+        int entityCount = this.entities.size();
+        if (entityCount >= INDEX_THRESHOLD) {
+            return getIndex().getEntities(area);
+        }
+        List result = new java.util.ArrayList();
+        for (int i = 0; i < entityCount; i++) {
+            addIntersecting(result, (ChartEntity) this.entities.get(i), area);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the entity that is hit by a point: the entity itself if its
+     * area contains the point or, for a {@link VirtualXYItemEntity}, the
+     * entity for the item at the point.
+     * 
+     * @param entity
+     *            the entity.
+     * @param x
+     *            the x coordinate.
+     * @param y
+     *            the y coordinate.
+     * 
+     * @return The entity that is hit (possibly <code>null</code>).
+     */
+    static ChartEntity hit(ChartEntity entity, double x, double y) {
+        if (entity instanceof VirtualXYItemEntity) {
+            return ((VirtualXYItemEntity) entity).getItemEntity(x, y);
+        }
+        if (entity.getArea().contains((float) x, (float) y)) {
+            return entity;
+        }
+        return null;
+    }
+
+    /**
+     * Adds an entity to a list if its area intersects a rectangle or, for a
+     * {@link VirtualXYItemEntity}, adds the entities for the items in the
+     * rectangle.
+     * 
+     * @param result
+     *            the list.
+     * @param entity
+     *            the entity.
+     * @param area
+     *            the rectangle.
+     */
+    static void addIntersecting(List result, ChartEntity entity,
+            RectShape area) {
+        if (entity instanceof VirtualXYItemEntity) {
+            result.addAll(((VirtualXYItemEntity) entity).getItemEntities(area));
+        }
+        else if (entity.getArea().intersects(area)) {
+            result.add(entity);
+        }
+    }
+
+    /**
+     * Returns the spatial index for the entities, building it if necessary.
+     * 
+     * @return The index.
+     */
+    private EntityIndex getIndex() {
+        // the count also catches entities removed through the iterator
+        if (this.index == null
+                || this.index.getEntityCount() != this.entities.size()) {
+            this.index = new EntityIndex(this.entities);
+        }
+        return this.index;
+    }
+
     /**
      * Returns the entities in an unmodifiable collection.
      * 
@@ -206,6 +318,7 @@ public class StandardEntityCollection implements EntityCollection,
         StandardEntityCollection clone
                 = (StandardEntityCollection) super.clone();
         clone.entities = new java.util.ArrayList(this.entities.size());
+        clone.index = null;
         for (int i = 0; i < this.entities.size(); i++) {
             ChartEntity entity = (ChartEntity) this.entities.get(i);
             clone.entities.add(entity.clone());
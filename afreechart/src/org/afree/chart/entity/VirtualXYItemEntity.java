@@ -0,0 +1,318 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ------------------------
+ * VirtualXYItemEntity.java
+ * ------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Record the axis transforms and the item counts at draw time;
+ */
+
+package org.afree.chart.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.afree.chart.axis.AxisTransform;
+import org.afree.chart.axis.ValueAxis;
+import org.afree.chart.plot.PlotOrientation;
+import org.afree.chart.renderer.RendererUtilities;
+import org.afree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.afree.data.xy.XYDataset;
+import org.afree.graphics.geom.OvalShape;
+import org.afree.graphics.geom.RectShape;
+import org.afree.ui.RectangleEdge;
+
+/**
+ * A single entity that stands for all the items of a dataset that a renderer
+ * has drawn, used instead of one {@link XYItemEntity} per item when the
+ * renderer's virtual entity flag is set (see
+ * {@link AbstractXYItemRenderer#setUseVirtualEntities(boolean)}).
+ * <P>
+ * The entity records the data area, the axis transforms (see
+ * {@link ValueAxis#getTransform(RectShape, RectangleEdge)}), the number of
+ * items in each series and the orientation that the items were drawn with,
+ * so that later changes to the axes don't move the items away from where
+ * they are on screen.  When a {@link StandardEntityCollection} is queried at
+ * a point inside the data area, the point is converted to an x-value range
+ * with the domain transform, the items in that range are found (by a binary
+ * search if the x-values are sorted) and an {@link XYItemEntity} is created
+ * for the nearest item within the renderer's default entity radius.  Items
+ * that were added to a series after the entity was created are ignored.
+ * <P>
+ * Each item is treated as a point with the renderer's default entity radius,
+ * which matches the entities created by the line and shape renderers, but
+ * not the areas of (for example) bars.
+ */
+public class VirtualXYItemEntity extends ChartEntity {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2395482640938452761L;
+
+    /** The dataset. */
+    private transient XYDataset dataset;
+
+    /** The renderer. */
+    private transient AbstractXYItemRenderer renderer;
+
+    /** The transform for the domain axis. */
+    private transient AxisTransform domainTransform;
+
+    /** The transform for the range axis. */
+    private transient AxisTransform rangeTransform;
+
+    /** The number of items in each series. */
+    private int[] itemCounts;
+
+    /** The plot orientation. */
+    private PlotOrientation orientation;
+
+    /**
+     * Creates a new entity.
+     *
+     * @param dataArea  the data area (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param renderer  the renderer (<code>null</code> not permitted).
+     * @param domainTransform  the transform for the domain axis, created for
+     *     the data area (<code>null</code> not permitted).
+     * @param rangeTransform  the transform for the range axis, created for
+     *     the data area (<code>null</code> not permitted).
+     * @param orientation  the plot orientation.
+     */
+    public VirtualXYItemEntity(RectShape dataArea, XYDataset dataset,
+            AbstractXYItemRenderer renderer, AxisTransform domainTransform,
+            AxisTransform rangeTransform, PlotOrientation orientation) {
+        super(new RectShape(dataArea));
+        this.dataset = dataset;
+        this.renderer = renderer;
+        this.domainTransform = domainTransform;
+        this.rangeTransform = rangeTransform;
+        this.orientation = orientation;
+        int seriesCount = dataset.getSeriesCount();
+        this.itemCounts = new int[seriesCount];
+        for (int series = 0; series < seriesCount; series++) {
+            this.itemCounts[series] = dataset.getItemCount(series);
+        }
+    }
+
+    /**
+     * Returns the dataset.
+     *
+     * @return The dataset (<code>null</code> after deserialization).
+     */
+    public XYDataset getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * Returns an entity for the item nearest to a point, if the point is
+     * within the renderer's default entity radius of the item.  If the
+     * point is within the radius of several items, the item in the last
+     * series is chosen.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    public XYItemEntity getItemEntity(double x, double y) {
+        if (this.dataset == null || !getArea().contains((float) x, (float) y)) {
+            return null;
+        }
+        boolean vertical = (this.orientation == PlotOrientation.VERTICAL);
+        double r = this.renderer.getDefaultEntityRadius();
+        double d = vertical ? x : y;
+        double bestDistance = r * r;
+        int bestSeries = -1;
+        int bestItem = -1;
+        double[] xy = new double[2];
+        int seriesCount = Math.min(this.itemCounts.length,
+                this.dataset.getSeriesCount());
+        for (int series = 0; series < seriesCount; series++) {
+            int[] bounds = findItems(series, d - r, d + r);
+            if (bounds == null) {
+                continue;
+            }
+            for (int item = bounds[0]; item <= bounds[1]; item++) {
+                if (!translate(series, item, xy)) {
+                    continue;
+                }
+                double dx = xy[0] - x;
+                double dy = xy[1] - y;
+                double distance = dx * dx + dy * dy;
+                if (distance <= bestDistance) {
+                    bestDistance = distance;
+                    bestSeries = series;
+                    bestItem = item;
+                }
+            }
+        }
+        if (bestSeries < 0) {
+            return null;
+        }
+        translate(bestSeries, bestItem, xy);
+        return createItemEntity(bestSeries, bestItem, xy[0], xy[1]);
+    }
+
+    /**
+     * Returns entities for the items whose entity area (a circle with the
+     * renderer's default entity radius) intersects a rectangle.
+     *
+     * @param area  the rectangle (<code>null</code> not permitted).
+     *
+     * @return A list of {@link XYItemEntity} objects (possibly empty).
+     */
+    public List getItemEntities(RectShape area) {
+        List result = new ArrayList();
+        if (this.dataset == null || !getArea().intersects(area)) {
+            return result;
+        }
+        boolean vertical = (this.orientation == PlotOrientation.VERTICAL);
+        double r = this.renderer.getDefaultEntityRadius();
+        double d0 = vertical ? area.getMinX() : area.getMinY();
+        double d1 = vertical ? area.getMaxX() : area.getMaxY();
+        double[] xy = new double[2];
+        int seriesCount = Math.min(this.itemCounts.length,
+                this.dataset.getSeriesCount());
+        for (int series = 0; series < seriesCount; series++) {
+            int[] bounds = findItems(series, d0 - r, d1 + r);
+            if (bounds == null) {
+                continue;
+            }
+            for (int item = bounds[0]; item <= bounds[1]; item++) {
+                if (!translate(series, item, xy)) {
+                    continue;
+                }
+                // the distance from the item to the nearest point in the
+                // rectangle
+                double dx = xy[0] - Math.max(area.getMinX(),
+                        Math.min(xy[0], area.getMaxX()));
+                double dy = xy[1] - Math.max(area.getMinY(),
+                        Math.min(xy[1], area.getMaxY()));
+                if (dx * dx + dy * dy <= r * r) {
+                    result.add(createItemEntity(series, item, xy[0], xy[1]));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the items of a series that may be drawn between two coordinates
+     * along the domain axis.
+     *
+     * @param series  the series index.
+     * @param d0  the first coordinate.
+     * @param d1  the second coordinate.
+     *
+     * @return The indices of the first and last item, or <code>null</code>
+     *     if the series isn't visible or has no items.
+     */
+    private int[] findItems(int series, double d0, double d1) {
+        int itemCount = Math.min(this.itemCounts[series],
+                this.dataset.getItemCount(series));
+        if (!this.renderer.isSeriesVisible(series) || itemCount == 0) {
+            return null;
+        }
+        double v0 = this.domainTransform.inverseTransform(d0);
+        double v1 = this.domainTransform.inverseTransform(d1);
+        int[] bounds = RendererUtilities.findLiveItems(this.dataset, series,
+                Math.min(v0, v1), Math.max(v0, v1));
+        bounds[1] = Math.min(bounds[1], itemCount - 1);
+        if (bounds[0] > bounds[1]) {
+            return null;
+        }
+        return bounds;
+    }
+
+    /**
+     * Calculates the coordinates of an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param xy  an array that the x- and y-coordinates are stored in.
+     *
+     * @return A boolean that indicates whether the item has an entity (it
+     *     doesn't if it isn't visible or has a <code>NaN</code> value).
+     */
+    private boolean translate(int series, int item, double[] xy) {
+        double xValue = this.dataset.getXValue(series, item);
+        double yValue = this.dataset.getYValue(series, item);
+        if (Double.isNaN(xValue) || Double.isNaN(yValue)
+                || !this.renderer.getItemVisible(series, item)
+                || !this.renderer.getItemCreateEntity(series, item)) {
+            return false;
+        }
+        double transX = this.domainTransform.transform(xValue);
+        double transY = this.rangeTransform.transform(yValue);
+        if (this.orientation == PlotOrientation.VERTICAL) {
+            xy[0] = transX;
+            xy[1] = transY;
+        }
+        else {
+            xy[0] = transY;
+            xy[1] = transX;
+        }
+        return true;
+    }
+
+    /**
+     * Creates an entity for an item, with the same area as the default area
+     * that the renderer uses.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param x  the x-coordinate of the item.
+     * @param y  the y-coordinate of the item.
+     *
+     * @return The entity.
+     */
+    private XYItemEntity createItemEntity(int series, int item, double x,
+            double y) {
+        double r = this.renderer.getDefaultEntityRadius();
+        OvalShape hotspot = new OvalShape(x - r, y - r, r * 2, r * 2);
+        return new XYItemEntity(hotspot, this.dataset, series, item, "", "");
+    }
+
+    /**
+     * Returns a string representation of this instance, useful for debugging
+     * purposes.
+     *
+     * @return A string.
+     */
+    public String toString() {
+        return "VirtualXYItemEntity: dataset = " + getDataset();
+    }
+
+}
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Added FOREGROUND_UPDATED;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2005-2008, by Object Refinery Limited.
@@ -77,6 +78,13 @@ public final class ChartChangeEventType implements Serializable {
     public static final ChartChangeEventType DATASET_UPDATED = new ChartChangeEventType(
             "ChartChangeEventType.DATASET_UPDATED");
 
+    /**
+     * FOREGROUND_UPDATED - a change to the items that are drawn over the data
+     * (annotations and crosshairs) only.
+     */
+    public static final ChartChangeEventType FOREGROUND_UPDATED = new ChartChangeEventType(
+            "ChartChangeEventType.FOREGROUND_UPDATED");
+
     /** The name. */
     private String name;
 
@@ -146,6 +154,8 @@ public final class ChartChangeEventType implements Serializable {
             return ChartChangeEventType.NEW_DATASET;
         } else if (this.equals(ChartChangeEventType.DATASET_UPDATED)) {
             return ChartChangeEventType.DATASET_UPDATED;
+        } else if (this.equals(ChartChangeEventType.FOREGROUND_UPDATED)) {
+            return ChartChangeEventType.FOREGROUND_UPDATED;
         }
         return null;
     }
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Build labels from a compiled format string in a reused buffer
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2005-2008, by Object Refinery Limited.
@@ -64,6 +65,8 @@ import java.text.DateFormat;
 import java.text.MessageFormat;
 import java.text.NumberFormat;
 
+import org.afree.chart.util.FormatBuffer;
+import org.afree.chart.util.MessagePattern;
 import org.afree.data.category.CategoryDataset;
 import org.afree.data.DataUtilities;
 
@@ -108,6 +111,15 @@ public abstract class AbstractCategoryItemLabelGenerator
      */
     private NumberFormat percentFormat;
 
+    /**
+     * The compiled label format string (<code>null</code> if the labels are
+     * created with <code>MessageFormat</code>).
+     */
+    private transient MessagePattern labelPattern;
+
+    /** The buffer that labels are built in (created when first needed). */
+    private transient FormatBuffer labelBuffer;
+
     /**
      * Creates a label generator with the specified number formatter.
      *
@@ -232,16 +244,96 @@ public abstract class AbstractCategoryItemLabelGenerator
      *
      * @return The label (possibly <code>null</code>).
      */
-    protected String generateLabelString(CategoryDataset dataset,
-                                         int row, int column) {
+    protected synchronized String generateLabelString(
+            CategoryDataset dataset, int row, int column) {
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");
         }
-        String result = null;
-        Object[] items = createItemArray(dataset, row, column);
-        result = MessageFormat.format(this.labelFormat, items);
-        return result;
+        if (this.labelBuffer == null) {
+            this.labelBuffer = new FormatBuffer();
+            if (!isItemArrayOverridden()) {
+                this.labelPattern = MessagePattern.compile(this.labelFormat);
+            }
+        }
+        if (this.labelPattern == null) {
+            Object[] items = createItemArray(dataset, row, column);
+            return MessageFormat.format(this.labelFormat, items);
+        }
 
+        // build the label in the buffer, with the same result as passing the
+        // items from createItemArray() to MessageFormat
+        FormatBuffer buffer = this.labelBuffer;
+        buffer.clear();
+        Number value = dataset.getValue(row, column);
+        int count = this.labelPattern.getPartCount();
+        for (int i = 0; i < count; i++) {
+            int index = this.labelPattern.getArgumentIndex(i);
+            if (index < 0) {
+                buffer.append(this.labelPattern.getLiteral(i));
+            }
+            else if (index == 0) {
+                buffer.append(dataset.getRowKey(row).toString());
+            }
+            else if (index == 1) {
+                buffer.append(dataset.getColumnKey(column).toString());
+            }
+            else if (index == 2) {
+                if (value == null) {
+                    buffer.append(this.nullValueString);
+                }
+                else if (this.numberFormat != null) {
+                    buffer.appendNumber(this.numberFormat, value);
+                }
+                else if (this.dateFormat != null) {
+                    buffer.appendDate(this.dateFormat, value.longValue());
+                }
+                else {
+                    buffer.append("null");
+                }
+            }
+            else if (index == 3) {
+                if (value == null) {
+                    buffer.append("null");
+                }
+                else {
+                    double total = DataUtilities.calculateColumnTotal(
+                            dataset, column);
+                    buffer.appendNumber(this.percentFormat,
+                            value.doubleValue() / total);
+                }
+            }
+            else {
+                buffer.append('{');
+                buffer.append(index);
+                buffer.append('}');
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Returns <code>true</code> if a subclass overrides the
+     * {@link #createItemArray(CategoryDataset, int, int)} method, in which
+     * case the labels must be created from the items it returns.
+     *
+     * @return A boolean.
+     */
+    private boolean isItemArrayOverridden() {
+        Class c = getClass();
+        while (c != AbstractCategoryItemLabelGenerator.class) {
+            try {
+                c.getDeclaredMethod("createItemArray", new Class[] {
+                        CategoryDataset.class, Integer.TYPE, Integer.TYPE});
+                return true;
+            }
+            catch (NoSuchMethodException e) {
+                c = c.getSuperclass();
+            }
+            catch (SecurityException e) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
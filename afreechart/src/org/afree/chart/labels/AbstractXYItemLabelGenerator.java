@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Build labels from a compiled format string in a reused buffer
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2004-2008, by Object Refinery Limited.
@@ -78,6 +79,8 @@ import java.util.Date;
 
 import org.afree.util.ObjectUtilities;
 import org.afree.chart.HashUtilities;
+import org.afree.chart.util.FormatBuffer;
+import org.afree.chart.util.MessagePattern;
 import org.afree.data.xy.XYDataset;
 
 
@@ -108,6 +111,15 @@ public class AbstractXYItemLabelGenerator implements Cloneable, Serializable {
     /** The string used to represent 'null' for the y-value. */
     private String nullYString = "null";
 
+    /**
+     * The compiled label format string (<code>null</code> if the labels are
+     * created with <code>MessageFormat</code>).
+     */
+    private transient MessagePattern formatPattern;
+
+    /** The buffer that labels are built in (created when first needed). */
+    private transient FormatBuffer labelBuffer;
+
     /**
      * Creates an item label generator using default number formatters.
      */
@@ -261,11 +273,85 @@ public class AbstractXYItemLabelGenerator implements Cloneable, Serializable {
      *
      * @return The label (possibly <code>null</code>).
      */
-    public String generateLabelString(XYDataset dataset, int series, int item) {
-        String result = null;
-        Object[] items = createItemArray(dataset, series, item);
-        result = MessageFormat.format(this.formatString, items);
-        return result;
+    public synchronized String generateLabelString(XYDataset dataset,
+            int series, int item) {
+        if (this.labelBuffer == null) {
+            this.labelBuffer = new FormatBuffer();
+            if (!isItemArrayOverridden()) {
+                this.formatPattern = MessagePattern.compile(this.formatString);
+            }
+        }
+        if (this.formatPattern == null) {
+            Object[] items = createItemArray(dataset, series, item);
+            return MessageFormat.format(this.formatString, items);
+        }
+
+        // build the label in the buffer, with the same result as passing the
+        // items from createItemArray() to MessageFormat
+        FormatBuffer buffer = this.labelBuffer;
+        buffer.clear();
+        int count = this.formatPattern.getPartCount();
+        for (int i = 0; i < count; i++) {
+            int index = this.formatPattern.getArgumentIndex(i);
+            if (index < 0) {
+                buffer.append(this.formatPattern.getLiteral(i));
+            }
+            else if (index == 0) {
+                buffer.append(dataset.getSeriesKey(series).toString());
+            }
+            else if (index == 1) {
+                double x = dataset.getXValue(series, item);
+                if (this.xDateFormat != null) {
+                    buffer.appendDate(this.xDateFormat, (long) x);
+                }
+                else {
+                    buffer.appendNumber(this.xFormat, x);
+                }
+            }
+            else if (index == 2) {
+                double y = dataset.getYValue(series, item);
+                if (Double.isNaN(y) && dataset.getY(series, item) == null) {
+                    buffer.append(this.nullYString);
+                }
+                else if (this.yDateFormat != null) {
+                    buffer.appendDate(this.yDateFormat, (long) y);
+                }
+                else {
+                    buffer.appendNumber(this.yFormat, y);
+                }
+            }
+            else {
+                buffer.append('{');
+                buffer.append(index);
+                buffer.append('}');
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Returns <code>true</code> if a subclass overrides the
+     * {@link #createItemArray(XYDataset, int, int)} method, in which case
+     * the labels must be created from the items it returns.
+     *
+     * @return A boolean.
+     */
+    private boolean isItemArrayOverridden() {
+        Class c = getClass();
+        while (c != AbstractXYItemLabelGenerator.class) {
+            try {
+                c.getDeclaredMethod("createItemArray", new Class[] {
+                        XYDataset.class, Integer.TYPE, Integer.TYPE});
+                return true;
+            }
+            catch (NoSuchMethodException e) {
+                c = c.getSuperclass();
+            }
+            catch (SecurityException e) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -391,6 +477,7 @@ public class AbstractXYItemLabelGenerator implements Cloneable, Serializable {
         if (this.yDateFormat != null) {
             clone.yDateFormat = (DateFormat) this.yDateFormat.clone();
         }
+        clone.labelBuffer = null;
         return clone;
     }
 
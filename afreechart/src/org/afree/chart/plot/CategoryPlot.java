@@ -40,6 +40,7 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Draw the chart layers separately, and send FOREGROUND_UPDATED events for crosshair and annotation changes;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
@@ -209,6 +210,7 @@ import org.afree.ui.RectangleEdge;
 import org.afree.ui.RectangleInsets;
 import org.afree.util.ShapeUtilities;
 import org.afree.util.SortOrder;
+import org.afree.chart.ChartLayerCache;
 import org.afree.chart.LegendItem;
 import org.afree.chart.LegendItemCollection;
 import org.afree.chart.annotations.CategoryAnnotation;
@@ -3151,7 +3153,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
     public void setDomainCrosshairVisible(boolean flag) {
         if (this.domainCrosshairVisible != flag) {
             this.domainCrosshairVisible = flag;
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -3193,7 +3195,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
     public void setDomainCrosshairRowKey(Comparable key, boolean notify) {
         this.domainCrosshairRowKey = key;
         if (notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -3235,7 +3237,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
     public void setDomainCrosshairColumnKey(Comparable key, boolean notify) {
         this.domainCrosshairColumnKey = key;
         if (notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -3391,7 +3393,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
     public void setRangeCrosshairVisible(boolean flag) {
         if (this.rangeCrosshairVisible != flag) {
             this.rangeCrosshairVisible = flag;
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -3463,7 +3465,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
     public void setRangeCrosshairValue(double value, boolean notify) {
         this.rangeCrosshairValue = value;
         if (isRangeCrosshairVisible() && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -3597,7 +3599,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         }
         this.annotations.add(annotation);
         if (notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -3636,7 +3638,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         }
         boolean removed = this.annotations.remove(annotation);
         if (removed && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
         return removed;
     }
@@ -3647,7 +3649,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
      */
     public void clearAnnotations() {
         this.annotations.clear();
-        fireChangeEvent();
+        fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
     }
 
     /**
@@ -3768,6 +3770,16 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         return space;
     }
 
+    /**
+     * Returns <code>true</code>, this plot draws its background, data and
+     * foreground layers separately.
+     *
+     * @return <code>true</code>.
+     */
+    public boolean isLayeredDrawingSupported() {
+        return true;
+    }
+
     /**
      * Draws the plot on a graphics device (such as the screen or a
      * printer).
@@ -3820,16 +3832,22 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         state.setDataArea(dataArea);
         createAndAddEntity((RectShape) dataArea.clone(), state, null, null);
 
+        boolean background = isLayerDrawn(ChartLayerCache.BACKGROUND_LAYER);
+        boolean data = isLayerDrawn(ChartLayerCache.DATA_LAYER);
+        boolean foreground = isLayerDrawn(ChartLayerCache.FOREGROUND_LAYER);
+
         // if there is a renderer, it draws the background, otherwise use the
         // default background...
-        if (getRenderer() != null) {
-            getRenderer().drawBackground(canvas, this, dataArea);
-        } else {
-            drawBackground(canvas, dataArea);
+        Map axisStateMap = Collections.EMPTY_MAP;
+        if (background) {
+            if (getRenderer() != null) {
+                getRenderer().drawBackground(canvas, this, dataArea);
+            } else {
+                drawBackground(canvas, dataArea);
+            }
+            axisStateMap = drawAxes(canvas, area, dataArea, state);
         }
 
-        Map axisStateMap = drawAxes(canvas, area, dataArea, state);
-
         // the anchor point is typically the point where the mouse last
         // clicked - the crosshairs will be driven off this point...
         if (anchor != null && !dataArea.contains(anchor)) {
@@ -3862,16 +3880,22 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         crosshairState.setRowKey(getDomainCrosshairRowKey());
         crosshairState.setColumnKey(getDomainCrosshairColumnKey());
         crosshairState.setCrosshairY(getRangeCrosshairValue());
+        if (!data) {
+            // the crosshair is not updated without rendering the data
+            crosshairState.setDatasetIndex(getCrosshairDatasetIndex());
+        }
 
         // don't let anyone draw outside the data area
         canvas.save();
         canvas.clipRect((float) dataArea.getMinX(), (float) dataArea.getMaxY(),
                 (float) dataArea.getMaxX(), (float) dataArea.getMinY());
 
-        drawDomainGridlines(canvas, dataArea);
+        if (background) {
+            drawDomainGridlines(canvas, dataArea);
+        }
 
         AxisState rangeAxisState = (AxisState) axisStateMap.get(getRangeAxis());
-        if (rangeAxisState == null) {
+        if (rangeAxisState == null && background) {
             if (parentState != null) {
                 rangeAxisState = (AxisState) parentState.getSharedAxisStates()
                         .get(getRangeAxis());
@@ -3883,11 +3907,13 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         }
 
         // draw the markers...
-        for (int i = 0; i < this.renderers.size(); i++) {
-            drawDomainMarkers(canvas, dataArea, i, Layer.BACKGROUND);
-        }
-        for (int i = 0; i < this.renderers.size(); i++) {
-            drawRangeMarkers(canvas, dataArea, i, Layer.BACKGROUND);
+        if (background) {
+            for (int i = 0; i < this.renderers.size(); i++) {
+                drawDomainMarkers(canvas, dataArea, i, Layer.BACKGROUND);
+            }
+            for (int i = 0; i < this.renderers.size(); i++) {
+                drawRangeMarkers(canvas, dataArea, i, Layer.BACKGROUND);
+            }
         }
 
         // now render data items...
@@ -3902,31 +3928,33 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
          */
 
         DatasetRenderingOrder order = getDatasetRenderingOrder();
-        if (order == DatasetRenderingOrder.FORWARD) {
+        if (data && order == DatasetRenderingOrder.FORWARD) {
             for (int i = 0; i < this.datasets.size(); i++) {
                 foundData = render(canvas, dataArea, i, state, crosshairState)
                         || foundData;
             }
-        } else { // DatasetRenderingOrder.REVERSE
+        } else if (data) { // DatasetRenderingOrder.REVERSE
             for (int i = this.datasets.size() - 1; i >= 0; i--) {
                 foundData = render(canvas, dataArea, i, state, crosshairState)
                         || foundData;
             }
         }
-        // draw the foreground markers...
-        for (int i = 0; i < this.renderers.size(); i++) {
-            drawDomainMarkers(canvas, dataArea, i, Layer.FOREGROUND);
-        }
-        for (int i = 0; i < this.renderers.size(); i++) {
-            drawRangeMarkers(canvas, dataArea, i, Layer.FOREGROUND);
-        }
+        if (foreground) {
+            // draw the foreground markers...
+            for (int i = 0; i < this.renderers.size(); i++) {
+                drawDomainMarkers(canvas, dataArea, i, Layer.FOREGROUND);
+            }
+            for (int i = 0; i < this.renderers.size(); i++) {
+                drawRangeMarkers(canvas, dataArea, i, Layer.FOREGROUND);
+            }
 
-        // draw the annotations (if any)...
-        drawAnnotations(canvas, dataArea);
+            // draw the annotations (if any)...
+            drawAnnotations(canvas, dataArea);
+        }
 
         canvas.restore();
 
-        if (!foundData) {
+        if (!foundData && data) {
             drawNoDataMessage(canvas, dataArea);
         }
 
@@ -3938,7 +3966,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         Comparable columnKey = crosshairState.getColumnKey();
         setDomainCrosshairRowKey(rowKey, false);
         setDomainCrosshairColumnKey(columnKey, false);
-        if (isDomainCrosshairVisible() && columnKey != null) {
+        if (isDomainCrosshairVisible() && columnKey != null && foreground) {
             drawDomainCrosshair(canvas, dataArea, this.orientation, datasetIndex,
                     rowKey, columnKey, getDomainCrosshairStroke(), getDomainCrosshairPaintType(), getDomainCrosshairEffect());
         }
@@ -3956,14 +3984,14 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
             crosshairState.setCrosshairY(yy);
         }
         setRangeCrosshairValue(crosshairState.getCrosshairY(), false);
-        if (isRangeCrosshairVisible()) {
+        if (isRangeCrosshairVisible() && foreground) {
             double y = getRangeCrosshairValue();
             drawRangeCrosshair(canvas, dataArea, getOrientation(), y, yAxis,
                     getRangeCrosshairStroke(), getRangeCrosshairPaintType(), getRangeCrosshairEffect());
         }
 
         // draw an outline around the plot area...
-        if (isOutlineVisible()) {
+        if (isOutlineVisible() && foreground) {
             if (getRenderer() != null) {
                 getRenderer().drawOutline(canvas, this, dataArea);
             } else {
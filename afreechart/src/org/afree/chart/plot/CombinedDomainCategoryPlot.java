@@ -40,6 +40,8 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Only draw the shared axis in the background layer;
+ * 16-Oct-2026 : Added option to draw the subplots in parallel;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2003-2008, by Object Refinery Limited.
@@ -83,9 +85,11 @@ package org.afree.chart.plot;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.afree.ui.RectangleEdge;
 import org.afree.ui.RectangleInsets;
+import org.afree.chart.ChartLayerCache;
 import org.afree.chart.LegendItemCollection;
 import org.afree.chart.axis.AxisSpace;
 import org.afree.chart.axis.AxisState;
@@ -117,6 +121,15 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
     private transient RectShape[] subplotAreas;
     // TODO:  move the above to the plot state
 
+    /**
+     * The executor that draws the subplots in parallel (<code>null</code> to
+     * draw them one after another).
+     */
+    private transient ExecutorService subplotExecutor;
+
+    /** Draws the subplots in parallel (created when first needed). */
+    private transient ParallelSubplotRenderer parallelRenderer;
+
     /**
      * Default constructor.
      */
@@ -156,6 +169,56 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         fireChangeEvent();
     }
 
+    /**
+     * Returns the executor that draws the subplots in parallel.
+     *
+     * @return The executor (possibly <code>null</code>).
+     *
+     * @see #setSubplotExecutor(ExecutorService)
+     */
+    public ExecutorService getSubplotExecutor() {
+        return this.subplotExecutor;
+    }
+
+    /**
+     * Sets the executor that draws the subplots in parallel, each into its
+     * own bitmap (see {@link ParallelSubplotRenderer}).  If the executor is
+     * <code>null</code> (the default) the subplots are drawn one after
+     * another.  The executor is not serialized, and no change event is sent
+     * since the chart looks the same either way.
+     *
+     * @param executor  the executor (<code>null</code> permitted).
+     *
+     * @see ParallelSubplotRenderer#getSharedExecutor()
+     */
+    public void setSubplotExecutor(ExecutorService executor) {
+        this.subplotExecutor = executor;
+        if (executor == null && this.parallelRenderer != null) {
+            this.parallelRenderer.dispose();
+            this.parallelRenderer = null;
+        }
+    }
+
+    /**
+     * Prepares to draw the subplots in parallel.
+     *
+     * @return The renderer that draws the subplots, or <code>null</code> if
+     *     they should be drawn one after another.
+     */
+    private ParallelSubplotRenderer startParallelRendering() {
+        if (this.subplotExecutor == null) {
+            return null;
+        }
+        if (this.parallelRenderer == null) {
+            this.parallelRenderer = new ParallelSubplotRenderer();
+        }
+        if (!this.parallelRenderer.start(this.subplotExecutor,
+                this.subplots, this.gap)) {
+            return null;
+        }
+        return this.parallelRenderer;
+    }
+
     /**
      * Adds a subplot to the combined chart and sends a {@link PlotChangeEvent}
      * to all registered listeners.
@@ -478,18 +541,21 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         // set the width and height of non-shared axis of all sub-plots
         setFixedRangeAxisSpaceForSubplots(space);
 
-        // draw the shared axis
-        CategoryAxis axis = getDomainAxis();
-        RectangleEdge domainEdge = getDomainAxisEdge();
-        double cursor = RectangleEdge.coordinate(dataArea, domainEdge);
-        AxisState axisState = axis.draw(canvas, cursor, area, dataArea,
-                domainEdge, info);
-        if (parentState == null) {
-            parentState = new PlotState();
+        // draw the shared axis (it is part of the background layer)
+        if (isLayerDrawn(ChartLayerCache.BACKGROUND_LAYER)) {
+            CategoryAxis axis = getDomainAxis();
+            RectangleEdge domainEdge = getDomainAxisEdge();
+            double cursor = RectangleEdge.coordinate(dataArea, domainEdge);
+            AxisState axisState = axis.draw(canvas, cursor, area, dataArea,
+                    domainEdge, info);
+            if (parentState == null) {
+                parentState = new PlotState();
+            }
+            parentState.getSharedAxisStates().put(axis, axisState);
         }
-        parentState.getSharedAxisStates().put(axis, axisState);
 
         // draw all the subplots
+        ParallelSubplotRenderer parallel = startParallelRendering();
         for (int i = 0; i < this.subplots.size(); i++) {
             CategoryPlot plot = (CategoryPlot) this.subplots.get(i);
             PlotRenderingInfo subplotInfo = null;
@@ -501,8 +567,17 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
             if (anchor != null && this.subplotAreas[i].contains(anchor)) {
                 subAnchor = anchor;
             }
-            plot.draw(canvas, this.subplotAreas[i], subAnchor, parentState,
-                    subplotInfo);
+            if (parallel != null) {
+                parallel.submit(plot, this.subplotAreas[i], subAnchor,
+                        parentState, subplotInfo);
+            }
+            else {
+                plot.draw(canvas, this.subplotAreas[i], subAnchor, parentState,
+                        subplotInfo);
+            }
+        }
+        if (parallel != null) {
+            parallel.finish(canvas);
         }
 
         if (info != null) {
@@ -40,6 +40,8 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Only draw the shared axis in the background layer;
+ * 16-Oct-2026 : Added option to draw the subplots in parallel;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2003-2008, by Object Refinery Limited.
@@ -81,9 +83,11 @@ import java.io.ObjectInputStream;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.afree.ui.RectangleEdge;
 import org.afree.ui.RectangleInsets;
+import org.afree.chart.ChartLayerCache;
 import org.afree.chart.LegendItemCollection;
 import org.afree.chart.axis.AxisSpace;
 import org.afree.chart.axis.AxisState;
@@ -114,6 +118,15 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
     /** Temporary storage for the subplot areas. */
     private transient RectShape[] subplotArea;  // TODO: move to plot state
 
+    /**
+     * The executor that draws the subplots in parallel (<code>null</code> to
+     * draw them one after another).
+     */
+    private transient ExecutorService subplotExecutor;
+
+    /** Draws the subplots in parallel (created when first needed). */
+    private transient ParallelSubplotRenderer parallelRenderer;
+
     /**
      * Default constructor.
      */
@@ -152,6 +165,56 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         fireChangeEvent();
     }
 
+    /**
+     * Returns the executor that draws the subplots in parallel.
+     *
+     * @return The executor (possibly <code>null</code>).
+     *
+     * @see #setSubplotExecutor(ExecutorService)
+     */
+    public ExecutorService getSubplotExecutor() {
+        return this.subplotExecutor;
+    }
+
+    /**
+     * Sets the executor that draws the subplots in parallel, each into its
+     * own bitmap (see {@link ParallelSubplotRenderer}).  If the executor is
+     * <code>null</code> (the default) the subplots are drawn one after
+     * another.  The executor is not serialized, and no change event is sent
+     * since the chart looks the same either way.
+     *
+     * @param executor  the executor (<code>null</code> permitted).
+     *
+     * @see ParallelSubplotRenderer#getSharedExecutor()
+     */
+    public void setSubplotExecutor(ExecutorService executor) {
+        this.subplotExecutor = executor;
+        if (executor == null && this.parallelRenderer != null) {
+            this.parallelRenderer.dispose();
+            this.parallelRenderer = null;
+        }
+    }
+
+    /**
+     * Prepares to draw the subplots in parallel.
+     *
+     * @return The renderer that draws the subplots, or <code>null</code> if
+     *     they should be drawn one after another.
+     */
+    private ParallelSubplotRenderer startParallelRendering() {
+        if (this.subplotExecutor == null) {
+            return null;
+        }
+        if (this.parallelRenderer == null) {
+            this.parallelRenderer = new ParallelSubplotRenderer();
+        }
+        if (!this.parallelRenderer.start(this.subplotExecutor,
+                this.subplots, this.gap)) {
+            return null;
+        }
+        return this.parallelRenderer;
+    }
+
     /**
      * Adds a subplot (with a default 'weight' of 1) and sends a
      * {@link PlotChangeEvent} to all registered listeners.
@@ -366,18 +429,22 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         // set the width and height of non-shared axis of all sub-plots
         setFixedDomainAxisSpaceForSubplots(space);
 
-        // draw the shared axis
-        ValueAxis axis = getRangeAxis();
-        RectangleEdge rangeEdge = getRangeAxisEdge();
-        double cursor = RectangleEdge.coordinate(dataArea, rangeEdge);
-        AxisState state = axis.draw(canvas, cursor, area, dataArea, rangeEdge,
-                info);
-        if (parentState == null) {
-            parentState = new PlotState();
+        // draw the shared axis (it is part of the background layer)
+        if (isLayerDrawn(ChartLayerCache.BACKGROUND_LAYER)) {
+            ValueAxis axis = getRangeAxis();
+            RectangleEdge rangeEdge = getRangeAxisEdge();
+            double cursor = RectangleEdge.coordinate(dataArea, rangeEdge);
+            AxisState state = axis.draw(canvas, cursor, area, dataArea,
+                    rangeEdge,
+                    info);
+            if (parentState == null) {
+                parentState = new PlotState();
+            }
+            parentState.getSharedAxisStates().put(axis, state);
         }
-        parentState.getSharedAxisStates().put(axis, state);
 
         // draw all the charts
+        ParallelSubplotRenderer parallel = startParallelRendering();
         for (int i = 0; i < this.subplots.size(); i++) {
             CategoryPlot plot = (CategoryPlot) this.subplots.get(i);
             PlotRenderingInfo subplotInfo = null;
@@ -389,8 +456,17 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
             if (anchor != null && this.subplotArea[i].contains(anchor)) {
                 subAnchor = anchor;
             }
-            plot.draw(canvas, this.subplotArea[i], subAnchor, parentState,
-                    subplotInfo);
+            if (parallel != null) {
+                parallel.submit(plot, this.subplotArea[i], subAnchor,
+                        parentState, subplotInfo);
+            }
+            else {
+                plot.draw(canvas, this.subplotArea[i], subAnchor, parentState,
+                        subplotInfo);
+            }
+        }
+        if (parallel != null) {
+            parallel.finish(canvas);
         }
 
         if (info != null) {
@@ -0,0 +1,471 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ----------------------------
+ * ParallelSubplotRenderer.java
+ * ----------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Look up the series attributes before the subplots are drawn;
+ * 16-Oct-2026 : Draw the bitmaps through the canvas transformation, rather
+ *               than requiring an untransformed canvas;
+ */
+
+package org.afree.chart.plot;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import org.afree.chart.ChartRenderingInfo;
+import org.afree.chart.entity.EntityCollection;
+import org.afree.chart.entity.StandardEntityCollection;
+import org.afree.chart.renderer.AbstractRenderer;
+import org.afree.data.category.CategoryDataset;
+import org.afree.data.xy.XYDataset;
+import org.afree.graphics.geom.RectShape;
+import org.afree.util.SortOrder;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PointF;
+
+/**
+ * Draws the subplots of a combined plot in parallel.  Each subplot is drawn
+ * into its own bitmap by a task on an executor, and when all the subplots
+ * have been drawn the bitmaps are drawn onto the canvas in the order of the
+ * subplots.  The subplots are drawn with the same coordinates as they would
+ * be drawn directly on the canvas, so the plot areas and the entities are
+ * unchanged.
+ * <P>
+ * The thread that draws the combined plot runs any task that hasn't been
+ * started by the executor yet itself, so a bounded executor can be shared by
+ * several charts (and by nested combined plots) without a deadlock.
+ * <P>
+ * The subplots are drawn in parallel only if they don't share a renderer
+ * (renderers keep state while they draw); otherwise they are drawn one after
+ * another as usual.  The bitmaps are drawn through the transformation of the
+ * canvas, so a translated canvas is handled, but on a scaled canvas the
+ * bitmaps are scaled rather than drawn at the resolution of the canvas.  Each subplot is
+ * clipped to its area, expanded by the gap between the subplots.  The series
+ * paints, strokes and shapes that the renderers take from the shared drawing
+ * supplier are looked up before the subplots are drawn, so the series get the
+ * same attributes as when the subplots are drawn one after another.
+ *
+ * @see CombinedDomainXYPlot#setSubplotExecutor(ExecutorService)
+ */
+public final class ParallelSubplotRenderer {
+
+    /** The shared executor (created on first use). */
+    private static ExecutorService sharedExecutor;
+
+    /** The executor for the subplots that are being drawn. */
+    private Executor executor;
+
+    /** The margin around each subplot area. */
+    private double margin;
+
+    /** The bitmaps, reused from one draw to the next. */
+    private List bitmaps;
+
+    /** The tasks that draw the subplots. */
+    private List tasks;
+
+    /** The x-coordinates of the bitmaps. */
+    private List lefts;
+
+    /** The y-coordinates of the bitmaps. */
+    private List tops;
+
+    /** The rendering info that the subplots are drawn with. */
+    private List drawInfos;
+
+    /** The rendering info that the caller supplied for each subplot. */
+    private List targetInfos;
+
+    /**
+     * Returns an executor with one thread per available processor, that is
+     * shared by all the combined plots that use it.  The threads are daemon
+     * threads.
+     *
+     * @return The shared executor.
+     */
+    public static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            int threads = Runtime.getRuntime().availableProcessors();
+            sharedExecutor = Executors.newFixedThreadPool(threads,
+                    new ThreadFactory() {
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r,
+                                    "AFreeChart subplot renderer");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     * Creates a new renderer.
+     */
+    ParallelSubplotRenderer() {
+        this.bitmaps = new ArrayList();
+        this.tasks = new ArrayList();
+        this.lefts = new ArrayList();
+        this.tops = new ArrayList();
+        this.drawInfos = new ArrayList();
+        this.targetInfos = new ArrayList();
+    }
+
+    /**
+     * Prepares to draw the subplots of a combined plot in parallel.
+     *
+     * @param executor  the executor.
+     * @param subplots  the subplots.
+     * @param margin  the margin around each subplot area (the gap between
+     *     the subplots).
+     *
+     * @return A boolean that indicates whether the subplots can be drawn in
+     *     parallel (if not, {@link #submit(Plot, RectShape, PointF,
+     *     PlotState, PlotRenderingInfo)} must not be called).
+     */
+    boolean start(Executor executor, List subplots, double margin) {
+        if (subplots.size() < 2) {
+            return false;
+        }
+        Map renderers = new IdentityHashMap();
+        for (int i = 0; i < subplots.size(); i++) {
+            Object plot = subplots.get(i);
+            if (plot instanceof XYPlot) {
+                XYPlot p = (XYPlot) plot;
+                for (int r = 0; r < p.getRendererCount(); r++) {
+                    Object renderer = p.getRenderer(r);
+                    if (renderer != null
+                            && renderers.put(renderer, plot) != null) {
+                        return false;
+                    }
+                }
+            }
+            else if (plot instanceof CategoryPlot) {
+                CategoryPlot p = (CategoryPlot) plot;
+                for (int r = 0; r < p.getRendererCount(); r++) {
+                    Object renderer = p.getRenderer(r);
+                    if (renderer != null
+                            && renderers.put(renderer, plot) != null) {
+                        return false;
+                    }
+                }
+            }
+        }
+        // the renderers fetch the series attributes that aren't set from the
+        // drawing supplier (that the subplots share) when they first draw a
+        // series, so the attributes are set here in the order that the
+        // subplots would be drawn one after another
+        for (int i = 0; i < subplots.size(); i++) {
+            Object plot = subplots.get(i);
+            if (plot instanceof XYPlot) {
+                populateSeriesAttributes((XYPlot) plot);
+            }
+            else if (plot instanceof CategoryPlot) {
+                populateSeriesAttributes((CategoryPlot) plot);
+            }
+        }
+        this.executor = executor;
+        this.margin = margin;
+        return true;
+    }
+
+    /**
+     * Sets the series attributes that the renderers of an XY plot look up
+     * from the drawing supplier, in the order that the plot draws the
+     * series.
+     *
+     * @param plot  the plot.
+     */
+    private static void populateSeriesAttributes(XYPlot plot) {
+        int datasetCount = plot.getDatasetCount();
+        boolean forward = (plot.getDatasetRenderingOrder()
+                == DatasetRenderingOrder.FORWARD);
+        for (int j = 0; j < datasetCount; j++) {
+            int index = (forward ? j : datasetCount - 1 - j);
+            XYDataset dataset = plot.getDataset(index);
+            Object renderer = plot.getRenderer(index);
+            if (renderer == null) {
+                renderer = plot.getRenderer();
+            }
+            if (dataset != null && renderer instanceof AbstractRenderer) {
+                populateSeriesAttributes((AbstractRenderer) renderer,
+                        dataset.getSeriesCount(),
+                        plot.getSeriesRenderingOrder()
+                        == SeriesRenderingOrder.FORWARD);
+            }
+        }
+    }
+
+    /**
+     * Sets the series attributes that the renderers of a category plot look
+     * up from the drawing supplier, in the order that the plot draws the
+     * series.
+     *
+     * @param plot  the plot.
+     */
+    private static void populateSeriesAttributes(CategoryPlot plot) {
+        int datasetCount = plot.getDatasetCount();
+        boolean forward = (plot.getDatasetRenderingOrder()
+                == DatasetRenderingOrder.FORWARD);
+        for (int j = 0; j < datasetCount; j++) {
+            int index = (forward ? j : datasetCount - 1 - j);
+            CategoryDataset dataset = plot.getDataset(index);
+            Object renderer = plot.getRenderer(index);
+            if (dataset != null && renderer instanceof AbstractRenderer) {
+                populateSeriesAttributes((AbstractRenderer) renderer,
+                        dataset.getRowCount(),
+                        plot.getRowRenderingOrder() == SortOrder.ASCENDING);
+            }
+        }
+    }
+
+    /**
+     * Looks up the attributes of each series, which sets the attributes
+     * that the renderer populates automatically.
+     *
+     * @param renderer  the renderer.
+     * @param seriesCount  the number of series.
+     * @param forward  look the series up in ascending order?
+     */
+    private static void populateSeriesAttributes(AbstractRenderer renderer,
+            int seriesCount, boolean forward) {
+        for (int i = 0; i < seriesCount; i++) {
+            int series = (forward ? i : seriesCount - 1 - i);
+            renderer.lookupSeriesPaintType(series);
+            renderer.lookupSeriesFillPaintType(series);
+            renderer.lookupSeriesOutlinePaintType(series);
+            renderer.lookupSeriesStroke(series);
+            renderer.lookupSeriesEffect(series);
+            renderer.lookupSeriesOutlineStroke(series);
+            renderer.lookupSeriesOutlineEffect(series);
+            renderer.lookupSeriesShape(series);
+        }
+    }
+
+    /**
+     * Starts drawing a subplot into a bitmap.
+     *
+     * @param plot  the subplot.
+     * @param area  the subplot area.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param parentState  the state from the parent plot.
+     * @param info  the subplot rendering info (<code>null</code> permitted).
+     */
+    void submit(final Plot plot, final RectShape area, final PointF anchor,
+            final PlotState parentState, PlotRenderingInfo info) {
+        int index = this.tasks.size();
+        int left = (int) Math.floor(area.getMinX() - this.margin);
+        int top = (int) Math.floor(area.getMinY() - this.margin);
+        int width = Math.max((int) Math.ceil(area.getMaxX() + this.margin)
+                - left, 1);
+        int height = Math.max((int) Math.ceil(area.getMaxY() + this.margin)
+                - top, 1);
+        Bitmap bitmap = null;
+        if (index < this.bitmaps.size()) {
+            bitmap = (Bitmap) this.bitmaps.get(index);
+            if (bitmap.getWidth() != width || bitmap.getHeight() != height) {
+                bitmap.recycle();
+                bitmap = null;
+            }
+        }
+        if (bitmap == null) {
+            bitmap = Bitmap.createBitmap(width, height,
+                    Bitmap.Config.ARGB_8888);
+            if (index < this.bitmaps.size()) {
+                this.bitmaps.set(index, bitmap);
+            }
+            else {
+                this.bitmaps.add(bitmap);
+            }
+        }
+        bitmap.eraseColor(Color.TRANSPARENT);
+        final Canvas canvas = new Canvas(bitmap);
+        canvas.translate(-left, -top);
+
+        // the entities are collected separately, and added to the owner's
+        // collection in the order of the subplots when all are finished
+        PlotRenderingInfo drawInfo = null;
+        if (info != null) {
+            ChartRenderingInfo owner = info.getOwner();
+            if (owner != null) {
+                EntityCollection entities = null;
+                if (owner.getEntityCollection() != null) {
+                    entities = new StandardEntityCollection();
+                }
+                owner = new ChartRenderingInfo(entities);
+            }
+            drawInfo = new PlotRenderingInfo(owner);
+        }
+        final PlotRenderingInfo subplotInfo = drawInfo;
+        FutureTask task = new FutureTask(new Runnable() {
+            public void run() {
+                plot.draw(canvas, area, anchor, parentState, subplotInfo);
+            }
+        }, null);
+        this.tasks.add(task);
+        this.lefts.add(Integer.valueOf(left));
+        this.tops.add(Integer.valueOf(top));
+        this.drawInfos.add(drawInfo);
+        this.targetInfos.add(info);
+        try {
+            this.executor.execute(task);
+        }
+        catch (RejectedExecutionException e) {
+            // the task is run by the calling thread in finish()
+        }
+    }
+
+    /**
+     * Waits for all the subplots to be drawn (running any task that hasn't
+     * been started yet on the calling thread), then draws the bitmaps onto
+     * the canvas and copies the rendering info.
+     *
+     * @param canvas  the canvas.
+     */
+    void finish(Canvas canvas) {
+        Throwable failure = null;
+        boolean interrupted = false;
+        try {
+            for (int i = 0; i < this.tasks.size(); i++) {
+                FutureTask task = (FutureTask) this.tasks.get(i);
+                task.run();  // does nothing if the task has been started
+                while (true) {
+                    try {
+                        task.get();
+                        break;
+                    }
+                    catch (InterruptedException e) {
+                        // the bitmaps can't be released to the next draw
+                        // until every task has finished
+                        interrupted = true;
+                    }
+                    catch (ExecutionException e) {
+                        if (failure == null) {
+                            failure = e.getCause();
+                        }
+                        break;
+                    }
+                }
+            }
+            if (failure == null) {
+                for (int i = 0; i < this.tasks.size(); i++) {
+                    int saveCount = canvas.save();
+                    canvas.translate(((Integer) this.lefts.get(i)).intValue(),
+                            ((Integer) this.tops.get(i)).intValue());
+                    canvas.drawBitmap((Bitmap) this.bitmaps.get(i), 0, 0,
+                            null);
+                    canvas.restoreToCount(saveCount);
+                    PlotRenderingInfo target
+                            = (PlotRenderingInfo) this.targetInfos.get(i);
+                    if (target != null) {
+                        copyInfo((PlotRenderingInfo) this.drawInfos.get(i),
+                                target);
+                    }
+                }
+            }
+        }
+        finally {
+            // release the bitmaps of subplots that have been removed
+            while (this.bitmaps.size() > this.tasks.size()) {
+                ((Bitmap) this.bitmaps.remove(this.bitmaps.size() - 1))
+                        .recycle();
+            }
+            this.tasks.clear();
+            this.lefts.clear();
+            this.tops.clear();
+            this.drawInfos.clear();
+            this.targetInfos.clear();
+            this.executor = null;
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    /**
+     * Copies the rendering info that a subplot was drawn with into the info
+     * supplied by the caller.
+     *
+     * @param source  the source info.
+     * @param target  the target info.
+     */
+    private static void copyInfo(PlotRenderingInfo source,
+            PlotRenderingInfo target) {
+        target.setPlotArea(source.getPlotArea());
+        target.setDataArea(source.getDataArea());
+        for (int i = 0; i < source.getSubplotCount(); i++) {
+            target.addSubplotInfo(source.getSubplotInfo(i));
+        }
+        ChartRenderingInfo owner = target.getOwner();
+        if (owner != null && owner.getEntityCollection() != null) {
+            owner.getEntityCollection().addAll(
+                    source.getOwner().getEntityCollection());
+        }
+    }
+
+    /**
+     * Releases the bitmaps.
+     */
+    void dispose() {
+        for (int i = 0; i < this.bitmaps.size(); i++) {
+            ((Bitmap) this.bitmaps.get(i)).recycle();
+        }
+        this.bitmaps.clear();
+    }
+
+}
@@ -40,6 +40,7 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Added the draw layers for ChartLayerCache;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
@@ -150,6 +151,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.afree.chart.AFreeChart;
+import org.afree.chart.ChartLayerCache;
 import org.afree.chart.LegendItemCollection;
 import org.afree.chart.LegendItemSource;
 import org.afree.chart.axis.AxisLocation;
@@ -296,6 +298,12 @@ public abstract class Plot implements AxisChangeListener, LegendItemSource, Clon
      */
     private boolean notify;
 
+    /**
+     * The layers that are drawn by the {@link #draw(Canvas, RectShape, PointF,
+     * PlotState, PlotRenderingInfo)} method, see {@link ChartLayerCache}.
+     */
+    private int drawLayers;
+
     private BitmapDrawable backgroundImage;
 
     /**
@@ -321,6 +329,7 @@ public abstract class Plot implements AxisChangeListener, LegendItemSource, Clon
         this.drawingSupplier = new DefaultDrawingSupplier();
 
         this.notify = true;
+        this.drawLayers = ChartLayerCache.ALL_LAYERS;
         this.listenerList = new CopyOnWriteArrayList<PlotChangeListener>();
     }
 
@@ -870,6 +879,63 @@ public abstract class Plot implements AxisChangeListener, LegendItemSource, Clon
         }
     }
 
+    /**
+     * Returns <code>true</code> if this plot can draw its background, data and
+     * foreground layers separately (see {@link #setDrawLayers(int)}).  The
+     * default implementation returns <code>false</code>, such a plot is
+     * drawn entirely in the data layer.
+     *
+     * @return A boolean.
+     */
+    public boolean isLayeredDrawingSupported() {
+        return false;
+    }
+
+    /**
+     * Returns the layers that are drawn by the next call to
+     * {@link #draw(Canvas, RectShape, PointF, PlotState, PlotRenderingInfo)}.
+     * A subplot draws the same layers as its parent.
+     *
+     * @return A combination of the layer flags defined by
+     *     {@link ChartLayerCache}.
+     *
+     * @see #setDrawLayers(int)
+     */
+    public int getDrawLayers() {
+        if (this.parent != null) {
+            return this.parent.getDrawLayers();
+        }
+        return this.drawLayers;
+    }
+
+    /**
+     * Sets the layers that are drawn by the next call to
+     * {@link #draw(Canvas, RectShape, PointF, PlotState, PlotRenderingInfo)}.
+     * This is used by the chart when it draws a single layer, no change event
+     * is sent.
+     *
+     * @param layers  a combination of the layer flags defined by
+     *     {@link ChartLayerCache}.
+     *
+     * @see #getDrawLayers()
+     */
+    public void setDrawLayers(int layers) {
+        this.drawLayers = layers;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified layer is drawn by the next
+     * call to {@link #draw(Canvas, RectShape, PointF, PlotState,
+     * PlotRenderingInfo)}.
+     *
+     * @param layer  the layer flag (see {@link ChartLayerCache}).
+     *
+     * @return A boolean.
+     */
+    protected boolean isLayerDrawn(int layer) {
+        return (getDrawLayers() & layer) != 0;
+    }
+
     /**
      * Draws the plot within the specified area. The anchor is a point on the
      * chart that is specified externally (for instance, it may be the last
@@ -1400,6 +1466,18 @@ public abstract class Plot implements AxisChangeListener, LegendItemSource, Clon
     protected void fireChangeEvent() {
         notifyListeners(new PlotChangeEvent(this));
     }
+
+    /**
+     * Sends a {@link PlotChangeEvent} of the specified type to all registered
+     * listeners.
+     *
+     * @param type  the event type (<code>null</code> not permitted).
+     */
+    protected void fireChangeEvent(ChartChangeEventType type) {
+        PlotChangeEvent event = new PlotChangeEvent(this);
+        event.setType(type);
+        notifyListeners(event);
+    }
     
     /**
      * Receives notification of a change to one of the plot's axes.
@@ -42,6 +42,12 @@
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : renamed method name
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Draw the chart layers separately, and send FOREGROUND_UPDATED events for crosshair and annotation changes;
+ * 16-Oct-2026 : Added the rendered domain range for incremental drawing;
+ * 16-Oct-2026 : Add a virtual entity for renderers that use virtual entities
+ * 16-Oct-2026 : Pass axis transforms to the renderer state in render();
+ * 16-Oct-2026 : Initialise the renderer with the decimated view, and only
+ *               decimate datasets that the renderer accepts;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2009, by Object Refinery Limited and Contributors.
@@ -257,6 +263,7 @@ import org.afree.ui.Layer;
 import org.afree.util.ObjectList;
 import org.afree.ui.RectangleEdge;
 import org.afree.ui.RectangleInsets;
+import org.afree.chart.ChartLayerCache;
 import org.afree.chart.LegendItem;
 import org.afree.chart.LegendItemCollection;
 import org.afree.chart.annotations.XYAnnotation;
@@ -270,15 +277,19 @@ import org.afree.chart.axis.TickType;
 import org.afree.chart.axis.ValueAxis;
 import org.afree.chart.axis.ValueTick;
 import org.afree.data.Range;
+import org.afree.data.xy.DecimatedXYDataset;
 import org.afree.data.xy.XYDataset;
 import org.afree.data.general.DatasetChangeEvent;
 import org.afree.data.general.DatasetUtilities;
+import org.afree.chart.entity.EntityCollection;
+import org.afree.chart.entity.VirtualXYItemEntity;
 import org.afree.chart.event.ChartChangeEventType;
 import org.afree.chart.event.PlotChangeEvent;
 import org.afree.chart.event.RendererChangeEvent;
 import org.afree.chart.event.RendererChangeListener;
 import org.afree.chart.renderer.RendererUtilities;
 import org.afree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.afree.chart.renderer.xy.XYDecimator;
 import org.afree.chart.renderer.xy.XYItemRenderer;
 import org.afree.chart.renderer.xy.XYItemRendererState;
 import org.afree.graphics.geom.LineShape;
@@ -604,6 +615,12 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     private boolean rangePannable;
 
+    /**
+     * The part of the domain axis range that the data items are rendered for
+     * (<code>null</code> for the whole range).
+     */
+    private transient Range renderedDomainRange;
+
     /**
      * Creates a new <code>XYPlot</code> instance with no dataset, no axes and
      * no renderer. You should specify these items before using the plot.
@@ -3103,7 +3120,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
         this.annotations.add(annotation);
         if (notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -3142,7 +3159,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
         boolean removed = this.annotations.remove(annotation);
         if (removed && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
         return removed;
     }
@@ -3168,7 +3185,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     public void clearAnnotations() {
         this.annotations.clear();
-        fireChangeEvent();
+        fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
     }
 
     /**
@@ -3282,6 +3299,44 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
     }
 
+    /**
+     * Returns <code>true</code>, this plot draws its background, data and
+     * foreground layers separately.
+     *
+     * @return <code>true</code>.
+     */
+    public boolean isLayeredDrawingSupported() {
+        return true;
+    }
+
+    /**
+     * Returns the part of the domain axis range that the data items are
+     * rendered for.
+     *
+     * @return The range (<code>null</code> for the whole domain axis range).
+     *
+     * @see #setRenderedDomainRange(Range)
+     */
+    public Range getRenderedDomainRange() {
+        return this.renderedDomainRange;
+    }
+
+    /**
+     * Restricts the data items that are rendered to those in a part of the
+     * domain axis range (plus the items either side, so that connecting
+     * lines are drawn), for renderers that process the visible items only.
+     * {@link ChartLayerCache} uses this to draw only the items that have
+     * scrolled into view.  No change event is sent.
+     *
+     * @param range  the range (<code>null</code> for the whole domain axis
+     *     range).
+     *
+     * @see #getRenderedDomainRange()
+     */
+    public void setRenderedDomainRange(Range range) {
+        this.renderedDomainRange = range;
+    }
+
     /**
      * Draws the plot within the specified area on a graphics device.
      * 
@@ -3325,9 +3380,16 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             info.setDataArea(dataArea);
         }
 
+        boolean background = isLayerDrawn(ChartLayerCache.BACKGROUND_LAYER);
+        boolean data = isLayerDrawn(ChartLayerCache.DATA_LAYER);
+        boolean foreground = isLayerDrawn(ChartLayerCache.FOREGROUND_LAYER);
+
         // draw the plot background and axes...
-        drawBackground(canvas, dataArea);
-        Map axisStateMap = drawAxes(canvas, area, dataArea, info);
+        Map axisStateMap = Collections.EMPTY_MAP;
+        if (background) {
+            drawBackground(canvas, dataArea);
+            axisStateMap = drawAxes(canvas, area, dataArea, info);
+        }
 
         PlotOrientation orient = getOrientation();
 
@@ -3377,7 +3439,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
         AxisState domainAxisState = (AxisState) axisStateMap
                 .get(getDomainAxis());
-        if (domainAxisState == null) {
+        if (domainAxisState == null && background) {
             if (parentState != null) {
                 domainAxisState = (AxisState) parentState.getSharedAxisStates()
                         .get(getDomainAxis());
@@ -3385,7 +3447,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
 
         AxisState rangeAxisState = (AxisState) axisStateMap.get(getRangeAxis());
-        if (rangeAxisState == null) {
+        if (rangeAxisState == null && background) {
             if (parentState != null) {
                 rangeAxisState = (AxisState) parentState.getSharedAxisStates()
                         .get(getRangeAxis());
@@ -3407,11 +3469,13 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
 
         // draw the markers that are associated with a specific renderer...
-        for (int i = 0; i < this.renderers.size(); i++) {
-            drawDomainMarkers(canvas, dataArea, i, Layer.BACKGROUND);
-        }
-        for (int i = 0; i < this.renderers.size(); i++) {
-            drawRangeMarkers(canvas, dataArea, i, Layer.BACKGROUND);
+        if (background) {
+            for (int i = 0; i < this.renderers.size(); i++) {
+                drawDomainMarkers(canvas, dataArea, i, Layer.BACKGROUND);
+            }
+            for (int i = 0; i < this.renderers.size(); i++) {
+                drawRangeMarkers(canvas, dataArea, i, Layer.BACKGROUND);
+            }
         }
 
         // now draw annotations and render data items...
@@ -3423,7 +3487,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             int rendererCount = this.renderers.size();
             for (int i = 0; i < rendererCount; i++) {
                 XYItemRenderer r = getRenderer(i);
-                if (r != null) {
+                if (r != null && background) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                     r.drawAnnotations(canvas, dataArea, domainAxis, rangeAxis,
@@ -3432,15 +3496,17 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             }
 
             // render data items...
-            for (int i = 0; i < getDatasetCount(); i++) {
-                foundData = render(canvas, dataArea, i, info, crosshairState)
-                        || foundData;
+            if (data) {
+                for (int i = 0; i < getDatasetCount(); i++) {
+                    foundData = render(canvas, dataArea, i, info,
+                            crosshairState) || foundData;
+                }
             }
 
             // draw foreground annotations
             for (int i = 0; i < rendererCount; i++) {
                 XYItemRenderer r = getRenderer(i);
-                if (r != null) {
+                if (r != null && foreground) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                     r.drawAnnotations(canvas, dataArea, domainAxis, rangeAxis,
@@ -3457,7 +3523,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 if (i >= getDatasetCount()) { // we need the dataset to make
                     continue; // a link to the axes
                 }
-                if (r != null) {
+                if (r != null && background) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                     r.drawAnnotations(canvas, dataArea, domainAxis, rangeAxis,
@@ -3465,9 +3531,11 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 }
             }
 
-            for (int i = getDatasetCount() - 1; i >= 0; i--) {
-                foundData = render(canvas, dataArea, i, info, crosshairState)
-                        || foundData;
+            if (data) {
+                for (int i = getDatasetCount() - 1; i >= 0; i--) {
+                    foundData = render(canvas, dataArea, i, info,
+                            crosshairState) || foundData;
+                }
             }
 
             // draw foreground annotations
@@ -3476,7 +3544,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 if (i >= getDatasetCount()) { // we need the dataset to make
                     continue; // a link to the axes
                 }
-                if (r != null) {
+                if (r != null && foreground) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                     r.drawAnnotations(canvas, dataArea, domainAxis, rangeAxis,
@@ -3500,7 +3568,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             crosshairState.setCrosshairX(xx);
         }
         setDomainCrosshairValue(crosshairState.getCrosshairX(), false);
-        if (isDomainCrosshairVisible()) {
+        if (isDomainCrosshairVisible() && foreground) {
             double x = getDomainCrosshairValue();
             PaintType paintType = getDomainCrosshairPaintType();
             int oldAlpha = paintType.getAlpha();
@@ -3525,7 +3593,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             crosshairState.setCrosshairY(yy);
         }
         setRangeCrosshairValue(crosshairState.getCrosshairY(), false);
-        if (isRangeCrosshairVisible()) {
+        if (isRangeCrosshairVisible() && foreground) {
             double y = getRangeCrosshairValue();
             PaintType paintType = getRangeCrosshairPaintType();
             int oldAlpha = paintType.getAlpha();
@@ -3536,20 +3604,23 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             paintType.setAlpha(oldAlpha);
         }
 
-        if (!foundData) {
+        if (!foundData && data) {
             drawNoDataMessage(canvas, dataArea);
         }
 
-        for (int i = 0; i < this.renderers.size(); i++) {
-            drawDomainMarkers(canvas, dataArea, i, Layer.FOREGROUND);
-        }
-        for (int i = 0; i < this.renderers.size(); i++) {
-            drawRangeMarkers(canvas, dataArea, i, Layer.FOREGROUND);
+        if (foreground) {
+            for (int i = 0; i < this.renderers.size(); i++) {
+                drawDomainMarkers(canvas, dataArea, i, Layer.FOREGROUND);
+            }
+            for (int i = 0; i < this.renderers.size(); i++) {
+                drawRangeMarkers(canvas, dataArea, i, Layer.FOREGROUND);
+            }
+            drawAnnotations(canvas, dataArea, info);
         }
-
-        drawAnnotations(canvas, dataArea, info);
         canvas.restore();
-        drawOutline(canvas, dataArea);
+        if (foreground) {
+            drawOutline(canvas, dataArea);
+        }
 
     }
 
@@ -3885,8 +3956,31 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 }
             }
 
+            double lower = xAxis.getLowerBound();
+            double upper = xAxis.getUpperBound();
+            if (this.renderedDomainRange != null) {
+                lower = Math.max(lower,
+                        this.renderedDomainRange.getLowerBound());
+                upper = Math.min(upper,
+                        this.renderedDomainRange.getUpperBound());
+            }
+            // the renderer is initialised with the view that it draws, so the
+            // view presents the visible items (and their neighbours) only
+            if (renderer instanceof AbstractXYItemRenderer) {
+                AbstractXYItemRenderer r = (AbstractXYItemRenderer) renderer;
+                XYDecimator decimator = r.getDecimator();
+                if (decimator != null && r.canDecimate(dataset)) {
+                    dataset = createDecimatedDataset(dataset, decimator,
+                            xAxis, dataArea, lower, upper);
+                }
+            }
+
             XYItemRendererState state = renderer.initialise(canvas, dataArea, this,
                     dataset, info);
+            state.setDomainTransform(xAxis.getTransform(dataArea,
+                    getDomainAxisEdge()));
+            state.setRangeTransform(yAxis.getTransform(dataArea,
+                    getRangeAxisEdge()));
             int passCount = renderer.getPassCount();
 
             SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
@@ -3902,8 +3996,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                         }
                         if (state.getProcessVisibleItemsOnly()) {
                             int[] itemBounds = RendererUtilities.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
-                                    xAxis.getUpperBound());
+                                    dataset, series, lower, upper);
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
@@ -3927,8 +4020,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                         int lastItem = dataset.getItemCount(series) - 1;
                         if (state.getProcessVisibleItemsOnly()) {
                             int[] itemBounds = RendererUtilities.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
-                                    xAxis.getUpperBound());
+                                    dataset, series, lower, upper);
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
@@ -3944,10 +4036,110 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                     }
                 }
             }
+
+            // one entity stands for all the items (of the full dataset)
+            if (renderer instanceof AbstractXYItemRenderer
+                    && ((AbstractXYItemRenderer) renderer)
+                    .getUseVirtualEntities()) {
+                EntityCollection entities = null;
+                if (info != null && info.getOwner() != null) {
+                    entities = info.getOwner().getEntityCollection();
+                }
+                if (entities != null) {
+                    entities.add(new VirtualXYItemEntity(dataArea,
+                            getDataset(index),
+                            (AbstractXYItemRenderer) renderer,
+                            state.getDomainTransform(),
+                            state.getRangeTransform(), getOrientation()));
+                }
+            }
         }
         return foundData;
     }
 
+    /**
+     * Returns a view of a dataset that presents only the items that the
+     * decimator selects, for each series that has many more items in the
+     * visible range than there are pixels along the domain axis.  For these
+     * series the view presents the visible items (and one item either side)
+     * only.
+     * 
+     * @param dataset
+     *            the dataset.
+     * @param decimator
+     *            the decimator.
+     * @param xAxis
+     *            the domain axis.
+     * @param dataArea
+     *            the data area.
+     * @param lower
+     *            the lower bound of the visible range.
+     * @param upper
+     *            the upper bound of the visible range.
+     * 
+     * @return The decimated view, or <code>dataset</code> if no series needs
+     *         decimating.
+     */
+    private XYDataset createDecimatedDataset(XYDataset dataset,
+            XYDecimator decimator, ValueAxis xAxis, RectShape dataArea,
+            double lower, double upper) {
+        boolean vertical = (getOrientation() == PlotOrientation.VERTICAL);
+        double extent = vertical ? dataArea.getWidth() : dataArea.getHeight();
+        int columns = (int) Math.ceil(extent);
+        if (columns < 1) {
+            return dataset;
+        }
+        double start = vertical ? dataArea.getMinX() : dataArea.getMinY();
+        RectangleEdge edge = getDomainAxisEdge();
+        double[] edges = new double[columns + 1];
+        for (int i = 0; i <= columns; i++) {
+            edges[i] = xAxis.java2DToValue(start + i * extent / columns,
+                    dataArea, edge);
+        }
+        if (edges[0] > edges[columns]) {
+            // inverted axis
+            for (int i = 0, j = columns; i < j; i++, j--) {
+                double t = edges[i];
+                edges[i] = edges[j];
+                edges[j] = t;
+            }
+        }
+
+        // the number of columns that the drawn part of the range covers
+        int drawnColumns = columns;
+        double length = xAxis.getRange().getLength();
+        if (upper - lower < length) {
+            drawnColumns = (int) Math.ceil(columns * (upper - lower) / length);
+        }
+
+        DecimatedXYDataset result = null;
+        int seriesCount = dataset.getSeriesCount();
+        for (int series = 0; series < seriesCount; series++) {
+            int firstItem = 0;
+            int lastItem = dataset.getItemCount(series) - 1;
+            if (lastItem >= 0) {
+                int[] itemBounds = RendererUtilities.findLiveItems(dataset,
+                        series, lower, upper);
+                firstItem = Math.max(itemBounds[0] - 1, 0);
+                lastItem = Math.min(itemBounds[1] + 1, lastItem);
+            }
+            // M4 draws at most four items per column, so there is nothing
+            // to gain below that
+            if (lastItem - firstItem + 1 <= 4 * drawnColumns) {
+                continue;
+            }
+            int[] items = decimator.selectItems(dataset, series, firstItem,
+                    lastItem, edges);
+            if (items != null) {
+                if (result == null) {
+                    result = new DecimatedXYDataset(dataset);
+                }
+                result.setItems(series, items);
+            }
+        }
+        return (result != null ? result : dataset);
+    }
+
     /**
      * Returns the domain axis for a dataset.
      * 
@@ -4800,7 +4992,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setDomainCrosshairVisible(boolean flag) {
         if (this.domainCrosshairVisible != flag) {
             this.domainCrosshairVisible = flag;
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -4872,7 +5064,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setDomainCrosshairValue(double value, boolean notify) {
         this.domainCrosshairValue = value;
         if (isDomainCrosshairVisible() && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -4994,7 +5186,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setRangeCrosshairVisible(boolean flag) {
         if (this.rangeCrosshairVisible != flag) {
             this.rangeCrosshairVisible = flag;
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
@@ -5067,7 +5259,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setRangeCrosshairValue(double value, boolean notify) {
         this.rangeCrosshairValue = value;
         if (isRangeCrosshairVisible() && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.FOREGROUND_UPDATED);
         }
     }
 
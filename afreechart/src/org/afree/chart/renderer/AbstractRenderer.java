@@ -40,6 +40,8 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Added a cache of Paint objects for the drawing code
+ * 16-Oct-2026 : Cache the paints for item labels too
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2002-2009, by Object Refinery Limited.
@@ -109,6 +111,7 @@ package org.afree.chart.renderer;
 
 import java.io.Serializable;
 import java.util.EventListener;
+import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -133,7 +136,9 @@ import org.afree.chart.title.LegendTitle;
 import org.afree.graphics.geom.Font;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
+import org.afree.graphics.GradientColor;
 import org.afree.graphics.PaintType;
+import org.afree.graphics.PaintUtility;
 import org.afree.graphics.SolidColor;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -182,6 +187,13 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
         DEFAULT_VALUE_LABEL_PAINT.setColor(Color.BLACK);
     }
 
+    /**
+     * The number of entries in the paint cache at which it is cleared, so a
+     * renderer with lots of distinct item colours can't grow it without
+     * limit.
+     */
+    private static final int PAINT_CACHE_LIMIT = 256;
+
     /** A list of flags that controls whether or not each series is visible. */
     private BooleanList seriesVisibleList;
 
@@ -395,6 +407,17 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
     /** Storage for registered change listeners. */
     private transient List<RendererChangeListener> listenerList;
 
+    /**
+     * The paint objects handed out by {@link #getCachedPaint(int, PaintType,
+     * float, PathEffect, Paint.Cap)} and {@link #getCachedPaint(int,
+     * PaintType, Font)}, keyed by {@link PaintKey} (created on demand, and
+     * discarded whenever the renderer changes).
+     */
+    private transient HashMap paintCache;
+
+    /** A reusable key for looking up the paint cache. */
+    private transient PaintKey paintLookupKey;
+
     /**
      * Default constructor.
      */
@@ -3262,6 +3285,7 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
      * @param event  information about the change event.
      */
     public void notifyListeners(RendererChangeEvent event) {
+        clearPaintCache();
         if(listenerList.size() == 0) {
             return;
         }
@@ -3270,6 +3294,244 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Returns a paint for the specified colour, in the same state as a paint
+     * created by {@link PaintUtility#createPaint(int, PaintType)}.  Paint
+     * objects are shared between calls, so the drawing code for each item
+     * doesn't allocate a new one.  The caller may change the style of the
+     * returned paint, but must not modify it in any other way.
+     *
+     * @param flags  the paint flags.
+     * @param paintType  the paint type (<code>null</code> permitted).
+     *
+     * @return A paint.
+     */
+    public Paint getCachedPaint(int flags, PaintType paintType) {
+        return getCachedPaint(flags, paintType, 0.0f, null, Paint.Cap.BUTT);
+    }
+
+    /**
+     * Returns a paint for the specified colour and stroke, in the same state
+     * as a paint created by {@link PaintUtility#createPaint(int, PaintType,
+     * float, PathEffect)}.  The caller may change the style of the returned
+     * paint, but must not modify it in any other way.
+     *
+     * @param flags  the paint flags.
+     * @param paintType  the paint type (<code>null</code> permitted).
+     * @param stroke  the stroke width.
+     * @param effect  the path effect (<code>null</code> permitted).
+     *
+     * @return A paint.
+     */
+    public Paint getCachedPaint(int flags, PaintType paintType, float stroke,
+            PathEffect effect) {
+        return getCachedPaint(flags, paintType, stroke, effect,
+                Paint.Cap.BUTT);
+    }
+
+    /**
+     * Returns a paint for the specified colour, stroke and cap.  The paint
+     * is taken from a cache that is cleared whenever a
+     * {@link RendererChangeEvent} is sent.  The caller may change the style
+     * of the returned paint, but must not modify it in any other way.
+     *
+     * @param flags  the paint flags.
+     * @param paintType  the paint type (<code>null</code> permitted).
+     * @param stroke  the stroke width.
+     * @param effect  the path effect (<code>null</code> permitted).
+     * @param cap  the stroke cap (<code>null</code> not permitted).
+     *
+     * @return A paint.
+     */
+    public Paint getCachedPaint(int flags, PaintType paintType,
+            float stroke, PathEffect effect, Paint.Cap cap) {
+        return getCachedPaint(flags, paintType, stroke, effect, cap, null);
+    }
+
+    /**
+     * Returns a paint for drawing text in the specified colour and font, in
+     * the same state as a paint created by
+     * {@link PaintUtility#createPaint(int, PaintType, Font)}.  This is used
+     * for the item labels.  The caller may change the style and the text
+     * alignment of the returned paint, but must not modify it in any other
+     * way.
+     *
+     * @param flags  the paint flags.
+     * @param paintType  the paint type (<code>null</code> permitted).
+     * @param font  the font (<code>null</code> not permitted).
+     *
+     * @return A paint.
+     */
+    public Paint getCachedPaint(int flags, PaintType paintType, Font font) {
+        return getCachedPaint(flags, paintType, 0.0f, null, Paint.Cap.BUTT,
+                font);
+    }
+
+    /**
+     * Returns a paint from the cache, creating it if necessary.
+     *
+     * @param flags  the paint flags.
+     * @param paintType  the paint type (<code>null</code> permitted).
+     * @param stroke  the stroke width.
+     * @param effect  the path effect (<code>null</code> permitted).
+     * @param cap  the stroke cap (<code>null</code> not permitted).
+     * @param font  the font (<code>null</code> for a paint that is not used
+     *              to draw text).
+     *
+     * @return A paint.
+     */
+    private synchronized Paint getCachedPaint(int flags, PaintType paintType,
+            float stroke, PathEffect effect, Paint.Cap cap, Font font) {
+        // PaintUtility only uses the (first) colour of the paint type, so
+        // the colour is part of the key rather than the (mutable) paint type
+        int color;
+        if (paintType instanceof SolidColor) {
+            color = ((SolidColor) paintType).getColor();
+        } else if (paintType instanceof GradientColor) {
+            color = ((GradientColor) paintType).getColor1();
+        } else if (font != null) {
+            return PaintUtility.createPaint(flags, paintType, font);
+        } else {
+            Paint paint = PaintUtility.createPaint(flags, paintType, stroke,
+                    effect);
+            paint.setStrokeCap(cap);
+            return paint;
+        }
+        // a font is keyed by its typeface and size, because Font does not
+        // override hashCode()
+        Typeface typeface = null;
+        float textSize = Float.NaN;
+        if (font != null) {
+            typeface = font.getTypeFace();
+            textSize = font.getSize();
+        }
+        if (this.paintCache == null) {
+            this.paintCache = new HashMap();
+            this.paintLookupKey = new PaintKey();
+        }
+        PaintKey key = this.paintLookupKey;
+        key.set(flags, color, stroke, effect, cap, typeface, textSize);
+        Paint paint = (Paint) this.paintCache.get(key);
+        if (paint == null) {
+            if (this.paintCache.size() >= PAINT_CACHE_LIMIT) {
+                this.paintCache.clear();
+            }
+            paint = new Paint(flags);
+            paint.setColor(color);
+            paint.setStrokeWidth(stroke);
+            paint.setPathEffect(effect);
+            paint.setStrokeCap(cap);
+            if (font != null) {
+                paint.setTypeface(typeface);
+                paint.setTextSize(textSize);
+            }
+            PaintKey entry = new PaintKey();
+            entry.set(flags, color, stroke, effect, cap, typeface, textSize);
+            this.paintCache.put(entry, paint);
+        } else {
+            paint.setStyle(Paint.Style.FILL);
+            if (font != null) {
+                paint.setTextAlign(Paint.Align.LEFT);
+            }
+        }
+        return paint;
+    }
+
+    /**
+     * Discards the cached paint objects.
+     */
+    private synchronized void clearPaintCache() {
+        this.paintCache = null;
+        this.paintLookupKey = null;
+    }
+
+    /**
+     * The key for a cached paint.
+     */
+    private static class PaintKey {
+
+        /** The paint flags. */
+        private int flags;
+
+        /** The colour. */
+        private int color;
+
+        /** The stroke width. */
+        private float stroke;
+
+        /** The path effect (compared by identity). */
+        private PathEffect effect;
+
+        /** The stroke cap. */
+        private Paint.Cap cap;
+
+        /** The typeface (compared by identity). */
+        private Typeface typeface;
+
+        /** The text size (Float.NaN if the paint is not for text). */
+        private float textSize;
+
+        /**
+         * Sets the fields of the key.
+         *
+         * @param flags  the paint flags.
+         * @param color  the colour.
+         * @param stroke  the stroke width.
+         * @param effect  the path effect.
+         * @param cap  the stroke cap.
+         * @param typeface  the typeface.
+         * @param textSize  the text size.
+         */
+        void set(int flags, int color, float stroke, PathEffect effect,
+                Paint.Cap cap, Typeface typeface, float textSize) {
+            this.flags = flags;
+            this.color = color;
+            this.stroke = stroke;
+            this.effect = effect;
+            this.cap = cap;
+            this.typeface = typeface;
+            this.textSize = textSize;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (!(obj instanceof PaintKey)) {
+                return false;
+            }
+            PaintKey that = (PaintKey) obj;
+            return this.flags == that.flags && this.color == that.color
+                    && Float.floatToIntBits(this.stroke)
+                            == Float.floatToIntBits(that.stroke)
+                    && this.effect == that.effect && this.cap == that.cap
+                    && this.typeface == that.typeface
+                    && Float.floatToIntBits(this.textSize)
+                            == Float.floatToIntBits(that.textSize);
+        }
+
+        /**
+         * Returns a hash code for the key.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            int result = this.flags;
+            result = 37 * result + this.color;
+            result = 37 * result + Float.floatToIntBits(this.stroke);
+            result = 37 * result + System.identityHashCode(this.effect);
+            result = 37 * result + System.identityHashCode(this.cap);
+            result = 37 * result + System.identityHashCode(this.typeface);
+            result = 37 * result + Float.floatToIntBits(this.textSize);
+            return result;
+        }
+
+    }
+
 
     /**
      * Tests this renderer for equality with another object.
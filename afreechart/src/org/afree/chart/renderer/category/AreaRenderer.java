@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2002-2008, by Jon Iles and Contributors.
@@ -104,7 +105,6 @@ import org.afree.graphics.geom.PathShape;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 
@@ -299,10 +299,11 @@ public class AreaRenderer extends AbstractCategoryItemRenderer
             float y2 = (float) rangeAxis.valueToJava2D(yy2, dataArea, edge);
             float yz = (float) rangeAxis.valueToJava2D(0.0, dataArea, edge);
 
-            Paint paint = PaintUtility.createPaint(
+            Paint paint = getCachedPaint(
                     Paint.ANTI_ALIAS_FLAG, 
-                    getItemPaintType(row, column));
-            paint.setStrokeWidth(getItemStroke(row, column));
+                    getItemPaintType(row, column),
+                    getItemStroke(row, column),
+                    null);
             PathShape area = new PathShape();
 
             if (orientation == PlotOrientation.VERTICAL) {
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2009, by Serge V. Grachov and Contributors.
@@ -745,7 +746,7 @@ public class BarRenderer3D extends BarRenderer
                     barLength);
         }
         PaintType itemPaintType = getItemFillPaintType(row, column); 
-        Paint itemPaint = PaintUtility.createPaint(
+        Paint itemPaint = getCachedPaint(
                 Paint.ANTI_ALIAS_FLAG, 
                 itemPaintType);
         
@@ -773,7 +774,7 @@ public class BarRenderer3D extends BarRenderer
 
             itemPaintType = itemPaintType.getDarkerSides();
 
-            Paint rightPaint = PaintUtility.createPaint(Paint.ANTI_ALIAS_FLAG, itemPaintType);
+            Paint rightPaint = getCachedPaint(Paint.ANTI_ALIAS_FLAG, itemPaintType);
             
             bar3dRight.fill(canvas, rightPaint);
         }
@@ -789,7 +790,7 @@ public class BarRenderer3D extends BarRenderer
         if (isDrawBarOutline()
                 && state.getBarWidth() > BAR_OUTLINE_WIDTH_THRESHOLD) {
             
-            Paint paint = PaintUtility.createPaint(
+            Paint paint = getCachedPaint(
                     Paint.ANTI_ALIAS_FLAG, 
                     getItemOutlinePaintType(row, column), 
                     getItemOutlineStroke(row, column),
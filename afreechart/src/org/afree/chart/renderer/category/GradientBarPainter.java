@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2008, by Object Refinery Limited.
@@ -61,7 +62,6 @@ import org.afree.ui.RectangleEdge;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.GradientColor;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 import org.afree.graphics.SolidColor;
 import android.graphics.Canvas;
 import android.graphics.Color;
@@ -263,7 +263,7 @@ public class GradientBarPainter implements BarPainter, Serializable {
             PaintType paintType = renderer.getItemOutlinePaintType(row, column);
 
             if (stroke != null && paintType != null) {
-                Paint paint = PaintUtility.createPaint(paintType, 
+                Paint paint = renderer.getCachedPaint(0, paintType, 
                         stroke, 
                         renderer.getItemOutlineEffect(row, column));
                 bar.draw(canvas, paint);
@@ -310,7 +310,7 @@ public class GradientBarPainter implements BarPainter, Serializable {
         PaintType paintType = renderer.getShadowPaintType();
         
 
-        Paint paint = PaintUtility.createPaint(Paint.ANTI_ALIAS_FLAG, paintType);
+        Paint paint = renderer.getCachedPaint(Paint.ANTI_ALIAS_FLAG, paintType);
         paint.setStyle(Paint.Style.FILL);
 
         canvas.drawRect((float) shadow.getMinX(), (float) shadow.getMinY(),
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2009, by Object Refinery Limited and Contributors.
@@ -126,7 +127,6 @@ import org.afree.graphics.geom.LineShape;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 
@@ -984,12 +984,12 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
                         line = new LineShape(x0, y0, x1, y1);
                     }
                     
-                    Paint paint = PaintUtility.createPaint(
+                    Paint paint = getCachedPaint(
                             Paint.ANTI_ALIAS_FLAG,
                             getItemPaintType(row, column),
                             getItemStroke(row, column),
-                            getItemEffect(row, column));
-                    paint.setStrokeCap(Paint.Cap.ROUND);
+                            getItemEffect(row, column),
+                            Paint.Cap.ROUND);
                     line.draw(canvas, paint);
                 }
             }
@@ -1012,7 +1012,7 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
                         paintType = getItemPaintType(row, column);
                     }
                     
-                    Paint paint = PaintUtility.createPaint(
+                    Paint paint = getCachedPaint(
                             Paint.ANTI_ALIAS_FLAG,
                             paintType);
                     shape.fillAndStroke(canvas, paint);
@@ -1025,7 +1025,7 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
                     } else {
                         paintType = getItemPaintType(row, column);
                     }
-                    Paint paint = PaintUtility.createPaint(
+                    Paint paint = getCachedPaint(
                             Paint.ANTI_ALIAS_FLAG,
                             paintType);
                     shape.draw(canvas, paint);
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2008, by Object Refinery Limited.
@@ -66,7 +67,6 @@ import org.afree.chart.renderer.category.BarPainter;
 import org.afree.chart.renderer.category.BarRenderer;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 
 
 /**
@@ -113,7 +113,7 @@ public class StandardBarPainter implements BarPainter, Serializable {
 //        canvas.setPaint(itemPaint);
 //        canvas.fill(bar);
         
-        Paint paint = PaintUtility.createPaint(
+        Paint paint = renderer.getCachedPaint(
                 Paint.ANTI_ALIAS_FLAG, 
                 itemPaintType);
         paint.setStyle(Style.FILL);
@@ -129,7 +129,7 @@ public class StandardBarPainter implements BarPainter, Serializable {
 //                canvas.setStroke(stroke);
 //                canvas.setPaint(paint);
 //                canvas.draw(bar);
-                paint = PaintUtility.createPaint(
+                paint = renderer.getCachedPaint(0, 
                         paintType, 
                         stroke, 
                         renderer.getItemOutlineEffect(row, column));
@@ -178,7 +178,7 @@ public class StandardBarPainter implements BarPainter, Serializable {
         RectShape shadow = createShadow(bar, renderer.getShadowXOffset(),
                 renderer.getShadowYOffset(), base, pegShadow);
         PaintType p = renderer.getShadowPaintType();
-        Paint paint = PaintUtility.createPaint(
+        Paint paint = renderer.getCachedPaint(
                 Paint.ANTI_ALIAS_FLAG, 
                 p);
         paint.setStyle(Paint.Style.FILL);
@@ -41,6 +41,10 @@
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 17-Dec-2010 : performance tuning
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Added decimator attribute
+ * 16-Oct-2026 : Added useVirtualEntities attribute
+ * 16-Oct-2026 : Added canDecimate() method
+ * 16-Oct-2026 : Use the renderer's paint cache for the item labels
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2002-2009, by Object Refinery Limited and Contributors.
@@ -146,9 +150,13 @@ import org.afree.chart.LegendItemCollection;
 import org.afree.chart.annotations.XYAnnotation;
 import org.afree.chart.axis.ValueAxis;
 import org.afree.data.Range;
+import org.afree.data.xy.OHLCDataset;
+import org.afree.data.xy.TableXYDataset;
+import org.afree.data.xy.VectorXYDataset;
 import org.afree.data.xy.XYDataset;
 import org.afree.data.general.DatasetUtilities;
 import org.afree.chart.entity.EntityCollection;
+import org.afree.chart.entity.VirtualXYItemEntity;
 import org.afree.chart.entity.XYItemEntity;
 import org.afree.chart.event.RendererChangeEvent;
 import org.afree.chart.labels.CategorySeriesLabelGenerator;
@@ -225,6 +233,18 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer implements
     /** The legend item URL generator. */
     private XYSeriesLabelGenerator legendItemURLGenerator;
 
+    /**
+     * The decimator that selects the items to draw for large series
+     * (<code>null</code> to draw every item).
+     */
+    private XYDecimator decimator;
+
+    /**
+     * A flag that controls whether one {@link VirtualXYItemEntity} is added
+     * for all the items instead of one entity per item.
+     */
+    private boolean useVirtualEntities;
+
     /** work LineShape object */
     private LineShape mWorkLineShape = new LineShape();
     
@@ -252,6 +272,98 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer implements
         return 1;
     }
 
+    /**
+     * Returns the decimator that selects the items to draw when a series has
+     * many more items than there are pixels along the domain axis.
+     * 
+     * @return The decimator (possibly <code>null</code>).
+     * 
+     * @see #setDecimator(XYDecimator)
+     */
+    public XYDecimator getDecimator() {
+        return this.decimator;
+    }
+
+    /**
+     * Sets the decimator that selects the items to draw when a series has
+     * many more items than there are pixels along the domain axis, and sends
+     * a {@link RendererChangeEvent} to all registered listeners.  When a
+     * decimator is set, the {@link XYPlot} passes this renderer a
+     * {@link org.afree.data.xy.DecimatedXYDataset} that presents the
+     * selected items only (so the item indices passed to the initialise()
+     * and drawItem() methods, and recorded in the chart entities, are indices
+     * in that view).  Datasets that {@link #canDecimate(XYDataset)} rejects
+     * are always drawn in full.
+     * 
+     * @param decimator
+     *            the decimator (<code>null</code> permitted, to draw every
+     *            item).
+     * 
+     * @see #getDecimator()
+     */
+    public void setDecimator(XYDecimator decimator) {
+        this.decimator = decimator;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns <code>true</code> if the renderer can draw a decimated view of
+     * the specified dataset.  The view only presents the x and y values (and
+     * the intervals) of the selected items, so this implementation returns
+     * <code>false</code> for {@link OHLCDataset}, {@link VectorXYDataset}
+     * and {@link TableXYDataset}: renderers cast these to read the other
+     * values, and a table's series must keep the same x-values.  Subclasses
+     * can override this method to refuse other datasets.
+     * 
+     * @param dataset
+     *            the dataset (<code>null</code> not permitted).
+     * 
+     * @return A boolean.
+     * 
+     * @see #setDecimator(XYDecimator)
+     */
+    public boolean canDecimate(XYDataset dataset) {
+        return !(dataset instanceof OHLCDataset
+                || dataset instanceof VectorXYDataset
+                || dataset instanceof TableXYDataset);
+    }
+
+    /**
+     * Returns the flag that controls whether the {@link XYPlot} adds one
+     * {@link VirtualXYItemEntity} for all the items that this renderer draws,
+     * instead of the renderer adding one entity per item.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setUseVirtualEntities(boolean)
+     */
+    public boolean getUseVirtualEntities() {
+        return this.useVirtualEntities;
+    }
+
+    /**
+     * Sets the flag that controls whether the {@link XYPlot} adds one
+     * {@link VirtualXYItemEntity} for all the items that this renderer draws,
+     * instead of the renderer adding one entity per item, and sends a
+     * {@link RendererChangeEvent} to all registered listeners.  A virtual
+     * entity finds the item at a point only when the entity collection is
+     * queried, so no entity (or shape) is created for each item that is
+     * drawn.  The virtual entity treats each item as a point with the
+     * default entity radius, so this suits the line and shape renderers
+     * better than (for example) the bar renderers.
+     * 
+     * @param flag
+     *            the flag.
+     * 
+     * @see #getUseVirtualEntities()
+     * @see #addEntity(EntityCollection, Shape, XYDataset, int, int, double,
+     *      double)
+     */
+    public void setUseVirtualEntities(boolean flag) {
+        this.useVirtualEntities = flag;
+        fireChangeEvent();
+    }
+
     /**
      * Returns the plot that the renderer is assigned to.
      * 
@@ -1384,7 +1496,7 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer implements
                 position = getNegativeItemLabelPosition(series, item);
             }
 
-            Paint paint = PaintUtility.createPaint(
+            Paint paint = getCachedPaint(
                     Paint.ANTI_ALIAS_FLAG,
                     getItemLabelPaintType(series, item),
                     getItemLabelFont(series, item));
@@ -1435,7 +1547,8 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer implements
     }
 
     /**
-     * Adds an entity to the collection.
+     * Adds an entity to the collection (unless the renderer uses virtual
+     * entities).
      * 
      * @param entities
      *            the entity collection being populated.
@@ -1456,7 +1569,7 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer implements
      */
     protected void addEntity(EntityCollection entities, Shape area, XYDataset dataset, int series,
             int item, double entityX, double entityY) {
-        if (!getItemCreateEntity(series, item)) {
+        if (this.useVirtualEntities || !getItemCreateEntity(series, item)) {
             return;
         }
         Shape hotspot = area;
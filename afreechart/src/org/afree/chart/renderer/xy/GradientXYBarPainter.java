@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2008, 2009, by Object Refinery Limited.
@@ -61,7 +62,6 @@ import org.afree.ui.RectangleEdge;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.GradientColor;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 import org.afree.graphics.SolidColor;
 import android.graphics.Canvas;
 import android.graphics.Color;
@@ -258,7 +258,7 @@ public class GradientXYBarPainter implements XYBarPainter, Serializable {
             PaintType paintType = renderer.getItemOutlinePaintType(row, column);
 
             if (stroke != 0.0f && paintType != null) {
-                Paint paint = PaintUtility.createPaint(paintType, 
+                Paint paint = renderer.getCachedPaint(0, paintType, 
                         stroke, 
                         renderer.getItemOutlineEffect(row, column));
                 canvas.drawRect((float) bar.getMinX(), (float) bar.getMinY(),
@@ -311,7 +311,7 @@ public class GradientXYBarPainter implements XYBarPainter, Serializable {
                 renderer.getShadowXOffset(), renderer.getShadowYOffset(), base,
                 pegShadow);
 
-        Paint paint = PaintUtility.createPaint(
+        Paint paint = renderer.getCachedPaint(
                 Paint.ANTI_ALIAS_FLAG,
                 renderer.getShadowPaintType());
         shadow.fill(canvas, paint);
@@ -40,6 +40,7 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2008, by Object Refinery Limited.
@@ -105,7 +106,6 @@ import org.afree.graphics.geom.LineShape;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.PathEffect;
@@ -377,7 +377,7 @@ public class HighLowRenderer extends AbstractXYItemRenderer
                         location);
                 double yyLow = rangeAxis.valueToJava2D(yLow, dataArea,
                         location);
-                Paint itemPaint = PaintUtility.createPaint(
+                Paint itemPaint = getCachedPaint(
                         Paint.ANTI_ALIAS_FLAG,
                         itemPaintType,
                         stroke,
@@ -412,7 +412,7 @@ public class HighLowRenderer extends AbstractXYItemRenderer
                         paintType = itemPaintType;
                     }
                     
-                    Paint paint = PaintUtility.createPaint(
+                    Paint paint = getCachedPaint(
                             Paint.ANTI_ALIAS_FLAG,
                             paintType,
                             stroke,
@@ -440,7 +440,7 @@ public class HighLowRenderer extends AbstractXYItemRenderer
                     else {
                         paintType = itemPaintType;
                     }
-                    Paint paint = PaintUtility.createPaint(
+                    Paint paint = getCachedPaint(
                             Paint.ANTI_ALIAS_FLAG,
                             paintType,
                             stroke,
@@ -472,7 +472,7 @@ public class HighLowRenderer extends AbstractXYItemRenderer
                 double yy0 = rangeAxis.valueToJava2D(y0, dataArea, location);
                 double yy = rangeAxis.valueToJava2D(y, dataArea, location);
 
-                Paint itemPaint = PaintUtility.createPaint(
+                Paint itemPaint = getCachedPaint(
                         Paint.ANTI_ALIAS_FLAG,
                         itemPaintType,
                         stroke,
@@ -0,0 +1,229 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -----------------------------
+ * LargestTriangleDecimator.java
+ * -----------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Keep NaN y-values as gaps;
+ */
+
+package org.afree.chart.renderer.xy;
+
+import java.io.Serializable;
+
+import org.afree.data.xy.XYDataset;
+
+/**
+ * A decimator that uses the Largest-Triangle-Three-Buckets algorithm.  The
+ * items are split into equally sized buckets and from each bucket the item
+ * that forms the largest triangle with the item selected from the previous
+ * bucket and the average of the next bucket is kept.  This keeps the visual
+ * shape of the series with fewer items than {@link M4Decimator}, but (unlike
+ * that decimator) it does not guarantee that every extreme value is drawn.
+ * Items with a <code>NaN</code> y-value are not candidates for the
+ * triangles, but the first one in each bucket is kept as well, so that gaps
+ * in a line are still drawn.
+ */
+public class LargestTriangleDecimator implements XYDecimator, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4592047183460922183L;
+
+    /** The number of items to keep for each pixel column. */
+    private double itemsPerColumn;
+
+    /**
+     * Creates a new decimator that keeps two items per pixel column.
+     */
+    public LargestTriangleDecimator() {
+        this(2.0);
+    }
+
+    /**
+     * Creates a new decimator.
+     *
+     * @param itemsPerColumn  the number of items to keep for each pixel
+     *     column (must be positive).
+     */
+    public LargestTriangleDecimator(double itemsPerColumn) {
+        if (!(itemsPerColumn > 0.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 'itemsPerColumn' > 0.");
+        }
+        this.itemsPerColumn = itemsPerColumn;
+    }
+
+    /**
+     * Returns the number of items kept for each pixel column.
+     *
+     * @return The number of items per column.
+     */
+    public double getItemsPerColumn() {
+        return this.itemsPerColumn;
+    }
+
+    /**
+     * Selects the items to draw from a range of items in one series.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param firstItem  the index of the first item in the range.
+     * @param lastItem  the index of the last item in the range.
+     * @param edges  the x-values at the edges of the pixel columns (only the
+     *     number of columns is used).
+     *
+     * @return The indices of the selected items in ascending order, or
+     *     <code>null</code> if the range is already small enough.
+     */
+    public int[] selectItems(XYDataset dataset, int series, int firstItem,
+            int lastItem, double[] edges) {
+        int itemCount = lastItem - firstItem + 1;
+        int target = Math.max(3,
+                (int) Math.ceil((edges.length - 1) * this.itemsPerColumn));
+        if (itemCount <= target) {
+            return null;
+        }
+        int[] result = new int[(target - 2) * 2 + 2];
+        int count = 0;
+        result[count++] = firstItem;
+        int selected = firstItem;
+        double bucketSize = (double) (itemCount - 2) / (target - 2);
+        for (int bucket = 0; bucket < target - 2; bucket++) {
+            int start = firstItem + 1 + (int) (bucket * bucketSize);
+            int end = firstItem + 1 + (int) ((bucket + 1) * bucketSize);
+            int nextEnd = Math.min(
+                    firstItem + 1 + (int) ((bucket + 2) * bucketSize),
+                    lastItem);
+            if (bucket == target - 3) {
+                end = lastItem;
+                nextEnd = lastItem;
+            }
+
+            // the average of the next bucket (or the last item)
+            double avgX = 0.0;
+            double avgY = 0.0;
+            int n = 0;
+            for (int item = end; item < nextEnd; item++) {
+                double y = dataset.getYValue(series, item);
+                if (!Double.isNaN(y)) {
+                    avgX += dataset.getXValue(series, item);
+                    avgY += y;
+                    n++;
+                }
+            }
+            if (n > 0) {
+                avgX = avgX / n;
+                avgY = avgY / n;
+            } else {
+                avgX = dataset.getXValue(series, lastItem);
+                avgY = dataset.getYValue(series, lastItem);
+            }
+
+            double ax = dataset.getXValue(series, selected);
+            double ay = dataset.getYValue(series, selected);
+            // a NaN at the first or last item leaves a flat baseline
+            if (Double.isNaN(ay)) {
+                ay = avgY;
+            }
+            else if (Double.isNaN(avgY)) {
+                avgY = ay;
+            }
+            int best = -1;
+            int gap = -1;
+            double bestArea = 0.0;
+            for (int item = start; item < end; item++) {
+                double y = dataset.getYValue(series, item);
+                if (Double.isNaN(y)) {
+                    if (gap < 0) {
+                        gap = item;
+                    }
+                    continue;
+                }
+                double x = dataset.getXValue(series, item);
+                double area = Math.abs((ax - avgX) * (y - ay)
+                        - (ax - x) * (avgY - ay));
+                if (best < 0 || area > bestArea) {
+                    best = item;
+                    bestArea = area;
+                }
+            }
+            if (gap >= 0 && gap < best) {
+                result[count++] = gap;
+                gap = -1;
+            }
+            if (best >= 0) {
+                result[count++] = best;
+                selected = best;
+            }
+            if (gap >= 0) {
+                result[count++] = gap;
+            }
+        }
+        result[count++] = lastItem;
+
+        int[] trimmed = new int[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * Tests this decimator for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof LargestTriangleDecimator)) {
+            return false;
+        }
+        LargestTriangleDecimator that = (LargestTriangleDecimator) obj;
+        return this.itemsPerColumn == that.itemsPerColumn;
+    }
+
+    /**
+     * Returns a hash code for this decimator.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        long bits = Double.doubleToLongBits(this.itemsPerColumn);
+        return (int) (bits ^ (bits >>> 32));
+    }
+
+}
@@ -0,0 +1,141 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * --------------
+ * LineBatch.java
+ * --------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.renderer.xy;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+/**
+ * A buffer of line segments that are drawn with the same paint, so that a
+ * renderer can draw many segments with a single call to
+ * {@link Canvas#drawLines(float[], int, int, Paint)}.  The batch is drawn
+ * (and cleared) when a segment with a different paint is added, when it is
+ * full and when the renderer finishes a series.
+ * <P>
+ * Paints are compared by identity, so the renderer should take them from
+ * its paint cache (see
+ * {@link org.afree.chart.renderer.AbstractRenderer#getCachedPaint(int,
+ * org.afree.graphics.PaintType, float, android.graphics.PathEffect)}).
+ *
+ * @see XYLineAndShapeRenderer#setDrawSeriesLineAsBatch(boolean)
+ */
+public class LineBatch {
+
+    /** The default capacity (in segments). */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** The segment coordinates (x0, y0, x1, y1 for each segment). */
+    private float[] lines;
+
+    /** The number of segments in the batch. */
+    private int count;
+
+    /** The paint for the segments in the batch. */
+    private Paint paint;
+
+    /**
+     * Creates a new batch with the default capacity.
+     */
+    public LineBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new batch.
+     *
+     * @param capacity  the number of segments that the batch can hold (must
+     *     be greater than zero).
+     */
+    public LineBatch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Requires capacity > 0.");
+        }
+        this.lines = new float[capacity * 4];
+    }
+
+    /**
+     * Returns the number of segments in the batch.
+     *
+     * @return The segment count.
+     */
+    public int getSegmentCount() {
+        return this.count;
+    }
+
+    /**
+     * Adds a segment to the batch, first drawing the segments already in
+     * the batch if they have a different paint or the batch is full.
+     *
+     * @param canvas  the graphics device.
+     * @param paint  the paint (<code>null</code> not permitted).
+     * @param x0  the x-coordinate of the start of the segment.
+     * @param y0  the y-coordinate of the start of the segment.
+     * @param x1  the x-coordinate of the end of the segment.
+     * @param y1  the y-coordinate of the end of the segment.
+     */
+    public void add(Canvas canvas, Paint paint, float x0, float y0, float x1,
+            float y1) {
+        if (paint != this.paint || this.count * 4 == this.lines.length) {
+            draw(canvas);
+            this.paint = paint;
+        }
+        int i = this.count * 4;
+        this.lines[i] = x0;
+        this.lines[i + 1] = y0;
+        this.lines[i + 2] = x1;
+        this.lines[i + 3] = y1;
+        this.count++;
+    }
+
+    /**
+     * Draws the segments in the batch and clears the batch.
+     *
+     * @param canvas  the graphics device.
+     */
+    public void draw(Canvas canvas) {
+        if (this.count > 0) {
+            canvas.drawLines(this.lines, 0, this.count * 4, this.paint);
+            this.count = 0;
+        }
+        this.paint = null;
+    }
+
+}
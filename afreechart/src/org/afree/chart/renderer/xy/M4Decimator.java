@@ -0,0 +1,88 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ----------------
+ * M4Decimator.java
+ * ----------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.renderer.xy;
+
+/**
+ * A decimator that keeps the first, last, minimum and maximum item in each
+ * pixel column (the "M4" aggregation).  A line drawn through these items
+ * covers exactly the same pixels as a line drawn through all the items, so
+ * at most four items per column are drawn with no visible difference.
+ * <p>
+ * The items must be in ascending order of x-value.
+ */
+public class M4Decimator extends MinMaxDecimator {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2217315720367981349L;
+
+    /**
+     * Creates a new decimator.
+     */
+    public M4Decimator() {
+        super();
+    }
+
+    /**
+     * Adds the selected items of one pixel column to the result: the first,
+     * minimum, maximum and last items and the first gap.
+     *
+     * @param result  the result array.
+     * @param count  the number of items already in the result.
+     * @param first  the first item in the column.
+     * @param min  the item with the smallest y-value (-1 if none).
+     * @param max  the item with the largest y-value (-1 if none).
+     * @param last  the last item in the column.
+     * @param gap  the first item with a <code>NaN</code> y-value (-1 if
+     *     none).
+     *
+     * @return The new number of items in the result.
+     */
+    protected int addColumnItems(int[] result, int count, int first, int min,
+            int max, int last, int gap) {
+        int start = count;
+        count = insertItem(result, start, count, first);
+        count = insertItem(result, start, count, min);
+        count = insertItem(result, start, count, max);
+        count = insertItem(result, start, count, gap);
+        return insertItem(result, start, count, last);
+    }
+
+}
@@ -0,0 +1,217 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * --------------------
+ * MinMaxDecimator.java
+ * --------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.renderer.xy;
+
+import java.io.Serializable;
+
+import org.afree.data.xy.XYDataset;
+
+/**
+ * A decimator that keeps the items with the smallest and largest y-value in
+ * each pixel column, which preserves the vertical extent of a line or
+ * scatter plot.  The first item with a <code>NaN</code> y-value in a column
+ * is kept as well, so that gaps in a line are still drawn.
+ * <p>
+ * The items must be in ascending order of x-value.
+ */
+public class MinMaxDecimator implements XYDecimator, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6406853915106453871L;
+
+    /**
+     * Creates a new decimator.
+     */
+    public MinMaxDecimator() {
+        super();
+    }
+
+    /**
+     * Selects the items to draw from a range of items in one series.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param firstItem  the index of the first item in the range.
+     * @param lastItem  the index of the last item in the range.
+     * @param edges  the x-values at the edges of the pixel columns, in
+     *     ascending order.
+     *
+     * @return The indices of the selected items in ascending order, or
+     *     <code>null</code> if the x-values are not in ascending order.
+     */
+    public int[] selectItems(XYDataset dataset, int series, int firstItem,
+            int lastItem, double[] edges) {
+        int columns = edges.length - 1;
+        int[] result = new int[columns * 5 + 2];
+        int count = 0;
+        result[count++] = firstItem;
+
+        int column = -1;
+        int first = -1;
+        int last = -1;
+        int min = -1;
+        int max = -1;
+        int gap = -1;
+        double minY = 0.0;
+        double maxY = 0.0;
+        double previousX = dataset.getXValue(series, firstItem);
+        for (int item = firstItem + 1; item < lastItem; item++) {
+            double x = dataset.getXValue(series, item);
+            if (!(x >= previousX)) {
+                return null;  // not sorted (or NaN)
+            }
+            previousX = x;
+            int c = Math.max(column, 0);
+            while (c < columns - 1 && x >= edges[c + 1]) {
+                c++;
+            }
+            if (c != column) {
+                if (column >= 0) {
+                    count = addColumnItems(result, count, first, min, max,
+                            last, gap);
+                }
+                column = c;
+                first = item;
+                min = -1;
+                max = -1;
+                gap = -1;
+            }
+            last = item;
+            double y = dataset.getYValue(series, item);
+            if (Double.isNaN(y)) {
+                if (gap < 0) {
+                    gap = item;
+                }
+            } else {
+                if (min < 0 || y < minY) {
+                    min = item;
+                    minY = y;
+                }
+                if (max < 0 || y > maxY) {
+                    max = item;
+                    maxY = y;
+                }
+            }
+        }
+        if (column >= 0) {
+            count = addColumnItems(result, count, first, min, max, last, gap);
+        }
+        if (lastItem > firstItem) {
+            result[count++] = lastItem;
+        }
+
+        int[] trimmed = new int[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * Adds the selected items of one pixel column to the result.  This
+     * implementation adds the minimum, the maximum and the first gap.
+     *
+     * @param result  the result array.
+     * @param count  the number of items already in the result.
+     * @param first  the first item in the column.
+     * @param min  the item with the smallest y-value (-1 if none).
+     * @param max  the item with the largest y-value (-1 if none).
+     * @param last  the last item in the column.
+     * @param gap  the first item with a <code>NaN</code> y-value (-1 if
+     *     none).
+     *
+     * @return The new number of items in the result.
+     */
+    protected int addColumnItems(int[] result, int count, int first, int min,
+            int max, int last, int gap) {
+        int start = count;
+        count = insertItem(result, start, count, min);
+        count = insertItem(result, start, count, max);
+        return insertItem(result, start, count, gap);
+    }
+
+    /**
+     * Inserts an item into the sorted tail of the result, unless it is
+     * already there.
+     *
+     * @param result  the result array.
+     * @param start  the start of the sorted tail.
+     * @param count  the number of items in the result.
+     * @param item  the item (ignored if negative).
+     *
+     * @return The new number of items in the result.
+     */
+    protected static int insertItem(int[] result, int start, int count,
+            int item) {
+        if (item < 0) {
+            return count;
+        }
+        int i = count;
+        while (i > start && result[i - 1] > item) {
+            i--;
+        }
+        if (i > start && result[i - 1] == item) {
+            return count;
+        }
+        System.arraycopy(result, i, result, i + 1, count - i);
+        result[i] = item;
+        return count + 1;
+    }
+
+    /**
+     * Tests this decimator for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        return obj != null && obj.getClass() == getClass();
+    }
+
+    /**
+     * Returns a hash code for this decimator.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        return getClass().getName().hashCode();
+    }
+
+}
@@ -0,0 +1,306 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ---------------
+ * ShapeBatch.java
+ * ---------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.renderer.xy;
+
+import org.afree.graphics.geom.OvalShape;
+import org.afree.graphics.geom.RectShape;
+import org.afree.graphics.geom.Shape;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+/**
+ * A buffer of item coordinates that are drawn with the same shape and paint,
+ * so that a renderer can draw many items with a single canvas call instead
+ * of one call (and one translated shape) per item.
+ * <P>
+ * Filled rectangles are drawn with {@link Canvas#drawLines(float[], int,
+ * int, Paint)} (one line, as wide as the rectangle, per item), filled
+ * circles with {@link Canvas#drawPoints(float[], int, int, Paint)} and any
+ * other shape (and all outlines) by adding the path of the shape to a single
+ * path once per item.  The buffer has a fixed capacity: the renderer draws
+ * the batch and clears it whenever it is full, so the memory used doesn't
+ * depend on the number of items.
+ * <P>
+ * Because the items of a batch are drawn together, all the fills are drawn
+ * before the outlines, and overlapping items with a translucent paint may be
+ * blended once rather than once per item.
+ *
+ * @see XYLineAndShapeRenderer#setDrawSeriesShapesAsBatch(boolean)
+ * @see XYDotRenderer#setDrawDotsAsBatch(boolean)
+ */
+public class ShapeBatch {
+
+    /** The default capacity (in items). */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** The shape (<code>null</code> if none has been set). */
+    private Shape shape;
+
+    /** The bounds of the shape. */
+    private RectShape bounds;
+
+    /** The path of the shape (created on demand). */
+    private Path stamp;
+
+    /** The path that the shapes are added to (created on demand). */
+    private Path path;
+
+    /** The item coordinates (x, y pairs). */
+    private float[] points;
+
+    /** The lines for filled rectangles (created on demand). */
+    private float[] lines;
+
+    /** The number of items in the batch. */
+    private int count;
+
+    /** The paint for filled rectangles and circles (created on demand). */
+    private Paint pointPaint;
+
+    /**
+     * Creates a new batch with the default capacity.
+     */
+    public ShapeBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new batch.
+     *
+     * @param capacity  the number of items that the batch can hold (must be
+     *     greater than zero).
+     */
+    public ShapeBatch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Requires capacity > 0.");
+        }
+        this.points = new float[capacity * 2];
+    }
+
+    /**
+     * Returns the shape that is drawn at each item.
+     *
+     * @return The shape (possibly <code>null</code>).
+     *
+     * @see #reset(Shape)
+     */
+    public Shape getShape() {
+        return this.shape;
+    }
+
+    /**
+     * Clears the batch and sets the shape that is drawn at each item.  The
+     * shape is drawn with its origin at the item coordinates.
+     *
+     * @param shape  the shape (<code>null</code> permitted).
+     */
+    public void reset(Shape shape) {
+        this.shape = shape;
+        this.bounds = (shape != null ? shape.getBounds() : null);
+        this.stamp = null;
+        this.count = 0;
+    }
+
+    /**
+     * Removes all the items from the batch (the shape is kept).
+     */
+    public void clear() {
+        this.count = 0;
+    }
+
+    /**
+     * Returns the number of items in the batch.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns <code>true</code> if the shape, drawn at the specified
+     * coordinates, intersects a rectangle.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * @param area  the rectangle (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean intersects(double x, double y, RectShape area) {
+        return x + this.bounds.getMaxX() >= area.getMinX()
+                && x + this.bounds.getMinX() <= area.getMaxX()
+                && y + this.bounds.getMaxY() >= area.getMinY()
+                && y + this.bounds.getMinY() <= area.getMaxY();
+    }
+
+    /**
+     * Returns <code>true</code> if the batch is full, in which case it must
+     * be drawn and cleared before another item is added.
+     *
+     * @return A boolean.
+     */
+    public boolean isFull() {
+        return this.count * 2 == this.points.length;
+    }
+
+    /**
+     * Adds an item to the batch.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @see #isFull()
+     */
+    public void add(float x, float y) {
+        int i = this.count * 2;
+        this.points[i] = x;
+        this.points[i + 1] = y;
+        this.count++;
+    }
+
+    /**
+     * Fills the shape at each item in the batch.
+     *
+     * @param canvas  the graphics device.
+     * @param paint  the paint.
+     */
+    public void fill(Canvas canvas, Paint paint) {
+        if (this.count == 0) {
+            return;
+        }
+        float w = this.bounds.getWidth();
+        float h = this.bounds.getHeight();
+        if (this.shape instanceof RectShape) {
+            // a line as wide as the rectangle, from its top to its bottom
+            float[] l = this.lines;
+            if (l == null) {
+                l = new float[this.points.length * 2];
+                this.lines = l;
+            }
+            float dx = this.bounds.getCenterX();
+            float top = this.bounds.getMinY();
+            for (int i = 0; i < this.count; i++) {
+                float x = this.points[i * 2] + dx;
+                float y = this.points[i * 2 + 1] + top;
+                l[i * 4] = x;
+                l[i * 4 + 1] = y;
+                l[i * 4 + 2] = x;
+                l[i * 4 + 3] = y + h;
+            }
+            canvas.drawLines(l, 0, this.count * 4,
+                    getPointPaint(paint, w, Paint.Cap.BUTT));
+        }
+        else if (this.shape instanceof OvalShape && w == h) {
+            int saveCount = canvas.save();
+            canvas.translate(this.bounds.getCenterX(),
+                    this.bounds.getCenterY());
+            canvas.drawPoints(this.points, 0, this.count * 2,
+                    getPointPaint(paint, w, Paint.Cap.ROUND));
+            canvas.restoreToCount(saveCount);
+        }
+        else {
+            paint.setStyle(Paint.Style.FILL);
+            canvas.drawPath(getPath(), paint);
+        }
+    }
+
+    /**
+     * Draws the outline of the shape at each item in the batch.
+     *
+     * @param canvas  the graphics device.
+     * @param paint  the paint.
+     */
+    public void draw(Canvas canvas, Paint paint) {
+        if (this.count == 0) {
+            return;
+        }
+        paint.setStyle(Paint.Style.STROKE);
+        canvas.drawPath(getPath(), paint);
+    }
+
+    /**
+     * Returns a path that contains the shape at each item in the batch.
+     *
+     * @return The path.
+     */
+    private Path getPath() {
+        if (this.stamp == null) {
+            this.stamp = this.shape.getPath();
+        }
+        if (this.path == null) {
+            this.path = new Path();
+        }
+        else {
+            this.path.rewind();
+        }
+        for (int i = 0; i < this.count; i++) {
+            this.path.addPath(this.stamp, this.points[i * 2],
+                    this.points[i * 2 + 1]);
+        }
+        return this.path;
+    }
+
+    /**
+     * Returns a paint that draws a filled rectangle or circle for each line
+     * or point, with the colour of the specified paint.
+     *
+     * @param paint  the paint.
+     * @param width  the stroke width.
+     * @param cap  the stroke cap.
+     *
+     * @return The paint.
+     */
+    private Paint getPointPaint(Paint paint, float width, Paint.Cap cap) {
+        if (this.pointPaint == null) {
+            this.pointPaint = new Paint();
+        }
+        this.pointPaint.set(paint);
+        this.pointPaint.setStyle(Paint.Style.STROKE);
+        this.pointPaint.setStrokeWidth(width);
+        this.pointPaint.setStrokeCap(cap);
+        this.pointPaint.setPathEffect(null);
+        return this.pointPaint;
+    }
+
+}
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2008, by Object Refinery Limited.
@@ -110,12 +111,14 @@ public class StandardXYBarPainter implements XYBarPainter, Serializable {
             RectangleEdge base) {
 
         PaintType itemPaintType = renderer.getItemPaintType(row, column);
-        Paint itemPaint = PaintUtility.createPaint(Paint.ANTI_ALIAS_FLAG, itemPaintType);
-
+        Paint itemPaint;
         if (itemPaintType instanceof GradientColor) {
+            itemPaint = PaintUtility.createPaint(Paint.ANTI_ALIAS_FLAG, itemPaintType);
             GradientShaderFactory t = renderer.getGradientShaderFactory();
             Shader shader = t.create((GradientColor) itemPaintType, bar);
             itemPaint.setShader(shader);
+        } else {
+            itemPaint = renderer.getCachedPaint(Paint.ANTI_ALIAS_FLAG, itemPaintType);
         }
 
 
@@ -129,7 +132,7 @@ public class StandardXYBarPainter implements XYBarPainter, Serializable {
             PaintType paintType = renderer.getItemOutlinePaintType(row, column);
 
             if (stroke != 0.0f && paintType != null) {
-                Paint outlinePaint = PaintUtility.createPaint(
+                Paint outlinePaint = renderer.getCachedPaint(
                         Paint.ANTI_ALIAS_FLAG,
                         paintType,
                         stroke,
@@ -173,7 +176,7 @@ public class StandardXYBarPainter implements XYBarPainter, Serializable {
         RectShape shadow = createShadow(bar, renderer.getShadowXOffset(), renderer
                 .getShadowYOffset(), base, pegShadow);
         
-        Paint paint = PaintUtility.createPaint(
+        Paint paint = renderer.getCachedPaint(
                 Paint.ANTI_ALIAS_FLAG,
                 renderer.getShadowPaintType());
         
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2008, by Object Refinery Limited and Contributors.
@@ -145,7 +146,6 @@ import org.afree.graphics.geom.PathShape;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.PathEffect;
@@ -853,7 +853,7 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
                 if (item == dataset.getItemCount(series) - 1) {
                     if (s.seriesIndex == series) {
                         // draw path
-                        Paint paint = PaintUtility.createPaint(
+                        Paint paint = getCachedPaint(
                                 Paint.ANTI_ALIAS_FLAG,
                                 lookupSeriesPaintType(series),
                                 lookupSeriesStroke(series),
@@ -905,7 +905,7 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
                         }
 
                         if (state.workingLine.intersects(dataArea)) {
-                            Paint paint = PaintUtility.createPaint(
+                            Paint paint = getCachedPaint(
                                     Paint.ANTI_ALIAS_FLAG,
                                     paintType,
                                     seriesStroke,
@@ -936,7 +936,7 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
                         transY1);
             }
             if (shape.intersects(dataArea)) {
-                Paint paint = PaintUtility.createPaint(
+                Paint paint = getCachedPaint(0, 
                         paintType,
                         seriesStroke,
                         effect);
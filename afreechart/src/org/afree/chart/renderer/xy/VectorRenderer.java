@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2007, 2008, by Object Refinery Limited.
@@ -75,7 +76,6 @@ import org.afree.chart.plot.XYPlot;
 import org.afree.graphics.geom.LineShape;
 import org.afree.graphics.geom.PathShape;
 import org.afree.graphics.geom.RectShape;
-import org.afree.graphics.PaintUtility;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 
@@ -268,7 +268,7 @@ public class VectorRenderer extends AbstractXYItemRenderer
             line = new LineShape(xx0, yy0, xx1, yy1);
         }
         
-        Paint paint = PaintUtility.createPaint(
+        Paint paint = getCachedPaint(
                 Paint.ANTI_ALIAS_FLAG,
                 getItemPaintType(series, item),
                 getItemStroke(series, item),
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item labels
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2009, by Object Refinery Limited.
@@ -143,7 +144,6 @@ import org.afree.chart.text.TextUtilities;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 import org.afree.graphics.SolidColor;
 import android.graphics.Canvas;
 import android.graphics.Color;
@@ -1052,11 +1052,10 @@ public class XYBarRenderer extends AbstractXYItemRenderer
 
         if (position != null) {
             //TextUtilities.drawRotatedString(label, canvas,
-            Paint paint = PaintUtility.createPaint(
+            Paint paint = getCachedPaint(
                     Paint.ANTI_ALIAS_FLAG,
                     getItemLabelPaintType(series, item),
-                    getItemLabelFont(series, item)
-                    );
+                    getItemLabelFont(series, item));
             
             TextUtilities.drawRotatedString(label, canvas,
                     (float) anchorPoint.x, (float) anchorPoint.y,
@@ -0,0 +1,80 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ----------------
+ * XYDecimator.java
+ * ----------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.renderer.xy;
+
+import org.afree.data.xy.XYDataset;
+
+/**
+ * A strategy that selects the items of a series that a renderer needs to
+ * draw, when the series has many more items than there are pixels along the
+ * domain axis.  A decimator is assigned to a renderer with
+ * {@link AbstractXYItemRenderer#setDecimator(XYDecimator)}, and the
+ * {@link org.afree.chart.plot.XYPlot} then passes the renderer a
+ * {@link org.afree.data.xy.DecimatedXYDataset} that presents the selected
+ * items only.
+ *
+ * @see MinMaxDecimator
+ * @see M4Decimator
+ * @see LargestTriangleDecimator
+ */
+public interface XYDecimator {
+
+    /**
+     * Selects the items to draw from a range of items in one series.  The
+     * first and last items of the range are always selected.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param firstItem  the index of the first item in the range.
+     * @param lastItem  the index of the last item in the range.
+     * @param edges  the x-values at the edges of the pixel columns along the
+     *     domain axis, in ascending order (there is one more edge than there
+     *     are columns).
+     *
+     * @return The indices of the selected items in ascending order, or
+     *     <code>null</code> if the items can't be decimated (for example
+     *     because their x-values are not in ascending order) and should all
+     *     be drawn.
+     */
+    public int[] selectItems(XYDataset dataset, int series, int firstItem,
+            int lastItem, double[] edges);
+
+}
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2003-2008, by Object Refinery Limited and Contributors.
@@ -117,7 +118,6 @@ import org.afree.graphics.geom.PathShape;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 
 /**
  * A renderer for an {@link XYPlot} that highlights the differences between two
@@ -920,7 +920,7 @@ public class XYDifferenceRenderer extends AbstractXYItemRenderer
                         l_x1, l_y1);
             }
             if (l_shape.intersects(x_dataArea)) {
-                Paint paint = PaintUtility.createPaint(
+                Paint paint = getCachedPaint(
                         Paint.ANTI_ALIAS_FLAG,
                         getItemPaintType(x_series, x_item));
                 l_shape.fill(x_graphics, paint);
@@ -982,7 +982,7 @@ public class XYDifferenceRenderer extends AbstractXYItemRenderer
         }
 
         if ((null != l_line) && l_line.intersects(x_dataArea)) {
-            Paint paint = PaintUtility.createPaint(
+            Paint paint = getCachedPaint(
                     Paint.ANTI_ALIAS_FLAG,
                     l_seriesPaintType,
                     l_seriesStroke,
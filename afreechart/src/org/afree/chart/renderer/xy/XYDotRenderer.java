@@ -39,6 +39,9 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
+ * 16-Oct-2026 : Added drawDotsAsBatch attribute
+ * 16-Oct-2026 : Use the axis transforms from the renderer state;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2002-2008, by Object Refinery Limited.
@@ -75,6 +78,7 @@ import org.afree.util.PublicCloneable;
 import org.afree.ui.RectangleEdge;
 import org.afree.util.ShapeUtilities;
 import org.afree.chart.LegendItem;
+import org.afree.chart.axis.AxisTransform;
 import org.afree.chart.axis.ValueAxis;
 import org.afree.data.xy.XYDataset;
 import org.afree.chart.plot.CrosshairState;
@@ -84,7 +88,6 @@ import org.afree.chart.plot.XYPlot;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 
 
 
@@ -116,6 +119,12 @@ public class XYDotRenderer extends AbstractXYItemRenderer
      */
     private transient Shape legendShape;
 
+    /**
+     * A flag that controls whether the dots of each series are drawn
+     * together.
+     */
+    private boolean drawDotsAsBatch;
+
     /**
      * Constructs a new renderer.
      */
@@ -124,6 +133,7 @@ public class XYDotRenderer extends AbstractXYItemRenderer
         this.dotWidth = 1;
         this.dotHeight = 1;
         this.legendShape = new RectShape(-3.0, -3.0, 6.0, 6.0);
+        this.drawDotsAsBatch = false;
     }
 
     /**
@@ -188,6 +198,36 @@ public class XYDotRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the dots of each series are
+     * drawn together, with a few canvas calls instead of one call per item.
+     *
+     * @return A boolean.
+     *
+     * @see #setDrawDotsAsBatch(boolean)
+     */
+    public boolean getDrawDotsAsBatch() {
+        return this.drawDotsAsBatch;
+    }
+
+    /**
+     * Sets the flag that controls whether the dots of each series are drawn
+     * together and sends a {@link RendererChangeEvent} to all registered
+     * listeners.  When the flag is set, every dot in a series is drawn with
+     * the paint of the first item that is drawn in the series.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getDrawDotsAsBatch()
+     * @see ShapeBatch
+     */
+    public void setDrawDotsAsBatch(boolean flag) {
+        if (this.drawDotsAsBatch != flag) {
+            this.drawDotsAsBatch = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the shape used to represent an item in the legend.
      *
@@ -250,8 +290,20 @@ public class XYDotRenderer extends AbstractXYItemRenderer
                          CrosshairState crosshairState,
                          int pass) {
 
+        ShapeBatch batch = null;
+        if (this.drawDotsAsBatch) {
+            batch = state.getShapeBatch();
+            if (item == state.getFirstItemIndex()) {
+                batch.reset(new RectShape(0.0, 0.0, this.dotWidth,
+                        this.dotHeight));
+            }
+        }
+
         // do nothing if item is not visible
         if (!getItemVisible(series, item)) {
+            if (batch != null && item == state.getLastItemIndex()) {
+                drawBatch(canvas, batch, series, state.getFirstItemIndex());
+            }
             return;
         }
 
@@ -263,35 +315,53 @@ public class XYDotRenderer extends AbstractXYItemRenderer
         if (!Double.isNaN(y)) {
             RectangleEdge xAxisLocation = plot.getDomainAxisEdge();
             RectangleEdge yAxisLocation = plot.getRangeAxisEdge();
-            double transX = domainAxis.valueToJava2D(x, dataArea,
-                    xAxisLocation) - adjx;
-            double transY = rangeAxis.valueToJava2D(y, dataArea, yAxisLocation)
-                    - adjy;
-
-//            canvas.setPaint(getItemPaint(series, item));
-            Paint paint = PaintUtility.createPaint(
-                    Paint.ANTI_ALIAS_FLAG,
-                    getItemPaintType(series, item));
-            paint.setStyle(Style.FILL);
-            PlotOrientation orientation = plot.getOrientation();
-            /*
-            if (orientation == PlotOrientation.HORIZONTAL) {
-                canvas.fillRect((int) transY, (int) transX, this.dotHeight,
-                        this.dotWidth);
+            double transX;
+            double transY;
+            AxisTransform xTransform = state.getDomainTransform();
+            AxisTransform yTransform = state.getRangeTransform();
+            if (xTransform != null && yTransform != null) {
+                transX = xTransform.transform(x) - adjx;
+                transY = yTransform.transform(y) - adjy;
             }
-            else if (orientation == PlotOrientation.VERTICAL) {
-                canvas.fillRect((int) transX, (int) transY, this.dotWidth,
-                        this.dotHeight);
-            }*/
-            if (orientation == PlotOrientation.HORIZONTAL) {
-                canvas.drawRect((int) transX,(int) transY + this.dotHeight, (int)  transX + this.dotWidth,
-                        (int) transY ,paint);
+            else {
+                transX = domainAxis.valueToJava2D(x, dataArea, xAxisLocation)
+                        - adjx;
+                transY = rangeAxis.valueToJava2D(y, dataArea, yAxisLocation)
+                        - adjy;
             }
-            else if (orientation == PlotOrientation.VERTICAL) {
-                canvas.drawRect((int) transX,(int) transY + this.dotHeight, (int)  transX + this.dotWidth,
-                        (int) transY ,paint);
+
+            PlotOrientation orientation = plot.getOrientation();
+            if (batch != null) {
+                batch.add((int) transX, (int) transY);
+                if (batch.isFull()) {
+                    drawBatch(canvas, batch, series,
+                            state.getFirstItemIndex());
+                }
+            }
+            else {
+//                canvas.setPaint(getItemPaint(series, item));
+                Paint paint = getCachedPaint(
+                        Paint.ANTI_ALIAS_FLAG,
+                        getItemPaintType(series, item));
+                paint.setStyle(Style.FILL);
+                /*
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    canvas.fillRect((int) transY, (int) transX, this.dotHeight,
+                            this.dotWidth);
+                }
+                else if (orientation == PlotOrientation.VERTICAL) {
+                    canvas.fillRect((int) transX, (int) transY, this.dotWidth,
+                            this.dotHeight);
+                }*/
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    canvas.drawRect((int) transX,(int) transY + this.dotHeight, (int)  transX + this.dotWidth,
+                            (int) transY ,paint);
+                }
+                else if (orientation == PlotOrientation.VERTICAL) {
+                    canvas.drawRect((int) transX,(int) transY + this.dotHeight, (int)  transX + this.dotWidth,
+                            (int) transY ,paint);
+                }
             }
-            
 
             int domainAxisIndex = plot.getDomainAxisIndex(domainAxis);
             int rangeAxisIndex = plot.getRangeAxisIndex(rangeAxis);
@@ -299,6 +369,26 @@ public class XYDotRenderer extends AbstractXYItemRenderer
                     rangeAxisIndex, transX, transY, orientation);
         }
 
+        if (batch != null && item == state.getLastItemIndex()) {
+            drawBatch(canvas, batch, series, state.getFirstItemIndex());
+        }
+
+    }
+
+    /**
+     * Draws the dots in a batch and clears the batch.
+     *
+     * @param canvas  the graphics device.
+     * @param batch  the batch.
+     * @param series  the series index (zero-based).
+     * @param item  the index of the item that supplies the paint.
+     */
+    private void drawBatch(Canvas canvas, ShapeBatch batch, int series,
+            int item) {
+        Paint paint = getCachedPaint(Paint.ANTI_ALIAS_FLAG,
+                getItemPaintType(series, item));
+        batch.fill(canvas, paint);
+        batch.clear();
     }
 
     /**
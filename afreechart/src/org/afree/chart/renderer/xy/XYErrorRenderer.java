@@ -40,6 +40,7 @@
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2006-2009, by Object Refinery Limited.
@@ -73,7 +74,6 @@ import org.afree.chart.plot.XYPlot;
 import org.afree.graphics.geom.LineShape;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 
@@ -373,7 +373,7 @@ public class XYErrorRenderer extends XYLineAndShapeRenderer {
                     stroke = getItemStroke(series, item);
                 }
                 
-                Paint paint = PaintUtility.createPaint(
+                Paint paint = getCachedPaint(
                         Paint.ANTI_ALIAS_FLAG,
                         paintType,
                         stroke,
@@ -430,7 +430,7 @@ public class XYErrorRenderer extends XYLineAndShapeRenderer {
                     stroke = getItemStroke(series, item);
                 }
                 
-                Paint paint = PaintUtility.createPaint(
+                Paint paint = getCachedPaint(
                         Paint.ANTI_ALIAS_FLAG,
                         paintType,
                         stroke,
@@ -39,6 +39,9 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Added shapeBatch attribute
+ * 16-Oct-2026 : Added lineBatch attribute
+ * 16-Oct-2026 : Added domain and range transforms;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2003-2008, by Object Refinery Limited and Contributors.
@@ -65,10 +68,14 @@ package org.afree.chart.renderer.xy;
 
 
 import org.afree.data.xy.XYDataset;
+import org.afree.chart.axis.AxisTransform;
+import org.afree.chart.axis.ValueAxis;
 import org.afree.chart.plot.PlotRenderingInfo;
 import org.afree.chart.plot.XYPlot;
 import org.afree.chart.renderer.RendererState;
 import org.afree.graphics.geom.LineShape;
+import org.afree.graphics.geom.RectShape;
+import org.afree.ui.RectangleEdge;
 
 
 
@@ -105,6 +112,24 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * A batch of items that the renderer can draw together (created on
+     * demand).
+     */
+    private ShapeBatch shapeBatch;
+
+    /**
+     * A batch of line segments that the renderer can draw together (created
+     * on demand).
+     */
+    private LineBatch lineBatch;
+
+    /** The transform for the domain axis (<code>null</code> if not set). */
+    private AxisTransform domainTransform;
+
+    /** The transform for the range axis (<code>null</code> if not set). */
+    private AxisTransform rangeTransform;
+
     /**
      * Creates a new state.
      *
@@ -143,6 +168,84 @@ public class XYItemRendererState extends RendererState {
         this.processVisibleItemsOnly = flag;
     }
 
+    /**
+     * Returns a batch that the renderer can use to draw the items of a
+     * series together.  The same batch is returned for every series, so the
+     * renderer must reset it at the start of each series.
+     *
+     * @return The batch (never <code>null</code>).
+     */
+    public ShapeBatch getShapeBatch() {
+        if (this.shapeBatch == null) {
+            this.shapeBatch = new ShapeBatch();
+        }
+        return this.shapeBatch;
+    }
+
+    /**
+     * Returns a batch that the renderer can use to draw line segments
+     * together.  The renderer must draw the batch before it finishes each
+     * series.
+     *
+     * @return The batch (never <code>null</code>).
+     */
+    public LineBatch getLineBatch() {
+        if (this.lineBatch == null) {
+            this.lineBatch = new LineBatch();
+        }
+        return this.lineBatch;
+    }
+
+    /**
+     * Returns the transform for the domain axis that the plot set before
+     * drawing the dataset.
+     *
+     * @return The transform (possibly <code>null</code>, in which case the
+     *     renderer should use the axis to convert values).
+     *
+     * @see #setDomainTransform(AxisTransform)
+     */
+    public AxisTransform getDomainTransform() {
+        return this.domainTransform;
+    }
+
+    /**
+     * Sets the transform for the domain axis.  The transform must match the
+     * domain axis, data area and edge that the dataset is drawn with.
+     *
+     * @param transform  the transform (<code>null</code> permitted).
+     *
+     * @see ValueAxis#getTransform(RectShape, RectangleEdge)
+     */
+    public void setDomainTransform(AxisTransform transform) {
+        this.domainTransform = transform;
+    }
+
+    /**
+     * Returns the transform for the range axis that the plot set before
+     * drawing the dataset.
+     *
+     * @return The transform (possibly <code>null</code>, in which case the
+     *     renderer should use the axis to convert values).
+     *
+     * @see #setRangeTransform(AxisTransform)
+     */
+    public AxisTransform getRangeTransform() {
+        return this.rangeTransform;
+    }
+
+    /**
+     * Sets the transform for the range axis.  The transform must match the
+     * range axis, data area and edge that the dataset is drawn with.
+     *
+     * @param transform  the transform (<code>null</code> permitted).
+     *
+     * @see ValueAxis#getTransform(RectShape, RectangleEdge)
+     */
+    public void setRangeTransform(AxisTransform transform) {
+        this.rangeTransform = transform;
+    }
+
     /**
      * Returns the first item index (this is updated with each call to
      * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
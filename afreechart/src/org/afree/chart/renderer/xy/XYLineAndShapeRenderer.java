@@ -39,6 +39,10 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
+ * 16-Oct-2026 : Added drawSeriesShapesAsBatch attribute
+ * 16-Oct-2026 : Added drawSeriesLineAsBatch attribute
+ * 16-Oct-2026 : Use the axis transforms from the renderer state;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2004-2008, by Object Refinery Limited.
@@ -90,6 +94,7 @@ import org.afree.util.BooleanUtilities;
 import org.afree.ui.RectangleEdge;
 import org.afree.util.ShapeUtilities;
 import org.afree.chart.LegendItem;
+import org.afree.chart.axis.AxisTransform;
 import org.afree.chart.axis.ValueAxis;
 import org.afree.data.xy.XYDataset;
 import org.afree.chart.entity.EntityCollection;
@@ -103,7 +108,6 @@ import org.afree.graphics.geom.PathShape;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
 import org.afree.graphics.PaintType;
-import org.afree.graphics.PaintUtility;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 
@@ -196,6 +200,18 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
      */
     private boolean drawSeriesLineAsPath;
 
+    /**
+     * A flag that controls whether or not the line segments of each series
+     * are drawn in batches.
+     */
+    private boolean drawSeriesLineAsBatch;
+
+    /**
+     * A flag that controls whether or not the shapes of each series are drawn
+     * together.
+     */
+    private boolean drawSeriesShapesAsBatch;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -231,6 +247,8 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
         // default, not outline paint
 
         this.drawSeriesLineAsPath = false;
+        this.drawSeriesLineAsBatch = false;
+        this.drawSeriesShapesAsBatch = false;
     }
 
     /**
@@ -262,6 +280,75 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
         }
     }
 
+    /**
+     * Returns a flag that controls whether or not the line segments of each
+     * series are drawn in batches.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setDrawSeriesLineAsBatch(boolean)
+     */
+    public boolean getDrawSeriesLineAsBatch() {
+        return this.drawSeriesLineAsBatch;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the line segments of each
+     * series are drawn in batches and sends a {@link RendererChangeEvent} to
+     * all registered listeners.  When the flag is set, the segments are
+     * collected and drawn with one
+     * {@link Canvas#drawLines(float[], int, int, Paint)} call for each run of
+     * segments with the same paint and stroke, instead of one call per
+     * segment (see {@link LineBatch}).  The segments are not passed to
+     * {@link #drawFirstPassShape(Canvas, int, int, int, Shape)}.  The flag
+     * has no effect if the series lines are drawn as paths.
+     * 
+     * @param flag
+     *            the flag.
+     * 
+     * @see #getDrawSeriesLineAsBatch()
+     * @see #setDrawSeriesLineAsPath(boolean)
+     */
+    public void setDrawSeriesLineAsBatch(boolean flag) {
+        if (this.drawSeriesLineAsBatch != flag) {
+            this.drawSeriesLineAsBatch = flag;
+            fireChangeEvent();
+        }
+    }
+
+    /**
+     * Returns a flag that controls whether or not the shapes of each series
+     * are drawn together, with a few canvas calls instead of one call per
+     * item.
+     * 
+     * @return A boolean.
+     * 
+     * @see #setDrawSeriesShapesAsBatch(boolean)
+     */
+    public boolean getDrawSeriesShapesAsBatch() {
+        return this.drawSeriesShapesAsBatch;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the shapes of each series
+     * are drawn together and sends a {@link RendererChangeEvent} to all
+     * registered listeners.  When the flag is set, every shape in a series is
+     * drawn with the shape, paints and stroke of the first item that is drawn
+     * in the series.  Series with visible item labels are drawn item by item.
+     * 
+     * @param flag
+     *            the flag.
+     * 
+     * @see #getDrawSeriesShapesAsBatch()
+     * @see ShapeBatch
+     */
+    public void setDrawSeriesShapesAsBatch(boolean flag) {
+        if (this.drawSeriesShapesAsBatch != flag) {
+            this.drawSeriesShapesAsBatch = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the number of passes through the data that the renderer requires
      * in order to draw the chart. Most charts will require a single pass, but
@@ -904,8 +991,31 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
             PlotRenderingInfo info, XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
             XYDataset dataset, int series, int item, CrosshairState crosshairState, int pass) {
 
+        ShapeBatch batch = null;
+        if (this.drawSeriesShapesAsBatch && isItemPass(pass)) {
+            batch = state.getShapeBatch();
+            if (item == state.getFirstItemIndex()) {
+                // item labels must be drawn over the shapes
+                batch.reset(isItemLabelVisible(series, item) ? null
+                        : getItemShape(series, item));
+            }
+            if (batch.getShape() == null) {
+                batch = null;
+            }
+        }
+
+        boolean drawLineBatch = this.drawSeriesLineAsBatch && !this.drawSeriesLineAsPath
+                && isLinePass(pass) && item == state.getLastItemIndex();
+
         // do nothing if item is not visible
         if (!getItemVisible(series, item)) {
+            if (batch != null && item == state.getLastItemIndex()) {
+                drawShapeBatch(canvas, batch, series,
+                        state.getFirstItemIndex());
+            }
+            if (drawLineBatch) {
+                state.getLineBatch().draw(canvas);
+            }
             return;
         }
 
@@ -920,6 +1030,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
                             rangeAxis, dataArea);
                 }
             }
+            if (drawLineBatch) {
+                state.getLineBatch().draw(canvas);
+            }
         }
         // second pass adds shapes where the items are ..
         else if (isItemPass(pass)) {
@@ -930,8 +1043,16 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
                 entities = info.getOwner().getEntityCollection();
             }
 
-            drawSecondaryPass(canvas, plot, dataset, pass, series, item, domainAxis, dataArea,
-                    rangeAxis, crosshairState, entities);
+            if (batch != null) {
+                drawSecondaryPass(canvas, plot, dataset, pass, series, item, domainAxis,
+                        dataArea, rangeAxis, crosshairState, entities, batch);
+                if (batch.isFull() || item == state.getLastItemIndex()) {
+                    drawShapeBatch(canvas, batch, series, state.getFirstItemIndex());
+                }
+            } else {
+                drawSecondaryPass(canvas, plot, dataset, pass, series, item, domainAxis,
+                        dataArea, rangeAxis, crosshairState, entities);
+            }
         }
     }
 
@@ -1010,11 +1131,20 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
         RectangleEdge xAxisLocation = plot.getDomainAxisEdge();
         RectangleEdge yAxisLocation = plot.getRangeAxisEdge();
 
-        double transX0 = domainAxis.valueToJava2D(x0, dataArea, xAxisLocation);
-        double transY0 = rangeAxis.valueToJava2D(y0, dataArea, yAxisLocation);
-
-        double transX1 = domainAxis.valueToJava2D(x1, dataArea, xAxisLocation);
-        double transY1 = rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation);
+        double transX0, transY0, transX1, transY1;
+        AxisTransform xTransform = state.getDomainTransform();
+        AxisTransform yTransform = state.getRangeTransform();
+        if (xTransform != null && yTransform != null) {
+            transX0 = xTransform.transform(x0);
+            transY0 = yTransform.transform(y0);
+            transX1 = xTransform.transform(x1);
+            transY1 = yTransform.transform(y1);
+        } else {
+            transX0 = domainAxis.valueToJava2D(x0, dataArea, xAxisLocation);
+            transY0 = rangeAxis.valueToJava2D(y0, dataArea, yAxisLocation);
+            transX1 = domainAxis.valueToJava2D(x1, dataArea, xAxisLocation);
+            transY1 = rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation);
+        }
 
         // only draw if we have good values
         if (Double.isNaN(transX0) || Double.isNaN(transY0) || Double.isNaN(transX1)
@@ -1030,7 +1160,15 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
         }
 
         if (state.workingLine.intersects(dataArea)) {
-            drawFirstPassShape(canvas, pass, series, item, state.workingLine);
+            if (this.drawSeriesLineAsBatch) {
+                Paint paint = getCachedPaint(Paint.ANTI_ALIAS_FLAG, getItemPaintType(series,
+                        item), getItemStroke(series, item), getItemEffect(series, item));
+                LineShape line = state.workingLine;
+                state.getLineBatch().add(canvas, paint, line.getX1(), line.getY1(),
+                        line.getX2(), line.getY2());
+            } else {
+                drawFirstPassShape(canvas, pass, series, item, state.workingLine);
+            }
         }
     }
 
@@ -1049,7 +1187,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
      *            the shape.
      */
     protected void drawFirstPassShape(Canvas canvas, int pass, int series, int item, Shape shape) {
-        Paint paint = PaintUtility.createPaint(Paint.ANTI_ALIAS_FLAG, getItemPaintType(series,
+        Paint paint = getCachedPaint(Paint.ANTI_ALIAS_FLAG, getItemPaintType(series,
                 item), getItemStroke(series, item), getItemEffect(series, item));
         shape.draw(canvas, paint);
     }
@@ -1091,8 +1229,16 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
         // get the data point...
         double x1 = dataset.getXValue(series, item);
         double y1 = dataset.getYValue(series, item);
-        double transX1 = domainAxis.valueToJava2D(x1, dataArea, xAxisLocation);
-        double transY1 = rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation);
+        double transX1, transY1;
+        AxisTransform xTransform = state.getDomainTransform();
+        AxisTransform yTransform = state.getRangeTransform();
+        if (xTransform != null && yTransform != null) {
+            transX1 = xTransform.transform(x1);
+            transY1 = yTransform.transform(y1);
+        } else {
+            transX1 = domainAxis.valueToJava2D(x1, dataArea, xAxisLocation);
+            transY1 = rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation);
+        }
 
         State s = (State) state;
         // update path to reflect latest point
@@ -1153,6 +1299,48 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
     protected void drawSecondaryPass(Canvas canvas, XYPlot plot, XYDataset dataset, int pass,
             int series, int item, ValueAxis domainAxis, RectShape dataArea, ValueAxis rangeAxis,
             CrosshairState crosshairState, EntityCollection entities) {
+        drawSecondaryPass(canvas, plot, dataset, pass, series, item, domainAxis, dataArea,
+                rangeAxis, crosshairState, entities, null);
+    }
+
+    /**
+     * Draws the item shapes and adds chart entities (second pass), as
+     * {@link #drawSecondaryPass(Canvas, XYPlot, XYDataset, int, int, int,
+     * ValueAxis, RectShape, ValueAxis, CrosshairState, EntityCollection)}
+     * does, except that if <code>batch</code> is not <code>null</code> the
+     * item is added to the batch instead of being drawn (the caller draws
+     * the batch, before it is full).
+     * 
+     * @param canvas
+     *            the graphics device.
+     * @param plot
+     *            the plot (can be used to obtain standard color information
+     *            etc).
+     * @param dataset
+     *            the dataset.
+     * @param pass
+     *            the pass.
+     * @param series
+     *            the series index (zero-based).
+     * @param item
+     *            the item index (zero-based).
+     * @param domainAxis
+     *            the domain axis.
+     * @param dataArea
+     *            the area within which the data is being drawn.
+     * @param rangeAxis
+     *            the range axis.
+     * @param crosshairState
+     *            the crosshair state.
+     * @param entities
+     *            the entity collection.
+     * @param batch
+     *            the batch for the shapes of the series (<code>null</code>
+     *            permitted).
+     */
+    protected void drawSecondaryPass(Canvas canvas, XYPlot plot, XYDataset dataset, int pass,
+            int series, int item, ValueAxis domainAxis, RectShape dataArea, ValueAxis rangeAxis,
+            CrosshairState crosshairState, EntityCollection entities, ShapeBatch batch) {
 
         Shape entityArea = null;
 
@@ -1169,7 +1357,23 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
         double transX1 = domainAxis.valueToJava2D(x1, dataArea, xAxisLocation);
         double transY1 = rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation);
 
-        if (getItemShapeVisible(series, item)) {
+        if (batch != null) {
+            if (getItemShapeVisible(series, item)) {
+                float x = (float) transX1;
+                float y = (float) transY1;
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    x = (float) transY1;
+                    y = (float) transX1;
+                }
+                if (batch.intersects(x, y, dataArea)) {
+                    batch.add(x, y);
+                }
+                if (entities != null && !getUseVirtualEntities()) {
+                    entityArea = ShapeUtilities.createTranslatedShape(
+                            batch.getShape(), x, y);
+                }
+            }
+        } else if (getItemShapeVisible(series, item)) {
             Shape shape = getItemShape(series, item);
             if (orientation == PlotOrientation.HORIZONTAL) {
                 shape = ShapeUtilities.createTranslatedShape(shape, transY1, transX1);
@@ -1186,7 +1390,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
                         paintType = getItemPaintType(series, item);
                     }
 
-                    Paint paint = PaintUtility.createPaint(
+                    Paint paint = getCachedPaint(
                             Paint.ANTI_ALIAS_FLAG, 
                             paintType);
                     shape.fill(canvas, paint);
@@ -1199,7 +1403,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
                         paintType = getItemPaintType(series, item);
                     }
 
-                    Paint paint = PaintUtility.createPaint(Paint.ANTI_ALIAS_FLAG, paintType,
+                    Paint paint = getCachedPaint(Paint.ANTI_ALIAS_FLAG, paintType,
                             getItemStroke(series, item), getItemEffect(series, item));
                     shape.draw(canvas, paint);
                 }
@@ -1230,6 +1434,41 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer implements XY
         }
     }
 
+    /**
+     * Draws the shapes in a batch and clears the batch.
+     * 
+     * @param canvas
+     *            the graphics device.
+     * @param batch
+     *            the batch.
+     * @param series
+     *            the series index (zero-based).
+     * @param item
+     *            the index of the item that supplies the paints and stroke.
+     */
+    private void drawShapeBatch(Canvas canvas, ShapeBatch batch, int series, int item) {
+        if (getItemShapeFilled(series, item)) {
+            PaintType paintType;
+            if (this.useFillPaintType) {
+                paintType = getItemFillPaintType(series, item);
+            } else {
+                paintType = getItemPaintType(series, item);
+            }
+            batch.fill(canvas, getCachedPaint(Paint.ANTI_ALIAS_FLAG, paintType));
+        }
+        if (this.drawOutlines) {
+            PaintType paintType;
+            if (getUseOutlinePaint()) {
+                paintType = getItemOutlinePaintType(series, item);
+            } else {
+                paintType = getItemPaintType(series, item);
+            }
+            batch.draw(canvas, getCachedPaint(Paint.ANTI_ALIAS_FLAG, paintType,
+                    getItemStroke(series, item), getItemEffect(series, item)));
+        }
+        batch.clear();
+    }
+
     /**
      * Returns a legend item for the specified series.
      * 
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2002-2009, by Roger Studner and Contributors.
@@ -103,7 +104,6 @@ import org.afree.chart.plot.XYPlot;
 import org.afree.chart.urls.XYURLGenerator;
 import org.afree.graphics.geom.LineShape;
 import org.afree.graphics.geom.RectShape;
-import org.afree.graphics.PaintUtility;
 
 /**
  * Line/Step item renderer for an {@link XYPlot}.  This class draws lines
@@ -245,7 +245,7 @@ public class XYStepRenderer extends XYLineAndShapeRenderer
             double transY0 = (Double.isNaN(y0) ? Double.NaN
                     : rangeAxis.valueToJava2D(y0, dataArea, yAxisLocation));
 
-            Paint paint = PaintUtility.createPaint(
+            Paint paint = getCachedPaint(
                     Paint.ANTI_ALIAS_FLAG,
                     getItemPaintType(series, item),
                     getItemStroke(series, item),
@@ -39,6 +39,8 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the renderer's paint cache for the item paints
+ *               and labels
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2002-2009, by Object Refinery Limited.
@@ -89,7 +91,6 @@ import org.afree.chart.text.TextUtilities;
 import org.afree.graphics.geom.LineShape;
 import org.afree.graphics.geom.RectShape;
 import org.afree.graphics.geom.Shape;
-import org.afree.graphics.PaintUtility;
 
 
 /**
@@ -235,7 +236,7 @@ public class YIntervalRenderer extends AbstractXYItemRenderer
             bottom = ShapeUtilities.createTranslatedShape(shape, xx, yyLow);
         }
         
-        Paint paint = PaintUtility.createPaint(
+        Paint paint = getCachedPaint(
                 Paint.ANTI_ALIAS_FLAG,
                 getItemPaintType(series, item),
                 getItemStroke(series, item),
@@ -294,7 +295,7 @@ public class YIntervalRenderer extends AbstractXYItemRenderer
         PointF anchorPoint = calculateLabelAnchorPoint(
                 position.getItemLabelAnchor(), x, y, orientation);
         
-        Paint paint = PaintUtility.createPaint(
+        Paint paint = getCachedPaint(
                 Paint.ANTI_ALIAS_FLAG,
                 getItemLabelPaintType(series, item),
                 getItemLabelFont(series, item));
@@ -40,6 +40,7 @@
  * --------------------------
  * 19-Nov-2010 : port JCommon 1.0.16 to Android as "AFreeChart"
  * 17-Dec-2010 : performance tuning
+ * 16-Oct-2026 : Read font metrics through TextUtilities;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2003, 2004, by Object Refinery Limited and Contributors.
@@ -236,7 +237,7 @@ public class TextFragment implements Serializable {
     public float calculateBaselineOffset(final TextAnchor anchor) {
         float result = 0.0f;
         Paint paint = PaintUtility.createPaint(Paint.ANTI_ALIAS_FLAG, paintType, font);
-        final FontMetrics fm = paint.getFontMetrics();
+        final FontMetrics fm = TextUtilities.getFontMetrics(paint);
         if (anchor == TextAnchor.TOP_LEFT || anchor == TextAnchor.TOP_CENTER
                                           || anchor == TextAnchor.TOP_RIGHT) {
             result = Math.abs(fm.ascent);
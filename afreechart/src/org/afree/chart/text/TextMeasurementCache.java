@@ -0,0 +1,366 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -------------------------
+ * TextMeasurementCache.java
+ * -------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.graphics.Paint.FontMetrics;
+
+/**
+ * A cache for the results of measuring text, so that the same string isn't
+ * measured again each time a chart is laid out.  Results are stored against
+ * the string and the paint settings that affect its size (the typeface, the
+ * text size, the text scale and skew and the paint flags), so a new paint
+ * with the same settings finds the same results.  The cache holds at most
+ * a fixed number of entries, and discards the least recently used entry when
+ * it is full.
+ * <P>
+ * The methods of this class are synchronized, so one cache can be shared by
+ * charts that are drawn on different threads.
+ *
+ * @see TextUtilities#getMeasurementCache()
+ */
+public class TextMeasurementCache {
+
+    /** The default maximum number of entries. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    /** The maximum number of entries. */
+    private int maximumSize;
+
+    /** The entries (from the least to the most recently used). */
+    private LinkedHashMap entries;
+
+    /** A key that is reused to look up entries. */
+    private Key lookupKey;
+
+    /** The number of measurements that were found in the cache. */
+    private long hitCount;
+
+    /** The number of measurements that were made by the paint. */
+    private long missCount;
+
+    /**
+     * Creates a new cache with the default maximum size.
+     */
+    public TextMeasurementCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize  the maximum number of entries (zero or more).
+     */
+    public TextMeasurementCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Requires maximumSize >= 0.");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry eldest) {
+                return size() > TextMeasurementCache.this.maximumSize;
+            }
+        };
+        this.lookupKey = new Key();
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return The maximum number of entries.
+     */
+    public synchronized int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of entries, and discards the least recently
+     * used entries if the cache holds more.  A maximum size of zero turns
+     * the cache off.
+     *
+     * @param maximumSize  the maximum number of entries (zero or more).
+     */
+    public synchronized void setMaximumSize(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Requires maximumSize >= 0.");
+        }
+        this.maximumSize = maximumSize;
+        while (this.entries.size() > maximumSize) {
+            this.entries.remove(this.entries.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The number of entries.
+     */
+    public synchronized int getSize() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of measurements that were found in the cache.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of measurements that were not found in the cache,
+     * and so were made by the paint.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Removes all the entries from the cache and resets the hit and miss
+     * counts.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.hitCount = 0;
+        this.missCount = 0;
+    }
+
+    /**
+     * Returns the width of a string, as measured by
+     * <code>Paint.measureText(String)</code>.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param paint  the paint (<code>null</code> not permitted).
+     *
+     * @return The width.
+     */
+    public synchronized float getTextWidth(String text, Paint paint) {
+        Entry entry = getEntry(text, paint);
+        if (entry.width < 0.0f) {
+            this.missCount++;
+            entry.width = paint.measureText(text);
+        }
+        else {
+            this.hitCount++;
+        }
+        return entry.width;
+    }
+
+    /**
+     * Returns the bounds of a string, as measured by
+     * <code>Paint.getTextBounds(String, int, int, Rect)</code>.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param paint  the paint (<code>null</code> not permitted).
+     * @param bounds  the rectangle that the bounds are copied to
+     *     (<code>null</code> not permitted).
+     */
+    public synchronized void getTextBounds(String text, Paint paint,
+            Rect bounds) {
+        Entry entry = getEntry(text, paint);
+        if (entry.bounds == null) {
+            this.missCount++;
+            entry.bounds = new Rect();
+            paint.getTextBounds(text, 0, text.length(), entry.bounds);
+        }
+        else {
+            this.hitCount++;
+        }
+        bounds.set(entry.bounds);
+    }
+
+    /**
+     * Returns the font metrics of a paint.
+     *
+     * @param paint  the paint (<code>null</code> not permitted).
+     *
+     * @return A new font metrics instance (never <code>null</code>), that the
+     *     caller may modify.
+     */
+    public synchronized FontMetrics getFontMetrics(Paint paint) {
+        Entry entry = getEntry(null, paint);
+        if (entry.metrics == null) {
+            this.missCount++;
+            entry.metrics = paint.getFontMetrics();
+        }
+        else {
+            this.hitCount++;
+        }
+        FontMetrics result = new FontMetrics();
+        result.top = entry.metrics.top;
+        result.ascent = entry.metrics.ascent;
+        result.descent = entry.metrics.descent;
+        result.bottom = entry.metrics.bottom;
+        result.leading = entry.metrics.leading;
+        return result;
+    }
+
+    /**
+     * Returns the entry for a string and paint, and adds a new (empty)
+     * entry if there isn't one.
+     *
+     * @param text  the text (<code>null</code> for the font metrics).
+     * @param paint  the paint.
+     *
+     * @return The entry.
+     */
+    private Entry getEntry(String text, Paint paint) {
+        this.lookupKey.set(text, paint);
+        Entry entry = (Entry) this.entries.get(this.lookupKey);
+        if (entry == null) {
+            entry = new Entry();
+            if (this.maximumSize > 0) {
+                Key key = new Key();
+                key.set(text, paint);
+                this.entries.put(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * The string and paint settings that an entry is stored against.
+     */
+    private static class Key {
+
+        /** The text (<code>null</code> for the font metrics). */
+        private String text;
+
+        /** The typeface. */
+        private Typeface typeface;
+
+        /** The text size. */
+        private float textSize;
+
+        /** The horizontal text scale. */
+        private float textScaleX;
+
+        /** The horizontal text skew. */
+        private float textSkewX;
+
+        /** The paint flags. */
+        private int flags;
+
+        /** The hash code. */
+        private int hash;
+
+        /**
+         * Sets the text and paint settings.
+         *
+         * @param text  the text (<code>null</code> permitted).
+         * @param paint  the paint.
+         */
+        void set(String text, Paint paint) {
+            this.text = text;
+            this.typeface = paint.getTypeface();
+            this.textSize = paint.getTextSize();
+            this.textScaleX = paint.getTextScaleX();
+            this.textSkewX = paint.getTextSkewX();
+            this.flags = paint.getFlags();
+            int h = (text != null ? text.hashCode() : 0);
+            h = 31 * h + System.identityHashCode(this.typeface);
+            h = 31 * h + Float.floatToIntBits(this.textSize);
+            h = 31 * h + Float.floatToIntBits(this.textScaleX);
+            h = 31 * h + Float.floatToIntBits(this.textSkewX);
+            this.hash = 31 * h + this.flags;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hash == that.hash
+                    && this.typeface == that.typeface
+                    && this.textSize == that.textSize
+                    && this.textScaleX == that.textScaleX
+                    && this.textSkewX == that.textSkewX
+                    && this.flags == that.flags
+                    && (this.text == null ? that.text == null
+                            : this.text.equals(that.text));
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /**
+     * The measurements for a string and paint settings.
+     */
+    private static class Entry {
+
+        /** The width (negative if not measured yet). */
+        private float width = -1.0f;
+
+        /** The bounds (<code>null</code> if not measured yet). */
+        private Rect bounds;
+
+        /** The font metrics (<code>null</code> if not measured yet). */
+        private FontMetrics metrics;
+
+    }
+
+}
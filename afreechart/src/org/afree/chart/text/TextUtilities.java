@@ -40,6 +40,7 @@
  * --------------------------
  * 19-Nov-2010 : port JCommon 1.0.16 to Android as "AFreeChart"
  * 15-Dec-2010 : performance tuning
+ * 16-Oct-2026 : Measure text through a TextMeasurementCache;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2004, by Object Refinery Limited and Contributors.
@@ -251,10 +252,10 @@ public abstract class TextUtilities {
         Rect bounds = new Rect();
         
         if (!text.equals("")) {
-            paint.getTextBounds(text, 0, text.length(), bounds);
+            MEASUREMENT_CACHE.getTextBounds(text, paint, bounds);
         }
         
-        FontMetrics fontMetrix = paint.getFontMetrics();
+        FontMetrics fontMetrix = MEASUREMENT_CACHE.getFontMetrics(paint);
         
         bounds.bottom = (int)fontMetrix.bottom;
         bounds.top = (int)fontMetrix.top;
@@ -281,7 +282,7 @@ public abstract class TextUtilities {
 //        }
 //        
 //        return bounds.right - bounds.left;
-        return paint.measureText(text);
+        return MEASUREMENT_CACHE.getTextWidth(text, paint);
     }
     
     /**
@@ -293,7 +294,7 @@ public abstract class TextUtilities {
      * @return The text height
      */
     public static float getTextHeight(final Paint paint) {
-        FontMetrics fontMetrix = paint.getFontMetrics();
+        FontMetrics fontMetrix = MEASUREMENT_CACHE.getFontMetrics(paint);
         
         int bottom = (int)fontMetrix.bottom;
         int top = (int)fontMetrix.top;
@@ -301,6 +302,38 @@ public abstract class TextUtilities {
         return bottom - top;
     }
     
+    /**
+     * Returns the font metrics for the specified paint.
+     * 
+     * @param paint
+     *            the paint (not <code>null</code>).
+     * 
+     * @return The font metrics (a new instance that the caller may modify).
+     */
+    public static FontMetrics getFontMetrics(final Paint paint) {
+        return MEASUREMENT_CACHE.getFontMetrics(paint);
+    }
+
+    /**
+     * The cache used by {@link #getTextBounds(String, Paint)},
+     * {@link #getTextWidth(String, Paint)}, {@link #getTextHeight(Paint)} and
+     * {@link #getFontMetrics(Paint)}.
+     */
+    private static final TextMeasurementCache MEASUREMENT_CACHE
+            = new TextMeasurementCache();
+
+    /**
+     * Returns the cache that holds the results of measuring text.  The cache
+     * can be used to read the hit and miss counts, to change its size (a
+     * size of zero turns it off) or to clear it (for example, if the fonts
+     * have changed without a change to the paint settings).
+     * 
+     * @return The cache (never <code>null</code>).
+     */
+    public static TextMeasurementCache getMeasurementCache() {
+        return MEASUREMENT_CACHE;
+    }
+
     /**
      * A flag that controls whether the FontMetrics.getStringBounds() method is
      * used or a workaround is applied.
@@ -425,7 +458,7 @@ public abstract class TextUtilities {
 
         final float[] result = new float[3];
 
-        final FontMetrics fm = paint.getFontMetrics();
+        final FontMetrics fm = getFontMetrics(paint);
         
         //performance tuning
         //final RectShape bounds = TextUtilities.getTextBounds(text, paint);
@@ -578,7 +611,7 @@ public abstract class TextUtilities {
             final String text, final TextAnchor anchor) {
 
         final float[] result = new float[2];
-        final FontMetrics fm = paint.getFontMetrics();
+        final FontMetrics fm = getFontMetrics(paint);
         final RectShape bounds = TextUtilities.getTextBounds(text, paint);
         final float ascent = Math.abs(fm.ascent);
         final float halfAscent = ascent / 2.0f;
@@ -662,7 +695,7 @@ public abstract class TextUtilities {
             final String text, final TextAnchor anchor) {
 
         final float[] result = new float[2];
-        final FontMetrics fm = paint.getFontMetrics();
+        final FontMetrics fm = getFontMetrics(paint);
         final RectShape bounds = TextUtilities.getTextBounds(text, paint);
         final float ascent = fm.ascent;
         final float halfAscent = ascent / 2.0f;
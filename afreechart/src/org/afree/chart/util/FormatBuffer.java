@@ -0,0 +1,174 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -----------------
+ * FormatBuffer.java
+ * -----------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.util;
+
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.util.Date;
+
+/**
+ * A reusable buffer for building labels from text, numbers and dates, with
+ * the same results as formatting each value to a string and joining the
+ * strings.  Dates are formatted straight into the buffer, with a
+ * <code>Date</code> instance that is reused for each value.  Numbers are
+ * formatted with the <code>format(double)</code> and <code>format(long)</code>
+ * methods, since some <code>DecimalFormat</code> implementations only take
+ * their fastest path when they return a string.
+ * <P>
+ * A buffer isn't thread-safe, and nor are the formats it uses.
+ */
+public class FormatBuffer {
+
+    /** The text. */
+    private StringBuffer buffer;
+
+    /** The field position passed to the formats. */
+    private FieldPosition position;
+
+    /** The date passed to the date formats. */
+    private Date date;
+
+    /**
+     * Creates a new, empty, buffer.
+     */
+    public FormatBuffer() {
+        this.buffer = new StringBuffer(32);
+        this.position = new FieldPosition(0);
+        this.date = new Date(0L);
+    }
+
+    /**
+     * Removes all the text from the buffer.
+     */
+    public void clear() {
+        this.buffer.setLength(0);
+    }
+
+    /**
+     * Returns the number of characters in the buffer.
+     *
+     * @return The length.
+     */
+    public int length() {
+        return this.buffer.length();
+    }
+
+    /**
+     * Appends a string.
+     *
+     * @param text  the text (<code>null</code> is appended as "null").
+     */
+    public void append(String text) {
+        this.buffer.append(text);
+    }
+
+    /**
+     * Appends an integer, as <code>String.valueOf(int)</code> would.
+     *
+     * @param value  the value.
+     */
+    public void append(int value) {
+        this.buffer.append(value);
+    }
+
+    /**
+     * Appends a character.
+     *
+     * @param ch  the character.
+     */
+    public void append(char ch) {
+        this.buffer.append(ch);
+    }
+
+    /**
+     * Appends a number formatted with the specified format, with the same
+     * result as <code>format.format(value)</code>.
+     *
+     * @param format  the format (<code>null</code> not permitted).
+     * @param value  the value.
+     */
+    public void appendNumber(NumberFormat format, double value) {
+        this.buffer.append(format.format(value));
+    }
+
+    /**
+     * Appends a number formatted with the specified format, with the same
+     * result as <code>format.format(value)</code>.
+     *
+     * @param format  the format (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> not permitted).
+     */
+    public void appendNumber(NumberFormat format, Number value) {
+        if (value instanceof Double || value instanceof Float) {
+            this.buffer.append(format.format(value.doubleValue()));
+        }
+        else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            this.buffer.append(format.format(value.longValue()));
+        }
+        else {
+            format.format(value, this.buffer, this.position);
+        }
+    }
+
+    /**
+     * Appends a date formatted with the specified format, with the same
+     * result as <code>format.format(new Date(millis))</code>.
+     *
+     * @param format  the format (<code>null</code> not permitted).
+     * @param millis  the date (in milliseconds since 1-Jan-1970).
+     */
+    public void appendDate(DateFormat format, long millis) {
+        this.date.setTime(millis);
+        format.format(this.date, this.buffer, this.position);
+    }
+
+    /**
+     * Returns the text in the buffer.
+     *
+     * @return The text.
+     */
+    public String toString() {
+        return this.buffer.toString();
+    }
+
+}
@@ -0,0 +1,203 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -------------------
+ * MessagePattern.java
+ * -------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.util;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link MessageFormat} pattern that has been split into literal text and
+ * argument references once, so that a label can be built by appending each
+ * part to a buffer, instead of parsing the pattern and filling an argument
+ * array for every label.
+ * <P>
+ * Only patterns made of literal text (with the quoting rules of
+ * <code>MessageFormat</code>) and plain argument references such as
+ * <code>{0}</code> can be compiled, which covers the label formats used in
+ * the standard generators.  Patterns with a format type (for example
+ * <code>{1,number,#.##}</code>) must still be formatted with
+ * <code>MessageFormat</code>.
+ */
+public class MessagePattern {
+
+    /** The literal text for each part (<code>null</code> for arguments). */
+    private final String[] literals;
+
+    /** The argument index for each part (-1 for literal text). */
+    private final int[] arguments;
+
+    /**
+     * Creates a new pattern.
+     *
+     * @param literals  the literal text for each part.
+     * @param arguments  the argument index for each part.
+     */
+    private MessagePattern(String[] literals, int[] arguments) {
+        this.literals = literals;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Compiles a <code>MessageFormat</code> pattern.
+     *
+     * @param pattern  the pattern (<code>null</code> not permitted).
+     *
+     * @return The compiled pattern, or <code>null</code> if the pattern uses
+     *     a feature that isn't supported (in which case it should be
+     *     formatted with <code>MessageFormat</code>).
+     */
+    public static MessagePattern compile(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("Null 'pattern' argument.");
+        }
+        List literals = new ArrayList();
+        List arguments = new ArrayList();
+        StringBuffer text = new StringBuffer();
+        boolean inQuote = false;
+        int i = 0;
+        int n = pattern.length();
+        while (i < n) {
+            char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                if (i + 1 < n && pattern.charAt(i + 1) == '\'') {
+                    text.append('\'');
+                    i += 2;
+                    continue;
+                }
+                inQuote = !inQuote;
+                i++;
+            }
+            else if (inQuote || ch != '{') {
+                text.append(ch);
+                i++;
+            }
+            else {
+                // an argument reference, which must be digits only
+                int end = pattern.indexOf('}', i);
+                if (end < 0 || end == i + 1 || end - i - 1 > 9) {
+                    return null;
+                }
+                int index = 0;
+                for (int j = i + 1; j < end; j++) {
+                    char d = pattern.charAt(j);
+                    if (d < '0' || d > '9') {
+                        return null;
+                    }
+                    index = index * 10 + (d - '0');
+                }
+                if (text.length() > 0) {
+                    literals.add(text.toString());
+                    arguments.add(new Integer(-1));
+                    text.setLength(0);
+                }
+                literals.add(null);
+                arguments.add(new Integer(index));
+                i = end + 1;
+            }
+        }
+        if (inQuote) {
+            return null;
+        }
+        if (text.length() > 0) {
+            literals.add(text.toString());
+            arguments.add(new Integer(-1));
+        }
+        int count = literals.size();
+        String[] l = new String[count];
+        int[] a = new int[count];
+        for (int k = 0; k < count; k++) {
+            l[k] = (String) literals.get(k);
+            a[k] = ((Integer) arguments.get(k)).intValue();
+        }
+        return new MessagePattern(l, a);
+    }
+
+    /**
+     * Returns the number of parts (pieces of literal text and argument
+     * references) in the pattern.
+     *
+     * @return The part count.
+     */
+    public int getPartCount() {
+        return this.literals.length;
+    }
+
+    /**
+     * Returns the argument index for a part.
+     *
+     * @param part  the part index (zero-based).
+     *
+     * @return The argument index, or -1 if the part is literal text.
+     */
+    public int getArgumentIndex(int part) {
+        return this.arguments[part];
+    }
+
+    /**
+     * Returns the literal text for a part.
+     *
+     * @param part  the part index (zero-based).
+     *
+     * @return The text (<code>null</code> if the part is an argument
+     *     reference).
+     */
+    public String getLiteral(int part) {
+        return this.literals[part];
+    }
+
+    /**
+     * Returns <code>true</code> if the pattern refers to an argument.
+     *
+     * @param index  the argument index.
+     *
+     * @return A boolean.
+     */
+    public boolean usesArgument(int index) {
+        for (int i = 0; i < this.arguments.length; i++) {
+            if (this.arguments[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
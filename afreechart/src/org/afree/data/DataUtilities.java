@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Use the cached totals of a Values2DTotalInfo table
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2003-2009, by Object Refinery Limited and contributors.
@@ -139,6 +140,9 @@ public abstract class DataUtilities {
         if (data == null) {
             throw new IllegalArgumentException("Null 'data' argument.");
         }
+        if (data instanceof Values2DTotalInfo) {
+            return ((Values2DTotalInfo) data).getColumnTotal(column);
+        }
         double total = 0.0;
         int rowCount = data.getRowCount();
         for (int r = 0; r < rowCount; r++) {
@@ -194,6 +198,9 @@ public abstract class DataUtilities {
         if (data == null) {
             throw new IllegalArgumentException("Null 'data' argument.");
         }
+        if (data instanceof Values2DTotalInfo) {
+            return ((Values2DTotalInfo) data).getRowTotal(row);
+        }
         double total = 0.0;
         int columnCount = data.getColumnCount();
         for (int c = 0; c < columnCount; c++) {
@@ -39,6 +39,8 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Look up the row and column indices with hash maps;
+ * 16-Oct-2026 : Rebuild the row index on lookup, not on each insert;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2002-2008, by Object Refinery Limited.
@@ -73,6 +75,7 @@ package org.afree.data;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -95,6 +98,16 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
     /** The column keys. */
     private List columnKeys;
 
+    /**
+     * Maps each row key to its index.  The map holds every row key, but after
+     * a row is inserted or removed the indices of the rows that follow it are
+     * out of date until the map is rebuilt by {@link #getRowIndex(Comparable)}.
+     */
+    private HashMap rowIndexMap;
+
+    /** Maps each column key to its index. */
+    private HashMap columnIndexMap;
+
     /** The row data. */
     private List rows;
 
@@ -117,6 +130,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
     public DefaultKeyedValues2D(boolean sortRowKeys) {
         this.rowKeys = new java.util.ArrayList();
         this.columnKeys = new java.util.ArrayList();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
         this.rows = new java.util.ArrayList();
         this.sortRowKeys = sortRowKeys;
     }
@@ -200,10 +215,22 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
+        Integer index = (Integer) this.rowIndexMap.get(key);
+        if (index != null) {
+            int result = index.intValue();
+            if (result >= this.rowKeys.size()
+                    || !this.rowKeys.get(result).equals(key)) {
+                // a row has been inserted or removed before this one
+                rebuildRowIndex();
+                result = ((Integer) this.rowIndexMap.get(key)).intValue();
+            }
+            return result;
+        }
         if (this.sortRowKeys) {
+            // return the (negative) insertion point
             return Collections.binarySearch(this.rowKeys, key);
         } else {
-            return this.rowKeys.indexOf(key);
+            return -1;
         }
     }
 
@@ -248,7 +275,11 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
-        return this.columnKeys.indexOf(key);
+        Integer index = (Integer) this.columnIndexMap.get(key);
+        if (index == null) {
+            return -1;
+        }
+        return index.intValue();
     }
 
     /**
@@ -286,7 +317,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
         }
 
         // check that the column key is defined in the 2D structure
-        if (!(this.columnKeys.contains(columnKey))) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             throw new UnknownKeyException("Unrecognised columnKey: "
                     + columnKey);
         }
@@ -346,19 +377,22 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
             row = (DefaultKeyedValues) this.rows.get(rowIndex);
         } else {
             row = new DefaultKeyedValues();
-            if (this.sortRowKeys) {
+            if (this.sortRowKeys && -rowIndex - 1 < this.rowKeys.size()) {
                 rowIndex = -rowIndex - 1;
                 this.rowKeys.add(rowIndex, rowKey);
                 this.rows.add(rowIndex, row);
+                this.rowIndexMap.put(rowKey, new Integer(rowIndex));
             } else {
+                this.rowIndexMap.put(rowKey, new Integer(this.rowKeys.size()));
                 this.rowKeys.add(rowKey);
                 this.rows.add(row);
             }
         }
         row.setValue(columnKey, value);
 
-        int columnIndex = this.columnKeys.indexOf(columnKey);
-        if (columnIndex < 0) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
+            this.columnIndexMap.put(columnKey,
+                    new Integer(this.columnKeys.size()));
             this.columnKeys.add(columnKey);
         }
     }
@@ -391,8 +425,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
         }
 
         if (allNull) {
-            this.rowKeys.remove(rowIndex);
-            this.rows.remove(rowIndex);
+            removeRow(rowIndex);
         }
 
         // 2. check whether the column is now empty.
@@ -417,6 +450,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
                 }
             }
             this.columnKeys.remove(columnKey);
+            rebuildColumnIndex();
         }
     }
 
@@ -430,7 +464,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
      * @see #removeColumn(int)
      */
     public void removeRow(int rowIndex) {
-        this.rowKeys.remove(rowIndex);
+        this.rowIndexMap.remove(this.rowKeys.remove(rowIndex));
         this.rows.remove(rowIndex);
     }
 
@@ -491,7 +525,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
         if (columnKey == null) {
             throw new IllegalArgumentException("Null 'columnKey' argument.");
         }
-        if (!this.columnKeys.contains(columnKey)) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             throw new UnknownKeyException("Unknown key: " + columnKey);
         }
         Iterator iterator = this.rows.iterator();
@@ -503,6 +537,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
             }
         }
         this.columnKeys.remove(columnKey);
+        rebuildColumnIndex();
     }
 
     /**
@@ -511,9 +546,33 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
     public void clear() {
         this.rowKeys.clear();
         this.columnKeys.clear();
+        this.rowIndexMap.clear();
+        this.columnIndexMap.clear();
         this.rows.clear();
     }
 
+    /**
+     * Rebuilds the map from row keys to row indices (called when a lookup
+     * finds an index that is out of date).
+     */
+    private void rebuildRowIndex() {
+        this.rowIndexMap.clear();
+        for (int i = 0; i < this.rowKeys.size(); i++) {
+            this.rowIndexMap.put(this.rowKeys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Rebuilds the map from column keys to column indices (called when a
+     * column is removed).
+     */
+    private void rebuildColumnIndex() {
+        this.columnIndexMap.clear();
+        for (int i = 0; i < this.columnKeys.size(); i++) {
+            this.columnIndexMap.put(this.columnKeys.get(i), new Integer(i));
+        }
+    }
+
     /**
      * Tests if this object is equal to another.
      *
@@ -585,6 +644,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, Cloneable,
         // should be immutable...
         clone.columnKeys = new java.util.ArrayList(this.columnKeys);
         clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+        clone.rowIndexMap = (HashMap) this.rowIndexMap.clone();
+        clone.columnIndexMap = (HashMap) this.columnIndexMap.clone();
 
         // but the row data requires a deep copy
         clone.rows = (List) ObjectUtilities.deepClone(this.rows);
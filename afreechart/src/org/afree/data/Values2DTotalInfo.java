@@ -0,0 +1,73 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ----------------------
+ * Values2DTotalInfo.java
+ * ----------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.data;
+
+/**
+ * An interface that can (optionally) be implemented by a table of values
+ * that keeps its row and column totals, so that
+ * {@link DataUtilities#calculateRowTotal(Values2D, int)} and
+ * {@link DataUtilities#calculateColumnTotal(Values2D, int)} don't have to
+ * read every value in the row or column.  The totals must be the same as
+ * those calculated from the values, ignoring <code>null</code> values.
+ */
+public interface Values2DTotalInfo extends Values2D {
+
+    /**
+     * Returns the total of the values in one row.
+     * 
+     * @param row
+     *            the row index (zero-based).
+     * 
+     * @return The row total.
+     */
+    public double getRowTotal(int row);
+
+    /**
+     * Returns the total of the values in one column.
+     * 
+     * @param column
+     *            the column index (zero-based).
+     * 
+     * @return The column total.
+     */
+    public double getColumnTotal(int column);
+
+}
@@ -0,0 +1,1056 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * --------------------------
+ * DoubleCategoryDataset.java
+ * --------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Implemented Values2DTotalInfo, and hash the keys and values
+ *               in hashCode();
+ */
+
+package org.afree.data.category;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+import org.afree.data.Range;
+import org.afree.data.RangeInfo;
+import org.afree.data.UnknownKeyException;
+import org.afree.data.Values2DTotalInfo;
+import org.afree.data.general.AbstractDataset;
+import org.afree.data.general.DatasetChangeEvent;
+import org.afree.util.PublicCloneable;
+
+/**
+ * A {@link CategoryDataset} that stores its values in a single dense
+ * <code>double[]</code> matrix, using <code>Double.NaN</code> to mark a
+ * missing value.  Compared with {@link DefaultCategoryDataset} there is no
+ * <code>Number</code> object per cell and no per-row key lookup, which makes
+ * a big difference for datasets with thousands of categories.
+ * <p>
+ * The row totals, column totals and the minimum and maximum value of each
+ * row are calculated in a single pass the first time one of them is needed
+ * after a change, and reused until the next change.  The dataset implements
+ * {@link RangeInfo} and {@link CategoryRangeInfo}, so the plot can find the
+ * axis range without iterating over the values, and {@link Values2DTotalInfo},
+ * so that {@link org.afree.data.DataUtilities} can use the cached totals.
+ */
+public class DoubleCategoryDataset extends AbstractDataset implements
+        CategoryDataset, Values2DTotalInfo, RangeInfo, CategoryRangeInfo,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2719410361047231530L;
+
+    /** The row keys. */
+    private List rowKeys;
+
+    /** The column keys. */
+    private List columnKeys;
+
+    /** Maps each row key to an <code>Integer</code> row index. */
+    private HashMap rowIndexMap;
+
+    /** Maps each column key to an <code>Integer</code> column index. */
+    private HashMap columnIndexMap;
+
+    /**
+     * The values, stored row by row.  The value for (row, column) is at
+     * <code>row * columnCapacity + column</code>.
+     */
+    private double[] values;
+
+    /** The number of slots reserved for each row in the values array. */
+    private int columnCapacity;
+
+    /** A flag that indicates whether the cached statistics are valid. */
+    private transient boolean statisticsValid;
+
+    /** The total of each row. */
+    private transient double[] rowTotals;
+
+    /** The total of each column. */
+    private transient double[] columnTotals;
+
+    /** The smallest value in each row (NaN if the row has no values). */
+    private transient double[] rowMinimums;
+
+    /** The largest value in each row (NaN if the row has no values). */
+    private transient double[] rowMaximums;
+
+    /** The range of all the values (<code>null</code> if there are none). */
+    private transient Range range;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public DoubleCategoryDataset() {
+        this.rowKeys = new ArrayList();
+        this.columnKeys = new ArrayList();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
+        this.values = new double[0];
+        this.columnCapacity = 0;
+    }
+
+    /**
+     * Creates a new dataset with the specified row and column keys and no
+     * values.
+     *
+     * @param rowKeys
+     *            the row keys (<code>null</code> not permitted).
+     * @param columnKeys
+     *            the column keys (<code>null</code> not permitted).
+     */
+    public DoubleCategoryDataset(Comparable[] rowKeys,
+            Comparable[] columnKeys) {
+        this();
+        if (rowKeys == null) {
+            throw new IllegalArgumentException("Null 'rowKeys' argument.");
+        }
+        if (columnKeys == null) {
+            throw new IllegalArgumentException("Null 'columnKeys' argument.");
+        }
+        for (int c = 0; c < columnKeys.length; c++) {
+            addColumnKey(columnKeys[c]);
+        }
+        for (int r = 0; r < rowKeys.length; r++) {
+            addRowKey(rowKeys[r]);
+        }
+    }
+
+    /**
+     * Creates a new dataset with the specified keys and values.
+     *
+     * @param rowKeys
+     *            the row keys (<code>null</code> not permitted).
+     * @param columnKeys
+     *            the column keys (<code>null</code> not permitted).
+     * @param data
+     *            the values, indexed by [row][column] (<code>null</code> not
+     *            permitted, use <code>Double.NaN</code> for missing values).
+     */
+    public DoubleCategoryDataset(Comparable[] rowKeys,
+            Comparable[] columnKeys, double[][] data) {
+        this(rowKeys, columnKeys);
+        copyValues(data);
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     *
+     * @see #getColumnCount()
+     */
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     *
+     * @see #getRowCount()
+     */
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row
+     *            the row index (zero-based).
+     * @param column
+     *            the column index (zero-based).
+     *
+     * @return The value (<code>null</code> if the value is missing).
+     *
+     * @see #getDoubleValue(int, int)
+     */
+    public Number getValue(int row, int column) {
+        double value = getDoubleValue(row, column);
+        if (Double.isNaN(value)) {
+            return null;
+        }
+        return new Double(value);
+    }
+
+    /**
+     * Returns a value from the table as a primitive.
+     *
+     * @param row
+     *            the row index (zero-based).
+     * @param column
+     *            the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> if the value is missing).
+     *
+     * @see #getValue(int, int)
+     */
+    public double getDoubleValue(int row, int column) {
+        checkIndices(row, column);
+        return this.values[row * this.columnCapacity + column];
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row
+     *            the row index (zero-based).
+     *
+     * @return The row key.
+     *
+     * @see #getRowIndex(Comparable)
+     */
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key
+     *            the row key (<code>null</code> not permitted).
+     *
+     * @return The row index, or <code>-1</code> if the key is not defined.
+     *
+     * @see #getRowKey(int)
+     */
+    public int getRowIndex(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Integer index = (Integer) this.rowIndexMap.get(key);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Returns the row keys in an unmodifiable list.
+     *
+     * @return The row keys.
+     */
+    public List getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns the key for the specified column.
+     *
+     * @param column
+     *            the column index (zero-based).
+     *
+     * @return The column key.
+     *
+     * @see #getColumnIndex(Comparable)
+     */
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key
+     *            the column key (<code>null</code> not permitted).
+     *
+     * @return The column index, or <code>-1</code> if the key is not
+     *         defined.
+     *
+     * @see #getColumnKey(int)
+     */
+    public int getColumnIndex(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Integer index = (Integer) this.columnIndexMap.get(key);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Returns the column keys in an unmodifiable list.
+     *
+     * @return The column keys.
+     */
+    public List getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted).
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException
+     *             if either key is not defined in the dataset.
+     */
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        return getValue(findRowIndex(rowKey), findColumnIndex(columnKey));
+    }
+
+    /**
+     * Adds a value to the table. Performs the same function as setValue().
+     *
+     * @param value
+     *            the value (<code>null</code> permitted).
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted).
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted).
+     */
+    public void addValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds a value to the table. Performs the same function as setValue().
+     *
+     * @param value
+     *            the value.
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted).
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted).
+     */
+    public void addValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value
+     *            the value (<code>null</code> permitted, and stored as
+     *            <code>Double.NaN</code>).
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted).
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted).
+     */
+    public void setValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+                columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  New keys are
+     * appended to the row and column keys.
+     *
+     * @param value
+     *            the value (<code>Double.NaN</code> for a missing value).
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted).
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted).
+     */
+    public void setValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            row = addRowKey(rowKey);
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            column = addColumnKey(columnKey);
+        }
+        this.values[row * this.columnCapacity + column] = value;
+        this.statisticsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Updates a value in the table and sends a {@link DatasetChangeEvent} to
+     * all registered listeners.
+     *
+     * @param value
+     *            the value (<code>Double.NaN</code> for a missing value).
+     * @param row
+     *            the row index (zero-based).
+     * @param column
+     *            the column index (zero-based).
+     */
+    public void setValue(double value, int row, int column) {
+        checkIndices(row, column);
+        this.values[row * this.columnCapacity + column] = value;
+        this.statisticsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Replaces all the values in the table and sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param data
+     *            the values, indexed by [row][column] (<code>null</code> not
+     *            permitted, use <code>Double.NaN</code> for missing values).
+     *            The array dimensions must match the row and column counts.
+     */
+    public void setValues(double[][] data) {
+        copyValues(data);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds the specified value to an existing value in the dataset (if the
+     * existing value is missing, it is treated as if it were 0.0).
+     *
+     * @param value
+     *            the value.
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted).
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException
+     *             if either key is not defined in the dataset.
+     */
+    public void incrementValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        int row = findRowIndex(rowKey);
+        int column = findColumnIndex(columnKey);
+        int index = row * this.columnCapacity + column;
+        double existing = this.values[index];
+        this.values[index] = (Double.isNaN(existing) ? value
+                : existing + value);
+        this.statisticsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a value from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.  If this leaves the row or column without
+     * any values, it is removed too.
+     *
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted).
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException
+     *             if either key is not defined in the dataset.
+     */
+    public void removeValue(Comparable rowKey, Comparable columnKey) {
+        int row = findRowIndex(rowKey);
+        int column = findColumnIndex(columnKey);
+        this.values[row * this.columnCapacity + column] = Double.NaN;
+
+        boolean rowEmpty = true;
+        int columnCount = this.columnKeys.size();
+        int offset = row * this.columnCapacity;
+        for (int c = 0; c < columnCount; c++) {
+            if (!Double.isNaN(this.values[offset + c])) {
+                rowEmpty = false;
+                break;
+            }
+        }
+        if (rowEmpty) {
+            deleteRow(row);
+        }
+
+        boolean columnEmpty = true;
+        int rowCount = this.rowKeys.size();
+        for (int r = 0; r < rowCount; r++) {
+            if (!Double.isNaN(this.values[r * this.columnCapacity + column])) {
+                columnEmpty = false;
+                break;
+            }
+        }
+        if (columnEmpty) {
+            deleteColumn(column);
+        }
+        this.statisticsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent} to
+     * all registered listeners.
+     *
+     * @param rowIndex
+     *            the row index.
+     *
+     * @see #removeColumn(int)
+     */
+    public void removeRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + rowIndex);
+        }
+        deleteRow(rowIndex);
+        this.statisticsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent} to
+     * all registered listeners.
+     *
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException
+     *             if <code>rowKey</code> is not defined in the dataset.
+     */
+    public void removeRow(Comparable rowKey) {
+        removeRow(findRowIndex(rowKey));
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnIndex
+     *            the column index.
+     *
+     * @see #removeRow(int)
+     */
+    public void removeColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + columnIndex);
+        }
+        deleteColumn(columnIndex);
+        this.statisticsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException
+     *             if <code>columnKey</code> is not defined in the dataset.
+     */
+    public void removeColumn(Comparable columnKey) {
+        removeColumn(findColumnIndex(columnKey));
+    }
+
+    /**
+     * Clears all data from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.columnKeys.clear();
+        this.rowIndexMap.clear();
+        this.columnIndexMap.clear();
+        this.values = new double[0];
+        this.columnCapacity = 0;
+        this.statisticsValid = false;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the total of the values in one row, ignoring missing values.
+     *
+     * @param row
+     *            the row index (zero-based).
+     *
+     * @return The row total.
+     */
+    public double getRowTotal(int row) {
+        if (row < 0 || row >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        updateStatistics();
+        return this.rowTotals[row];
+    }
+
+    /**
+     * Returns the total of the values in one column, ignoring missing values.
+     *
+     * @param column
+     *            the column index (zero-based).
+     *
+     * @return The column total.
+     */
+    public double getColumnTotal(int column) {
+        if (column < 0 || column >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + column);
+        }
+        updateStatistics();
+        return this.columnTotals[column];
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval
+     *            ignored, this dataset has no y-intervals.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *         values).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval
+     *            ignored, this dataset has no y-intervals.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *         values).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in this dataset.
+     *
+     * @param includeInterval
+     *            ignored, this dataset has no y-intervals.
+     *
+     * @return The range (<code>null</code> if the dataset contains no
+     *         values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        updateStatistics();
+        return this.range;
+    }
+
+    /**
+     * Returns the range of the values in the specified rows.
+     *
+     * @param visibleSeriesKeys
+     *            the keys of the visible rows (<code>null</code> not
+     *            permitted).
+     * @param includeInterval
+     *            ignored, this dataset has no y-intervals.
+     *
+     * @return The range (<code>null</code> if the rows contain no values).
+     */
+    public Range getRangeBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        if (visibleSeriesKeys == null) {
+            throw new IllegalArgumentException(
+                    "Null 'visibleSeriesKeys' argument.");
+        }
+        updateStatistics();
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            int row = findRowIndex((Comparable) iterator.next());
+            if (!Double.isNaN(this.rowMinimums[row])) {
+                minimum = Math.min(minimum, this.rowMinimums[row]);
+                maximum = Math.max(maximum, this.rowMaximums[row]);
+            }
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj
+     *            the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryDataset)) {
+            return false;
+        }
+        CategoryDataset that = (CategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                Number v1 = getValue(r, c);
+                Number v2 = that.getValue(r, c);
+                if (v1 == null) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                } else if (!v1.equals(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            int base = r * this.columnCapacity;
+            for (int c = 0; c < colCount; c++) {
+                double value = this.values[base + c];
+                // hash a value in the same way as the Double returned by
+                // getValue(), and a missing value as zero
+                if (!Double.isNaN(value)) {
+                    long bits = Double.doubleToLongBits(value);
+                    result = 29 * result + (int) (bits ^ (bits >>> 32));
+                }
+                else {
+                    result = 29 * result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException
+     *             if there is a problem cloning the dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DoubleCategoryDataset clone = (DoubleCategoryDataset) super.clone();
+        clone.rowKeys = new ArrayList(this.rowKeys);
+        clone.columnKeys = new ArrayList(this.columnKeys);
+        clone.rowIndexMap = (HashMap) this.rowIndexMap.clone();
+        clone.columnIndexMap = (HashMap) this.columnIndexMap.clone();
+        clone.values = (double[]) this.values.clone();
+        clone.statisticsValid = false;
+        return clone;
+    }
+
+    /**
+     * Returns the index of a row key.
+     *
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted).
+     *
+     * @return The row index.
+     *
+     * @throws UnknownKeyException
+     *             if the key is not defined in the dataset.
+     */
+    private int findRowIndex(Comparable rowKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        return row;
+    }
+
+    /**
+     * Returns the index of a column key.
+     *
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted).
+     *
+     * @return The column index.
+     *
+     * @throws UnknownKeyException
+     *             if the key is not defined in the dataset.
+     */
+    private int findColumnIndex(Comparable columnKey) {
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        return column;
+    }
+
+    /**
+     * Checks that a cell lies inside the table.
+     *
+     * @param row
+     *            the row index.
+     * @param column
+     *            the column index.
+     */
+    private void checkIndices(int row, int column) {
+        if (row < 0 || row >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        if (column < 0 || column >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + column);
+        }
+    }
+
+    /**
+     * Appends a row with no values to the table.
+     *
+     * @param rowKey
+     *            the row key (<code>null</code> not permitted, and not yet
+     *            defined in the dataset).
+     *
+     * @return The index of the new row.
+     */
+    private int addRowKey(Comparable rowKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (this.rowIndexMap.containsKey(rowKey)) {
+            throw new IllegalArgumentException("Duplicate rowKey: " + rowKey);
+        }
+        int row = this.rowKeys.size();
+        int required = (row + 1) * this.columnCapacity;
+        if (required > this.values.length) {
+            double[] grown = new double[Math.max(required,
+                    this.values.length * 2)];
+            System.arraycopy(this.values, 0, grown, 0, this.values.length);
+            this.values = grown;
+        }
+        Arrays.fill(this.values, row * this.columnCapacity,
+                required, Double.NaN);
+        this.rowKeys.add(rowKey);
+        this.rowIndexMap.put(rowKey, new Integer(row));
+        return row;
+    }
+
+    /**
+     * Appends a column with no values to the table.  When a row has no
+     * spare slot left, the table is copied once with twice the column
+     * capacity.
+     *
+     * @param columnKey
+     *            the column key (<code>null</code> not permitted, and not yet
+     *            defined in the dataset).
+     *
+     * @return The index of the new column.
+     */
+    private int addColumnKey(Comparable columnKey) {
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        if (this.columnIndexMap.containsKey(columnKey)) {
+            throw new IllegalArgumentException("Duplicate columnKey: "
+                    + columnKey);
+        }
+        int column = this.columnKeys.size();
+        int rowCount = this.rowKeys.size();
+        if (column == this.columnCapacity) {
+            int capacity = Math.max(4, this.columnCapacity * 2);
+            double[] grown = new double[Math.max(rowCount * capacity,
+                    this.values.length)];
+            for (int r = 0; r < rowCount; r++) {
+                System.arraycopy(this.values, r * this.columnCapacity, grown,
+                        r * capacity, column);
+            }
+            this.values = grown;
+            this.columnCapacity = capacity;
+        }
+        for (int r = 0; r < rowCount; r++) {
+            this.values[r * this.columnCapacity + column] = Double.NaN;
+        }
+        this.columnKeys.add(columnKey);
+        this.columnIndexMap.put(columnKey, new Integer(column));
+        return column;
+    }
+
+    /**
+     * Removes a row from the table without sending an event.
+     *
+     * @param row
+     *            the row index.
+     */
+    private void deleteRow(int row) {
+        int rowCount = this.rowKeys.size();
+        System.arraycopy(this.values, (row + 1) * this.columnCapacity,
+                this.values, row * this.columnCapacity,
+                (rowCount - row - 1) * this.columnCapacity);
+        this.rowKeys.remove(row);
+        rebuildIndex(this.rowKeys, this.rowIndexMap);
+    }
+
+    /**
+     * Removes a column from the table without sending an event.
+     *
+     * @param column
+     *            the column index.
+     */
+    private void deleteColumn(int column) {
+        int rowCount = this.rowKeys.size();
+        int tail = this.columnKeys.size() - column - 1;
+        for (int r = 0; r < rowCount; r++) {
+            int offset = r * this.columnCapacity + column;
+            System.arraycopy(this.values, offset + 1, this.values, offset,
+                    tail);
+        }
+        this.columnKeys.remove(column);
+        rebuildIndex(this.columnKeys, this.columnIndexMap);
+    }
+
+    /**
+     * Rebuilds a key-to-index map after keys have been removed.
+     *
+     * @param keys
+     *            the keys.
+     * @param map
+     *            the map to rebuild.
+     */
+    private static void rebuildIndex(List keys, HashMap map) {
+        map.clear();
+        for (int i = 0, n = keys.size(); i < n; i++) {
+            map.put(keys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Copies a full matrix of values into the table, without sending an
+     * event.
+     *
+     * @param data
+     *            the values, indexed by [row][column].
+     */
+    private void copyValues(double[][] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        int rowCount = this.rowKeys.size();
+        int columnCount = this.columnKeys.size();
+        if (data.length != rowCount) {
+            throw new IllegalArgumentException(
+                    "The 'data' array must have one entry per row.");
+        }
+        for (int r = 0; r < rowCount; r++) {
+            if (data[r] == null || data[r].length != columnCount) {
+                throw new IllegalArgumentException(
+                        "Each row of 'data' must have one value per column.");
+            }
+        }
+        for (int r = 0; r < rowCount; r++) {
+            System.arraycopy(data[r], 0, this.values,
+                    r * this.columnCapacity, columnCount);
+        }
+        this.statisticsValid = false;
+    }
+
+    /**
+     * Recalculates the row and column totals, the row minimums and maximums
+     * and the overall range, if the table has changed since they were last
+     * calculated.
+     */
+    private void updateStatistics() {
+        if (this.statisticsValid) {
+            return;
+        }
+        int rowCount = this.rowKeys.size();
+        int columnCount = this.columnKeys.size();
+        double[] rTotals = new double[rowCount];
+        double[] cTotals = new double[columnCount];
+        double[] rMinimums = new double[rowCount];
+        double[] rMaximums = new double[rowCount];
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int r = 0; r < rowCount; r++) {
+            int offset = r * this.columnCapacity;
+            double total = 0.0;
+            double rMin = Double.POSITIVE_INFINITY;
+            double rMax = Double.NEGATIVE_INFINITY;
+            for (int c = 0; c < columnCount; c++) {
+                double v = this.values[offset + c];
+                if (!Double.isNaN(v)) {
+                    total += v;
+                    cTotals[c] += v;
+                    if (v < rMin) {
+                        rMin = v;
+                    }
+                    if (v > rMax) {
+                        rMax = v;
+                    }
+                }
+            }
+            rTotals[r] = total;
+            if (rMin == Double.POSITIVE_INFINITY
+                    && rMax == Double.NEGATIVE_INFINITY) {
+                rMinimums[r] = Double.NaN;
+                rMaximums[r] = Double.NaN;
+            } else {
+                rMinimums[r] = rMin;
+                rMaximums[r] = rMax;
+                minimum = Math.min(minimum, rMin);
+                maximum = Math.max(maximum, rMax);
+            }
+        }
+        this.rowTotals = rTotals;
+        this.columnTotals = cTotals;
+        this.rowMinimums = rMinimums;
+        this.rowMaximums = rMaximums;
+        this.range = (minimum == Double.POSITIVE_INFINITY
+                && maximum == Double.NEGATIVE_INFINITY) ? null : new Range(
+                minimum, maximum);
+        this.statisticsValid = true;
+    }
+
+}
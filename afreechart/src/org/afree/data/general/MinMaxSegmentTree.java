@@ -0,0 +1,516 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ----------------------
+ * MinMaxSegmentTree.java
+ * ----------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Track the number of values per node, so that infinite
+ *               values are reported as bounds;
+ */
+
+package org.afree.data.general;
+
+import java.io.Serializable;
+
+/**
+ * A sequence of double values that keeps track of the minimum and maximum
+ * value, for the whole sequence or for any sub-range of it, using a segment
+ * tree.
+ * <p>
+ * Reading the overall bounds is a constant time operation and range queries,
+ * updates, appends and removals at the front or back of the sequence are
+ * O(log n).  Insertions and removals elsewhere are proportional to the
+ * number of values that move.  Double.NaN values are ignored when the bounds
+ * are calculated, and infinite values are treated like any other value.
+ */
+public class MinMaxSegmentTree implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4781123398705936245L;
+
+    /** The minimum number of leaves (must be a power of two). */
+    private static final int MINIMUM_CAPACITY = 16;
+
+    /** The number of leaves in the tree (always a power of two). */
+    private int capacity;
+
+    /** The leaf values (Double.NaN for missing values and empty slots). */
+    private double[] values;
+
+    /** The minimum value for each internal node (index 0 is unused). */
+    private double[] mins;
+
+    /** The maximum value for each internal node (index 0 is unused). */
+    private double[] maxs;
+
+    /**
+     * The number of values other than Double.NaN below each internal node
+     * (index 0 is unused).  The minimum and maximum of a node are only
+     * meaningful when this is not zero.
+     */
+    private int[] counts;
+
+    /** The leaf slot holding the first value in the sequence. */
+    private int base;
+
+    /** The number of values in the sequence. */
+    private int size;
+
+    /**
+     * Creates a new empty tree.
+     */
+    public MinMaxSegmentTree() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty tree with room for the specified number of values.
+     *
+     * @param initialCapacity  the initial capacity.
+     */
+    public MinMaxSegmentTree(int initialCapacity) {
+        allocate(capacityFor(initialCapacity));
+    }
+
+    /**
+     * Returns the number of values in the sequence.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The value.
+     */
+    public double get(int index) {
+        checkIndex(index, this.size);
+        return this.values[this.base + index];
+    }
+
+    /**
+     * Returns the smallest value in the sequence, ignoring Double.NaN values,
+     * or Double.NaN if there is no such value.
+     *
+     * @return The minimum value.
+     */
+    public double getMinimum() {
+        return nodeCount(1) > 0 ? nodeMin(1) : Double.NaN;
+    }
+
+    /**
+     * Returns the largest value in the sequence, ignoring Double.NaN values,
+     * or Double.NaN if there is no such value.
+     *
+     * @return The maximum value.
+     */
+    public double getMaximum() {
+        return nodeCount(1) > 0 ? nodeMax(1) : Double.NaN;
+    }
+
+    /**
+     * Returns the smallest value with an index from <code>from</code>
+     * (inclusive) to <code>to</code> (exclusive), ignoring Double.NaN values,
+     * or Double.NaN if there is no such value.
+     *
+     * @param from  the index of the first value.
+     * @param to  the index after the last value.
+     *
+     * @return The minimum value.
+     */
+    public double getMinimum(int from, int to) {
+        checkRange(from, to);
+        double result = Double.POSITIVE_INFINITY;
+        int count = 0;
+        int lo = this.base + from + this.capacity;
+        int hi = this.base + to - 1 + this.capacity;
+        while (lo <= hi) {
+            if ((lo & 1) == 1) {
+                count += nodeCount(lo);
+                result = Math.min(result, nodeMin(lo++));
+            }
+            if ((hi & 1) == 0) {
+                count += nodeCount(hi);
+                result = Math.min(result, nodeMin(hi--));
+            }
+            lo >>= 1;
+            hi >>= 1;
+        }
+        return count > 0 ? result : Double.NaN;
+    }
+
+    /**
+     * Returns the largest value with an index from <code>from</code>
+     * (inclusive) to <code>to</code> (exclusive), ignoring Double.NaN values,
+     * or Double.NaN if there is no such value.
+     *
+     * @param from  the index of the first value.
+     * @param to  the index after the last value.
+     *
+     * @return The maximum value.
+     */
+    public double getMaximum(int from, int to) {
+        checkRange(from, to);
+        double result = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        int lo = this.base + from + this.capacity;
+        int hi = this.base + to - 1 + this.capacity;
+        while (lo <= hi) {
+            if ((lo & 1) == 1) {
+                count += nodeCount(lo);
+                result = Math.max(result, nodeMax(lo++));
+            }
+            if ((hi & 1) == 0) {
+                count += nodeCount(hi);
+                result = Math.max(result, nodeMax(hi--));
+            }
+            lo >>= 1;
+            hi >>= 1;
+        }
+        return count > 0 ? result : Double.NaN;
+    }
+
+    /**
+     * Appends a value to the end of the sequence.
+     *
+     * @param value  the value (Double.NaN permitted).
+     */
+    public void add(double value) {
+        if (this.base + this.size == this.capacity) {
+            relayout(this.size + 1, false);
+        }
+        int slot = this.base + this.size;
+        this.values[slot] = value;
+        this.size++;
+        refresh(slot, slot);
+    }
+
+    /**
+     * Appends a run of values to the end of the sequence.  The internal nodes
+     * are updated once for the whole run.
+     *
+     * @param source  the array containing the values.
+     * @param offset  the index of the first value in <code>source</code>.
+     * @param count  the number of values to append.
+     */
+    public void addAll(double[] source, int offset, int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (this.base + this.size + count > this.capacity) {
+            relayout(this.size + count, false);
+        }
+        int first = this.base + this.size;
+        System.arraycopy(source, offset, this.values, first, count);
+        this.size += count;
+        refresh(first, first + count - 1);
+    }
+
+    /**
+     * Inserts a value at the specified index.
+     *
+     * @param index  the index (in the range 0 to <code>size()</code>).
+     * @param value  the value (Double.NaN permitted).
+     */
+    public void add(int index, double value) {
+        checkIndex(index, this.size + 1);
+        if (index == this.size) {
+            add(value);
+            return;
+        }
+        if (index < this.size / 2) {
+            // shift the leading values one slot towards the front
+            if (this.base == 0) {
+                relayout(this.size + 1, true);
+            }
+            System.arraycopy(this.values, this.base, this.values,
+                    this.base - 1, index);
+            this.base--;
+            this.values[this.base + index] = value;
+            this.size++;
+            refresh(this.base, this.base + index);
+            return;
+        }
+        if (this.base + this.size == this.capacity) {
+            relayout(this.size + 1, false);
+        }
+        int slot = this.base + index;
+        System.arraycopy(this.values, slot, this.values, slot + 1,
+                this.size - index);
+        this.values[slot] = value;
+        this.size++;
+        refresh(slot, this.base + this.size - 1);
+    }
+
+    /**
+     * Replaces the value at the specified index.
+     *
+     * @param index  the index.
+     * @param value  the new value (Double.NaN permitted).
+     */
+    public void set(int index, double value) {
+        checkIndex(index, this.size);
+        int slot = this.base + index;
+        this.values[slot] = value;
+        refresh(slot, slot);
+    }
+
+    /**
+     * Removes the value at the specified index.
+     *
+     * @param index  the index.
+     */
+    public void remove(int index) {
+        checkIndex(index, this.size);
+        removeRange(index, index + 1);
+    }
+
+    /**
+     * Removes the values with an index from <code>from</code> (inclusive) to
+     * <code>to</code> (exclusive).
+     *
+     * @param from  the index of the first value to remove.
+     * @param to  the index after the last value to remove.
+     */
+    public void removeRange(int from, int to) {
+        checkRange(from, to);
+        int count = to - from;
+        if (count == 0) {
+            return;
+        }
+        int oldEnd = this.base + this.size - 1;
+        if (from == 0) {
+            // drop values from the front, no need to move anything
+            for (int i = this.base; i < this.base + count; i++) {
+                this.values[i] = Double.NaN;
+            }
+            refresh(this.base, this.base + count - 1);
+            this.base += count;
+        }
+        else {
+            System.arraycopy(this.values, this.base + to, this.values,
+                    this.base + from, this.size - to);
+            for (int i = oldEnd - count + 1; i <= oldEnd; i++) {
+                this.values[i] = Double.NaN;
+            }
+            refresh(this.base + from, oldEnd);
+        }
+        this.size -= count;
+        if (this.size == 0) {
+            this.base = 0;
+        }
+    }
+
+    /**
+     * Removes all values from the sequence.
+     */
+    public void clear() {
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Returns a clone of the tree.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        MinMaxSegmentTree clone = (MinMaxSegmentTree) super.clone();
+        clone.values = (double[]) this.values.clone();
+        clone.mins = (double[]) this.mins.clone();
+        clone.maxs = (double[]) this.maxs.clone();
+        clone.counts = (int[]) this.counts.clone();
+        return clone;
+    }
+
+    /**
+     * Allocates empty storage for the specified number of leaves.
+     *
+     * @param leaves  the number of leaves (a power of two).
+     */
+    private void allocate(int leaves) {
+        this.capacity = leaves;
+        this.values = new double[leaves];
+        this.mins = new double[leaves];
+        this.maxs = new double[leaves];
+        this.counts = new int[leaves];
+        java.util.Arrays.fill(this.values, Double.NaN);
+        java.util.Arrays.fill(this.mins, Double.POSITIVE_INFINITY);
+        java.util.Arrays.fill(this.maxs, Double.NEGATIVE_INFINITY);
+        this.base = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Moves the values to the start (or the middle) of the leaves, growing the
+     * tree if necessary so that it can hold the specified number of values
+     * with some room to spare, then rebuilds the internal nodes.
+     *
+     * @param required  the number of values that must fit.
+     * @param centre  if <code>true</code>, the spare room is split between
+     *                the front and the back, otherwise it is all at the back.
+     */
+    private void relayout(int required, boolean centre) {
+        double[] old = this.values;
+        int oldBase = this.base;
+        int count = this.size;
+        int leaves = this.capacity;
+        if (required * 2 > leaves) {
+            leaves = capacityFor(required * 2);
+        }
+        allocate(leaves);
+        int newBase = centre ? (leaves - count) / 2 : 0;
+        System.arraycopy(old, oldBase, this.values, newBase, count);
+        this.base = newBase;
+        this.size = count;
+        refresh(0, this.capacity - 1);
+    }
+
+    /**
+     * Recalculates the internal nodes above the specified leaf slots.
+     *
+     * @param loSlot  the first leaf slot that changed.
+     * @param hiSlot  the last leaf slot that changed.
+     */
+    private void refresh(int loSlot, int hiSlot) {
+        int lo = (loSlot + this.capacity) >> 1;
+        int hi = (hiSlot + this.capacity) >> 1;
+        while (lo >= 1) {
+            for (int k = lo; k <= hi; k++) {
+                this.mins[k] = Math.min(nodeMin(2 * k), nodeMin(2 * k + 1));
+                this.maxs[k] = Math.max(nodeMax(2 * k), nodeMax(2 * k + 1));
+                this.counts[k] = nodeCount(2 * k) + nodeCount(2 * k + 1);
+            }
+            lo >>= 1;
+            hi >>= 1;
+        }
+    }
+
+    /**
+     * Returns the number of values other than Double.NaN below a node.
+     *
+     * @param node  the node index.
+     *
+     * @return The count.
+     */
+    private int nodeCount(int node) {
+        if (node >= this.capacity) {
+            return Double.isNaN(this.values[node - this.capacity]) ? 0 : 1;
+        }
+        return this.counts[node];
+    }
+
+    /**
+     * Returns the minimum for a node, or positive infinity if the node
+     * contains no values.
+     *
+     * @param node  the node index.
+     *
+     * @return The minimum.
+     */
+    private double nodeMin(int node) {
+        if (node >= this.capacity) {
+            double v = this.values[node - this.capacity];
+            return Double.isNaN(v) ? Double.POSITIVE_INFINITY : v;
+        }
+        return this.mins[node];
+    }
+
+    /**
+     * Returns the maximum for a node, or negative infinity if the node
+     * contains no values.
+     *
+     * @param node  the node index.
+     *
+     * @return The maximum.
+     */
+    private double nodeMax(int node) {
+        if (node >= this.capacity) {
+            double v = this.values[node - this.capacity];
+            return Double.isNaN(v) ? Double.NEGATIVE_INFINITY : v;
+        }
+        return this.maxs[node];
+    }
+
+    /**
+     * Throws an exception if the index is not in the range 0 to
+     * <code>limit - 1</code>.
+     *
+     * @param index  the index.
+     * @param limit  the limit.
+     */
+    private void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+                    + this.size);
+        }
+    }
+
+    /**
+     * Throws an exception if the range is not valid.
+     *
+     * @param from  the start index (inclusive).
+     * @param to  the end index (exclusive).
+     */
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > this.size || from > to) {
+            throw new IndexOutOfBoundsException("Range: " + from + " to " + to
+                    + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Returns the smallest power of two that is greater than or equal to the
+     * requested capacity (and not less than the minimum capacity).
+     *
+     * @param required  the requested capacity.
+     *
+     * @return The number of leaves.
+     */
+    private static int capacityFor(int required) {
+        int result = MINIMUM_CAPACITY;
+        while (result < required) {
+            result <<= 1;
+        }
+        return result;
+    }
+
+}
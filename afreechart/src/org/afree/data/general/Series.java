@@ -39,6 +39,8 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Deregister listeners by identity rather than by equals(), as
+ *               the EventListenerList in JFreeChart did;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2008, by Object Refinery Limited.
@@ -332,11 +334,18 @@ public abstract class Series implements Cloneable, Serializable {
 
     /**
      * Deregisters an object, so that it not longer receives notification
-     * whenever the series changes.
+     * whenever the series changes.  The listener is matched by identity, so
+     * that a listener that is equal to it (a cloned dataset, for example)
+     * stays registered.
      *
      * @param listener  the listener to deregister.
      */
     public void removeChangeListener(SeriesChangeListener listener) {
-        this.listeners.remove(listener);
+        for (int i = 0; i < this.listeners.size(); i++) {
+            if (this.listeners.get(i) == listener) {
+                this.listeners.remove(i);
+                return;
+            }
+        }
     }
 }
@@ -0,0 +1,1068 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ---------------------
+ * DerivedXYDataset.java
+ * ---------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Added clone(), so that the copy has its own running
+ *               statistics;
+ */
+
+package org.afree.data.statistics;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.afree.data.general.Series;
+import org.afree.data.general.SeriesChangeEvent;
+import org.afree.data.time.RegularTimePeriod;
+import org.afree.data.time.TimePeriodAnchor;
+import org.afree.data.time.TimeSeries;
+import org.afree.data.time.TimeSeriesDataItem;
+import org.afree.data.xy.DoubleXYSeries;
+import org.afree.data.xy.DoubleXYSeriesCollection;
+import org.afree.data.xy.XYDataItem;
+import org.afree.data.xy.XYSeries;
+
+/**
+ * A dataset containing series that are derived from a source series (moving
+ * averages, a least squares regression line and a min/max envelope).  The
+ * dataset registers itself as a listener with the source series, and when
+ * items are appended to the source it feeds them to running statistics, so
+ * that each new item is processed in constant time rather than rebuilding
+ * the derived series.  The derived series are ordinary
+ * {@link DoubleXYSeries} instances, so the dataset can be drawn by any
+ * XY renderer.
+ * <P>
+ * The source is expected to grow by appending items (items may also be
+ * removed from the front, as happens when the maximum item count is
+ * exceeded).  If the last item processed is removed from the source, all
+ * the derived series are recalculated.  Changes to the values of existing
+ * items are not detected.  Items with a <code>null</code> or non-finite
+ * y-value are ignored.
+ * <P>
+ * For a {@link TimeSeries} source, the x-value of each item is the first,
+ * middle or last millisecond of its time period (in the default time zone).
+ */
+public class DerivedXYDataset extends DoubleXYSeriesCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6350197287643184729L;
+
+    /** The source series, if it is an {@link XYSeries}. */
+    private XYSeries xySource;
+
+    /** The source series, if it is a {@link TimeSeries}. */
+    private TimeSeries timeSource;
+
+    /** The point in each time period used for the x-value. */
+    private TimePeriodAnchor anchor;
+
+    /** The running statistics (instances of {@link RunningStatistic}). */
+    private List statistics;
+
+    /**
+     * The last source item fed to the statistics (<code>null</code> if no
+     * items have been processed).
+     */
+    private Object lastItem;
+
+    /**
+     * A flag that is set while the derived series are being updated, to
+     * suppress the change events from the individual series.
+     */
+    private boolean updating;
+
+    /**
+     * Creates a new dataset with series derived from the specified
+     * {@link XYSeries}.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     */
+    public DerivedXYDataset(XYSeries source) {
+        super();
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        this.xySource = source;
+        this.statistics = new ArrayList();
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Creates a new dataset with series derived from the specified
+     * {@link TimeSeries}, using the first millisecond of each time period as
+     * the x-value.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     */
+    public DerivedXYDataset(TimeSeries source) {
+        this(source, TimePeriodAnchor.START);
+    }
+
+    /**
+     * Creates a new dataset with series derived from the specified
+     * {@link TimeSeries}.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param anchor  the point in each time period used for the x-value
+     *                (<code>null</code> not permitted).
+     */
+    public DerivedXYDataset(TimeSeries source, TimePeriodAnchor anchor) {
+        super();
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        if (anchor == null) {
+            throw new IllegalArgumentException("Null 'anchor' argument.");
+        }
+        this.timeSource = source;
+        this.anchor = anchor;
+        this.statistics = new ArrayList();
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never <code>null</code>).
+     */
+    public Series getSource() {
+        return this.xySource != null ? (Series) this.xySource
+                : this.timeSource;
+    }
+
+    /**
+     * Adds a series containing the simple moving average of the last
+     * <code>pointCount</code> source items, and sends a
+     * {@link org.afree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  The first value is added when <code>pointCount</code>
+     * items are available.
+     *
+     * @param key  the key for the new series (<code>null</code> not
+     *             permitted).
+     * @param pointCount  the number of items in the average (at least 1).
+     *
+     * @return The new series.
+     */
+    public DoubleXYSeries addSimpleMovingAverage(Comparable key,
+            int pointCount) {
+        if (pointCount < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'pointCount' >= 1.");
+        }
+        return addStatistic(new SimpleMovingAverage(createSeries(key),
+                pointCount))[0];
+    }
+
+    /**
+     * Adds a series containing the exponential moving average of the source
+     * items, and sends a {@link org.afree.data.general.DatasetChangeEvent}
+     * to all registered listeners.  Each new average is
+     * <code>previous + alpha * (y - previous)</code>.
+     *
+     * @param key  the key for the new series (<code>null</code> not
+     *             permitted).
+     * @param alpha  the smoothing factor (in the range 0.0 to 1.0, the
+     *               conventional value for an n-point average is
+     *               <code>2.0 / (n + 1)</code>).
+     *
+     * @return The new series.
+     */
+    public DoubleXYSeries addExponentialMovingAverage(Comparable key,
+            double alpha) {
+        if (!(alpha > 0.0 && alpha <= 1.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 0.0 < 'alpha' <= 1.0.");
+        }
+        return addStatistic(new ExponentialMovingAverage(createSeries(key),
+                alpha))[0];
+    }
+
+    /**
+     * Adds a series containing an ordinary least squares regression line,
+     * fitted to the last <code>pointCount</code> source items (or to all
+     * the items if <code>pointCount</code> is zero), and sends a
+     * {@link org.afree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  The series contains two items, at the first and last
+     * x-values that the line is fitted to.
+     *
+     * @param key  the key for the new series (<code>null</code> not
+     *             permitted).
+     * @param pointCount  the number of items to fit (0 for all items,
+     *                    otherwise at least 2).
+     *
+     * @return The new series.
+     *
+     * @see #getOLSRegression(DoubleXYSeries)
+     */
+    public DoubleXYSeries addLinearRegression(Comparable key,
+            int pointCount) {
+        if (pointCount < 0 || pointCount == 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'pointCount' == 0 or >= 2.");
+        }
+        return addStatistic(new LinearRegression(createSeries(key),
+                pointCount))[0];
+    }
+
+    /**
+     * Adds two series containing the lowest and highest y-values of the last
+     * <code>pointCount</code> source items, and sends a
+     * {@link org.afree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  The first values are added when <code>pointCount</code>
+     * items are available.
+     *
+     * @param lowerKey  the key for the lower series (<code>null</code> not
+     *                  permitted).
+     * @param upperKey  the key for the upper series (<code>null</code> not
+     *                  permitted).
+     * @param pointCount  the number of items in the window (at least 1).
+     *
+     * @return The new series (the lower series, then the upper series).
+     */
+    public DoubleXYSeries[] addEnvelope(Comparable lowerKey,
+            Comparable upperKey, int pointCount) {
+        if (pointCount < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'pointCount' >= 1.");
+        }
+        return addStatistic(new Envelope(createSeries(lowerKey),
+                createSeries(upperKey), pointCount));
+    }
+
+    /**
+     * Returns the parameters 'a' and 'b' for the equation y = a + bx of a
+     * regression line added with {@link #addLinearRegression(Comparable,
+     * int)}.  The result is returned as a double[], where result[0] --> a,
+     * and result[1] --> b (both are Double.NaN if there are fewer than two
+     * items to fit).
+     *
+     * @param line  the regression line series.
+     *
+     * @return The parameters.
+     */
+    public double[] getOLSRegression(DoubleXYSeries line) {
+        for (int i = 0; i < this.statistics.size(); i++) {
+            Object s = this.statistics.get(i);
+            if (s instanceof LinearRegression
+                    && ((LinearRegression) s).output == line) {
+                return ((LinearRegression) s).getParameters();
+            }
+        }
+        throw new IllegalArgumentException(
+                "The series is not a regression line in this dataset.");
+    }
+
+    /**
+     * Deregisters the dataset from the source series, so that the derived
+     * series are no longer updated.
+     */
+    public void detach() {
+        getSource().removeChangeListener(this);
+    }
+
+    /**
+     * Receives notification of a change to the source series or to one of
+     * the derived series.
+     *
+     * @param event  information about the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (event.getSource() == getSource()) {
+            update();
+        }
+        else if (!this.updating) {
+            super.seriesChanged(event);
+        }
+    }
+
+    /**
+     * Returns a clone of the dataset.  The derived series and the running
+     * statistics are copied, so the clone is independent of this dataset,
+     * but it shares the source series and is registered as a listener with
+     * it (use {@link #detach()} to stop the clone following the source).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DerivedXYDataset clone = (DerivedXYDataset) super.clone();
+        Map copies = new IdentityHashMap();
+        for (int i = 0; i < getSeriesCount(); i++) {
+            copies.put(getSeries(i), clone.getSeries(i));
+        }
+        clone.statistics = new ArrayList(this.statistics.size());
+        for (int i = 0; i < this.statistics.size(); i++) {
+            RunningStatistic statistic
+                    = (RunningStatistic) this.statistics.get(i);
+            clone.statistics.add(statistic.copy(copies));
+        }
+        clone.updating = false;
+        clone.getSource().addChangeListener(clone);
+        return clone;
+    }
+
+    /**
+     * Creates an empty series for derived values.  The series has the same
+     * maximum item count as the source.
+     *
+     * @param key  the series key.
+     *
+     * @return The series.
+     */
+    private DoubleXYSeries createSeries(Comparable key) {
+        DoubleXYSeries series = new DoubleXYSeries(key);
+        if (this.xySource != null) {
+            series.setMaximumItemCount(this.xySource.getMaximumItemCount());
+        }
+        else {
+            series.setMaximumItemCount(
+                    this.timeSource.getMaximumItemCount());
+        }
+        return series;
+    }
+
+    /**
+     * Adds a statistic, feeds it the items already processed, and adds its
+     * series to the dataset.
+     *
+     * @param statistic  the statistic.
+     *
+     * @return The series for the statistic.
+     */
+    private DoubleXYSeries[] addStatistic(RunningStatistic statistic) {
+        if (this.lastItem != null) {
+            int end = findItem(this.lastItem) + 1;
+            for (int i = 0; i < end; i++) {
+                feed(statistic, i);
+            }
+        }
+        this.statistics.add(statistic);
+        DoubleXYSeries[] outputs = statistic.getOutputs();
+        for (int i = 0; i < outputs.length; i++) {
+            addSeries(outputs[i]);
+        }
+        return outputs;
+    }
+
+    /**
+     * Feeds any items appended to the source since the last update to the
+     * statistics, then sends a single
+     * {@link org.afree.data.general.DatasetChangeEvent} if the derived
+     * series have changed.
+     */
+    private void update() {
+        int count = getSourceItemCount();
+        int start = 0;
+        boolean reset = false;
+        if (this.lastItem != null) {
+            start = findItem(this.lastItem) + 1;
+            if (start == 0) {
+                reset = true;
+            }
+        }
+        if (!reset && start >= count) {
+            return;
+        }
+        this.updating = true;
+        try {
+            for (int s = 0; s < this.statistics.size(); s++) {
+                RunningStatistic statistic
+                        = (RunningStatistic) this.statistics.get(s);
+                DoubleXYSeries[] outputs = statistic.getOutputs();
+                for (int i = 0; i < outputs.length; i++) {
+                    outputs[i].setNotify(false);
+                }
+                if (reset) {
+                    statistic.clear();
+                }
+                for (int i = start; i < count; i++) {
+                    feed(statistic, i);
+                }
+                for (int i = 0; i < outputs.length; i++) {
+                    outputs[i].setNotify(true);
+                }
+            }
+        }
+        finally {
+            this.updating = false;
+        }
+        this.lastItem = count > 0 ? getSourceItem(count - 1) : null;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Feeds a source item to a statistic, unless its x- or y-value is
+     * missing or not finite.
+     *
+     * @param statistic  the statistic.
+     * @param index  the source item index.
+     */
+    private void feed(RunningStatistic statistic, int index) {
+        double x;
+        Number y;
+        if (this.xySource != null) {
+            XYDataItem item = this.xySource.getDataItem(index);
+            x = item.getXValue();
+            y = item.getY();
+        }
+        else {
+            TimeSeriesDataItem item = this.timeSource.getDataItem(index);
+            RegularTimePeriod period = item.getPeriod();
+            if (this.anchor == TimePeriodAnchor.START) {
+                x = period.getFirstMillisecond();
+            }
+            else if (this.anchor == TimePeriodAnchor.MIDDLE) {
+                x = period.getMiddleMillisecond();
+            }
+            else {
+                x = period.getLastMillisecond();
+            }
+            y = item.getValue();
+        }
+        if (y != null && isFinite(x) && isFinite(y.doubleValue())) {
+            statistic.add(x, y.doubleValue());
+        }
+    }
+
+    /**
+     * Returns the number of items in the source series.
+     *
+     * @return The item count.
+     */
+    private int getSourceItemCount() {
+        return getSource().getItemCount();
+    }
+
+    /**
+     * Returns an item from the source series.
+     *
+     * @param index  the item index.
+     *
+     * @return The item.
+     */
+    private Object getSourceItem(int index) {
+        if (this.xySource != null) {
+            return this.xySource.getDataItem(index);
+        }
+        return this.timeSource.getDataItem(index);
+    }
+
+    /**
+     * Returns the index of the specified item in the source series, searching
+     * back from the end (so that finding the last processed item costs time
+     * proportional to the number of items appended since).
+     *
+     * @param item  the item.
+     *
+     * @return The index, or -1 if the item is not in the source.
+     */
+    private int findItem(Object item) {
+        for (int i = getSourceItemCount() - 1; i >= 0; i--) {
+            if (getSourceItem(i) == item) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if the value is neither infinite nor
+     * Double.NaN.
+     *
+     * @param value  the value.
+     *
+     * @return A boolean.
+     */
+    private static boolean isFinite(double value) {
+        return !Double.isNaN(value) && !Double.isInfinite(value);
+    }
+
+    /**
+     * A statistic that is updated as (x, y) values are added, and that adds
+     * its results to one or more series (without sending change events).
+     */
+    private abstract static class RunningStatistic
+            implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -5937041842287306198L;
+
+        /**
+         * Returns the series that the statistic adds its results to.
+         *
+         * @return The series.
+         */
+        abstract DoubleXYSeries[] getOutputs();
+
+        /**
+         * Adds a value to the statistic.
+         *
+         * @param x  the x-value (finite).
+         * @param y  the y-value (finite).
+         */
+        abstract void add(double x, double y);
+
+        /**
+         * Resets the statistic and clears its series.
+         */
+        abstract void clear();
+
+        /**
+         * Returns a copy of the statistic that adds its results to the
+         * copies of its series.
+         *
+         * @param copies  a map from each series to its copy.
+         *
+         * @return The copy.
+         *
+         * @throws CloneNotSupportedException if there is a problem cloning.
+         */
+        abstract RunningStatistic copy(Map copies)
+                throws CloneNotSupportedException;
+
+    }
+
+    /**
+     * A simple moving average over a fixed number of points.
+     */
+    private static class SimpleMovingAverage extends RunningStatistic {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 2316458923497151731L;
+
+        /** The output series. */
+        private DoubleXYSeries output;
+
+        /** The y-values in the window (a circular buffer). */
+        private double[] window;
+
+        /** The number of values in the window. */
+        private int count;
+
+        /** The position in the window for the next value. */
+        private int next;
+
+        /** The sum of the values in the window. */
+        private double sum;
+
+        /**
+         * Creates a new moving average.
+         *
+         * @param output  the output series.
+         * @param pointCount  the number of points in the average.
+         */
+        SimpleMovingAverage(DoubleXYSeries output, int pointCount) {
+            this.output = output;
+            this.window = new double[pointCount];
+        }
+
+        DoubleXYSeries[] getOutputs() {
+            return new DoubleXYSeries[] {this.output};
+        }
+
+        void add(double x, double y) {
+            if (this.count == this.window.length) {
+                this.sum -= this.window[this.next];
+            }
+            else {
+                this.count++;
+            }
+            this.window[this.next] = y;
+            this.sum += y;
+            this.next = (this.next + 1) % this.window.length;
+            if (this.next == 0) {
+                // resum once per pass through the window, so that rounding
+                // errors do not accumulate
+                this.sum = 0.0;
+                for (int i = 0; i < this.count; i++) {
+                    this.sum += this.window[i];
+                }
+            }
+            if (this.count == this.window.length) {
+                this.output.add(x, this.sum / this.count, false);
+            }
+        }
+
+        void clear() {
+            this.count = 0;
+            this.next = 0;
+            this.sum = 0.0;
+            this.output.clear();
+        }
+
+        RunningStatistic copy(Map copies)
+                throws CloneNotSupportedException {
+            SimpleMovingAverage copy = (SimpleMovingAverage) clone();
+            copy.output = (DoubleXYSeries) copies.get(this.output);
+            copy.window = (double[]) this.window.clone();
+            return copy;
+        }
+
+    }
+
+    /**
+     * An exponential moving average.
+     */
+    private static class ExponentialMovingAverage extends RunningStatistic {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -1871402317652270245L;
+
+        /** The output series. */
+        private DoubleXYSeries output;
+
+        /** The smoothing factor. */
+        private double alpha;
+
+        /** The current average (Double.NaN before the first value). */
+        private double average;
+
+        /**
+         * Creates a new moving average.
+         *
+         * @param output  the output series.
+         * @param alpha  the smoothing factor.
+         */
+        ExponentialMovingAverage(DoubleXYSeries output, double alpha) {
+            this.output = output;
+            this.alpha = alpha;
+            this.average = Double.NaN;
+        }
+
+        DoubleXYSeries[] getOutputs() {
+            return new DoubleXYSeries[] {this.output};
+        }
+
+        void add(double x, double y) {
+            if (Double.isNaN(this.average)) {
+                this.average = y;
+            }
+            else {
+                this.average += this.alpha * (y - this.average);
+            }
+            this.output.add(x, this.average, false);
+        }
+
+        void clear() {
+            this.average = Double.NaN;
+            this.output.clear();
+        }
+
+        RunningStatistic copy(Map copies)
+                throws CloneNotSupportedException {
+            ExponentialMovingAverage copy
+                    = (ExponentialMovingAverage) clone();
+            copy.output = (DoubleXYSeries) copies.get(this.output);
+            return copy;
+        }
+
+    }
+
+    /**
+     * An ordinary least squares regression line over a fixed number of
+     * points, or over all points.  The sums are accumulated relative to the
+     * first x-value, which avoids losing precision when the x-values are
+     * large (milliseconds, for example) but close together.
+     */
+    private static class LinearRegression extends RunningStatistic {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 8243089134575462950L;
+
+        /** The output series. */
+        private DoubleXYSeries output;
+
+        /** The x-values in the window (<code>null</code> for all points). */
+        private double[] xWindow;
+
+        /** The y-values in the window (<code>null</code> for all points). */
+        private double[] yWindow;
+
+        /** The position in the window for the next value. */
+        private int next;
+
+        /** The number of points in the fit. */
+        private int count;
+
+        /** The origin for the x-values (the first x-value added). */
+        private double origin;
+
+        /** The first x-value in the fit. */
+        private double firstX;
+
+        /** The sum of the x-values (relative to the origin). */
+        private double sumX;
+
+        /** The sum of the y-values. */
+        private double sumY;
+
+        /** The sum of the squared x-values (relative to the origin). */
+        private double sumXX;
+
+        /** The sum of the x * y products (relative to the origin). */
+        private double sumXY;
+
+        /** The slope of the line. */
+        private double slope;
+
+        /** The intercept of the line at the origin. */
+        private double intercept;
+
+        /**
+         * Creates a new regression.
+         *
+         * @param output  the output series.
+         * @param pointCount  the number of points (0 for all points).
+         */
+        LinearRegression(DoubleXYSeries output, int pointCount) {
+            this.output = output;
+            if (pointCount > 0) {
+                this.xWindow = new double[pointCount];
+                this.yWindow = new double[pointCount];
+            }
+            clearSums();
+        }
+
+        DoubleXYSeries[] getOutputs() {
+            return new DoubleXYSeries[] {this.output};
+        }
+
+        void add(double x, double y) {
+            if (this.count == 0 && this.next == 0) {
+                this.origin = x;
+                this.firstX = x;
+            }
+            double dx = x - this.origin;
+            if (this.xWindow != null) {
+                int size = this.xWindow.length;
+                if (this.count == size) {
+                    accumulate(this.xWindow[this.next],
+                            this.yWindow[this.next], -1);
+                }
+                this.xWindow[this.next] = dx;
+                this.yWindow[this.next] = y;
+                this.next = (this.next + 1) % size;
+                accumulate(dx, y, 1);
+                if (this.next == 0) {
+                    // resum once per pass through the window, moving the
+                    // origin to the oldest x-value in the window
+                    double shift = this.xWindow[0];
+                    this.origin += shift;
+                    this.count = 0;
+                    this.sumX = 0.0;
+                    this.sumY = 0.0;
+                    this.sumXX = 0.0;
+                    this.sumXY = 0.0;
+                    for (int i = 0; i < size; i++) {
+                        this.xWindow[i] -= shift;
+                        accumulate(this.xWindow[i], this.yWindow[i], 1);
+                    }
+                }
+                this.firstX = this.origin + (this.count == size
+                        ? this.xWindow[this.next] : this.xWindow[0]);
+            }
+            else {
+                accumulate(dx, y, 1);
+            }
+            if (this.count < 2 || (this.xWindow != null
+                    && this.count < this.xWindow.length)) {
+                return;
+            }
+            double sxx = this.sumXX - this.sumX * this.sumX / this.count;
+            double sxy = this.sumXY - this.sumX * this.sumY / this.count;
+            this.slope = sxy / sxx;
+            this.intercept = (this.sumY - this.slope * this.sumX)
+                    / this.count;
+            this.output.clear();
+            this.output.add(this.firstX, valueAt(this.firstX), false);
+            this.output.add(x, valueAt(x), false);
+        }
+
+        /**
+         * Adds a point to (or removes a point from) the sums.
+         *
+         * @param dx  the x-value (relative to the origin).
+         * @param y  the y-value.
+         * @param sign  1 to add the point, -1 to remove it.
+         */
+        private void accumulate(double dx, double y, int sign) {
+            this.count += sign;
+            this.sumX += sign * dx;
+            this.sumY += sign * y;
+            this.sumXX += sign * dx * dx;
+            this.sumXY += sign * dx * y;
+        }
+
+        /**
+         * Returns the y-value on the regression line at the specified
+         * x-value.
+         *
+         * @param x  the x-value.
+         *
+         * @return The y-value.
+         */
+        private double valueAt(double x) {
+            return this.intercept + this.slope * (x - this.origin);
+        }
+
+        /**
+         * Returns the parameters of the line.
+         *
+         * @return The parameters 'a' and 'b' for y = a + bx.
+         */
+        double[] getParameters() {
+            return new double[] {this.intercept - this.slope * this.origin,
+                    this.slope};
+        }
+
+        /**
+         * Resets the sums and the line.
+         */
+        private void clearSums() {
+            this.next = 0;
+            this.count = 0;
+            this.sumX = 0.0;
+            this.sumY = 0.0;
+            this.sumXX = 0.0;
+            this.sumXY = 0.0;
+            this.slope = Double.NaN;
+            this.intercept = Double.NaN;
+        }
+
+        void clear() {
+            clearSums();
+            this.output.clear();
+        }
+
+        RunningStatistic copy(Map copies)
+                throws CloneNotSupportedException {
+            LinearRegression copy = (LinearRegression) clone();
+            copy.output = (DoubleXYSeries) copies.get(this.output);
+            if (this.xWindow != null) {
+                copy.xWindow = (double[]) this.xWindow.clone();
+                copy.yWindow = (double[]) this.yWindow.clone();
+            }
+            return copy;
+        }
+
+    }
+
+    /**
+     * The lowest and highest values over a fixed number of points.  Each
+     * bound is tracked with a queue of the points that could still become
+     * the bound, in which the values are monotonic, so each point is added
+     * and removed at most once.
+     */
+    private static class Envelope extends RunningStatistic {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -4709718346094850374L;
+
+        /** The series for the lower bound. */
+        private DoubleXYSeries lower;
+
+        /** The series for the upper bound. */
+        private DoubleXYSeries upper;
+
+        /** The number of points in the window. */
+        private int pointCount;
+
+        /** The number of points added. */
+        private long added;
+
+        /** The queue of candidates for the minimum. */
+        private MonotonicQueue minimums;
+
+        /** The queue of candidates for the maximum. */
+        private MonotonicQueue maximums;
+
+        /**
+         * Creates a new envelope.
+         *
+         * @param lower  the series for the lower bound.
+         * @param upper  the series for the upper bound.
+         * @param pointCount  the number of points in the window.
+         */
+        Envelope(DoubleXYSeries lower, DoubleXYSeries upper,
+                int pointCount) {
+            this.lower = lower;
+            this.upper = upper;
+            this.pointCount = pointCount;
+            this.minimums = new MonotonicQueue(pointCount, true);
+            this.maximums = new MonotonicQueue(pointCount, false);
+        }
+
+        DoubleXYSeries[] getOutputs() {
+            return new DoubleXYSeries[] {this.lower, this.upper};
+        }
+
+        void add(double x, double y) {
+            long expired = this.added - this.pointCount;
+            this.minimums.add(this.added, y, expired);
+            this.maximums.add(this.added, y, expired);
+            this.added++;
+            if (this.added >= this.pointCount) {
+                this.lower.add(x, this.minimums.first(), false);
+                this.upper.add(x, this.maximums.first(), false);
+            }
+        }
+
+        void clear() {
+            this.added = 0;
+            this.minimums.clear();
+            this.maximums.clear();
+            this.lower.clear();
+            this.upper.clear();
+        }
+
+        RunningStatistic copy(Map copies)
+                throws CloneNotSupportedException {
+            Envelope copy = (Envelope) clone();
+            copy.lower = (DoubleXYSeries) copies.get(this.lower);
+            copy.upper = (DoubleXYSeries) copies.get(this.upper);
+            copy.minimums = this.minimums.copy();
+            copy.maximums = this.maximums.copy();
+            return copy;
+        }
+
+    }
+
+    /**
+     * A double-ended queue of (sequence number, value) pairs in which the
+     * values are increasing (for minimums) or decreasing (for maximums), so
+     * that the first value is the bound for the window.
+     */
+    private static class MonotonicQueue implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 3074215938564410277L;
+
+        /** The sequence numbers (a circular buffer). */
+        private long[] sequence;
+
+        /** The values (a circular buffer). */
+        private double[] values;
+
+        /** The position of the first pair. */
+        private int head;
+
+        /** The number of pairs in the queue. */
+        private int size;
+
+        /** <code>true</code> to track the minimum, <code>false</code> for
+         *  the maximum. */
+        private boolean minimum;
+
+        /**
+         * Creates a new queue.
+         *
+         * @param capacity  the number of points in the window.
+         * @param minimum  <code>true</code> to track the minimum.
+         */
+        MonotonicQueue(int capacity, boolean minimum) {
+            this.sequence = new long[capacity];
+            this.values = new double[capacity];
+            this.minimum = minimum;
+        }
+
+        /**
+         * Adds a value, after discarding the values that have left the
+         * window or can no longer be the bound.
+         *
+         * @param seq  the sequence number of the value.
+         * @param value  the value.
+         * @param expired  the highest sequence number that has left the
+         *                 window.
+         */
+        void add(long seq, double value, long expired) {
+            int capacity = this.values.length;
+            while (this.size > 0 && this.sequence[this.head] <= expired) {
+                this.head = (this.head + 1) % capacity;
+                this.size--;
+            }
+            while (this.size > 0) {
+                double last = this.values[(this.head + this.size - 1)
+                        % capacity];
+                if (this.minimum ? last < value : last > value) {
+                    break;
+                }
+                this.size--;
+            }
+            int tail = (this.head + this.size) % capacity;
+            this.sequence[tail] = seq;
+            this.values[tail] = value;
+            this.size++;
+        }
+
+        /**
+         * Returns the bound (the first value in the queue).
+         *
+         * @return The value.
+         */
+        double first() {
+            return this.values[this.head];
+        }
+
+        /**
+         * Removes all values from the queue.
+         */
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        /**
+         * Returns a copy of the queue.
+         *
+         * @return The copy.
+         *
+         * @throws CloneNotSupportedException if there is a problem cloning.
+         */
+        MonotonicQueue copy() throws CloneNotSupportedException {
+            MonotonicQueue copy = (MonotonicQueue) clone();
+            copy.sequence = (long[]) this.sequence.clone();
+            copy.values = (double[]) this.values.clone();
+            return copy;
+        }
+
+    }
+
+}
@@ -39,6 +39,10 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Calculate the averages with a running sum over a sliding
+ *               window, added createLiveMovingAverage() method;
+ * 16-Oct-2026 : Use compensated summation in the running sum, and
+ *               recalculate it once per pass through the window;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2003-2009, by Object Refinery Limited.
@@ -62,12 +66,19 @@
 
 package org.afree.data.time;
 
+import java.io.Serializable;
+
+import org.afree.data.general.SeriesChangeEvent;
+import org.afree.data.general.SeriesChangeListener;
 import org.afree.data.xy.XYDataset;
 import org.afree.data.xy.XYSeries;
 import org.afree.data.xy.XYSeriesCollection;
 
 /**
- * A utility class for calculating moving averages of time series data.
+ * A utility class for calculating moving averages of time series data.  The
+ * averages are calculated with a running sum over a sliding window, so the
+ * cost is proportional to the number of items in the source series rather
+ * than the number of items multiplied by the averaging period.
  */
 public class MovingAverage {
 
@@ -133,64 +144,112 @@ public class MovingAverage {
         }
 
         TimeSeries result = new TimeSeries(name);
-
         if (source.getItemCount() > 0) {
-
             // if the initial averaging period is to be excluded, then
-            // calculate the index of the
-            // first data item to have an average calculated...
+            // calculate the serial index of the first data item to have an
+            // average calculated...
             long firstSerial
                     = source.getDataItem(0).getPeriod().getSerialIndex() + skip;
+            addMovingAverage(source, 0, source.getItemCount(), periodCount,
+                    firstSerial, result);
+        }
+        return result;
 
-            for (int i = source.getItemCount() - 1; i >= 0; i--) {
-
-                // get the current data item...
-                TimeSeriesDataItem current = source.getDataItem(i);
-                RegularTimePeriod period = current.getPeriod();
-                long serial = period.getSerialIndex();
-
-                if (serial >= firstSerial) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    long serialLimit = period.getSerialIndex() - periodCount;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while ((offset < periodCount) && (!finished)) {
-                        if ((i - offset) >= 0) {
-                            TimeSeriesDataItem item = source.getDataItem(
-                                    i - offset);
-                            RegularTimePeriod p = item.getPeriod();
-                            Number v = item.getValue();
-                            long currentIndex = p.getSerialIndex();
-                            if (currentIndex > serialLimit) {
-                                if (v != null) {
-                                    sum = sum + v.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        offset = offset + 1;
-                    }
-                    if (n > 0) {
-                        result.add(period, sum / n);
-                    }
-                    else {
-                        result.add(period, null);
-                    }
-                }
+    }
 
-            }
-        }
+    /**
+     * Creates a new {@link TimeSeries} containing moving average values for
+     * the given series, and registers a listener with the source series so
+     * that averages are added as new items are appended to the source.  Only
+     * items after the last averaged time period are processed on each
+     * change, so the cost of an update is proportional to the number of new
+     * items plus the averaging period.  If the last averaged time period is
+     * removed from the source (for example, when the source is cleared), the
+     * averages are recalculated from scratch.  Changes to the values of
+     * existing items, or new items inserted before the last averaged time
+     * period, are not reflected in the result.
+     * <p>
+     * The result has the same maximum item count and age as the source.
+     *
+     * @param source  the source series.
+     * @param name  the name of the new series.
+     * @param periodCount  the number of periods used in the average
+     *                     calculation.
+     * @param skip  the number of initial periods to skip.
+     *
+     * @return The moving average series.
+     */
+    public static TimeSeries createLiveMovingAverage(TimeSeries source,
+            String name, int periodCount, int skip) {
 
+        if (source == null) {
+            throw new IllegalArgumentException("Null source.");
+        }
+        if (periodCount < 1) {
+            throw new IllegalArgumentException("periodCount must be greater " +
+                    "than or equal to 1.");
+        }
+        TimeSeries result = new TimeSeries(name);
+        result.setMaximumItemCount(source.getMaximumItemCount());
+        result.setMaximumItemAge(source.getMaximumItemAge());
+        MovingAverageUpdater updater = new MovingAverageUpdater(result,
+                periodCount, skip);
+        updater.update(source);
+        source.addChangeListener(updater);
         return result;
 
     }
 
+    /**
+     * Adds moving average values to the <code>result</code> series for the
+     * items in the source series from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive).  No change event is sent.
+     *
+     * @param source  the source series.
+     * @param start  the index of the first item to average.
+     * @param end  the index after the last item to average.
+     * @param periodCount  the number of periods used in the average
+     *                     calculation.
+     * @param firstSerial  the serial index of the first time period to have
+     *                     an average calculated.
+     * @param result  the series that the averages are added to.
+     */
+    private static void addMovingAverage(TimeSeries source, int start,
+            int end, int periodCount, long firstSerial, TimeSeries result) {
+
+        // the window is the items from 'first' to the current item, limited
+        // to 'periodCount' items and to time periods within 'periodCount'
+        // periods of the current item
+        RunningSum sum = new RunningSum();
+        long startLimit = source.getTimePeriod(start).getSerialIndex()
+                - periodCount;
+        int first = start;
+        while (first > 0 && start - first + 1 < periodCount
+                && source.getTimePeriod(first - 1).getSerialIndex()
+                > startLimit) {
+            first--;
+        }
+        for (int i = first; i < start; i++) {
+            sum.add(source.getValue(i));
+        }
+        for (int i = start; i < end; i++) {
+            TimeSeriesDataItem current = source.getDataItem(i);
+            RegularTimePeriod period = current.getPeriod();
+            long serial = period.getSerialIndex();
+            sum.add(current.getValue());
+            long serialLimit = serial - periodCount;
+            while (i - first >= periodCount || source.getTimePeriod(
+                    first).getSerialIndex() <= serialLimit) {
+                sum.remove(source.getValue(first));
+                first++;
+            }
+            if (serial >= firstSerial) {
+                result.add(period, sum.getAverage(), false);
+            }
+        }
+
+    }
+
     /**
      * Creates a new {@link TimeSeries} containing moving average values for
      * the given series, calculated by number of points (irrespective of the
@@ -319,57 +378,366 @@ public class MovingAverage {
         }
 
         XYSeries result = new XYSeries(name);
-
-        if (source.getItemCount(series) > 0) {
+        int itemCount = source.getItemCount(series);
+        if (itemCount > 0) {
 
             // if the initial averaging period is to be excluded, then
             // calculate the lowest x-value to have an average calculated...
             double first = source.getXValue(series, 0) + skip;
 
-            for (int i = source.getItemCount(series) - 1; i >= 0; i--) {
-
-                // get the current data item...
-                double x = source.getXValue(series, i);
-
-                if (x >= first) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    double limit = x - period;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while (!finished) {
-                        if ((i - offset) >= 0) {
-                            double xx = source.getXValue(series, i - offset);
-                            Number yy = source.getY(series, i - offset);
-                            if (xx > limit) {
-                                if (yy != null) {
-                                    sum = sum + yy.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        else {
-                            finished = true;
-                        }
-                        offset = offset + 1;
-                    }
-                    if (n > 0) {
-                        result.add(x, sum / n);
-                    }
-                    else {
-                        result.add(x, null);
-                    }
+            double[] x = new double[itemCount];
+            Number[] y = new Number[itemCount];
+            boolean ascending = true;
+            for (int i = 0; i < itemCount; i++) {
+                x[i] = source.getXValue(series, i);
+                y[i] = source.getY(series, i);
+                if (Double.isNaN(x[i]) || Double.isInfinite(x[i])
+                        || (i > 0 && x[i] < x[i - 1])) {
+                    ascending = false;
                 }
+            }
+            Number[] averages = ascending ? slidingAverages(x, y, period)
+                    : windowAverages(x, y, period);
+
+            // the items are added in reverse order, so that items with
+            // equal x-values are in the same order as in earlier versions
+            for (int i = itemCount - 1; i >= 0; i--) {
+                if (x[i] >= first) {
+                    result.add(x[i], averages[i], false);
+                }
+            }
+        }
+
+        return result;
 
+    }
+
+    /**
+     * Calculates the moving average at each item for x-values in ascending
+     * order, using a running sum over a sliding window.
+     *
+     * @param x  the x-values (in ascending order).
+     * @param y  the y-values (<code>null</code> entries permitted).
+     * @param period  the averaging period.
+     *
+     * @return The averages (<code>null</code> where there are no values to
+     *     average).
+     */
+    private static Number[] slidingAverages(double[] x, Number[] y,
+            double period) {
+        Number[] result = new Number[x.length];
+        RunningSum sum = new RunningSum();
+        int first = 0;
+        for (int i = 0; i < x.length; i++) {
+            sum.add(y[i]);
+            double limit = x[i] - period;
+            while (first < i && x[first] <= limit) {
+                sum.remove(y[first]);
+                first++;
             }
+            result[i] = sum.getAverage();
         }
+        return result;
+    }
 
+    /**
+     * Calculates the moving average at each item by walking back through the
+     * earlier items until one falls outside the averaging period.  This is
+     * used when the x-values are not in ascending order.
+     *
+     * @param x  the x-values.
+     * @param y  the y-values (<code>null</code> entries permitted).
+     * @param period  the averaging period.
+     *
+     * @return The averages (<code>null</code> where there are no values to
+     *     average).
+     */
+    private static Number[] windowAverages(double[] x, Number[] y,
+            double period) {
+        Number[] result = new Number[x.length];
+        for (int i = 0; i < x.length; i++) {
+            RunningSum sum = new RunningSum();
+            double limit = x[i] - period;
+            for (int j = i; j >= 0 && x[j] > limit; j--) {
+                sum.add(y[j]);
+            }
+            result[i] = sum.getAverage();
+        }
         return result;
+    }
+
+    /**
+     * A running sum of the values in a sliding window.  <code>null</code>
+     * values are ignored.  Non-finite values are counted rather than added,
+     * so that removing them from the window leaves the sum intact.  Values
+     * must be removed in the order in which they were added.
+     * <P>
+     * The finite values are added and removed with compensated (Neumaier)
+     * summation, and the sum is recalculated from the values in the window
+     * once per pass through the window, so that rounding errors (for
+     * example after a large value leaves the window) do not accumulate.  A
+     * window that contains only zeros has a sum of exactly zero.
+     */
+    private static class RunningSum {
+
+        /** The sum of the finite values. */
+        private double sum;
+
+        /** The rounding error that has been lost from the sum. */
+        private double compensation;
+
+        /** The finite values in the window (a circular buffer). */
+        private double[] values = new double[8];
+
+        /** The index of the oldest finite value in the buffer. */
+        private int head;
+
+        /** The number of finite values in the window. */
+        private int finiteCount;
+
+        /** The number of finite values that are not zero. */
+        private int nonZeroCount;
+
+        /** The number of values removed since the sum was recalculated. */
+        private int removals;
+
+        /** The number of non-null values. */
+        private int count;
+
+        /** The number of Double.NaN values. */
+        private int nanCount;
+
+        /** The number of positive infinite values. */
+        private int positiveInfinityCount;
+
+        /** The number of negative infinite values. */
+        private int negativeInfinityCount;
+
+        /**
+         * Adds a value to the window.
+         *
+         * @param value  the value (<code>null</code> permitted).
+         */
+        void add(Number value) {
+            if (value == null) {
+                return;
+            }
+            double v = value.doubleValue();
+            this.count++;
+            if (Double.isNaN(v)) {
+                this.nanCount++;
+            }
+            else if (v == Double.POSITIVE_INFINITY) {
+                this.positiveInfinityCount++;
+            }
+            else if (v == Double.NEGATIVE_INFINITY) {
+                this.negativeInfinityCount++;
+            }
+            else {
+                if (this.finiteCount == this.values.length) {
+                    double[] grown = new double[this.values.length * 2];
+                    for (int i = 0; i < this.finiteCount; i++) {
+                        grown[i] = this.values[(this.head + i)
+                                % this.values.length];
+                    }
+                    this.values = grown;
+                    this.head = 0;
+                }
+                this.values[(this.head + this.finiteCount)
+                        % this.values.length] = v;
+                this.finiteCount++;
+                if (v != 0.0) {
+                    this.nonZeroCount++;
+                }
+                accumulate(v);
+            }
+        }
+
+        /**
+         * Removes the oldest value from the window.
+         *
+         * @param value  the value (<code>null</code> permitted).
+         */
+        void remove(Number value) {
+            if (value == null) {
+                return;
+            }
+            double v = value.doubleValue();
+            this.count--;
+            if (Double.isNaN(v)) {
+                this.nanCount--;
+            }
+            else if (v == Double.POSITIVE_INFINITY) {
+                this.positiveInfinityCount--;
+            }
+            else if (v == Double.NEGATIVE_INFINITY) {
+                this.negativeInfinityCount--;
+            }
+            else {
+                this.head = (this.head + 1) % this.values.length;
+                this.finiteCount--;
+                if (v != 0.0) {
+                    this.nonZeroCount--;
+                }
+                accumulate(-v);
+                this.removals++;
+                if (this.removals >= this.finiteCount) {
+                    resum();
+                }
+            }
+        }
+
+        /**
+         * Adds a value to the sum, keeping the rounding error in the
+         * compensation.
+         *
+         * @param v  the value (finite).
+         */
+        private void accumulate(double v) {
+            double t = this.sum + v;
+            if (Math.abs(this.sum) >= Math.abs(v)) {
+                this.compensation += (this.sum - t) + v;
+            }
+            else {
+                this.compensation += (v - t) + this.sum;
+            }
+            this.sum = t;
+        }
+
+        /**
+         * Recalculates the sum from the finite values in the window (the
+         * newest first, in the same order as a direct sum over the window).
+         */
+        private void resum() {
+            this.sum = 0.0;
+            this.compensation = 0.0;
+            for (int i = this.finiteCount - 1; i >= 0; i--) {
+                accumulate(this.values[(this.head + i) % this.values.length]);
+            }
+            this.removals = 0;
+        }
+
+        /**
+         * Returns the average of the values in the window.
+         *
+         * @return The average (<code>null</code> if the window contains no
+         *     values).
+         */
+        Number getAverage() {
+            if (this.count == 0) {
+                return null;
+            }
+            double total;
+            if (this.nanCount > 0 || (this.positiveInfinityCount > 0
+                    && this.negativeInfinityCount > 0)) {
+                total = Double.NaN;
+            }
+            else if (this.positiveInfinityCount > 0) {
+                total = Double.POSITIVE_INFINITY;
+            }
+            else if (this.negativeInfinityCount > 0) {
+                total = Double.NEGATIVE_INFINITY;
+            }
+            else if (this.nonZeroCount == 0) {
+                total = 0.0;
+            }
+            else {
+                total = this.sum + this.compensation;
+            }
+            return new Double(total / this.count);
+        }
+
+    }
+
+    /**
+     * A listener that appends moving average values to a series as items are
+     * added to the source series.
+     */
+    private static class MovingAverageUpdater implements SeriesChangeListener,
+            Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -3158424386512651417L;
+
+        /** The moving average series. */
+        private TimeSeries result;
+
+        /** The number of periods used in the average calculation. */
+        private int periodCount;
+
+        /** The number of initial periods to skip. */
+        private int skip;
+
+        /**
+         * The serial index of the first time period to have an average
+         * calculated (only valid when <code>lastPeriod</code> is not
+         * <code>null</code>).
+         */
+        private long firstSerial;
+
+        /** The last source time period that has been averaged. */
+        private RegularTimePeriod lastPeriod;
+
+        /**
+         * Creates a new updater.
+         *
+         * @param result  the moving average series.
+         * @param periodCount  the number of periods used in the average
+         *                     calculation.
+         * @param skip  the number of initial periods to skip.
+         */
+        MovingAverageUpdater(TimeSeries result, int periodCount, int skip) {
+            this.result = result;
+            this.periodCount = periodCount;
+            this.skip = skip;
+        }
+
+        /**
+         * Receives notification of a change to the source series.
+         *
+         * @param event  the event.
+         */
+        public void seriesChanged(SeriesChangeEvent event) {
+            update((TimeSeries) event.getSource());
+        }
+
+        /**
+         * Adds averages for the items in the source series after the last
+         * time period averaged, or recalculates all the averages if that
+         * time period is no longer in the source.
+         *
+         * @param source  the source series.
+         */
+        void update(TimeSeries source) {
+            int start = 0;
+            boolean changed = false;
+            if (this.lastPeriod != null) {
+                int index = source.getIndex(this.lastPeriod);
+                if (index >= 0) {
+                    start = index + 1;
+                }
+                else {
+                    this.lastPeriod = null;
+                    if (this.result.getItemCount() > 0) {
+                        this.result.clear();
+                    }
+                }
+            }
+            int count = source.getItemCount();
+            if (start < count) {
+                if (this.lastPeriod == null) {
+                    this.firstSerial = source.getTimePeriod(0)
+                            .getSerialIndex() + this.skip;
+                }
+                addMovingAverage(source, start, count, this.periodCount,
+                        this.firstSerial, this.result);
+                this.lastPeriod = source.getTimePeriod(count - 1);
+                changed = true;
+            }
+            if (changed) {
+                this.result.fireSeriesChanged();
+            }
+        }
 
     }
 
@@ -39,6 +39,12 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Store the data items in a RingBufferList so that appending
+ *               to a full series and ageing out old items are O(1);
+ * 16-Oct-2026 : Added findValueRange() backed by a segment tree;
+ * 16-Oct-2026 : Added addAll() methods for adding a batch of items;
+ * 16-Oct-2026 : Count the insertions and removals inside the series, for
+ *               caches of per-item values;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2009, by Object Refinery Limited.
@@ -96,17 +102,22 @@
 package org.afree.data.time;
 
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
 
+import org.afree.data.Range;
+import org.afree.data.general.MinMaxSegmentTree;
 import org.afree.data.general.Series;
 import org.afree.data.general.SeriesChangeEvent;
 import org.afree.data.general.SeriesException;
+import org.afree.util.RingBufferList;
 
 /**
  * Represents a sequence of zero or more data items in the form (period, value)
@@ -135,9 +146,19 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     /** The type of period for the data. */
     protected Class timePeriodClass;
 
-    /** The list of data items in the series. */
+    /**
+     * The list of data items in the series.  This is a {@link RingBufferList}
+     * so that removing the oldest item (when the maximum item count or age
+     * is exceeded) does not shift the remaining items.
+     */
     protected List data;
 
+    /**
+     * The values of the data items (Double.NaN for <code>null</code>),
+     * indexed for fast min/max queries over a range of items.
+     */
+    private MinMaxSegmentTree valueIndex;
+
     /** The maximum number of items for the series. */
     private int maximumItemCount;
 
@@ -147,6 +168,14 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     private long maximumItemAge;
 
+    /**
+     * The number of times that items have been inserted before the last item
+     * or removed from anywhere but the start of the series.  Appending items
+     * and removing the oldest items don't change the count, so a cache of
+     * per-item values can follow those changes incrementally.
+     */
+    private transient int modificationCount;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -176,7 +205,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         this.domain = domain;
         this.range = range;
         this.timePeriodClass = null;
-        this.data = new java.util.ArrayList();
+        this.data = new RingBufferList();
+        this.valueIndex = new MinMaxSegmentTree();
         this.maximumItemCount = Integer.MAX_VALUE;
         this.maximumItemAge = Long.MAX_VALUE;
     }
@@ -316,6 +346,17 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         removeAgedItems(true);  // remove old items and notify if necessary
     }
 
+    /**
+     * Returns the number of times that items have been inserted before the
+     * last item or removed from anywhere but the start of the series.
+     * Appending items and removing the oldest items don't change the count.
+     *
+     * @return The count.
+     */
+    int getModificationCount() {
+        return this.modificationCount;
+    }
+
     /**
      * Returns the time period class for this series.
      * <p>
@@ -464,6 +505,27 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Returns the range of the values for the items from <code>start</code>
+     * to <code>end</code> (inclusive), ignoring <code>null</code> values.
+     * This runs in O(log n) time.
+     *
+     * @param start  the index of the first item.
+     * @param end  the index of the last item.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    public Range findValueRange(int start, int end) {
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        double lower = this.valueIndex.getMinimum(start, end + 1);
+        if (Double.isNaN(lower)) {
+            return null;
+        }
+        return new Range(lower, this.valueIndex.getMaximum(start, end + 1));
+    }
+
     /**
      * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
      * all registered listeners.
@@ -507,18 +569,22 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         int count = getItemCount();
         if (count == 0) {
             this.data.add(item);
+            this.valueIndex.add(valueOf(item));
             added = true;
         }
         else {
             RegularTimePeriod last = getTimePeriod(getItemCount() - 1);
             if (item.getPeriod().compareTo(last) > 0) {
                 this.data.add(item);
+                this.valueIndex.add(valueOf(item));
                 added = true;
             }
             else {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    this.valueIndex.add(-index - 1, valueOf(item));
+                    this.modificationCount++;
                     added = true;
                 }
                 else {
@@ -536,7 +602,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (added) {
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                this.data.remove(0);
+                removeFirstItem();
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
@@ -602,6 +668,215 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         add(item, notify);
     }
 
+    /**
+     * Adds a batch of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param periods  the time periods (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, must have
+     *                the same length as <code>periods</code>).
+     *
+     * @see #addAll(RegularTimePeriod[], double[], boolean)
+     */
+    public void addAll(RegularTimePeriod[] periods, double[] values) {
+        addAll(periods, values, true);
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  The
+     * batch is sorted (if necessary) and merged with the existing items in
+     * one pass.  If the batch contains a time period of the wrong class, or
+     * a time period that is already in the series (or in the batch), an
+     * exception is thrown and the series is left unchanged.
+     *
+     * @param periods  the time periods (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, must have
+     *                the same length as <code>periods</code>).
+     * @param notify  notify listeners?
+     */
+    public void addAll(RegularTimePeriod[] periods, double[] values,
+            boolean notify) {
+        if (periods == null) {
+            throw new IllegalArgumentException("Null 'periods' argument.");
+        }
+        if (values == null) {
+            throw new IllegalArgumentException("Null 'values' argument.");
+        }
+        if (periods.length != values.length) {
+            throw new IllegalArgumentException(
+                  "The 'periods' and 'values' arrays must have the same length.");
+        }
+        int count = periods.length;
+        if (count == 0) {
+            return;
+        }
+        Class c = this.timePeriodClass;
+        TimeSeriesDataItem[] items = new TimeSeriesDataItem[count];
+        boolean sorted = true;
+        for (int i = 0; i < count; i++) {
+            if (periods[i] == null) {
+                throw new IllegalArgumentException("Null 'period' argument.");
+            }
+            if (c == null) {
+                c = periods[i].getClass();
+            }
+            else if (!c.equals(periods[i].getClass())) {
+                throw new SeriesException("You are trying to add data where "
+                        + "the time period class is "
+                        + periods[i].getClass().getName()
+                        + ", but the TimeSeries is expecting an instance of "
+                        + c.getName() + ".");
+            }
+            items[i] = new TimeSeriesDataItem(periods[i], values[i]);
+            if (sorted && i > 0 && items[i - 1].compareTo(items[i]) > 0) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            Arrays.sort(items);
+        }
+        for (int i = 1; i < count; i++) {
+            if (items[i - 1].compareTo(items[i]) == 0) {
+                throw duplicatePeriodException(items[i].getPeriod());
+            }
+        }
+
+        int size = this.data.size();
+        if (size == 0 || items[0].compareTo(this.data.get(size - 1)) > 0) {
+            // the whole batch goes after the existing items
+            double[] sortedValues = values;
+            if (!sorted) {
+                sortedValues = new double[count];
+                for (int i = 0; i < count; i++) {
+                    sortedValues[i] = valueOf(items[i]);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                this.data.add(items[i]);
+            }
+            this.valueIndex.addAll(sortedValues, 0, count);
+        }
+        else {
+            List merged = new RingBufferList(size + count);
+            int i = 0;
+            int j = 0;
+            while (i < size && j < count) {
+                TimeSeriesDataItem existing
+                        = (TimeSeriesDataItem) this.data.get(i);
+                int result = items[j].compareTo(existing);
+                if (result == 0) {
+                    throw duplicatePeriodException(items[j].getPeriod());
+                }
+                merged.add(result < 0 ? items[j++] : this.data.get(i++));
+            }
+            while (i < size) {
+                merged.add(this.data.get(i++));
+            }
+            while (j < count) {
+                merged.add(items[j++]);
+            }
+            double[] mergedValues = new double[merged.size()];
+            for (int k = 0; k < mergedValues.length; k++) {
+                mergedValues[k] = valueOf((TimeSeriesDataItem) merged.get(k));
+            }
+            this.data = merged;
+            this.modificationCount++;
+            this.valueIndex.clear();
+            this.valueIndex.addAll(mergedValues, 0, mergedValues.length);
+        }
+        this.timePeriodClass = c;
+
+        int excess = getItemCount() - this.maximumItemCount;
+        if (excess > 0) {
+            this.data.subList(0, excess).clear();
+            this.valueIndex.removeRange(0, excess);
+        }
+        removeAgedItems(false);
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a batch of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param millis  the times of the items, in milliseconds
+     *                (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, must have
+     *                the same length as <code>millis</code>).
+     *
+     * @see #addAll(long[], double[], boolean)
+     */
+    public void addAll(long[] millis, double[] values) {
+        addAll(millis, values, true);
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  Each
+     * time is converted to an instance of the series' time period class
+     * (using the default time zone), or to a {@link FixedMillisecond} if the
+     * series is empty and has no time period class yet.
+     *
+     * @param millis  the times of the items, in milliseconds
+     *                (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, must have
+     *                the same length as <code>millis</code>).
+     * @param notify  notify listeners?
+     *
+     * @see #addAll(RegularTimePeriod[], double[], boolean)
+     */
+    public void addAll(long[] millis, double[] values, boolean notify) {
+        if (millis == null) {
+            throw new IllegalArgumentException("Null 'millis' argument.");
+        }
+        RegularTimePeriod[] periods = new RegularTimePeriod[millis.length];
+        Class c = this.timePeriodClass;
+        if (c == null || c.equals(FixedMillisecond.class)) {
+            for (int i = 0; i < millis.length; i++) {
+                periods[i] = new FixedMillisecond(millis[i]);
+            }
+        }
+        else {
+            // look up the constructor once rather than once per item
+            try {
+                Constructor constructor = c.getDeclaredConstructor(
+                        new Class[] {Date.class});
+                for (int i = 0; i < millis.length; i++) {
+                    periods[i] = (RegularTimePeriod) constructor.newInstance(
+                            new Object[] {new Date(millis[i])});
+                }
+            }
+            catch (Exception e) {
+                throw new SeriesException("Unable to create an instance of "
+                        + c.getName() + ".");
+            }
+        }
+        addAll(periods, values, notify);
+    }
+
+    /**
+     * Creates the exception thrown when an item is added for a time period
+     * that is already in the series.
+     *
+     * @param period  the time period.
+     *
+     * @return The exception.
+     */
+    private static SeriesException duplicatePeriodException(
+            RegularTimePeriod period) {
+        StringBuffer b = new StringBuffer();
+        b.append("You are attempting to add an observation for ");
+        b.append("the time period ");
+        b.append(period.toString());
+        b.append(" but the series already contains an observation");
+        b.append(" for that time period. Duplicates are not ");
+        b.append("permitted.  Try using the addOrUpdate() method.");
+        return new SeriesException(b.toString());
+    }
+
     /**
      * Updates (changes) the value for a time period.  Throws a
      * {@link SeriesException} if the period does not exist.
@@ -615,6 +890,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (index >= 0) {
             TimeSeriesDataItem pair = (TimeSeriesDataItem) this.data.get(index);
             pair.setValue(value);
+            this.valueIndex.set(index, valueOf(pair));
             fireSeriesChanged();
         }
         else {
@@ -633,6 +909,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void update(int index, Number value) {
         TimeSeriesDataItem item = getDataItem(index);
         item.setValue(value);
+        this.valueIndex.set(index, valueOf(item));
         fireSeriesChanged();
     }
 
@@ -702,18 +979,24 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                     = (TimeSeriesDataItem) this.data.get(index);
             overwritten = (TimeSeriesDataItem) existing.clone();
             existing.setValue(value);
+            this.valueIndex.set(index, valueOf(existing));
             removeAgedItems(false);  // remove old items if necessary, but
                                      // don't notify anyone, because that
                                      // happens next anyway...
             fireSeriesChanged();
         }
         else {
-            this.data.add(-index - 1, new TimeSeriesDataItem(period, value));
+            TimeSeriesDataItem item = new TimeSeriesDataItem(period, value);
+            if (-index - 1 < this.data.size()) {
+                this.modificationCount++;
+            }
+            this.data.add(-index - 1, item);
+            this.valueIndex.add(-index - 1, valueOf(item));
             this.timePeriodClass = period.getClass();
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                this.data.remove(0);
+                removeFirstItem();
                 if (this.data.isEmpty()) {
                     this.timePeriodClass = null;
                 }
@@ -744,7 +1027,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             boolean removed = false;
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
-                this.data.remove(0);
+                removeFirstItem();
                 removed = true;
             }
             if (removed && notify) {
@@ -793,7 +1076,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         boolean removed = false;
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
+            removeFirstItem();
             removed = true;
         }
         if (removed && notify) {
@@ -808,6 +1091,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.valueIndex.clear();
+            this.modificationCount++;
             this.timePeriodClass = null;
             fireSeriesChanged();
         }
@@ -825,6 +1110,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         int index = getIndex(period);
         if (index >= 0) {
             this.data.remove(index);
+            this.valueIndex.remove(index);
+            if (index > 0) {
+                this.modificationCount++;
+            }
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
             }
@@ -842,8 +1131,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (end < start) {
             throw new IllegalArgumentException("Requires start <= end.");
         }
-        for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
+        this.data.subList(start, end + 1).clear();
+        this.valueIndex.removeRange(start, end + 1);
+        if (start > 0) {
+            this.modificationCount++;
         }
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
@@ -895,7 +1186,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         TimeSeries copy = (TimeSeries) super.clone();
 
-        copy.data = new java.util.ArrayList();
+        copy.data = new RingBufferList();
+        copy.valueIndex = new MinMaxSegmentTree();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item
@@ -957,7 +1249,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         if (emptyRange) {
             TimeSeries copy = (TimeSeries) super.clone();
-            copy.data = new java.util.ArrayList();
+            copy.data = new RingBufferList();
+            copy.valueIndex = new MinMaxSegmentTree();
             return copy;
         }
         else {
@@ -1011,6 +1304,27 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 //        return super.equals(object);
 //    }
 
+    /**
+     * Removes the first item in the series (used when the maximum item count
+     * or age is exceeded).
+     */
+    private void removeFirstItem() {
+        this.data.remove(0);
+        this.valueIndex.remove(0);
+    }
+
+    /**
+     * Returns the value of a data item as a double primitive.
+     *
+     * @param item  the data item.
+     *
+     * @return The value (Double.NaN for a <code>null</code> value).
+     */
+    private static double valueOf(TimeSeriesDataItem item) {
+        Number value = item.getValue();
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
     /**
      * Returns a hash code value for the object.
      *
@@ -1083,7 +1397,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         this.domain = domain;
         this.range = range;
         this.timePeriodClass = timePeriodClass;
-        this.data = new java.util.ArrayList();
+        this.data = new RingBufferList();
+        this.valueIndex = new MinMaxSegmentTree();
         this.maximumItemCount = Integer.MAX_VALUE;
         this.maximumItemAge = Long.MAX_VALUE;
     }
@@ -39,6 +39,14 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Implemented XYRangeInfo (visible x-range aware bounds);
+ * 16-Oct-2026 : Cache the x-value of each item so that getXValue() does not
+ *               need to lock the working calendar;
+ * 16-Oct-2026 : Update the x-value cache incrementally as items are appended
+ *               and evicted, and search it without locking in
+ *               getRangeBounds();
+ * 16-Oct-2026 : Rebuild the x-value cache after an item is inserted or
+ *               removed inside a series;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2009, by Object Refinery Limited.
@@ -110,6 +118,7 @@ import org.afree.data.DomainOrder;
 import org.afree.data.xy.IntervalXYDataset;
 import org.afree.data.Range;
 import org.afree.data.xy.XYDataset;
+import org.afree.data.xy.XYRangeInfo;
 import org.afree.data.general.DatasetChangeEvent;
 import org.afree.data.xy.AbstractIntervalXYDataset;
 
@@ -120,11 +129,15 @@ import org.afree.data.xy.AbstractIntervalXYDataset;
  * use with the {@link org.afree.chart.plot.XYPlot} class.
  */
 public class TimeSeriesCollection extends AbstractIntervalXYDataset
-        implements XYDataset, IntervalXYDataset, DomainInfo, Serializable {
+        implements XYDataset, IntervalXYDataset, DomainInfo, XYRangeInfo,
+                   Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 834149929022371137L;
 
+    /** The smallest capacity of the arrays in an x-value cache. */
+    private static final int MINIMUM_CACHE_CAPACITY = 16;
+
     /** Storage for the time series. */
     private List data;
 
@@ -147,6 +160,13 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     private boolean domainIsPointsInTime;
 
+    /**
+     * The cached x-values for each series (indexed by series), created on
+     * demand.  The array is replaced rather than modified, so it can be read
+     * without holding a lock.
+     */
+    private transient volatile AnchorCache[] anchorCaches;
+
     /**
      * Constructs an empty dataset, tied to the default timezone.
      */
@@ -232,6 +252,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
             throw new IllegalArgumentException("Null 'anchor' argument.");
         }
         this.xPosition = anchor;
+        this.anchorCaches = null;
         notifyListeners(new DatasetChangeEvent(this, this));
     }
 
@@ -402,9 +423,25 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public double getXValue(int series, int item) {
         TimeSeries s = (TimeSeries) this.data.get(series);
-        TimeSeriesDataItem i = s.getDataItem(item);
-        RegularTimePeriod period = i.getPeriod();
-        return getX(period);
+        RegularTimePeriod period = s.getTimePeriod(item);
+        AnchorCache[] caches = this.anchorCaches;
+        AnchorCache cache = null;
+        if (caches != null && series < caches.length) {
+            cache = caches[series];
+        }
+        if (cache == null || !cache.isValidFor(s, this.xPosition, item,
+                period)) {
+            cache = updateAnchorCache(series, s, false);
+            if (!cache.isValidFor(s, this.xPosition, item, period)) {
+                // an item was inserted or removed inside the cached items
+                cache = updateAnchorCache(series, s, true);
+                if (!cache.isValidFor(s, this.xPosition, item, period)) {
+                    // the series has been modified by another thread
+                    return getX(period);
+                }
+            }
+        }
+        return cache.getX(item);
     }
 
     /**
@@ -416,10 +453,158 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     public Number getX(int series, int item) {
-        TimeSeries ts = (TimeSeries) this.data.get(series);
-        TimeSeriesDataItem dp = ts.getDataItem(item);
-        RegularTimePeriod period = dp.getPeriod();
-        return new Long(getX(period));
+        return new Long((long) getXValue(series, item));
+    }
+
+    /**
+     * Brings the cached x-values for a series up to date.  Items evicted from
+     * the start of the series are dropped from the cache and items appended
+     * to the end are added to it, so the working calendar is only consulted
+     * for the new items.  The x-values are only all recalculated when there
+     * is no cache for the series yet, when the anchor position or the time
+     * zone has changed, or when <code>rebuild</code> is <code>true</code>.
+     *
+     * @param index  the series index.
+     * @param series  the series.
+     * @param rebuild  a flag that forces all the x-values to be
+     *                 recalculated.
+     *
+     * @return The updated cache.
+     */
+    private synchronized AnchorCache updateAnchorCache(int index,
+            TimeSeries series, boolean rebuild) {
+        TimeZone zone = this.workingCalendar.getTimeZone();
+        AnchorCache[] caches = this.anchorCaches;
+        AnchorCache cache = null;
+        if (!rebuild && caches != null && index < caches.length) {
+            AnchorCache old = caches[index];
+            if (old != null && old.series == series
+                    && old.anchor == this.xPosition && old.zone == zone) {
+                cache = syncAnchorCache(old, series);
+            }
+        }
+        if (cache == null) {
+            int count = series.getItemCount();
+            int capacity = Math.max(count * 2, MINIMUM_CACHE_CAPACITY);
+            cache = appendToAnchorCache(series, zone,
+                    new RegularTimePeriod[capacity], new long[capacity], 0,
+                    0, count);
+        }
+        int size = Math.max(getSeriesCount(), index + 1);
+        AnchorCache[] updated = new AnchorCache[size];
+        if (caches != null) {
+            System.arraycopy(caches, 0, updated, 0,
+                    Math.min(caches.length, size));
+        }
+        updated[index] = cache;
+        this.anchorCaches = updated;
+        return cache;
+    }
+
+    /**
+     * Returns a cache for the current items in a series, derived from an
+     * older cache for the same series by dropping the items evicted from the
+     * start of the series and appending the items added to its end.  This
+     * method returns <code>null</code> if items have been inserted or removed
+     * inside the series (see {@link TimeSeries#getModificationCount()}), or
+     * if the series has changed in any other way that can be detected
+     * cheaply.
+     *
+     * @param old  the old cache.
+     * @param series  the series.
+     *
+     * @return The cache (possibly <code>null</code>).
+     */
+    private AnchorCache syncAnchorCache(AnchorCache old, TimeSeries series) {
+        int count = series.getItemCount();
+        if (count == 0 || old.count == 0
+                || old.modificationCount != series.getModificationCount()) {
+            return null;
+        }
+        // both lists are in ascending order, so skip the evicted items
+        RegularTimePeriod first = series.getTimePeriod(0);
+        int dropped = 0;
+        while (dropped < old.count && old.periods[old.start + dropped]
+                .compareTo(first) < 0) {
+            dropped++;
+        }
+        int kept = Math.min(old.count - dropped, count);
+        if (kept == 0 || old.periods[old.start + dropped] != first
+                || old.periods[old.start + dropped + kept - 1]
+                != series.getTimePeriod(kept - 1)) {
+            return null;
+        }
+        int start = old.start + dropped;
+        if (kept == count && kept == old.count - dropped) {
+            return dropped == 0 ? old : new AnchorCache(series, old.anchor,
+                    old.zone, old.periods, old.millis, start, count);
+        }
+        // older caches may still be in use, so the shared arrays can only be
+        // written beyond the end of the newest cache
+        if (kept < old.count - dropped || start + count > old.periods.length) {
+            int capacity = Math.max(count * 2, MINIMUM_CACHE_CAPACITY);
+            RegularTimePeriod[] periods = new RegularTimePeriod[capacity];
+            long[] millis = new long[capacity];
+            System.arraycopy(old.periods, start, periods, 0, kept);
+            System.arraycopy(old.millis, start, millis, 0, kept);
+            return appendToAnchorCache(series, old.zone, periods, millis, 0,
+                    kept, count);
+        }
+        return appendToAnchorCache(series, old.zone, old.periods, old.millis,
+                start, kept, count);
+    }
+
+    /**
+     * Calculates the x-values for items at the end of a series, stores them
+     * in the arrays (after any values already there) and returns a new cache
+     * over the arrays.
+     *
+     * @param series  the series.
+     * @param zone  the time zone.
+     * @param periods  the time periods.
+     * @param millis  the x-values.
+     * @param start  the array index of the x-value for the first item.
+     * @param from  the index of the first item to calculate.
+     * @param count  the number of items in the series.
+     *
+     * @return The cache.
+     */
+    private AnchorCache appendToAnchorCache(TimeSeries series, TimeZone zone,
+            RegularTimePeriod[] periods, long[] millis, int start, int from,
+            int count) {
+        for (int i = from; i < count; i++) {
+            RegularTimePeriod period = series.getTimePeriod(i);
+            periods[start + i] = period;
+            millis[start + i] = getX(period);
+        }
+        return new AnchorCache(series, this.xPosition, zone, periods, millis,
+                start, count);
+    }
+
+    /**
+     * Returns a cache that holds the x-values of all the items currently in a
+     * series, updating it first if necessary.
+     *
+     * @param index  the series index.
+     * @param series  the series.
+     *
+     * @return The cache.
+     */
+    private AnchorCache getAnchorCache(int index, TimeSeries series) {
+        AnchorCache[] caches = this.anchorCaches;
+        AnchorCache cache = null;
+        if (caches != null && index < caches.length) {
+            cache = caches[index];
+        }
+        int count = series.getItemCount();
+        if (cache == null || cache.count != count || (count > 0
+                && (!cache.isValidFor(series, this.xPosition, 0,
+                        series.getTimePeriod(0))
+                || !cache.isValidFor(series, this.xPosition, count - 1,
+                        series.getTimePeriod(count - 1))))) {
+            cache = updateAnchorCache(index, series, false);
+        }
+        return cache;
     }
 
     /**
@@ -605,6 +790,76 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
 
+    /**
+     * Returns the range of the values for the items in the visible series
+     * that have an x-value within the specified range.  The items are located
+     * by binary search and the bounds are read from each series' value
+     * index, so this runs in O(log n) time per series.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *                           (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored (the y-interval is always zero).
+     *
+     * @return The range (or <code>null</code> if there are no values in the
+     *     x-range).
+     */
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        if (visibleSeriesKeys == null) {
+            throw new IllegalArgumentException(
+                    "Null 'visibleSeriesKeys' argument.");
+        }
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            TimeSeries series = getSeries(seriesKey);
+            if (series == null) {
+                continue;
+            }
+            AnchorCache cache = getAnchorCache(indexOf(series), series);
+            int start = findItemIndex(cache, xRange.getLowerBound(), false);
+            int end = findItemIndex(cache, xRange.getUpperBound(), true);
+            if (start < end) {
+                result = Range.combine(result,
+                        series.findValueRange(start, end - 1));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the first item in a series with an x-value greater
+     * than (or, if <code>after</code> is <code>false</code>, greater than or
+     * equal to) the specified value.
+     *
+     * @param cache  the cached x-values for the series.
+     * @param x  the x-value.
+     * @param after  a flag that controls whether items equal to
+     *               <code>x</code> are skipped.
+     *
+     * @return The index (the item count if there is no such item).
+     */
+    private int findItemIndex(AnchorCache cache, double x, boolean after) {
+        int low = 0;
+        int high = cache.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double midX = cache.getX(mid);
+            if (midX < x || (after && midX == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Tests this time series collection for equality with another object.
      *
@@ -648,4 +903,94 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
 
+    /**
+     * The x-values for the items in one series, calculated for a particular
+     * anchor position and time zone.  Instances are not modified once
+     * created.  A newer cache for the same series may share the arrays, but
+     * only writes to them beyond the items of the older caches.
+     */
+    private static class AnchorCache {
+
+        /** The series. */
+        final TimeSeries series;
+
+        /** The anchor position used to calculate the x-values. */
+        final TimePeriodAnchor anchor;
+
+        /** The time zone used to calculate the x-values. */
+        final TimeZone zone;
+
+        /** The time period for each item (starting at index start). */
+        final RegularTimePeriod[] periods;
+
+        /** The x-value for each item (starting at index start). */
+        final long[] millis;
+
+        /** The array index for the first item. */
+        final int start;
+
+        /** The number of items. */
+        final int count;
+
+        /** The modification count of the series for the cached items. */
+        final int modificationCount;
+
+        /**
+         * Creates a new cache.
+         *
+         * @param series  the series.
+         * @param anchor  the anchor position.
+         * @param zone  the time zone.
+         * @param periods  the time periods.
+         * @param millis  the x-values.
+         * @param start  the array index for the first item.
+         * @param count  the number of items.
+         */
+        AnchorCache(TimeSeries series, TimePeriodAnchor anchor,
+                TimeZone zone, RegularTimePeriod[] periods, long[] millis,
+                int start, int count) {
+            this.series = series;
+            this.anchor = anchor;
+            this.zone = zone;
+            this.periods = periods;
+            this.millis = millis;
+            this.start = start;
+            this.count = count;
+            this.modificationCount = series.getModificationCount();
+        }
+
+        /**
+         * Returns <code>true</code> if the cache holds the x-value for the
+         * specified item, and no items have been inserted or removed inside
+         * the series since the cache was created.
+         *
+         * @param series  the series.
+         * @param anchor  the current anchor position.
+         * @param item  the item index.
+         * @param period  the item's time period.
+         *
+         * @return A boolean.
+         */
+        boolean isValidFor(TimeSeries series, TimePeriodAnchor anchor,
+                int item, RegularTimePeriod period) {
+            return this.series == series && this.anchor == anchor
+                    && this.modificationCount
+                    == series.getModificationCount()
+                    && item < this.count
+                    && this.periods[this.start + item] == period;
+        }
+
+        /**
+         * Returns the x-value for an item.
+         *
+         * @param item  the item index (less than the item count).
+         *
+         * @return The x-value.
+         */
+        long getX(int item) {
+            return this.millis[this.start + item];
+        }
+
+    }
+
 }
@@ -0,0 +1,347 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -----------------------
+ * DecimatedXYDataset.java
+ * -----------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.data.xy;
+
+import org.afree.data.DomainOrder;
+
+/**
+ * A read-only view of an {@link XYDataset} that presents a selection of the
+ * items in each series.  The plot uses it to pass a decimated copy of a
+ * large series to the renderer without copying any values: item
+ * <code>i</code> of a series in this view is item
+ * <code>getSourceItem(series, i)</code> of the same series in the underlying
+ * dataset.
+ * <p>
+ * If the underlying dataset is an {@link IntervalXYDataset}, the intervals
+ * are passed through, otherwise the start and end values are the x and y
+ * values.  The view doesn't listen for changes to the underlying dataset, it
+ * is meant to be created for a single drawing pass.
+ */
+public class DecimatedXYDataset extends AbstractIntervalXYDataset
+        implements IntervalXYDataset {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3318236017460524843L;
+
+    /** The underlying dataset. */
+    private XYDataset underlying;
+
+    /** The underlying dataset, if it has intervals. */
+    private IntervalXYDataset intervals;
+
+    /**
+     * The selected item indices for each series, in ascending order
+     * (<code>null</code> for a series that presents all its items).
+     */
+    private int[][] items;
+
+    /**
+     * Creates a new view that presents all the items of the underlying
+     * dataset until a selection is set for a series.
+     *
+     * @param underlying  the underlying dataset (<code>null</code> not
+     *     permitted).
+     */
+    public DecimatedXYDataset(XYDataset underlying) {
+        if (underlying == null) {
+            throw new IllegalArgumentException("Null 'underlying' argument.");
+        }
+        this.underlying = underlying;
+        if (underlying instanceof IntervalXYDataset) {
+            this.intervals = (IntervalXYDataset) underlying;
+        }
+        this.items = new int[underlying.getSeriesCount()][];
+    }
+
+    /**
+     * Returns the underlying dataset.
+     *
+     * @return The underlying dataset (never <code>null</code>).
+     */
+    public XYDataset getUnderlyingDataset() {
+        return this.underlying;
+    }
+
+    /**
+     * Sets the items presented for a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param items  the indices of the items in the underlying series, in
+     *     ascending order (<code>null</code> to present all the items).  The
+     *     array is not copied.
+     */
+    public void setItems(int series, int[] items) {
+        this.items[series] = items;
+    }
+
+    /**
+     * Returns the index in the underlying series of an item in this view.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index in this view (zero-based).
+     *
+     * @return The item index in the underlying series.
+     */
+    public int getSourceItem(int series, int item) {
+        int[] selection = this.items[series];
+        return (selection != null ? selection[item] : item);
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.underlying.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series key.
+     */
+    public Comparable getSeriesKey(int series) {
+        return this.underlying.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the order of the domain values, which is the same as in the
+     * underlying dataset.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        return this.underlying.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of items presented for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        int[] selection = this.items[series];
+        return (selection != null ? selection.length
+                : this.underlying.getItemCount(series));
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return this.underlying.getX(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the x-value for an item as a double.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        return this.underlying.getXValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int series, int item) {
+        return this.underlying.getY(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item as a double.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    public double getYValue(int series, int item) {
+        return this.underlying.getYValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the starting x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The starting x-value.
+     */
+    public Number getStartX(int series, int item) {
+        int source = getSourceItem(series, item);
+        if (this.intervals != null) {
+            return this.intervals.getStartX(series, source);
+        }
+        return this.underlying.getX(series, source);
+    }
+
+    /**
+     * Returns the starting x-value for an item as a double.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The starting x-value.
+     */
+    public double getStartXValue(int series, int item) {
+        int source = getSourceItem(series, item);
+        if (this.intervals != null) {
+            return this.intervals.getStartXValue(series, source);
+        }
+        return this.underlying.getXValue(series, source);
+    }
+
+    /**
+     * Returns the ending x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The ending x-value.
+     */
+    public Number getEndX(int series, int item) {
+        int source = getSourceItem(series, item);
+        if (this.intervals != null) {
+            return this.intervals.getEndX(series, source);
+        }
+        return this.underlying.getX(series, source);
+    }
+
+    /**
+     * Returns the ending x-value for an item as a double.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The ending x-value.
+     */
+    public double getEndXValue(int series, int item) {
+        int source = getSourceItem(series, item);
+        if (this.intervals != null) {
+            return this.intervals.getEndXValue(series, source);
+        }
+        return this.underlying.getXValue(series, source);
+    }
+
+    /**
+     * Returns the starting y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The starting y-value (possibly <code>null</code>).
+     */
+    public Number getStartY(int series, int item) {
+        int source = getSourceItem(series, item);
+        if (this.intervals != null) {
+            return this.intervals.getStartY(series, source);
+        }
+        return this.underlying.getY(series, source);
+    }
+
+    /**
+     * Returns the starting y-value for an item as a double.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The starting y-value.
+     */
+    public double getStartYValue(int series, int item) {
+        int source = getSourceItem(series, item);
+        if (this.intervals != null) {
+            return this.intervals.getStartYValue(series, source);
+        }
+        return this.underlying.getYValue(series, source);
+    }
+
+    /**
+     * Returns the ending y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The ending y-value (possibly <code>null</code>).
+     */
+    public Number getEndY(int series, int item) {
+        int source = getSourceItem(series, item);
+        if (this.intervals != null) {
+            return this.intervals.getEndY(series, source);
+        }
+        return this.underlying.getY(series, source);
+    }
+
+    /**
+     * Returns the ending y-value for an item as a double.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The ending y-value.
+     */
+    public double getEndYValue(int series, int item) {
+        int source = getSourceItem(series, item);
+        if (this.intervals != null) {
+            return this.intervals.getEndYValue(series, source);
+        }
+        return this.underlying.getYValue(series, source);
+    }
+
+}
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Implemented XYRangeInfo (visible x-range aware bounds);
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2006-2008, by Object Refinery Limited and Contributors.
@@ -59,10 +60,13 @@ package org.afree.data.xy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 import org.afree.util.PublicCloneable;
 import org.afree.data.DomainOrder;
+import org.afree.data.Range;
+import org.afree.data.general.MinMaxSegmentTree;
 import org.afree.data.xy.XYDataset;
 import org.afree.data.general.DatasetChangeEvent;
 
@@ -73,7 +77,7 @@ import org.afree.data.general.DatasetChangeEvent;
  * @since JFreeChart 1.0.2
  */
 public class DefaultXYDataset extends AbstractXYDataset
-        implements XYDataset, PublicCloneable {
+        implements XYDataset, XYRangeInfo, PublicCloneable {
 
     /**
      * 
@@ -93,6 +97,15 @@ public class DefaultXYDataset extends AbstractXYDataset
      */
     private List seriesList;
 
+    /**
+     * For each series, either a {@link MinMaxSegmentTree} over the y-values
+     * (when the x-values are in ascending order) or <code>Boolean.FALSE</code>
+     * (when they are not).  The list is built on demand by
+     * {@link #getRangeBounds(List, Range, boolean)} and discarded whenever a
+     * series is added or removed.
+     */
+    private transient List rangeIndexes;
+
     /**
      * Creates a new <code>DefaultXYDataset</code> instance, initially
      * containing no data.
@@ -292,6 +305,7 @@ public class DefaultXYDataset extends AbstractXYDataset
             this.seriesList.remove(seriesIndex);
             this.seriesList.add(seriesIndex, data);
         }
+        this.rangeIndexes = null;
         notifyListeners(new DatasetChangeEvent(this, this));
     }
 
@@ -307,10 +321,143 @@ public class DefaultXYDataset extends AbstractXYDataset
         if (seriesIndex >= 0) {
             this.seriesKeys.remove(seriesIndex);
             this.seriesList.remove(seriesIndex);
+            this.rangeIndexes = null;
             notifyListeners(new DatasetChangeEvent(this, this));
         }
     }
 
+    /**
+     * Returns the range of the y-values for the items in the visible series
+     * that have an x-value within the specified range.  For series with
+     * x-values in ascending order an index is built the first time this
+     * method is called, after which each call runs in O(log n) time per
+     * series.  Because the dataset does not copy the arrays passed to
+     * {@link #addSeries(Comparable, double[][])}, the series must be added
+     * again if the values in those arrays are modified.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *                           (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored (this dataset has no y-interval).
+     *
+     * @return The range (or <code>null</code> if there are no values in the
+     *     x-range).
+     */
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        if (visibleSeriesKeys == null) {
+            throw new IllegalArgumentException(
+                    "Null 'visibleSeriesKeys' argument.");
+        }
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            int series = indexOf(seriesKey);
+            if (series < 0) {
+                continue;
+            }
+            double[][] seriesData = (double[][]) this.seriesList.get(series);
+            double[] x = seriesData[0];
+            double[] y = seriesData[1];
+            Object rangeIndex = getRangeIndex(series);
+            if (rangeIndex instanceof MinMaxSegmentTree) {
+                MinMaxSegmentTree tree = (MinMaxSegmentTree) rangeIndex;
+                int start = findInsertionIndex(x, xRange.getLowerBound(),
+                        false);
+                int end = findInsertionIndex(x, xRange.getUpperBound(), true);
+                if (start < end) {
+                    double min = tree.getMinimum(start, end);
+                    if (!Double.isNaN(min)) {
+                        lower = Math.min(lower, min);
+                        upper = Math.max(upper, tree.getMaximum(start, end));
+                    }
+                }
+            }
+            else {
+                for (int i = 0; i < x.length; i++) {
+                    if (xRange.contains(x[i]) && !Double.isNaN(y[i])) {
+                        lower = Math.min(lower, y[i]);
+                        upper = Math.max(upper, y[i]);
+                    }
+                }
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the range index for a series, building it if necessary.
+     *
+     * @param series  the series index.
+     *
+     * @return A {@link MinMaxSegmentTree}, or <code>Boolean.FALSE</code> if
+     *     the x-values for the series are not in ascending order.
+     */
+    private Object getRangeIndex(int series) {
+        if (this.rangeIndexes == null) {
+            this.rangeIndexes = new ArrayList(
+                    java.util.Collections.nCopies(this.seriesList.size(), null));
+        }
+        Object result = this.rangeIndexes.get(series);
+        if (result == null) {
+            double[][] seriesData = (double[][]) this.seriesList.get(series);
+            double[] x = seriesData[0];
+            double[] y = seriesData[1];
+            boolean ascending = true;
+            for (int i = 1; i < x.length && ascending; i++) {
+                ascending = x[i - 1] <= x[i];
+            }
+            if (ascending) {
+                MinMaxSegmentTree tree = new MinMaxSegmentTree(y.length);
+                for (int i = 0; i < y.length; i++) {
+                    tree.add(y[i]);
+                }
+                result = tree;
+            }
+            else {
+                result = Boolean.FALSE;
+            }
+            this.rangeIndexes.set(series, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the first element in a sorted array that is greater
+     * than (or, if <code>after</code> is <code>false</code>, greater than or
+     * equal to) the specified value.
+     *
+     * @param values  the values (in ascending order).
+     * @param x  the value to search for.
+     * @param after  a flag that controls whether elements equal to
+     *               <code>x</code> are skipped.
+     *
+     * @return The index (the array length if there is no such element).
+     */
+    private static int findInsertionIndex(double[] values, double x,
+            boolean after) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < x || (after && values[mid] == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Tests this <code>DefaultXYDataset</code> instance for equality with an
      * arbitrary object.  This method returns <code>true</code> if and only if:
@@ -379,6 +526,7 @@ public class DefaultXYDataset extends AbstractXYDataset
         DefaultXYDataset clone = (DefaultXYDataset) super.clone();
         clone.seriesKeys = new java.util.ArrayList(this.seriesKeys);
         clone.seriesList = new ArrayList(this.seriesList.size());
+        clone.rangeIndexes = null;
         for (int i = 0; i < this.seriesList.size(); i++) {
             double[][] data = (double[][]) this.seriesList.get(i);
             double[] x = data[0];
@@ -0,0 +1,1029 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -------------------
+ * DoubleXYSeries.java
+ * -------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Added addAll(double[], double[]) methods;
+ * 16-Oct-2026 : Added equals(), and reject start > end in delete();
+ * 16-Oct-2026 : Remove items from the start of the series without shifting
+ *               the storage arrays, so a capped series appends in constant
+ *               amortised time;
+ */
+
+package org.afree.data.xy;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.afree.data.general.Series;
+import org.afree.data.general.SeriesChangeEvent;
+import org.afree.data.general.SeriesException;
+import org.afree.util.ObjectUtilities;
+
+/**
+ * A sequence of zero or more (x, y) data items stored in two growable arrays
+ * of double primitives.  This is a lightweight alternative to {@link XYSeries}
+ * for very large series: no {@link XYDataItem} or <code>Number</code> object
+ * is created per item, and the values can be read without boxing.
+ * <P>
+ * As with {@link XYSeries}, items are sorted into ascending order by x-value
+ * by default and duplicate x-values are permitted, and both defaults can be
+ * changed in the constructor.  Missing y-values are represented by
+ * <code>Double.NaN</code>.
+ *
+ * @see DoubleXYSeriesCollection
+ */
+public class DoubleXYSeries extends Series implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3517290646839386410L;
+
+    /** The initial capacity of the value arrays. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Storage for the x-values (only the itemCount values from the offset
+     * are in use).
+     */
+    private double[] xValues;
+
+    /**
+     * Storage for the y-values (only the itemCount values from the offset
+     * are in use).
+     */
+    private double[] yValues;
+
+    /**
+     * The index in the storage arrays of the first item.  Items removed from
+     * the start of the series just advance the offset, and the arrays are
+     * compacted when more room is needed at the end.
+     */
+    private int offset;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The maximum number of items for the series. */
+    private int maximumItemCount = Integer.MAX_VALUE;
+
+    /**
+     * A flag that controls whether the items are automatically sorted
+     * (by x-value ascending).
+     */
+    private boolean autoSort;
+
+    /** A flag that controls whether or not duplicate x-values are allowed. */
+    private boolean allowDuplicateXValues;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public DoubleXYSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public DoubleXYSeries(Comparable key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new series that contains no data.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public DoubleXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new series that contains no data, with storage
+     * pre-allocated for the specified number of items.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param initialCapacity  the initial capacity (must be non-negative).
+     */
+    public DoubleXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues, int initialCapacity) {
+        super(key);
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'initialCapacity' argument.");
+        }
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.itemCount = 0;
+        this.autoSort = autoSort;
+        this.allowDuplicateXValues = allowDuplicateXValues;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the flag that controls whether the items in the series are
+     * automatically sorted.  There is no setter for this flag, it must be
+     * defined in the series constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean getAutoSort() {
+        return this.autoSort;
+    }
+
+    /**
+     * Returns a flag that controls whether duplicate x-values are allowed.
+     * This flag can only be set in the constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean getAllowDuplicateXValues() {
+        return this.allowDuplicateXValues;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest x-value.
+     */
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest x-value.
+     */
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest y-value.
+     */
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest y-value.
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the maximum number of items that will be retained in the series.
+     * The default value is <code>Integer.MAX_VALUE</code>.
+     *
+     * @return The maximum item count.
+     *
+     * @see #setMaximumItemCount(int)
+     */
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If you add a new item to the series such that the number of items will
+     * exceed the maximum item count, then the first element in the series is
+     * automatically removed.  If the maximum is applied after the series is
+     * populated, items may be removed (in which case a
+     * {@link SeriesChangeEvent} will be sent to all registered listeners).
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    public void setMaximumItemCount(int maximum) {
+        this.maximumItemCount = maximum;
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeRange(0, remove);
+            findBoundsByIteration();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[this.offset + index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[this.offset + index];
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void add(double x, double y, boolean notify) {
+        int index;
+        if (this.autoSort) {
+            // insert *after* any existing items with the same x-value
+            index = upperBound(x);
+            if (!this.allowDuplicateXValues && index > 0
+                    && this.xValues[this.offset + index - 1] == x) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+        else {
+            if (!this.allowDuplicateXValues && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.itemCount;
+        }
+        insert(index, x, y);
+        updateBoundsForAddedItem(x, y);
+        if (this.itemCount > this.maximumItemCount) {
+            double removedX = this.xValues[this.offset];
+            double removedY = this.yValues[this.offset];
+            removeRange(0, 1);
+            updateBoundsForRemovedItem(removedX, removedY);
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a batch of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, must have the
+     *           same length as <code>x</code>).
+     *
+     * @see #addAll(double[], double[], boolean)
+     */
+    public void addAll(double[] x, double[] y) {
+        addAll(x, y, true);
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  For a
+     * sorted series the batch is sorted (if necessary) and merged into the
+     * existing items in one pass.  If the batch contains an x-value that is
+     * not permitted, an exception is thrown and the series is left unchanged.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, must have the
+     *           same length as <code>x</code>).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if duplicate x-values are not permitted and
+     *     the batch contains one.
+     */
+    public void addAll(double[] x, double[] y, boolean notify) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        if (y == null) {
+            throw new IllegalArgumentException("Null 'y' argument.");
+        }
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have the same length.");
+        }
+        int count = x.length;
+        if (count == 0) {
+            return;
+        }
+        double[] bx = x;
+        double[] by = y;
+        if (this.autoSort) {
+            for (int i = 1; i < count; i++) {
+                if (x[i - 1] > x[i]) {
+                    bx = (double[]) x.clone();
+                    by = (double[]) y.clone();
+                    sortByX(bx, by);
+                    break;
+                }
+            }
+            if (!this.allowDuplicateXValues) {
+                checkSortedBatchForDuplicates(bx);
+            }
+            mergeSortedBatch(bx, by);
+        }
+        else {
+            if (!this.allowDuplicateXValues) {
+                Set seen = new HashSet();
+                for (int i = 0; i < this.itemCount; i++) {
+                    seen.add(new Double(this.xValues[this.offset + i]));
+                }
+                for (int i = 0; i < count; i++) {
+                    if (!seen.add(new Double(x[i]))) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+            ensureCapacity(this.itemCount + count);
+            int end = this.offset + this.itemCount;
+            System.arraycopy(x, 0, this.xValues, end, count);
+            System.arraycopy(y, 0, this.yValues, end, count);
+            this.itemCount += count;
+        }
+        for (int i = 0; i < count; i++) {
+            updateBoundsForAddedItem(bx[i], by[i]);
+        }
+        int excess = this.itemCount - this.maximumItemCount;
+        if (excess > 0) {
+            removeRange(0, excess);
+            findBoundsByIteration();
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Updates the y-value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>Double.NaN</code> for a missing value).
+     */
+    public void updateByIndex(int index, double y) {
+        checkIndex(index);
+        double oldY = this.yValues[this.offset + index];
+        this.yValues[this.offset + index] = y;
+        if (!Double.isNaN(oldY) && (oldY <= this.minY || oldY >= this.maxY)) {
+            findBoundsByIteration();
+        }
+        else {
+            this.minY = minIgnoreNaN(this.minY, y);
+            this.maxY = maxIgnoreNaN(this.maxY, y);
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Updates an item in the series.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     *
+     * @throws SeriesException if there is no existing item with the specified
+     *         x-value.
+     */
+    public void update(double x, double y) {
+        int index = indexOf(x);
+        if (index < 0) {
+            throw new SeriesException("No observation for x = " + x);
+        }
+        updateByIndex(index, y);
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     */
+    public void remove(int index) {
+        checkIndex(index);
+        double removedX = this.xValues[this.offset + index];
+        double removedY = this.yValues[this.offset + index];
+        removeRange(index, index + 1);
+        updateBoundsForRemovedItem(removedX, removedY);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    public void delete(int start, int end) {
+        checkIndex(start);
+        checkIndex(end);
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        removeRange(start, end + 1);
+        findBoundsByIteration();
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.offset = 0;
+            this.itemCount = 0;
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series the negative value is <code>-(insertionPoint) - 1</code>,
+     * as for <code>Arrays.binarySearch()</code>.  Be aware that for an
+     * unsorted series, the index is found by iterating through all items in
+     * the series.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        if (this.autoSort) {
+            int low = 0;
+            int high = this.itemCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                double midX = this.xValues[this.offset + mid];
+                if (midX < x) {
+                    low = mid + 1;
+                }
+                else if (midX > x) {
+                    high = mid - 1;
+                }
+                else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+        else {
+            for (int i = 0; i < this.itemCount; i++) {
+                if (this.xValues[this.offset + i] == x) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    public double[][] toArray() {
+        double[][] result = new double[2][this.itemCount];
+        System.arraycopy(this.xValues, this.offset, result[0], 0,
+                this.itemCount);
+        System.arraycopy(this.yValues, this.offset, result[1], 0,
+                this.itemCount);
+        return result;
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DoubleXYSeries clone = (DoubleXYSeries) super.clone();
+        clone.xValues = (double[]) this.xValues.clone();
+        clone.yValues = (double[]) this.yValues.clone();
+        return clone;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DoubleXYSeries)) {
+            return false;
+        }
+        DoubleXYSeries that = (DoubleXYSeries) obj;
+        if (!getKey().equals(that.getKey())) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(getDescription(), that.getDescription())) {
+            return false;
+        }
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        if (this.autoSort != that.autoSort) {
+            return false;
+        }
+        if (this.allowDuplicateXValues != that.allowDuplicateXValues) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            int a = this.offset + i;
+            int b = that.offset + i;
+            if (Double.doubleToLongBits(this.xValues[a])
+                    != Double.doubleToLongBits(that.xValues[b])) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.yValues[a])
+                    != Double.doubleToLongBits(that.yValues[b])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = getKey().hashCode();
+        // it is too slow to look at every data item, so let's just look at
+        // the first, middle and last items...
+        int count = this.itemCount;
+        if (count > 0) {
+            result = 29 * result + hashCodeForItem(0);
+        }
+        if (count > 1) {
+            result = 29 * result + hashCodeForItem(count - 1);
+        }
+        if (count > 2) {
+            result = 29 * result + hashCodeForItem(count / 2);
+        }
+        result = 29 * result + this.maximumItemCount;
+        result = 29 * result + (this.autoSort ? 1 : 0);
+        result = 29 * result + (this.allowDuplicateXValues ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Returns a hash code for a single item.
+     *
+     * @param index  the item index.
+     *
+     * @return A hash code.
+     */
+    private int hashCodeForItem(int index) {
+        long bits = Double.doubleToLongBits(this.xValues[this.offset + index]);
+        int result = (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(this.yValues[this.offset + index]);
+        return 29 * result + (int) (bits ^ (bits >>> 32));
+    }
+
+    /**
+     * Returns the index at which an item with the specified x-value should be
+     * inserted so that it follows any existing items with the same x-value.
+     * Only valid for a sorted series.
+     *
+     * @param x  the x-value.
+     *
+     * @return The insertion index.
+     */
+    private int upperBound(double x) {
+        // fast path for the common case of appending in order
+        if (this.itemCount == 0
+                || this.xValues[this.offset + this.itemCount - 1] <= x) {
+            return this.itemCount;
+        }
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[this.offset + mid] <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts an item at the specified index, growing the storage arrays if
+     * necessary.
+     *
+     * @param index  the index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insert(int index, double x, double y) {
+        ensureCapacity(this.itemCount + 1);
+        int i = this.offset + index;
+        int tail = this.itemCount - index;
+        if (tail > 0) {
+            System.arraycopy(this.xValues, i, this.xValues, i + 1, tail);
+            System.arraycopy(this.yValues, i, this.yValues, i + 1, tail);
+        }
+        this.xValues[i] = x;
+        this.yValues[i] = y;
+        this.itemCount++;
+    }
+
+    /**
+     * Throws an exception if a sorted batch contains an x-value that is
+     * repeated within the batch or already present in the series.
+     *
+     * @param x  the x-values of the batch (in ascending order).
+     */
+    private void checkSortedBatchForDuplicates(double[] x) {
+        int i = 0;
+        for (int j = 0; j < x.length; j++) {
+            if (j > 0 && x[j - 1] == x[j]) {
+                throw new SeriesException("X-value already exists.");
+            }
+            while (i < this.itemCount
+                    && this.xValues[this.offset + i] < x[j]) {
+                i++;
+            }
+            if (i < this.itemCount
+                    && this.xValues[this.offset + i] == x[j]) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+    }
+
+    /**
+     * Merges a batch of items (sorted by x-value) into the series, working
+     * back from the end of the storage arrays so that no temporary copy is
+     * needed.  New items are placed after existing items with the same
+     * x-value.  The bounds are not updated.
+     *
+     * @param x  the x-values of the batch (in ascending order).
+     * @param y  the y-values of the batch.
+     */
+    private void mergeSortedBatch(double[] x, double[] y) {
+        ensureCapacity(this.itemCount + x.length);
+        int i = this.offset + this.itemCount - 1;
+        int j = x.length - 1;
+        int k = this.offset + this.itemCount + x.length - 1;
+        while (j >= 0) {
+            if (i >= this.offset && this.xValues[i] > x[j]) {
+                this.xValues[k] = this.xValues[i];
+                this.yValues[k] = this.yValues[i];
+                i--;
+            }
+            else {
+                this.xValues[k] = x[j];
+                this.yValues[k] = y[j];
+                j--;
+            }
+            k--;
+        }
+        this.itemCount += x.length;
+    }
+
+    /**
+     * Sorts a batch of items into ascending order by x-value.  The sort is a
+     * stable merge sort, so items with equal x-values keep their order.
+     *
+     * @param x  the x-values (sorted in place).
+     * @param y  the y-values (reordered along with the x-values).
+     */
+    private static void sortByX(double[] x, double[] y) {
+        int n = x.length;
+        double[] srcX = x;
+        double[] srcY = y;
+        double[] dstX = new double[n];
+        double[] dstY = new double[n];
+        for (int width = 1; width < n; width *= 2) {
+            for (int low = 0; low < n; low += 2 * width) {
+                int mid = Math.min(low + width, n);
+                int high = Math.min(low + 2 * width, n);
+                int i = low;
+                int j = mid;
+                for (int k = low; k < high; k++) {
+                    if (i < mid && (j >= high || srcX[i] <= srcX[j])) {
+                        dstX[k] = srcX[i];
+                        dstY[k] = srcY[i++];
+                    }
+                    else {
+                        dstX[k] = srcX[j];
+                        dstY[k] = srcY[j++];
+                    }
+                }
+            }
+            double[] t = srcX;
+            srcX = dstX;
+            dstX = t;
+            t = srcY;
+            srcY = dstY;
+            dstY = t;
+        }
+        if (srcX != x) {
+            System.arraycopy(srcX, 0, x, 0, n);
+            System.arraycopy(srcY, 0, y, 0, n);
+        }
+    }
+
+    /**
+     * Removes the items from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive) without updating the bounds.  Items at the
+     * start of the series are dropped by advancing the offset, so nothing is
+     * copied.
+     *
+     * @param start  the start index.
+     * @param end  the end index.
+     */
+    private void removeRange(int start, int end) {
+        if (start == 0) {
+            this.offset += end;
+        }
+        else {
+            int tail = this.itemCount - end;
+            if (tail > 0) {
+                System.arraycopy(this.xValues, this.offset + end, this.xValues,
+                        this.offset + start, tail);
+                System.arraycopy(this.yValues, this.offset + end, this.yValues,
+                        this.offset + start, tail);
+            }
+        }
+        this.itemCount -= (end - start);
+        if (this.itemCount == 0) {
+            this.offset = 0;
+        }
+    }
+
+    /**
+     * Ensures the storage arrays can hold at least the specified number of
+     * items after the offset.  If there is room at the start of the arrays
+     * for at least a quarter of their length, the items are moved down to
+     * index zero, otherwise the arrays are grown.  Either way the copy is
+     * paid for by the items appended before the next one.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        int length = this.xValues.length;
+        if (this.offset + capacity <= length) {
+            return;
+        }
+        if (capacity <= length - length / 4) {
+            System.arraycopy(this.xValues, this.offset, this.xValues, 0,
+                    this.itemCount);
+            System.arraycopy(this.yValues, this.offset, this.yValues, 0,
+                    this.itemCount);
+        }
+        else {
+            int newCapacity = Math.max(capacity,
+                    Math.max(DEFAULT_CAPACITY, length * 3 / 2));
+            double[] x = new double[newCapacity];
+            double[] y = new double[newCapacity];
+            System.arraycopy(this.xValues, this.offset, x, 0, this.itemCount);
+            System.arraycopy(this.yValues, this.offset, y, 0, this.itemCount);
+            this.xValues = x;
+            this.yValues = y;
+        }
+        this.offset = 0;
+    }
+
+    /**
+     * Throws an exception if the index is out of range.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values.
+     *
+     * @param x  the x-value of the item added.
+     * @param y  the y-value of the item added.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the specified item has just been removed.
+     *
+     * @param x  the x-value of the item removed.
+     * @param y  the y-value of the item removed.
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
+        boolean itemContributesToXBounds = !Double.isNaN(x)
+                && (x <= this.minX || x >= this.maxX);
+        boolean itemContributesToYBounds = !Double.isNaN(y)
+                && (y <= this.minY || y >= this.maxY);
+        if (itemContributesToYBounds) {
+            findBoundsByIteration();
+        }
+        else if (itemContributesToXBounds) {
+            if (this.autoSort) {
+                if (this.itemCount > 0) {
+                    this.minX = this.xValues[this.offset];
+                    this.maxX = this.xValues[this.offset + this.itemCount - 1];
+                }
+                else {
+                    this.minX = Double.NaN;
+                    this.maxX = Double.NaN;
+                }
+            }
+            else {
+                findBoundsByIteration();
+            }
+        }
+    }
+
+    /**
+     * Finds the bounds of the x and y values for the series, by iterating
+     * through all the data items.
+     */
+    private void findBoundsByIteration() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        for (int i = this.offset; i < this.offset + this.itemCount; i++) {
+            updateBoundsForAddedItem(this.xValues[i], this.yValues[i]);
+        }
+    }
+
+    /**
+     * A function to find the minimum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * A function to find the maximum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+}
@@ -0,0 +1,742 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -----------------------------
+ * DoubleXYSeriesCollection.java
+ * -----------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Added equals(), hashCode() and clone();
+ * 16-Oct-2026 : Don't share listener lists with the original series in
+ *               clone();
+ */
+
+package org.afree.data.xy;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.afree.data.DomainInfo;
+import org.afree.data.DomainOrder;
+import org.afree.data.Range;
+import org.afree.data.RangeInfo;
+import org.afree.data.UnknownKeyException;
+import org.afree.data.general.DatasetChangeEvent;
+
+/**
+ * Represents a collection of {@link DoubleXYSeries} objects that can be used
+ * as a dataset.  The x- and y-values are returned without boxing through
+ * {@link #getXValue(int, int)} and {@link #getYValue(int, int)}, which is
+ * the path used by the renderers.
+ */
+public class DoubleXYSeriesCollection extends AbstractIntervalXYDataset
+        implements IntervalXYDataset, DomainInfo, RangeInfo, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2167492417405390167L;
+
+    /** The series that are included in the collection. */
+    private List data;
+
+    /** The interval delegate (used to calculate the start and end x-values). */
+    private IntervalXYDelegate intervalDelegate;
+
+    /**
+     * Constructs an empty dataset.
+     */
+    public DoubleXYSeriesCollection() {
+        this(null);
+    }
+
+    /**
+     * Constructs a dataset and populates it with a single series.
+     *
+     * @param series  the series (<code>null</code> ignored).
+     */
+    public DoubleXYSeriesCollection(DoubleXYSeries series) {
+        this.data = new ArrayList();
+        this.intervalDelegate = new IntervalXYDelegate(this, false);
+        addChangeListener(this.intervalDelegate);
+        if (series != null) {
+            this.data.add(series);
+            series.addChangeListener(this);
+        }
+    }
+
+    /**
+     * Returns the order of the domain (X) values, if this is known.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        int seriesCount = getSeriesCount();
+        for (int i = 0; i < seriesCount; i++) {
+            DoubleXYSeries s = getSeries(i);
+            if (!s.getAutoSort()) {
+                return DomainOrder.NONE;  // we can't be sure of the order
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Adds a series to the collection and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     */
+    public void addSeries(DoubleXYSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        this.data.add(series);
+        series.addChangeListener(this);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void removeSeries(int series) {
+        if ((series < 0) || (series >= getSeriesCount())) {
+            throw new IllegalArgumentException("Series index out of bounds.");
+        }
+        DoubleXYSeries s = (DoubleXYSeries) this.data.get(series);
+        s.removeChangeListener(this);
+        this.data.remove(series);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     */
+    public void removeSeries(DoubleXYSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        if (this.data.contains(series)) {
+            series.removeChangeListener(this);
+            this.data.remove(series);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes all the series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void removeAllSeries() {
+        for (int i = 0; i < this.data.size(); i++) {
+            DoubleXYSeries series = (DoubleXYSeries) this.data.get(i);
+            series.removeChangeListener(this);
+        }
+        this.data.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns a list of all the series in the collection.
+     *
+     * @return The list (which is unmodifiable).
+     */
+    public List getSeries() {
+        return Collections.unmodifiableList(this.data);
+    }
+
+    /**
+     * Returns the index of the specified series, or -1 if that series is not
+     * present in the dataset.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @return The series index.
+     */
+    public int indexOf(DoubleXYSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        return this.data.indexOf(series);
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series.
+     *
+     * @throws IllegalArgumentException if <code>series</code> is not in the
+     *     range <code>0</code> to <code>getSeriesCount() - 1</code>.
+     */
+    public DoubleXYSeries getSeries(int series) {
+        if ((series < 0) || (series >= getSeriesCount())) {
+            throw new IllegalArgumentException("Series index out of bounds");
+        }
+        return (DoubleXYSeries) this.data.get(series);
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The series with the specified key.
+     *
+     * @throws UnknownKeyException if <code>key</code> is not found in the
+     *         collection.
+     */
+    public DoubleXYSeries getSeries(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Iterator iterator = this.data.iterator();
+        while (iterator.hasNext()) {
+            DoubleXYSeries series = (DoubleXYSeries) iterator.next();
+            if (key.equals(series.getKey())) {
+                return series;
+            }
+        }
+        throw new UnknownKeyException("Key not found: " + key);
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for a series.
+     */
+    public Comparable getSeriesKey(int series) {
+        // defer argument checking
+        return getSeries(series).getKey();
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     *
+     * @param series  the series (zero-based index).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        // defer argument checking
+        return getSeries(series).getItemCount();
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        DoubleXYSeries s = (DoubleXYSeries) this.data.get(series);
+        return s.getXValue(item);
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.  Callers should
+     * prefer {@link #getXValue(int, int)}, which avoids creating an object.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    public double getYValue(int series, int item) {
+        DoubleXYSeries s = (DoubleXYSeries) this.data.get(series);
+        return s.getYValue(item);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.  Callers should
+     * prefer {@link #getYValue(int, int)}, which avoids creating an object.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (<code>null</code> for a missing value).
+     */
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        if (Double.isNaN(y)) {
+            return null;
+        }
+        return new Double(y);
+    }
+
+    /**
+     * Returns the starting X value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting X value.
+     */
+    public Number getStartX(int series, int item) {
+        return this.intervalDelegate.getStartX(series, item);
+    }
+
+    /**
+     * Returns the starting x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting x-value.
+     */
+    public double getStartXValue(int series, int item) {
+        return this.intervalDelegate.getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the ending X value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending X value.
+     */
+    public Number getEndX(int series, int item) {
+        return this.intervalDelegate.getEndX(series, item);
+    }
+
+    /**
+     * Returns the ending x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending x-value.
+     */
+    public double getEndXValue(int series, int item) {
+        return this.intervalDelegate.getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the starting Y value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting Y value.
+     */
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the starting y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting y-value.
+     */
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending Y value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending Y value.
+     */
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending y-value.
+     */
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        if (includeInterval) {
+            return this.intervalDelegate.getDomainLowerBound(includeInterval);
+        }
+        double result = Double.NaN;
+        int seriesCount = getSeriesCount();
+        for (int s = 0; s < seriesCount; s++) {
+            double lowX = getSeries(s).getMinX();
+            if (Double.isNaN(result)) {
+                result = lowX;
+            }
+            else if (!Double.isNaN(lowX)) {
+                result = Math.min(result, lowX);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        if (includeInterval) {
+            return this.intervalDelegate.getDomainUpperBound(includeInterval);
+        }
+        double result = Double.NaN;
+        int seriesCount = getSeriesCount();
+        for (int s = 0; s < seriesCount; s++) {
+            double hiX = getSeries(s).getMaxX();
+            if (Double.isNaN(result)) {
+                result = hiX;
+            }
+            else if (!Double.isNaN(hiX)) {
+                result = Math.max(result, hiX);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (or <code>null</code> if the dataset contains no
+     *     values).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        if (includeInterval) {
+            return this.intervalDelegate.getDomainBounds(includeInterval);
+        }
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        int seriesCount = getSeriesCount();
+        for (int s = 0; s < seriesCount; s++) {
+            DoubleXYSeries series = getSeries(s);
+            double minX = series.getMinX();
+            if (!Double.isNaN(minX)) {
+                lower = Math.min(lower, minX);
+            }
+            double maxX = series.getMaxX();
+            if (!Double.isNaN(maxX)) {
+                upper = Math.max(upper, maxX);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the interval width. This is used to calculate the start and end
+     * x-values, if/when the dataset is used as an {@link IntervalXYDataset}.
+     *
+     * @return The interval width.
+     */
+    public double getIntervalWidth() {
+        return this.intervalDelegate.getIntervalWidth();
+    }
+
+    /**
+     * Sets the interval width and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param width  the width (negative values not permitted).
+     */
+    public void setIntervalWidth(double width) {
+        if (width < 0.0) {
+            throw new IllegalArgumentException("Negative 'width' argument.");
+        }
+        this.intervalDelegate.setFixedIntervalWidth(width);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the interval position factor.
+     *
+     * @return The interval position factor.
+     */
+    public double getIntervalPositionFactor() {
+        return this.intervalDelegate.getIntervalPositionFactor();
+    }
+
+    /**
+     * Sets the interval position factor. This controls where the x-value is in
+     * relation to the interval surrounding the x-value (0.0 means the x-value
+     * will be positioned at the start, 0.5 in the middle, and 1.0 at the end).
+     *
+     * @param factor  the factor.
+     */
+    public void setIntervalPositionFactor(double factor) {
+        this.intervalDelegate.setIntervalPositionFactor(factor);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns whether the interval width is automatically calculated or not.
+     *
+     * @return Whether the width is automatically calculated or not.
+     */
+    public boolean isAutoWidth() {
+        return this.intervalDelegate.isAutoWidth();
+    }
+
+    /**
+     * Sets the flag that indicates wether the interval width is automatically
+     * calculated or not.
+     *
+     * @param b  a boolean.
+     */
+    public void setAutoWidth(boolean b) {
+        this.intervalDelegate.setAutoWidth(b);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (or <code>null</code> if the dataset contains no
+     *     values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        int seriesCount = getSeriesCount();
+        for (int s = 0; s < seriesCount; s++) {
+            DoubleXYSeries series = getSeries(s);
+            double minY = series.getMinY();
+            if (!Double.isNaN(minY)) {
+                lower = Math.min(lower, minY);
+            }
+            double maxY = series.getMaxY();
+            if (!Double.isNaN(maxY)) {
+                upper = Math.max(upper, maxY);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value.
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        double result = Double.NaN;
+        int seriesCount = getSeriesCount();
+        for (int s = 0; s < seriesCount; s++) {
+            double lowY = getSeries(s).getMinY();
+            if (Double.isNaN(result)) {
+                result = lowY;
+            }
+            else if (!Double.isNaN(lowY)) {
+                result = Math.min(result, lowY);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value.
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        double result = Double.NaN;
+        int seriesCount = getSeriesCount();
+        for (int s = 0; s < seriesCount; s++) {
+            double hiY = getSeries(s).getMaxY();
+            if (Double.isNaN(result)) {
+                result = hiY;
+            }
+            else if (!Double.isNaN(hiY)) {
+                result = Math.max(result, hiY);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DoubleXYSeriesCollection)) {
+            return false;
+        }
+        DoubleXYSeriesCollection that = (DoubleXYSeriesCollection) obj;
+        if (this.intervalDelegate.isAutoWidth()
+                != that.intervalDelegate.isAutoWidth()) {
+            return false;
+        }
+        if (this.intervalDelegate.getFixedIntervalWidth()
+                != that.intervalDelegate.getFixedIntervalWidth()) {
+            return false;
+        }
+        if (this.intervalDelegate.getIntervalPositionFactor()
+                != that.intervalDelegate.getIntervalPositionFactor()) {
+            return false;
+        }
+        return this.data.equals(that.data);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        return this.data.hashCode();
+    }
+
+    /**
+     * Returns a clone of this instance.  The series in the collection are
+     * cloned too, so the clone is independent of this collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DoubleXYSeriesCollection clone
+                = (DoubleXYSeriesCollection) super.clone();
+        clone.data = new ArrayList(this.data.size());
+        for (int i = 0; i < this.data.size(); i++) {
+            DoubleXYSeries series = copySeries(
+                    (DoubleXYSeries) this.data.get(i));
+            series.addChangeListener(clone);
+            clone.data.add(series);
+        }
+        clone.intervalDelegate = new IntervalXYDelegate(clone,
+                this.intervalDelegate.isAutoWidth());
+        if (!this.intervalDelegate.isAutoWidth()) {
+            clone.intervalDelegate.setFixedIntervalWidth(
+                    this.intervalDelegate.getFixedIntervalWidth());
+        }
+        clone.intervalDelegate.setIntervalPositionFactor(
+                this.intervalDelegate.getIntervalPositionFactor());
+        clone.addChangeListener(clone.intervalDelegate);
+        return clone;
+    }
+
+    /**
+     * Returns a copy of a series for use in a clone of this collection.  The
+     * copy is built with the constructor rather than with
+     * {@link DoubleXYSeries#clone()}, because a cloned series shares its
+     * listener list with the original, so registering the collection clone
+     * with it would register the clone with the original series too.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @return A copy of the series, with no listeners registered.
+     */
+    private static DoubleXYSeries copySeries(DoubleXYSeries series) {
+        DoubleXYSeries copy = new DoubleXYSeries(series.getKey(),
+                series.getAutoSort(), series.getAllowDuplicateXValues(),
+                series.getItemCount());
+        copy.setDescription(series.getDescription());
+        copy.setMaximumItemCount(series.getMaximumItemCount());
+        double[][] values = series.toArray();
+        copy.addAll(values[0], values[1], false);
+        copy.setNotify(series.getNotify());
+        return copy;
+    }
+
+}
@@ -39,6 +39,11 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Track the x and y bounds with segment trees instead of
+ *               rescanning the items, store the items in a RingBufferList;
+ * 16-Oct-2026 : Added findYRange(Range) method;
+ * 16-Oct-2026 : Added addAll(double[], double[]) methods;
+ * 16-Oct-2026 : Skip NaN x-values at the ends in getMinX() and getMaxX();
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2009, Object Refinery Limited and Contributors.
@@ -92,13 +97,18 @@
 package org.afree.data.xy;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.afree.data.Range;
+import org.afree.data.general.MinMaxSegmentTree;
 import org.afree.data.general.Series;
 import org.afree.data.general.SeriesChangeEvent;
 import org.afree.data.general.SeriesException;
+import org.afree.util.RingBufferList;
 
 
 
@@ -133,17 +143,18 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** A flag that controls whether or not duplicate x-values are allowed. */
     private boolean allowDuplicateXValues;
 
-    /** The lowest x-value in the series, excluding Double.NaN values. */
-    private double minX;
-
-    /** The highest x-value in the series, excluding Double.NaN values. */
-    private double maxX;
-
-    /** The lowest y-value in the series, excluding Double.NaN values. */
-    private double minY;
+    /**
+     * The x-values of the items, indexed so that the bounds can be maintained
+     * in O(log n) time.  This is only used for unsorted series, because the
+     * x-bounds of a sorted series are its first and last x-values.
+     */
+    private MinMaxSegmentTree xIndex;
 
-    /** The highest y-value in the series, excluding Double.NaN values. */
-    private double maxY;
+    /**
+     * The y-values of the items, indexed so that the bounds can be maintained
+     * in O(log n) time.
+     */
+    private MinMaxSegmentTree yIndex;
 
     /**
      * Creates a new empty series.  By default, items added to the series will
@@ -181,13 +192,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public XYSeries(Comparable key, boolean autoSort,
             boolean allowDuplicateXValues) {
         super(key);
-        this.data = new java.util.ArrayList();
+        this.data = new RingBufferList();
         this.autoSort = autoSort;
         this.allowDuplicateXValues = allowDuplicateXValues;
-        this.minX = Double.NaN;
-        this.maxX = Double.NaN;
-        this.minY = Double.NaN;
-        this.maxY = Double.NaN;
+        this.xIndex = autoSort ? null : new MinMaxSegmentTree();
+        this.yIndex = new MinMaxSegmentTree();
     }
 
     /**
@@ -202,7 +211,18 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @since JFreeChart 1.0.13
      */
     public double getMinX() {
-        return this.minX;
+        if (this.xIndex != null) {
+            return this.xIndex.getMinimum();
+        }
+        // the items are sorted, so the first x-value that is not NaN
+        int count = this.data.size();
+        for (int i = 0; i < count; i++) {
+            double x = getDataItem(i).getXValue();
+            if (!Double.isNaN(x)) {
+                return x;
+            }
+        }
+        return Double.NaN;
     }
 
     /**
@@ -217,7 +237,17 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @since JFreeChart 1.0.13
      */
     public double getMaxX() {
-        return this.maxX;
+        if (this.xIndex != null) {
+            return this.xIndex.getMaximum();
+        }
+        // the items are sorted, so the last x-value that is not NaN
+        for (int i = this.data.size() - 1; i >= 0; i--) {
+            double x = getDataItem(i).getXValue();
+            if (!Double.isNaN(x)) {
+                return x;
+            }
+        }
+        return Double.NaN;
     }
 
     /**
@@ -232,7 +262,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @since JFreeChart 1.0.13
      */
     public double getMinY() {
-        return this.minY;
+        return this.yIndex.getMinimum();
     }
 
     /**
@@ -247,82 +277,120 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @since JFreeChart 1.0.13
      */
     public double getMaxY() {
-        return this.maxY;
+        return this.yIndex.getMaximum();
     }
 
     /**
-     * Updates the cached values for the minimum and maximum data values.
+     * Returns the range of the y-values for the items that have an x-value
+     * within the specified range, ignoring <code>null</code> and Double.NaN
+     * values.  For a sorted series this runs in O(log n) time, for an
+     * unsorted series all the items are examined.
      *
-     * @param item  the item added (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
      *
-     * @since JFreeChart 1.0.13
+     * @return The range (<code>null</code> if there are no y-values for
+     *     items in the x-range).
      */
-    private void updateBoundsForAddedItem(XYDataItem item) {
-        double x = item.getXValue();
-        this.minX = minIgnoreNaN(this.minX, x);
-        this.maxX = maxIgnoreNaN(this.maxX, x);
-        if (item.getY() != null) {
-            double y = item.getYValue();
-            this.minY = minIgnoreNaN(this.minY, y);
-            this.maxY = maxIgnoreNaN(this.maxY, y);
+    public Range findYRange(Range xRange) {
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
         }
-    }
-
-    /**
-     * Updates the cached values for the minimum and maximum data values on
-     * the basis that the specified item has just been removed.
-     *
-     * @param item  the item added (<code>null</code> not permitted).
-     *
-     * @since JFreeChart 1.0.13
-     */
-    private void updateBoundsForRemovedItem(XYDataItem item) {
-        boolean itemContributesToXBounds = false;
-        boolean itemContributesToYBounds = false;
-        double x = item.getXValue();
-        if (!Double.isNaN(x)) {
-            if (x <= this.minX || x >= this.maxX) {
-                itemContributesToXBounds = true;
+        double lower;
+        double upper;
+        if (this.autoSort) {
+            int start = findInsertionIndex(xRange.getLowerBound(), false);
+            int end = findInsertionIndex(xRange.getUpperBound(), true);
+            if (start >= end) {
+                return null;
             }
+            lower = this.yIndex.getMinimum(start, end);
+            upper = this.yIndex.getMaximum(start, end);
         }
-        if (item.getY() != null) {
-            double y = item.getYValue();
-            if (!Double.isNaN(y)) {
-                if (y <= this.minY || y >= this.maxY) {
-                    itemContributesToYBounds = true;
+        else {
+            lower = Double.POSITIVE_INFINITY;
+            upper = Double.NEGATIVE_INFINITY;
+            int count = this.data.size();
+            for (int i = 0; i < count; i++) {
+                XYDataItem item = getDataItem(i);
+                double y = item.getYValue();
+                if (xRange.contains(item.getXValue()) && !Double.isNaN(y)) {
+                    lower = Math.min(lower, y);
+                    upper = Math.max(upper, y);
                 }
             }
+            if (lower > upper) {
+                return null;
+            }
         }
-        if (itemContributesToYBounds) {
-            findBoundsByIteration();
+        if (Double.isNaN(lower)) {
+            return null;
         }
-        else if (itemContributesToXBounds) {
-            if (getAutoSort()) {
-                this.minX = getX(0).doubleValue();
-                this.maxX = getX(getItemCount() - 1).doubleValue();
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than (or,
+     * if <code>after</code> is <code>false</code>, greater than or equal to)
+     * the specified value.  This method is only valid for sorted series.
+     *
+     * @param x  the x-value.
+     * @param after  a flag that controls whether items equal to
+     *               <code>x</code> are skipped.
+     *
+     * @return The index (<code>getItemCount()</code> if there is no such
+     *     item).
+     */
+    private int findInsertionIndex(double x, boolean after) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double midX = getDataItem(mid).getXValue();
+            if (midX < x || (after && midX == x)) {
+                low = mid + 1;
             }
             else {
-                findBoundsByIteration();
+                high = mid;
             }
         }
+        return low;
     }
 
     /**
-     * Finds the bounds of the x and y values for the series, by iterating
-     * through all the data items.
+     * Records an item that has been inserted into the data list at the
+     * specified index, so that the bounds take it into account.
      *
-     * @since JFreeChart 1.0.13
+     * @param index  the index of the new item.
+     * @param item  the item added (<code>null</code> not permitted).
      */
-    private void findBoundsByIteration() {
-        this.minX = Double.NaN;
-        this.maxX = Double.NaN;
-        this.minY = Double.NaN;
-        this.maxY = Double.NaN;
-        Iterator iterator = this.data.iterator();
-        while (iterator.hasNext()) {
-            XYDataItem item = (XYDataItem) iterator.next();
-            updateBoundsForAddedItem(item);
+    private void itemInserted(int index, XYDataItem item) {
+        if (this.xIndex != null) {
+            this.xIndex.add(index, item.getXValue());
         }
+        this.yIndex.add(index, item.getYValue());
+    }
+
+    /**
+     * Records that the items from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive) have been removed from the data list.
+     *
+     * @param start  the index of the first item removed.
+     * @param end  the index after the last item removed.
+     */
+    private void itemsRemoved(int start, int end) {
+        if (this.xIndex != null) {
+            this.xIndex.removeRange(start, end);
+        }
+        this.yIndex.removeRange(start, end);
+    }
+
+    /**
+     * Removes the first item in the series (used when the maximum item count
+     * is exceeded).
+     */
+    private void removeFirstItem() {
+        this.data.remove(0);
+        itemsRemoved(0, 1);
     }
 
     /**
@@ -398,7 +466,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
-            findBoundsByIteration();
+            itemsRemoved(0, remove);
             fireSeriesChanged();
         }
     }
@@ -520,7 +588,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
-                this.data.add(-index - 1, item);
+                index = -index - 1;
+                this.data.add(index, item);
+                itemInserted(index, item);
             }
             else {
                 if (this.allowDuplicateXValues) {
@@ -536,6 +606,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                     else {
                         this.data.add(item);
                     }
+                    itemInserted(index, item);
                 }
                 else {
                     throw new SeriesException("X-value already exists.");
@@ -552,17 +623,166 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 }
             }
             this.data.add(item);
+            itemInserted(this.data.size() - 1, item);
         }
-        updateBoundsForAddedItem(item);
         if (getItemCount() > this.maximumItemCount) {
-            XYDataItem removed = (XYDataItem) this.data.remove(0);
-            updateBoundsForRemovedItem(removed);
+            removeFirstItem();
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a batch of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, must have the
+     *           same length as <code>x</code>).
+     *
+     * @see #addAll(double[], double[], boolean)
+     */
+    public void addAll(double[] x, double[] y) {
+        addAll(x, y, true);
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  For a
+     * sorted series the batch is sorted (if necessary) and merged with the
+     * existing items in one pass, so adding <code>n</code> items costs
+     * O(n log n) rather than <code>n</code> separate insertions.  If the
+     * batch contains an x-value that is not permitted, an exception is thrown
+     * and the series is left unchanged.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, must have the
+     *           same length as <code>x</code>).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if duplicate x-values are not permitted and
+     *     the batch contains one.
+     */
+    public void addAll(double[] x, double[] y, boolean notify) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        if (y == null) {
+            throw new IllegalArgumentException("Null 'y' argument.");
+        }
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have the same length.");
+        }
+        int count = x.length;
+        if (count == 0) {
+            return;
+        }
+        XYDataItem[] items = new XYDataItem[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = new XYDataItem(x[i], y[i]);
+        }
+        if (this.autoSort) {
+            addSortedBatch(items);
+        }
+        else {
+            if (!this.allowDuplicateXValues) {
+                Set seen = new HashSet();
+                for (int i = 0; i < this.data.size(); i++) {
+                    seen.add(getDataItem(i).getX());
+                }
+                for (int i = 0; i < count; i++) {
+                    if (!seen.add(items[i].getX())) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                this.data.add(items[i]);
+            }
+            this.xIndex.addAll(x, 0, count);
+            this.yIndex.addAll(y, 0, count);
+        }
+        int excess = getItemCount() - this.maximumItemCount;
+        if (excess > 0) {
+            this.data.subList(0, excess).clear();
+            itemsRemoved(0, excess);
         }
         if (notify) {
             fireSeriesChanged();
         }
     }
 
+    /**
+     * Adds a batch of items to a sorted series.  Items with an x-value equal
+     * to an existing item are placed after the existing item, as they would
+     * be by {@link #add(XYDataItem, boolean)}.
+     *
+     * @param items  the new items (modified in place if they need sorting).
+     */
+    private void addSortedBatch(XYDataItem[] items) {
+        int count = items.length;
+        for (int i = 1; i < count; i++) {
+            if (items[i - 1].compareTo(items[i]) > 0) {
+                // the sort is stable, so duplicates keep their order
+                Arrays.sort(items);
+                break;
+            }
+        }
+        if (!this.allowDuplicateXValues) {
+            for (int i = 1; i < count; i++) {
+                if (items[i - 1].compareTo(items[i]) == 0) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+        int size = this.data.size();
+        int c = size > 0 ? items[0].compareTo(this.data.get(size - 1)) : 1;
+        if (c > 0 || (c == 0 && this.allowDuplicateXValues)) {
+            // the whole batch goes after the existing items
+            double[] y = new double[count];
+            for (int i = 0; i < count; i++) {
+                this.data.add(items[i]);
+                y[i] = items[i].getYValue();
+            }
+            this.yIndex.addAll(y, 0, count);
+            return;
+        }
+        List merged = new RingBufferList(size + count);
+        int i = 0;
+        int j = 0;
+        while (i < size && j < count) {
+            XYDataItem existing = getDataItem(i);
+            c = items[j].compareTo(existing);
+            if (c < 0) {
+                merged.add(items[j++]);
+            }
+            else {
+                if (c == 0 && !this.allowDuplicateXValues) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                merged.add(existing);
+                i++;
+            }
+        }
+        while (i < size) {
+            merged.add(this.data.get(i++));
+        }
+        while (j < count) {
+            merged.add(items[j++]);
+        }
+        double[] y = new double[merged.size()];
+        for (int k = 0; k < y.length; k++) {
+            y[k] = ((XYDataItem) merged.get(k)).getYValue();
+        }
+        this.data = merged;
+        this.yIndex.clear();
+        this.yIndex.addAll(y, 0, y.length);
+    }
+
     /**
      * Deletes a range of items from the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -572,7 +792,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
-        findBoundsByIteration();
+        itemsRemoved(start, end + 1);
         fireSeriesChanged();
     }
 
@@ -586,7 +806,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem remove(int index) {
         XYDataItem removed = (XYDataItem) this.data.remove(index);
-        updateBoundsForRemovedItem(removed);
+        itemsRemoved(index, index + 1);
         fireSeriesChanged();
         return removed;
     }
@@ -612,10 +832,10 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
-            this.minX = Double.NaN;
-            this.maxX = Double.NaN;
-            this.minY = Double.NaN;
-            this.maxY = Double.NaN;
+            if (this.xIndex != null) {
+                this.xIndex.clear();
+            }
+            this.yIndex.clear();
             fireSeriesChanged();
         }
     }
@@ -665,72 +885,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void update(int index, Number y) {
         XYDataItem item = getDataItem(index);
-
-        // figure out if we need to iterate through all the y-values
-        boolean iterate = false;
-        double oldY = item.getYValue();
-        if (!Double.isNaN(oldY)) {
-            iterate = oldY <= this.minY || oldY >= this.maxY;
-        }
         item.setY(y);
-
-        if (iterate) {
-            findBoundsByIteration();
-        }
-        else if (y != null) {
-            double yy = y.doubleValue();
-            this.minY = minIgnoreNaN(this.minY, yy);
-            this.maxY = maxIgnoreNaN(this.maxY, yy);
-        }
+        this.yIndex.set(index, item.getYValue());
         fireSeriesChanged();
     }
 
-    /**
-     * A function to find the minimum of two values, but ignoring any
-     * Double.NaN values.
-     *
-     * @param a  the first value.
-     * @param b  the second value.
-     *
-     * @return The minimum of the two values.
-     */
-    private double minIgnoreNaN(double a, double b) {
-        if (Double.isNaN(a)) {
-            return b;
-        }
-        else {
-            if (Double.isNaN(b)) {
-                return a;
-            }
-            else {
-                return Math.min(a, b);
-            }
-        }
-    }
-
-    /**
-     * A function to find the maximum of two values, but ignoring any
-     * Double.NaN values.
-     *
-     * @param a  the first value.
-     * @param b  the second value.
-     *
-     * @return The maximum of the two values.
-     */
-    private double maxIgnoreNaN(double a, double b) {
-        if (Double.isNaN(a)) {
-            return b;
-        }
-        else {
-            if (Double.isNaN(b)) {
-                return a;
-            }
-            else {
-                return Math.max(a, b);
-            }
-        }
-    }
-
     /**
      * Updates the value of an item in the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -808,22 +967,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             catch (CloneNotSupportedException e) {
                 throw new SeriesException("Couldn't clone XYDataItem!");
             }
-            // figure out if we need to iterate through all the y-values
-            boolean iterate = false;
-            double oldY = existing.getYValue();
-            if (!Double.isNaN(oldY)) {
-                iterate = oldY <= this.minY || oldY >= this.maxY;
-            }
             existing.setY(y);
-
-            if (iterate) {
-                findBoundsByIteration();
-            }
-            else if (y != null) {
-                double yy = y.doubleValue();
-                this.minY = minIgnoreNaN(this.minY, yy);
-                this.maxY = minIgnoreNaN(this.maxY, yy);
-            }
+            this.yIndex.set(index, existing.getYValue());
         }
         else {
             // if the series is sorted, the negative index is a result from
@@ -833,16 +978,16 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             XYDataItem item = new XYDataItem(x, y);
             if (this.autoSort) {
                 this.data.add(-index - 1, item);
+                itemInserted(-index - 1, item);
             }
             else {
                 this.data.add(item);
+                itemInserted(this.data.size() - 1, item);
             }
-            updateBoundsForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                XYDataItem removed = (XYDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(removed);
+                removeFirstItem();
             }
         }
         fireSeriesChanged();
@@ -911,7 +1056,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             throws CloneNotSupportedException {
 
         XYSeries copy = (XYSeries) super.clone();
-        copy.data = new java.util.ArrayList();
+        copy.data = new RingBufferList();
+        copy.xIndex = this.autoSort ? null : new MinMaxSegmentTree();
+        copy.yIndex = new MinMaxSegmentTree();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = (XYDataItem) this.data.get(index);
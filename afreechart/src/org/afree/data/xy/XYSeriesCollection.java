@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JFreeChart 1.0.13 to Android as "AFreeChart"
+ * 16-Oct-2026 : Implemented XYRangeInfo (visible x-range aware bounds);
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2001-2009, by Object Refinery Limited and Contributors.
@@ -96,7 +97,7 @@ import org.afree.data.general.DatasetChangeEvent;
  * dataset.
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, DomainInfo, RangeInfo, 
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYRangeInfo,
                    Serializable {
 
     /** For serialization. */
@@ -595,6 +596,41 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         }
     }
 
+    /**
+     * Returns the range of the y-values for the items in the visible series
+     * that have an x-value within the specified range.  For sorted series
+     * this runs in O(log n) time per series.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *                           (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored (the y-interval is always zero).
+     *
+     * @return The range (or <code>null</code> if there are no values in the
+     *     x-range).
+     */
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        if (visibleSeriesKeys == null) {
+            throw new IllegalArgumentException(
+                    "Null 'visibleSeriesKeys' argument.");
+        }
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            int series = indexOf(seriesKey);
+            if (series >= 0) {
+                result = Range.combine(result,
+                        getSeries(series).findYRange(xRange));
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns the minimum y-value in the dataset.
      *
@@ -39,6 +39,7 @@
  * Changes (from 19-Nov-2010)
  * --------------------------
  * 19-Nov-2010 : port JCommon 1.0.16 to Android as "AFreeChart"
+ * 16-Oct-2026 : Read font metrics through TextUtilities;
  * 
  * ------------- JFreeChart ---------------------------------------------
  * (C) Copyright 2000-2004, by Object Refinery Limited.
@@ -148,7 +149,7 @@ public abstract class RefineryUtilities {
             final String text, final TextAnchor anchor) {
 
         final float[] result = new float[2];
-        final FontMetrics fm = paint.getFontMetrics();
+        final FontMetrics fm = TextUtilities.getFontMetrics(paint);
         final RectShape bounds = TextUtilities.getTextBounds(text, paint);
         final float ascent = Math.abs(fm.ascent);
         final float halfAscent = ascent / 2.0f;
@@ -0,0 +1,347 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -------------------
+ * RingBufferList.java
+ * -------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a circular array.  Indexed access, appending to the end
+ * and removing from the front are all constant time operations, which makes
+ * this list suitable for bounded "sliding window" series where the oldest
+ * item is dropped every time a new one is added.  Insertion and removal at
+ * other positions shift the shorter side of the buffer.
+ * <p>
+ * The list implements {@link RandomAccess}, so
+ * <code>Collections.binarySearch()</code> uses indexed access.
+ */
+public class RingBufferList extends AbstractList
+        implements RandomAccess, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2410968834632813217L;
+
+    /** The default initial capacity (must be a power of two). */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The storage array (its length is always a power of two). */
+    private Object[] elements;
+
+    /** The position of the first element in the storage array. */
+    private int head;
+
+    /** The number of elements in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    public RingBufferList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty list with room for at least the specified number
+     * of elements.
+     *
+     * @param initialCapacity  the initial capacity.
+     */
+    public RingBufferList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'initialCapacity' argument.");
+        }
+        this.elements = new Object[capacityFor(initialCapacity)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new list containing the elements of the specified collection,
+     * in the order returned by its iterator.
+     *
+     * @param c  the collection (<code>null</code> not permitted).
+     */
+    public RingBufferList(Collection c) {
+        this(c.size());
+        addAll(c);
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the element at the specified position.
+     *
+     * @param index  the index.
+     *
+     * @return The element.
+     */
+    public Object get(int index) {
+        checkIndex(index);
+        return this.elements[(this.head + index) & (this.elements.length - 1)];
+    }
+
+    /**
+     * Replaces the element at the specified position.
+     *
+     * @param index  the index.
+     * @param element  the new element.
+     *
+     * @return The element previously at the specified position.
+     */
+    public Object set(int index, Object element) {
+        checkIndex(index);
+        int i = (this.head + index) & (this.elements.length - 1);
+        Object old = this.elements[i];
+        this.elements[i] = element;
+        return old;
+    }
+
+    /**
+     * Appends an element to the end of the list.
+     *
+     * @param element  the element.
+     *
+     * @return <code>true</code>.
+     */
+    public boolean add(Object element) {
+        ensureCapacity(this.size + 1);
+        this.elements[(this.head + this.size) & (this.elements.length - 1)]
+                = element;
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the specified position.
+     *
+     * @param index  the index.
+     * @param element  the element.
+     */
+    public void add(int index, Object element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+                    + this.size);
+        }
+        if (index == this.size) {
+            add(element);
+            return;
+        }
+        ensureCapacity(this.size + 1);
+        int mask = this.elements.length - 1;
+        if (index < this.size / 2) {
+            // shift the leading elements one place towards the front
+            this.head = (this.head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                this.elements[(this.head + i) & mask]
+                        = this.elements[(this.head + i + 1) & mask];
+            }
+        }
+        else {
+            // shift the trailing elements one place towards the back
+            for (int i = this.size; i > index; i--) {
+                this.elements[(this.head + i) & mask]
+                        = this.elements[(this.head + i - 1) & mask];
+            }
+        }
+        this.elements[(this.head + index) & mask] = element;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the element at the specified position.
+     *
+     * @param index  the index.
+     *
+     * @return The element removed.
+     */
+    public Object remove(int index) {
+        checkIndex(index);
+        int mask = this.elements.length - 1;
+        Object removed = this.elements[(this.head + index) & mask];
+        if (index < this.size / 2) {
+            // shift the leading elements one place towards the back
+            for (int i = index; i > 0; i--) {
+                this.elements[(this.head + i) & mask]
+                        = this.elements[(this.head + i - 1) & mask];
+            }
+            this.elements[this.head] = null;
+            this.head = (this.head + 1) & mask;
+        }
+        else {
+            // shift the trailing elements one place towards the front
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[(this.head + i) & mask]
+                        = this.elements[(this.head + i + 1) & mask];
+            }
+            this.elements[(this.head + this.size - 1) & mask] = null;
+        }
+        this.size--;
+        this.modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the elements from <code>fromIndex</code> (inclusive) to
+     * <code>toIndex</code> (exclusive).  This is used by
+     * <code>subList(from, to).clear()</code>, and is proportional to the
+     * number of elements removed when the range is at either end of the list.
+     *
+     * @param fromIndex  the index of the first element to remove.
+     * @param toIndex  the index after the last element to remove.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        int mask = this.elements.length - 1;
+        int leading = fromIndex;
+        int trailing = this.size - toIndex;
+        if (leading < trailing) {
+            for (int i = leading - 1; i >= 0; i--) {
+                this.elements[(this.head + i + count) & mask]
+                        = this.elements[(this.head + i) & mask];
+            }
+            for (int i = 0; i < count; i++) {
+                this.elements[(this.head + i) & mask] = null;
+            }
+            this.head = (this.head + count) & mask;
+        }
+        else {
+            for (int i = 0; i < trailing; i++) {
+                this.elements[(this.head + fromIndex + i) & mask]
+                        = this.elements[(this.head + toIndex + i) & mask];
+            }
+            for (int i = this.size - count; i < this.size; i++) {
+                this.elements[(this.head + i) & mask] = null;
+            }
+        }
+        this.size -= count;
+        this.modCount++;
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    public void clear() {
+        int mask = this.elements.length - 1;
+        for (int i = 0; i < this.size; i++) {
+            this.elements[(this.head + i) & mask] = null;
+        }
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns a clone of the list.  The elements themselves are not cloned.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        RingBufferList clone = (RingBufferList) super.clone();
+        clone.elements = (Object[]) this.elements.clone();
+        return clone;
+    }
+
+    /**
+     * Grows the storage array if necessary, so that it can hold at least the
+     * specified number of elements.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        int length = this.elements.length;
+        if (capacity <= length) {
+            return;
+        }
+        Object[] grown = new Object[capacityFor(capacity)];
+        int firstPart = Math.min(this.size, length - this.head);
+        System.arraycopy(this.elements, this.head, grown, 0, firstPart);
+        System.arraycopy(this.elements, 0, grown, firstPart,
+                this.size - firstPart);
+        this.elements = grown;
+        this.head = 0;
+    }
+
+    /**
+     * Throws an exception if the index is not a valid element index.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+                    + this.size);
+        }
+    }
+
+    /**
+     * Returns the smallest power of two that is greater than or equal to the
+     * requested capacity (and not less than the default capacity).
+     *
+     * @param capacity  the requested capacity.
+     *
+     * @return The storage array length.
+     */
+    private static int capacityFor(int capacity) {
+        int result = DEFAULT_CAPACITY;
+        while (result < capacity) {
+            result <<= 1;
+        }
+        return result;
+    }
+
+}
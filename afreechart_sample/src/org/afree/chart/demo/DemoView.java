@@ -39,6 +39,12 @@
  * 19-Nov-2010 : Version 0.0.1 (NM);
  * 14-Jan-2011 : renamed method name
  * 14-Jan-2011 : Updated API docs
+ * 16-Oct-2026 : Draw the chart through a ChartLayerCache
+ * 16-Oct-2026 : Render the chart on a worker thread (AsyncChartRenderer)
+ * 16-Oct-2026 : Change the axes with the chart lock held
+ * 16-Oct-2026 : Post the axis changes to the renderer instead of taking
+ *               the chart lock on the UI thread
+ * 16-Oct-2026 : Added getChartRenderer()
  */ 
 
 package org.afree.chart.demo;
@@ -48,6 +54,7 @@ import org.afree.chart.ChartTouchEvent;
 import org.afree.chart.ChartTouchListener;
 import org.afree.chart.ChartRenderingInfo;
 import org.afree.chart.AFreeChart;
+import org.afree.chart.AsyncChartRenderer;
 import org.afree.chart.entity.ChartEntity;
 import org.afree.chart.entity.EntityCollection;
 import org.afree.chart.event.ChartChangeEvent;
@@ -145,6 +152,9 @@ public class DemoView extends View
 
     /** The chart that is displayed in the panel. */
     private AFreeChart chart;
+
+    /** The renderer that draws the chart on a worker thread. */
+    private AsyncChartRenderer chartRenderer;
     
     /** Storage for registered (chart) touch listeners. */
     private transient CopyOnWriteArrayList<ChartTouchListener> chartMotionListeners;
@@ -404,21 +414,30 @@ public class DemoView extends View
         
         Plot p = this.chart.getPlot();
         if (p instanceof Movable) {
-            PlotRenderingInfo info = this.info.getPlotInfo();
+            final PlotRenderingInfo info = this.info.getPlotInfo();
             // here we tweak the notify flag on the plot so that only
             // one notification happens even though we update multiple
             // axes...
             //boolean savedNotify = p.isNotify();
             //p.setNotify(false);
-            Movable z = (Movable) p;
-            if (z.getOrientation() == PlotOrientation.HORIZONTAL) {
-                z.moveDomainAxes(vMovePercent, info, source);
-                z.moveRangeAxes(hMovePercent, info, source);
-            }
-            else {
-                z.moveDomainAxes(hMovePercent, info, source);
-                z.moveRangeAxes(vMovePercent, info, source);
-            }
+            final Movable z = (Movable) p;
+            final PointF s = new PointF(source.x, source.y);
+            final double h = hMovePercent;
+            final double v = vMovePercent;
+            // the renderer's worker thread changes the axes before it
+            // draws the next frame
+            this.chartRenderer.post(new Runnable() {
+                public void run() {
+                    if (z.getOrientation() == PlotOrientation.HORIZONTAL) {
+                        z.moveDomainAxes(v, info, s);
+                        z.moveRangeAxes(h, info, s);
+                    }
+                    else {
+                        z.moveDomainAxes(h, info, s);
+                        z.moveRangeAxes(v, info, s);
+                    }
+                }
+            });
             //p.setNotify(savedNotify);
             
             //repaint
@@ -452,16 +471,22 @@ public class DemoView extends View
     public void restoreAutoDomainBounds() {
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
-            Zoomable z = (Zoomable) plot;
+            final Zoomable z = (Zoomable) plot;
             // here we tweak the notify flag on the plot so that only
             // one notification happens even though we update multiple
             // axes...
             //boolean savedNotify = plot.isNotify();
             //plot.setNotify(false);
             // we need to guard against this.zoomPoint being null
-            PointF zp = (this.zoomPoint != null
-                    ? this.zoomPoint : new PointF());
-            z.zoomDomainAxes(0.0, this.info.getPlotInfo(), zp);
+            final PointF zp = (this.zoomPoint != null
+                    ? new PointF(this.zoomPoint.x, this.zoomPoint.y)
+                    : new PointF());
+            final PlotRenderingInfo info = this.info.getPlotInfo();
+            this.chartRenderer.post(new Runnable() {
+                public void run() {
+                    z.zoomDomainAxes(0.0, info, zp);
+                }
+            });
             //plot.setNotify(savedNotify);
         }
     }
@@ -472,16 +497,22 @@ public class DemoView extends View
     public void restoreAutoRangeBounds() {
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
-            Zoomable z = (Zoomable) plot;
+            final Zoomable z = (Zoomable) plot;
             // here we tweak the notify flag on the plot so that only
             // one notification happens even though we update multiple
             // axes...
             //boolean savedNotify = plot.isNotify();
             //plot.setNotify(false);
             // we need to guard against this.zoomPoint being null
-            PointF zp = (this.zoomPoint != null
-                    ? this.zoomPoint : new PointF());
-            z.zoomRangeAxes(0.0, this.info.getPlotInfo(), zp);
+            final PointF zp = (this.zoomPoint != null
+                    ? new PointF(this.zoomPoint.x, this.zoomPoint.y)
+                    : new PointF());
+            final PlotRenderingInfo info = this.info.getPlotInfo();
+            this.chartRenderer.post(new Runnable() {
+                public void run() {
+                    z.zoomRangeAxes(0.0, info, zp);
+                }
+            });
             //plot.setNotify(savedNotify);
         }
     }
@@ -526,11 +557,16 @@ public class DemoView extends View
         if (this.chart != null) {
             this.chart.removeChangeListener(this);
             this.chart.removeProgressListener(this);
+            this.chartRenderer.dispose();
+            this.chartRenderer = null;
         }
 
         // add the new chart
         this.chart = chart;
         if (chart != null) {
+            this.chartRenderer = new AsyncChartRenderer(chart);
+            this.chartRenderer.addProgressListener(this);
+            this.chartRenderer.start();
             this.chart.addChangeListener(this);
             this.chart.addProgressListener(this);
             Plot plot = chart.getPlot();
@@ -669,6 +705,20 @@ public class DemoView extends View
         return this.info;
     }
 
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        if (this.chartRenderer != null) {
+            this.chartRenderer.start();
+        }
+    }
+
+    protected void onDetachedFromWindow() {
+        if (this.chartRenderer != null) {
+            this.chartRenderer.stop();
+        }
+        super.onDetachedFromWindow();
+    }
+
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
         
@@ -792,7 +842,13 @@ public class DemoView extends View
 //            canvas.setTransform(saved);
 
 //        }
-        this.chart.draw(canvas, chartArea, this.anchor, this.info);
+        this.chartRenderer.setSize((int) drawWidth, (int) drawHeight);
+        if (this.anchor != null) {
+            this.chartRenderer.requestRender(this.anchor);
+        }
+        if (this.chartRenderer.draw(canvas, 0.0f, 0.0f)) {
+            this.info = this.chartRenderer.getChartRenderingInfo();
+        }
         
 
 //        Iterator iterator = this.overlays.iterator();
@@ -910,17 +966,24 @@ public class DemoView extends View
     private void zoom(PointF source, double startDistance, double endDistance) {
 
         Plot plot = this.chart.getPlot();
-        PlotRenderingInfo info = this.info.getPlotInfo();
+        final PlotRenderingInfo info = this.info.getPlotInfo();
 
         if(plot instanceof Zoomable) {
-            float scaleDistance = (float)(startDistance / endDistance);
+            final float scaleDistance = (float)(startDistance / endDistance);
             
             if (this.mScale * scaleDistance < 10.0f &&
                     this.mScale * scaleDistance > 0.1f) {
                 this.mScale *= scaleDistance;
-                Zoomable z = (Zoomable) plot;
-                z.zoomDomainAxes(scaleDistance, info, source, false);
-                z.zoomRangeAxes(scaleDistance, info, source, false);
+                final Zoomable z = (Zoomable) plot;
+                final PointF s = new PointF(source.x, source.y);
+                // the renderer's worker thread changes the axes before it
+                // draws the next frame
+                this.chartRenderer.post(new Runnable() {
+                    public void run() {
+                        z.zoomDomainAxes(scaleDistance, info, s, false);
+                        z.zoomRangeAxes(scaleDistance, info, s, false);
+                    }
+                });
             }
         }
         
@@ -1002,6 +1065,17 @@ public class DemoView extends View
     public AFreeChart getChart() {
         return this.chart;
     }
+
+    /**
+     * Returns the renderer that draws the chart on a worker thread.  Changes
+     * to the chart should be passed to its
+     * {@link AsyncChartRenderer#post(Runnable)} method.
+     *
+     * @return The renderer (<code>null</code> if there is no chart).
+     */
+    public AsyncChartRenderer getChartRenderer() {
+        return this.chartRenderer;
+    }
     
     /**
      * Adds a listener to the list of objects listening for chart touch events.
@@ -1069,6 +1143,10 @@ public class DemoView extends View
      * @param event  the event.
      */
     public void chartProgress(ChartProgressEvent event) {
-        // does nothing - override if necessary
+        // a new frame is ready to be drawn
+        if (event.getSource() == this.chartRenderer
+                && event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+            repaint();
+        }
     }
 }
@@ -0,0 +1,123 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * --------------
+ * Benchmark.java
+ * --------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.demo.benchmark;
+
+/**
+ * The base class for the benchmarks in the demo application.  A benchmark
+ * writes its results as lines of text, so that it can be run on a device
+ * (see {@link BenchmarkView}) or from the command line.
+ */
+public abstract class Benchmark {
+
+    /**
+     * Receives the lines of text written by a benchmark.
+     */
+    public interface Output {
+
+        /**
+         * Writes a line of text.
+         *
+         * @param line  the text.
+         */
+        public void println(String line);
+
+    }
+
+    /**
+     * Returns the title of the benchmark.
+     *
+     * @return The title.
+     */
+    public abstract String getTitle();
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param out  the output for the results.
+     */
+    public abstract void run(Output out);
+
+    /**
+     * Runs a task several times and returns the shortest time taken, so that
+     * the result isn't distorted by the first (unoptimised) run or by a
+     * garbage collection.
+     *
+     * @param task  the task.
+     * @param repeats  the number of runs.
+     *
+     * @return The shortest time, in milliseconds.
+     */
+    protected static double time(Runnable task, int repeats) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < repeats; i++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1000000.0;
+    }
+
+    /**
+     * Formats a time for the results.
+     *
+     * @param millis  the time in milliseconds.
+     *
+     * @return The formatted time.
+     */
+    protected static String format(double millis) {
+        return (Math.round(millis * 100.0) / 100.0) + " ms";
+    }
+
+    /**
+     * Runs a benchmark and writes the results to the standard output.
+     *
+     * @param benchmark  the benchmark.
+     */
+    protected static void runFromCommandLine(Benchmark benchmark) {
+        System.out.println(benchmark.getTitle());
+        benchmark.run(new Output() {
+            public void println(String line) {
+                System.out.println(line);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,98 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ------------------
+ * BenchmarkView.java
+ * ------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.demo.benchmark;
+
+import android.content.Context;
+import android.widget.ScrollView;
+import android.widget.TextView;
+
+/**
+ * A view that runs a {@link Benchmark} on a background thread and shows the
+ * results as they are written.
+ */
+public class BenchmarkView extends ScrollView {
+
+    /** The text view for the results. */
+    private TextView text;
+
+    /**
+     * Creates a view and starts the benchmark.
+     *
+     * @param context  the context.
+     * @param benchmark  the benchmark.
+     */
+    public BenchmarkView(Context context, final Benchmark benchmark) {
+        super(context);
+        this.text = new TextView(context);
+        addView(this.text);
+        println(benchmark.getTitle());
+        println("Running...");
+        Thread thread = new Thread(new Runnable() {
+            public void run() {
+                benchmark.run(new Benchmark.Output() {
+                    public void println(final String line) {
+                        post(new Runnable() {
+                            public void run() {
+                                BenchmarkView.this.println(line);
+                            }
+                        });
+                    }
+                });
+                post(new Runnable() {
+                    public void run() {
+                        BenchmarkView.this.println("Done.");
+                    }
+                });
+            }
+        }, "Benchmark");
+        thread.start();
+    }
+
+    /**
+     * Adds a line to the results.
+     *
+     * @param line  the text.
+     */
+    private void println(String line) {
+        this.text.append(line + "\n");
+    }
+
+}
@@ -0,0 +1,220 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ---------------------------
+ * KeyedValues2DBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.afree.data.DefaultKeyedValues;
+import org.afree.data.category.DefaultCategoryDataset;
+
+/**
+ * Measures the population of a large {@link DefaultCategoryDataset} (a
+ * heat-table) with <code>addValue()</code>, and random lookups with
+ * <code>getValue(rowKey, columnKey)</code>, and compares them with the
+ * earlier approach of finding the row and column keys with
+ * <code>List.indexOf()</code>.
+ */
+public class KeyedValues2DBenchmark extends Benchmark {
+
+    /** The number of rows. */
+    private static final int ROWS = 2000;
+
+    /** The number of columns. */
+    private static final int COLUMNS = 500;
+
+    /** The number of random lookups. */
+    private static final int LOOKUPS = 100000;
+
+    /** The number of runs for each case. */
+    private static final int REPEATS = 2;
+
+    /**
+     * Returns the title of the benchmark.
+     *
+     * @return The title.
+     */
+    public String getTitle() {
+        return "DefaultKeyedValues2D: " + ROWS + " x " + COLUMNS + " table";
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param out  the output for the results.
+     */
+    public void run(Output out) {
+        final String[] rowKeys = new String[ROWS];
+        for (int r = 0; r < ROWS; r++) {
+            rowKeys[r] = "Row " + r;
+        }
+        final String[] columnKeys = new String[COLUMNS];
+        for (int c = 0; c < COLUMNS; c++) {
+            columnKeys[c] = "Column " + c;
+        }
+        final DefaultCategoryDataset[] dataset = new DefaultCategoryDataset[1];
+        double current = time(new Runnable() {
+            public void run() {
+                DefaultCategoryDataset d = new DefaultCategoryDataset();
+                for (int r = 0; r < ROWS; r++) {
+                    for (int c = 0; c < COLUMNS; c++) {
+                        d.addValue(r + c, rowKeys[r], columnKeys[c]);
+                    }
+                }
+                dataset[0] = d;
+            }
+        }, REPEATS);
+        final IndexOfTable[] table = new IndexOfTable[1];
+        double earlier = time(new Runnable() {
+            public void run() {
+                IndexOfTable t = new IndexOfTable();
+                for (int r = 0; r < ROWS; r++) {
+                    for (int c = 0; c < COLUMNS; c++) {
+                        t.setValue(new Double(r + c), rowKeys[r],
+                                columnKeys[c]);
+                    }
+                }
+                table[0] = t;
+            }
+        }, REPEATS);
+        out.println("addValue(): List.indexOf() " + format(earlier)
+                + ", hash index " + format(current));
+
+        final double[] sums = new double[2];
+        current = time(new Runnable() {
+            public void run() {
+                Random random = new Random(1);
+                double sum = 0.0;
+                for (int i = 0; i < LOOKUPS; i++) {
+                    sum += dataset[0].getValue(rowKeys[random.nextInt(ROWS)],
+                            columnKeys[random.nextInt(COLUMNS)]).doubleValue();
+                }
+                sums[0] = sum;
+            }
+        }, REPEATS);
+        earlier = time(new Runnable() {
+            public void run() {
+                Random random = new Random(1);
+                double sum = 0.0;
+                for (int i = 0; i < LOOKUPS; i++) {
+                    sum += table[0].getValue(rowKeys[random.nextInt(ROWS)],
+                            columnKeys[random.nextInt(COLUMNS)]).doubleValue();
+                }
+                sums[1] = sum;
+            }
+        }, REPEATS);
+        out.println(LOOKUPS + " x getValue(): List.indexOf() "
+                + format(earlier) + ", hash index " + format(current)
+                + (sums[0] == sums[1] ? "" : " (VALUES DIFFER)"));
+    }
+
+    /**
+     * A copy of the key lookup that <code>DefaultKeyedValues2D</code> used
+     * before the hash index (for unsorted row keys), reduced to the methods
+     * used here.
+     */
+    private static class IndexOfTable {
+
+        /** The row keys. */
+        private List rowKeys = new ArrayList();
+
+        /** The column keys. */
+        private List columnKeys = new ArrayList();
+
+        /** The rows. */
+        private List rows = new ArrayList();
+
+        /**
+         * Sets a value, adding the row and column keys if necessary.
+         *
+         * @param value  the value.
+         * @param rowKey  the row key.
+         * @param columnKey  the column key.
+         */
+        void setValue(Number value, Comparable rowKey,
+                Comparable columnKey) {
+            DefaultKeyedValues row;
+            int rowIndex = this.rowKeys.indexOf(rowKey);
+            if (rowIndex >= 0) {
+                row = (DefaultKeyedValues) this.rows.get(rowIndex);
+            }
+            else {
+                row = new DefaultKeyedValues();
+                this.rowKeys.add(rowKey);
+                this.rows.add(row);
+            }
+            row.setValue(columnKey, value);
+            if (this.columnKeys.indexOf(columnKey) < 0) {
+                this.columnKeys.add(columnKey);
+            }
+        }
+
+        /**
+         * Returns a value.
+         *
+         * @param rowKey  the row key.
+         * @param columnKey  the column key.
+         *
+         * @return The value.
+         */
+        Number getValue(Comparable rowKey, Comparable columnKey) {
+            int rowIndex = this.rowKeys.indexOf(rowKey);
+            if (this.columnKeys.indexOf(columnKey) < 0) {
+                throw new IllegalArgumentException("Unrecognised key.");
+            }
+            DefaultKeyedValues row = (DefaultKeyedValues) this.rows.get(
+                    rowIndex);
+            return row.getValue(columnKey);
+        }
+
+    }
+
+    /**
+     * Runs the benchmark from the command line.
+     *
+     * @param args  ignored.
+     */
+    public static void main(String[] args) {
+        runFromCommandLine(new KeyedValues2DBenchmark());
+    }
+
+}
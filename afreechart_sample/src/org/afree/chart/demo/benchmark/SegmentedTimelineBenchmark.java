@@ -0,0 +1,222 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -------------------------------
+ * SegmentedTimelineBenchmark.java
+ * -------------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.afree.chart.axis.SegmentedTimeline;
+
+/**
+ * Measures a Monday through Friday {@link SegmentedTimeline} with several
+ * thousand holiday exceptions: adding the exceptions with
+ * <code>addExceptions()</code>, counting the exception segments in an
+ * interval (compared with the earlier approach of intersecting every
+ * exception segment with the interval), and the conversions that
+ * {@link org.afree.chart.axis.DateAxis} performs for each plotted point.
+ */
+public class SegmentedTimelineBenchmark extends Benchmark {
+
+    /** The number of years covered by the exceptions. */
+    private static final int YEARS = 20;
+
+    /** The number of holiday exceptions. */
+    private static final int EXCEPTIONS = 4000;
+
+    /** The number of conversions and counts timed in each run. */
+    private static final int CALLS = 20000;
+
+    /** The number of runs for each case. */
+    private static final int REPEATS = 3;
+
+    /**
+     * Returns the title of the benchmark.
+     *
+     * @return The title.
+     */
+    public String getTitle() {
+        return "SegmentedTimeline: Monday through Friday, " + EXCEPTIONS
+                + " exceptions over " + YEARS + " years";
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param out  the output for the results.
+     */
+    public void run(Output out) {
+        final List holidays = createHolidays();
+        final SegmentedTimeline[] timeline = new SegmentedTimeline[1];
+        double time = time(new Runnable() {
+            public void run() {
+                SegmentedTimeline t
+                        = SegmentedTimeline.newMondayThroughFridayTimeline();
+                t.addExceptions(holidays);
+                timeline[0] = t;
+            }
+        }, REPEATS);
+        out.println("addExceptions(): " + format(time) + " for "
+                + timeline[0].getExceptionSegments().size() + " segments");
+
+        Calendar calendar = new GregorianCalendar(2000, Calendar.JANUARY, 1);
+        final long start = calendar.getTimeInMillis();
+        calendar.add(Calendar.YEAR, YEARS);
+        final long length = calendar.getTimeInMillis() - start;
+        final long[] values = new long[CALLS];
+        Random random = new Random(1);
+        for (int i = 0; i < CALLS; i++) {
+            values[i] = start + (long) (random.nextDouble() * length);
+        }
+
+        final long[] sums = new long[2];
+        double indexed = time(new Runnable() {
+            public void run() {
+                long sum = 0;
+                for (int i = 0; i < CALLS; i++) {
+                    sum += timeline[0].getExceptionSegmentCount(start,
+                            values[i]);
+                }
+                sums[0] = sum;
+            }
+        }, REPEATS);
+        double scanning = time(new Runnable() {
+            public void run() {
+                long sum = 0;
+                for (int i = 0; i < CALLS; i++) {
+                    sum += scanExceptionSegmentCount(timeline[0], start,
+                            values[i]);
+                }
+                sums[1] = sum;
+            }
+        }, REPEATS);
+        out.println("getExceptionSegmentCount() x " + CALLS + ": scanning "
+                + format(scanning) + ", index " + format(indexed)
+                + (sums[0] == sums[1] ? "" : " (COUNTS DIFFER)"));
+
+        time = time(new Runnable() {
+            public void run() {
+                long sum = 0;
+                for (int i = 0; i < CALLS; i++) {
+                    sum += timeline[0].toTimelineValue(values[i]);
+                }
+                sums[0] = sum;
+            }
+        }, REPEATS);
+        out.println("toTimelineValue() x " + CALLS + ": " + format(time));
+        time = time(new Runnable() {
+            public void run() {
+                long sum = 0;
+                for (int i = 0; i < CALLS; i++) {
+                    sum += timeline[0].toMillisecond(
+                            timeline[0].toTimelineValue(values[i]));
+                }
+                sums[0] = sum;
+            }
+        }, REPEATS);
+        out.println("toMillisecond(toTimelineValue()) x " + CALLS + ": "
+                + format(time));
+    }
+
+    /**
+     * Creates the holiday exceptions: random weekdays, about one in every
+     * six, starting in January 2000.
+     *
+     * @return A list of dates.
+     */
+    private static List createHolidays() {
+        List result = new ArrayList();
+        Random random = new Random(1);
+        Calendar calendar = new GregorianCalendar(2000, Calendar.JANUARY, 1,
+                12, 0);
+        while (result.size() < EXCEPTIONS) {
+            calendar.add(Calendar.DATE, 1 + random.nextInt(4));
+            int day = calendar.get(Calendar.DAY_OF_WEEK);
+            if (day != Calendar.SATURDAY && day != Calendar.SUNDAY) {
+                result.add(calendar.getTime());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the exception segments in an interval in the way that
+     * <code>SegmentedTimeline</code> did before the exceptions were
+     * indexed, by intersecting every exception segment with the interval.
+     *
+     * @param timeline  the timeline.
+     * @param from  the start of the interval.
+     * @param to  the end of the interval.
+     *
+     * @return The number of exception segments in the interval.
+     */
+    private static long scanExceptionSegmentCount(SegmentedTimeline timeline,
+            long from, long to) {
+        if (to < from) {
+            return 0;
+        }
+        long n = 0;
+        for (Iterator iter = timeline.getExceptionSegments().iterator();
+                iter.hasNext();) {
+            SegmentedTimeline.Segment segment
+                    = (SegmentedTimeline.Segment) iter.next();
+            SegmentedTimeline.Segment intersection = segment.intersect(from,
+                    to);
+            if (intersection != null) {
+                n += intersection.getSegmentCount();
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Runs the benchmark from the command line.
+     *
+     * @param args  ignored.
+     */
+    public static void main(String[] args) {
+        runFromCommandLine(new SegmentedTimelineBenchmark());
+    }
+
+}
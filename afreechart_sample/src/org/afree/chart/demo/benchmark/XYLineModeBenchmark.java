@@ -0,0 +1,154 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ------------------------
+ * XYLineModeBenchmark.java
+ * ------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.demo.benchmark;
+
+import java.util.Random;
+
+import org.afree.chart.AFreeChart;
+import org.afree.chart.axis.NumberAxis;
+import org.afree.chart.plot.XYPlot;
+import org.afree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.afree.data.xy.DefaultXYDataset;
+import org.afree.graphics.geom.RectShape;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+
+/**
+ * Compares the three ways that {@link XYLineAndShapeRenderer} can draw the
+ * lines of a series: one <code>drawLine()</code> call per segment, a single
+ * path per series (<code>drawSeriesLineAsPath</code>) and batches of
+ * segments drawn with <code>drawLines()</code>
+ * (<code>drawSeriesLineAsBatch</code>).  The chart is drawn into a bitmap,
+ * so the times include the rasterisation of the lines.
+ */
+public class XYLineModeBenchmark extends Benchmark {
+
+    /** The number of items in the series for each case. */
+    private static final int[] SIZES = {10000, 100000, 1000000};
+
+    /** The width of the bitmap. */
+    private static final int WIDTH = 800;
+
+    /** The height of the bitmap. */
+    private static final int HEIGHT = 480;
+
+    /** The number of runs for each case. */
+    private static final int REPEATS = 5;
+
+    /**
+     * Returns the title of the benchmark.
+     *
+     * @return The title.
+     */
+    public String getTitle() {
+        return "XYLineAndShapeRenderer line modes: a random walk drawn into a "
+                + WIDTH + " x " + HEIGHT + " bitmap";
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param out  the output for the results.
+     */
+    public void run(Output out) {
+        Bitmap bitmap = Bitmap.createBitmap(WIDTH, HEIGHT,
+                Bitmap.Config.ARGB_8888);
+        final Canvas canvas = new Canvas(bitmap);
+        final RectShape area = new RectShape(0.0, 0.0, WIDTH, HEIGHT);
+        for (int i = 0; i < SIZES.length; i++) {
+            int n = SIZES[i];
+            final XYLineAndShapeRenderer renderer
+                    = new XYLineAndShapeRenderer(true, false);
+            final AFreeChart chart = new AFreeChart(new XYPlot(
+                    createDataset(n), new NumberAxis("X"), new NumberAxis("Y"),
+                    renderer));
+            chart.removeLegend();
+            Runnable draw = new Runnable() {
+                public void run() {
+                    chart.draw(canvas, area, null, null);
+                }
+            };
+            renderer.setDrawSeriesLineAsPath(false);
+            renderer.setDrawSeriesLineAsBatch(false);
+            double segments = time(draw, REPEATS);
+            renderer.setDrawSeriesLineAsPath(true);
+            double path = time(draw, REPEATS);
+            renderer.setDrawSeriesLineAsPath(false);
+            renderer.setDrawSeriesLineAsBatch(true);
+            double batch = time(draw, REPEATS);
+            out.println(n + " items: per segment " + format(segments)
+                    + ", path " + format(path) + ", batch " + format(batch));
+        }
+        bitmap.recycle();
+    }
+
+    /**
+     * Creates a dataset with one series that is a random walk.
+     *
+     * @param n  the number of items.
+     *
+     * @return The dataset.
+     */
+    private static DefaultXYDataset createDataset(int n) {
+        Random random = new Random(1);
+        double[][] data = new double[2][n];
+        double y = 0.0;
+        for (int i = 0; i < n; i++) {
+            y += random.nextGaussian();
+            data[0][i] = i;
+            data[1][i] = y;
+        }
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("Random walk", data);
+        return dataset;
+    }
+
+    /**
+     * Runs the benchmark from the command line.
+     *
+     * @param args  ignored.
+     */
+    public static void main(String[] args) {
+        runFromCommandLine(new XYLineModeBenchmark());
+    }
+
+}
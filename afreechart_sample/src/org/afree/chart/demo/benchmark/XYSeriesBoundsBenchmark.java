@@ -0,0 +1,308 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ----------------------------
+ * XYSeriesBoundsBenchmark.java
+ * ----------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.afree.data.xy.XYDataItem;
+import org.afree.data.xy.XYSeries;
+
+/**
+ * Compares the bounds maintenance in {@link XYSeries} (a min/max segment
+ * tree) with the earlier approach of caching the bounds and scanning the
+ * whole series whenever an item on a boundary is removed or updated, for a
+ * rolling window of live data.
+ */
+public class XYSeriesBoundsBenchmark extends Benchmark {
+
+    /** The number of items in the rolling window. */
+    private static final int WINDOW = 50000;
+
+    /** The number of items appended in each run. */
+    private static final int APPENDS = 5000;
+
+    /** The number of runs for each case. */
+    private static final int REPEATS = 3;
+
+    /**
+     * Returns the title of the benchmark.
+     *
+     * @return The title.
+     */
+    public String getTitle() {
+        return "XYSeries bounds: " + APPENDS + " appends to a rolling window"
+                + " of " + WINDOW + " items";
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param out  the output for the results.
+     */
+    public void run(Output out) {
+        out.println("rising y-values:");
+        report(out, false);
+        out.println("random y-values, one updateByIndex() per append:");
+        report(out, true);
+    }
+
+    /**
+     * Times one case with both implementations.  The window is filled
+     * before the timing starts, so only the appends to a full window (each
+     * of which evicts the oldest item) are timed.
+     *
+     * @param out  the output.
+     * @param update  update a random item after each append?
+     */
+    private void report(Output out, boolean update) {
+        double current = Double.MAX_VALUE;
+        double earlier = Double.MAX_VALUE;
+        boolean same = true;
+        for (int r = 0; r < REPEATS; r++) {
+            XYSeries series = new XYSeries("Series");
+            series.setMaximumItemCount(WINDOW);
+            RescanningSeries rescanning = new RescanningSeries(WINDOW);
+            fill(series, null, 0, WINDOW, update);
+            fill(null, rescanning, 0, WINDOW, update);
+
+            long start = System.nanoTime();
+            fill(series, null, WINDOW, WINDOW + APPENDS, update);
+            current = Math.min(current, (System.nanoTime() - start) / 1.0e6);
+            start = System.nanoTime();
+            fill(null, rescanning, WINDOW, WINDOW + APPENDS, update);
+            earlier = Math.min(earlier, (System.nanoTime() - start) / 1.0e6);
+
+            same = same && series.getMinY() == rescanning.minY
+                    && series.getMaxY() == rescanning.maxY;
+        }
+        out.println("  rescanning: " + format(earlier) + ", segment tree: "
+                + format(current) + (same ? "" : " (BOUNDS DIFFER)"));
+    }
+
+    /**
+     * Adds the items with the indices <code>from</code> to <code>to - 1</code>
+     * to a series, and optionally updates a random item after each one.
+     * Exactly one of the two series is non-null.
+     *
+     * @param series  the series (<code>null</code> permitted).
+     * @param rescanning  the series (<code>null</code> permitted).
+     * @param from  the index of the first item.
+     * @param to  the index after the last item.
+     * @param update  update a random item after each append?
+     */
+    private static void fill(XYSeries series, RescanningSeries rescanning,
+            int from, int to, boolean update) {
+        Random random = new Random(from);
+        for (int i = from; i < to; i++) {
+            double y = update ? random.nextDouble() : i;
+            if (series != null) {
+                series.add(i, y);
+            }
+            else {
+                rescanning.add(i, y);
+            }
+            if (update && i >= WINDOW) {
+                int index = random.nextInt(WINDOW);
+                Double value = new Double(random.nextDouble());
+                if (series != null) {
+                    series.updateByIndex(index, value);
+                }
+                else {
+                    rescanning.updateByIndex(index, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * A copy of the bounds maintenance that <code>XYSeries</code> used
+     * before the segment tree, reduced to the methods used here.
+     */
+    private static class RescanningSeries {
+
+        /** The items. */
+        private List data = new ArrayList();
+
+        /** The maximum item count. */
+        private int maximumItemCount;
+
+        /** The minimum x-value. */
+        private double minX = Double.NaN;
+
+        /** The maximum x-value. */
+        private double maxX = Double.NaN;
+
+        /** The minimum y-value. */
+        private double minY = Double.NaN;
+
+        /** The maximum y-value. */
+        private double maxY = Double.NaN;
+
+        /**
+         * Creates a new series.
+         *
+         * @param maximumItemCount  the maximum item count.
+         */
+        RescanningSeries(int maximumItemCount) {
+            this.maximumItemCount = maximumItemCount;
+        }
+
+        /**
+         * Adds an item, removing the oldest item if the series is full.
+         *
+         * @param x  the x-value.
+         * @param y  the y-value.
+         */
+        void add(double x, double y) {
+            XYDataItem item = new XYDataItem(x, y);
+            int index = Collections.binarySearch(this.data, item);
+            this.data.add(index < 0 ? -index - 1 : index + 1, item);
+            updateBoundsForAddedItem(item);
+            if (this.data.size() > this.maximumItemCount) {
+                XYDataItem removed = (XYDataItem) this.data.remove(0);
+                updateBoundsForRemovedItem(removed);
+            }
+        }
+
+        /**
+         * Updates the y-value of an item.
+         *
+         * @param index  the item index.
+         * @param y  the new y-value.
+         */
+        void updateByIndex(int index, Number y) {
+            XYDataItem item = (XYDataItem) this.data.get(index);
+            double oldY = item.getYValue();
+            boolean iterate = oldY <= this.minY || oldY >= this.maxY;
+            item.setY(y);
+            if (iterate) {
+                findBoundsByIteration();
+            }
+            else {
+                this.minY = Math.min(this.minY, y.doubleValue());
+                this.maxY = Math.max(this.maxY, y.doubleValue());
+            }
+        }
+
+        /**
+         * Updates the bounds for an added item.
+         *
+         * @param item  the item.
+         */
+        private void updateBoundsForAddedItem(XYDataItem item) {
+            this.minX = minIgnoreNaN(this.minX, item.getXValue());
+            this.maxX = maxIgnoreNaN(this.maxX, item.getXValue());
+            this.minY = minIgnoreNaN(this.minY, item.getYValue());
+            this.maxY = maxIgnoreNaN(this.maxY, item.getYValue());
+        }
+
+        /**
+         * Updates the bounds for a removed item, scanning all the items if
+         * the item was on a boundary.
+         *
+         * @param item  the item.
+         */
+        private void updateBoundsForRemovedItem(XYDataItem item) {
+            double y = item.getYValue();
+            if (y <= this.minY || y >= this.maxY) {
+                findBoundsByIteration();
+            }
+            else {
+                this.minX = ((XYDataItem) this.data.get(0)).getXValue();
+                this.maxX = ((XYDataItem) this.data.get(
+                        this.data.size() - 1)).getXValue();
+            }
+        }
+
+        /**
+         * Recalculates the bounds by scanning all the items.
+         */
+        private void findBoundsByIteration() {
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            for (int i = 0; i < this.data.size(); i++) {
+                updateBoundsForAddedItem((XYDataItem) this.data.get(i));
+            }
+        }
+
+        /**
+         * Returns the smaller of two values, ignoring Double.NaN.
+         *
+         * @param a  the first value.
+         * @param b  the second value.
+         *
+         * @return The smaller value.
+         */
+        private static double minIgnoreNaN(double a, double b) {
+            return Double.isNaN(a) ? b : (Double.isNaN(b) ? a
+                    : Math.min(a, b));
+        }
+
+        /**
+         * Returns the larger of two values, ignoring Double.NaN.
+         *
+         * @param a  the first value.
+         * @param b  the second value.
+         *
+         * @return The larger value.
+         */
+        private static double maxIgnoreNaN(double a, double b) {
+            return Double.isNaN(a) ? b : (Double.isNaN(b) ? a
+                    : Math.max(a, b));
+        }
+
+    }
+
+    /**
+     * Runs the benchmark from the command line.
+     *
+     * @param args  ignored.
+     */
+    public static void main(String[] args) {
+        runFromCommandLine(new XYSeriesBoundsBenchmark());
+    }
+
+}
@@ -0,0 +1,188 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * --------------------------
+ * DynamicDataDemo01View.java
+ * --------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.demo.view;
+
+import java.util.Random;
+
+import org.afree.chart.AFreeChart;
+import org.afree.chart.ChartFactory;
+import org.afree.chart.axis.ValueAxis;
+import org.afree.chart.demo.DemoView;
+import org.afree.chart.plot.XYPlot;
+import org.afree.chart.renderer.xy.XYItemRenderer;
+import org.afree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.afree.data.time.Millisecond;
+import org.afree.data.time.TimeSeries;
+import org.afree.data.time.TimeSeriesCollection;
+import org.afree.graphics.SolidColor;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.os.Handler;
+
+/**
+ * DynamicDataDemo01View
+ * <P>
+ * A time series that receives a new value ten times a second and scrolls
+ * the domain axis to show the last 30 seconds.  The values are added on
+ * the renderer's worker thread, and the layer cache draws only the items
+ * that scroll into view.  The renderer uses a virtual entity, so the
+ * entities (for touch events) are still recorded while the chart scrolls.
+ */
+public class DynamicDataDemo01View extends DemoView {
+
+    /** The interval between new values (in milliseconds). */
+    private static final long INTERVAL = 100L;
+
+    /** The length of the domain axis range (in milliseconds). */
+    private static final double HISTORY = 30000.0;
+
+    /** The series. */
+    private TimeSeries series;
+
+    /** The last value. */
+    private double lastValue = 100.0;
+
+    /** The random number generator for the values. */
+    private Random random = new Random();
+
+    /** The handler that schedules new values. */
+    private Handler handler = new Handler();
+
+    /** Adds a new value and schedules the next one. */
+    private Runnable tick = new Runnable() {
+        public void run() {
+            getChartRenderer().post(new Runnable() {
+                public void run() {
+                    addValue();
+                }
+            });
+            handler.postDelayed(this, INTERVAL);
+        }
+    };
+
+    /**
+     * constructor
+     * @param context
+     */
+    public DynamicDataDemo01View(Context context) {
+        super(context);
+
+        this.series = new TimeSeries("Random Data");
+        this.series.setMaximumItemAge((long) HISTORY);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(this.series);
+
+        final AFreeChart chart = createChart(dataset);
+
+        setChart(chart);
+
+        // the domain axis only scrolls, so the data layer can be shifted
+        getChartRenderer().getLayerCache().setIncrementalRendering(true);
+    }
+
+    /**
+     * Creates a chart.
+     *
+     * @param dataset  a dataset.
+     *
+     * @return A chart.
+     */
+    private static AFreeChart createChart(TimeSeriesCollection dataset) {
+
+        AFreeChart chart = ChartFactory.createTimeSeriesChart(
+            "Dynamic Data Demo",  // title
+            "Time",               // x-axis label
+            "Value",              // y-axis label
+            dataset,              // data
+            false,                // create legend?
+            true,                 // generate tooltips?
+            false                 // generate URLs?
+        );
+
+        chart.setBackgroundPaintType(new SolidColor(Color.WHITE));
+
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setBackgroundPaintType(new SolidColor(Color.LTGRAY));
+        plot.setDomainGridlinePaintType(new SolidColor(Color.WHITE));
+        plot.setRangeGridlinePaintType(new SolidColor(Color.WHITE));
+
+        ValueAxis axis = plot.getDomainAxis();
+        axis.setAutoRange(true);
+        axis.setFixedAutoRange(HISTORY);
+
+        // a fixed range axis, so that a new value doesn't rescale the data
+        axis = plot.getRangeAxis();
+        axis.setRange(0.0, 200.0);
+
+        XYItemRenderer r = plot.getRenderer();
+        if (r instanceof XYLineAndShapeRenderer) {
+            XYLineAndShapeRenderer renderer = (XYLineAndShapeRenderer) r;
+            renderer.setBaseShapesVisible(false);
+            // one entity for the whole series, created whether or not the
+            // items are drawn
+            renderer.setUseVirtualEntities(true);
+        }
+
+        return chart;
+
+    }
+
+    /**
+     * Adds a new value to the series.  This method is called on the
+     * renderer's worker thread.
+     */
+    private void addValue() {
+        double value = this.lastValue + this.random.nextGaussian() * 5.0;
+        value = Math.max(10.0, Math.min(190.0, value));
+        this.series.addOrUpdate(new Millisecond(), value);
+        this.lastValue = value;
+    }
+
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        this.handler.postDelayed(this.tick, INTERVAL);
+    }
+
+    protected void onDetachedFromWindow() {
+        this.handler.removeCallbacks(this.tick);
+        super.onDetachedFromWindow();
+    }
+}
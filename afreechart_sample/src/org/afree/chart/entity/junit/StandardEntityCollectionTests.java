@@ -0,0 +1,191 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ----------------------------------
+ * StandardEntityCollectionTests.java
+ * ----------------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.chart.entity.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.afree.chart.entity.ChartEntity;
+import org.afree.chart.entity.StandardEntityCollection;
+import org.afree.graphics.geom.RectShape;
+
+/**
+ * Tests for the {@link StandardEntityCollection} class.
+ */
+public class StandardEntityCollectionTests extends TestCase {
+
+    /**
+     * Creates a collection of small entities scattered over a 1000 x 1000
+     * area.
+     *
+     * @param random  the random number generator.
+     * @param count  the number of entities.
+     *
+     * @return The collection.
+     */
+    private static StandardEntityCollection createCollection(Random random,
+            int count) {
+        StandardEntityCollection entities = new StandardEntityCollection();
+        for (int i = 0; i < count; i++) {
+            entities.add(new ChartEntity(new RectShape(
+                    random.nextFloat() * 1000.0f, random.nextFloat() * 1000.0f,
+                    5.0f + random.nextFloat() * 20.0f,
+                    5.0f + random.nextFloat() * 20.0f)));
+        }
+        return entities;
+    }
+
+    /**
+     * Returns the last entity that contains a point, found by testing every
+     * entity.
+     *
+     * @param entities  the entities.
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    private static ChartEntity findEntity(StandardEntityCollection entities,
+            float x, float y) {
+        for (int i = entities.getEntityCount() - 1; i >= 0; i--) {
+            ChartEntity entity = entities.getEntity(i);
+            if (entity.getArea().contains(x, y)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entities that intersect a rectangle, found by testing
+     * every entity.
+     *
+     * @param entities  the entities.
+     * @param area  the rectangle.
+     *
+     * @return The entities.
+     */
+    private static List findEntities(StandardEntityCollection entities,
+            RectShape area) {
+        List result = new ArrayList();
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            if (entity.getArea().intersects(area)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compares the indexed queries with a test of every entity, for points
+     * and rectangles inside and around the entities.
+     *
+     * @param entities  the entities.
+     * @param random  the random number generator.
+     */
+    private static void checkQueries(StandardEntityCollection entities,
+            Random random) {
+        for (int i = 0; i < 5000; i++) {
+            float x = random.nextFloat() * 1200.0f - 100.0f;
+            float y = random.nextFloat() * 1200.0f - 100.0f;
+            assertSame(findEntity(entities, x, y),
+                    entities.getEntity(x, y));
+        }
+        for (int i = 0; i < 500; i++) {
+            RectShape area = new RectShape(
+                    random.nextFloat() * 1200.0f - 100.0f,
+                    random.nextFloat() * 1200.0f - 100.0f,
+                    random.nextFloat() * 100.0f, random.nextFloat() * 100.0f);
+            assertEquals(findEntities(entities, area),
+                    entities.getEntities(area));
+        }
+    }
+
+    /**
+     * An entity with NaN bounds must not stop the other entities from being
+     * found.
+     */
+    public void testEntityWithNaNBounds() {
+        Random random = new Random(1L);
+        StandardEntityCollection entities = createCollection(random, 100);
+        entities.add(new ChartEntity(new RectShape(Float.NaN, Float.NaN,
+                10.0f, 10.0f)));
+        entities.addAll(createCollection(random, 100));
+        assertTrue(entities.getEntityCount() >= 64);
+        checkQueries(entities, random);
+    }
+
+    /**
+     * An entity with infinite bounds is found outside the bounds of the
+     * other entities.
+     */
+    public void testEntityWithInfiniteBounds() {
+        Random random = new Random(2L);
+        StandardEntityCollection entities = createCollection(random, 100);
+        ChartEntity band = new ChartEntity(new RectShape(0.0f, 500.0f,
+                Float.POSITIVE_INFINITY, 20.0f));
+        entities.add(band);
+        entities.addAll(createCollection(random, 100));
+        assertTrue(entities.getEntityCount() >= 64);
+        checkQueries(entities, random);
+        assertSame(band, entities.getEntity(5000.0, 510.0));
+    }
+
+    /**
+     * A collection where no entity has finite bounds.
+     */
+    public void testOnlyNonFiniteBounds() {
+        StandardEntityCollection entities = new StandardEntityCollection();
+        for (int i = 0; i < 70; i++) {
+            entities.add(new ChartEntity(new RectShape(i * 10.0f, 0.0f,
+                    Float.POSITIVE_INFINITY, 5.0f)));
+        }
+        assertSame(entities.getEntity(69), entities.getEntity(1000.0, 2.0));
+        assertNull(entities.getEntity(-5.0, 2.0));
+        assertEquals(70, entities.getEntities(
+                new RectShape(1000.0f, 0.0f, 1.0f, 1.0f)).size());
+    }
+
+}
@@ -0,0 +1,152 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * --------------------------
+ * DerivedXYDatasetTests.java
+ * --------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.data.statistics.junit;
+
+import junit.framework.TestCase;
+
+import org.afree.data.statistics.DerivedXYDataset;
+import org.afree.data.xy.DoubleXYSeries;
+import org.afree.data.xy.XYSeries;
+
+/**
+ * Tests for the {@link DerivedXYDataset} class.
+ */
+public class DerivedXYDatasetTests extends TestCase {
+
+    /**
+     * Returns the average of the y-values of <code>count</code> items in a
+     * series, ending with the item at <code>last</code>.
+     *
+     * @param source  the series.
+     * @param last  the index of the last item.
+     * @param count  the number of items.
+     *
+     * @return The average.
+     */
+    private static double average(XYSeries source, int last, int count) {
+        double sum = 0.0;
+        for (int i = last - count + 1; i <= last; i++) {
+            sum += source.getY(i).doubleValue();
+        }
+        return sum / count;
+    }
+
+    /**
+     * The derived series keep the maximum item count of the source, and
+     * hold the values for the most recent items.
+     */
+    public void testCappedSource() {
+        XYSeries source = new XYSeries("S");
+        source.setMaximumItemCount(50);
+        DerivedXYDataset dataset = new DerivedXYDataset(source);
+        DoubleXYSeries average = dataset.addSimpleMovingAverage("MA", 5);
+        DoubleXYSeries[] envelope = dataset.addEnvelope("L", "U", 5);
+        for (int i = 0; i < 2000; i++) {
+            source.add(i, Math.sin(i * 0.1) * 100.0 + i % 7);
+        }
+        assertEquals(50, average.getItemCount());
+        assertEquals(50, envelope[0].getItemCount());
+        // the windows for the first four derived items start before the
+        // oldest item retained in the source
+        for (int i = 4; i < 50; i++) {
+            double x = average.getXValue(i);
+            int last = source.indexOf(new Double(x));
+            assertEquals(1950.0 + i, x, 0.0);
+            assertEquals(average(source, last, 5), average.getYValue(i),
+                    1e-9);
+            double low = Double.POSITIVE_INFINITY;
+            double high = Double.NEGATIVE_INFINITY;
+            for (int j = last - 4; j <= last; j++) {
+                low = Math.min(low, source.getY(j).doubleValue());
+                high = Math.max(high, source.getY(j).doubleValue());
+            }
+            assertEquals(x, envelope[0].getXValue(i), 0.0);
+            assertEquals(low, envelope[0].getYValue(i), 0.0);
+            assertEquals(high, envelope[1].getYValue(i), 0.0);
+        }
+        assertEquals(1950.0, average.getMinX(), 0.0);
+        assertEquals(1999.0, average.getMaxX(), 0.0);
+    }
+
+    /**
+     * A clone has its own running statistics, so both the original and the
+     * clone keep following the source without writing to each other's
+     * series.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        XYSeries source = new XYSeries("S");
+        DerivedXYDataset d1 = new DerivedXYDataset(source);
+        d1.addSimpleMovingAverage("MA", 3);
+        d1.addExponentialMovingAverage("EMA", 0.5);
+        d1.addLinearRegression("OLS", 4);
+        d1.addEnvelope("L", "U", 3);
+        for (int i = 0; i < 10; i++) {
+            source.add(i, i * i);
+        }
+        DerivedXYDataset d2 = (DerivedXYDataset) d1.clone();
+        assertEquals(d1.getSeriesCount(), d2.getSeriesCount());
+        for (int i = 0; i < d1.getSeriesCount(); i++) {
+            assertTrue(d1.getSeries(i) != d2.getSeries(i));
+            assertEquals(d1.getSeries(i), d2.getSeries(i));
+        }
+
+        for (int i = 10; i < 20; i++) {
+            source.add(i, i * i);
+        }
+        for (int i = 0; i < d1.getSeriesCount(); i++) {
+            assertEquals(d1.getSeries(i), d2.getSeries(i));
+        }
+        assertEquals(18, d1.getSeries("MA").getItemCount());
+        assertEquals((17 * 17 + 18 * 18 + 19 * 19) / 3.0,
+                d2.getSeries("MA").getYValue(17), 1e-9);
+        double[] p1 = d1.getOLSRegression(d1.getSeries("OLS"));
+        double[] p2 = d2.getOLSRegression(d2.getSeries("OLS"));
+        assertEquals(p1[0], p2[0], 0.0);
+        assertEquals(p1[1], p2[1], 0.0);
+
+        // once detached, the clone no longer changes
+        d2.detach();
+        source.add(20, 400.0);
+        assertEquals(19, d1.getSeries("MA").getItemCount());
+        assertEquals(18, d2.getSeries("MA").getItemCount());
+    }
+
+}
@@ -0,0 +1,184 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * -----------------------
+ * MovingAverageTests.java
+ * -----------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.data.time.junit;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.afree.data.time.Day;
+import org.afree.data.time.MovingAverage;
+import org.afree.data.time.RegularTimePeriod;
+import org.afree.data.time.TimeSeries;
+import org.afree.data.xy.XYSeries;
+import org.afree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link MovingAverage} class.
+ */
+public class MovingAverageTests extends TestCase {
+
+    /**
+     * Creates a daily series with the given values.
+     *
+     * @param values  the values.
+     *
+     * @return The series.
+     */
+    private static TimeSeries createSeries(double[] values) {
+        TimeSeries s = new TimeSeries("Source");
+        RegularTimePeriod period = new Day(1, 1, 2000);
+        for (int i = 0; i < values.length; i++) {
+            s.add(period, values[i]);
+            period = period.next();
+        }
+        return s;
+    }
+
+    /**
+     * Returns the average of the items in a window, summed directly (the
+     * newest item first).
+     *
+     * @param values  the values.
+     * @param item  the index of the newest item in the window.
+     * @param periodCount  the number of items in the window.
+     *
+     * @return The average.
+     */
+    private static double directAverage(double[] values, int item,
+            int periodCount) {
+        double sum = 0.0;
+        int n = 0;
+        for (int i = item; i >= 0 && i > item - periodCount; i--) {
+            sum = sum + values[i];
+            n++;
+        }
+        return sum / n;
+    }
+
+    /**
+     * Checks the moving average of a series against a direct sum over each
+     * window.  The tolerance is relative to the largest value in the window.
+     *
+     * @param values  the values.
+     * @param periodCount  the number of items in the window.
+     */
+    private static void checkAgainstDirectSum(double[] values,
+            int periodCount) {
+        TimeSeries ma = MovingAverage.createMovingAverage(
+                createSeries(values), "MA", periodCount, 0);
+        assertEquals(values.length, ma.getItemCount());
+        for (int i = 0; i < values.length; i++) {
+            double max = 0.0;
+            for (int j = Math.max(0, i - periodCount + 1); j <= i; j++) {
+                max = Math.max(max, Math.abs(values[j]));
+            }
+            assertEquals("item " + i, directAverage(values, i, periodCount),
+                    ma.getValue(i).doubleValue(), max * 1.0E-14);
+        }
+    }
+
+    /**
+     * The rounding error from large values must not remain in the sum after
+     * the large values have left the window.
+     */
+    public void testLargeValuesLeavingTheWindow() {
+        double[] values = new double[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i < 10 ? 1.0E16 : 0.3);
+        }
+        TimeSeries ma = MovingAverage.createMovingAverage(
+                createSeries(values), "MA", 5, 0);
+        assertEquals(0.3, ma.getValue(499).doubleValue(), 1.0E-15);
+        checkAgainstDirectSum(values, 5);
+    }
+
+    /**
+     * A window of zeros has an average of exactly zero.
+     */
+    public void testWindowOfZeros() {
+        double[] values = new double[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i < 10 ? 1.0E16 : (i < 50 ? 0.3 : 0.0));
+        }
+        TimeSeries ma = MovingAverage.createMovingAverage(
+                createSeries(values), "MA", 5, 0);
+        for (int i = 54; i < values.length; i++) {
+            assertEquals(0.0, ma.getValue(i).doubleValue(), 0.0);
+        }
+    }
+
+    /**
+     * Compares the averages of badly scaled random values with direct sums.
+     */
+    public void testBadlyScaledValues() {
+        Random random = new Random(1L);
+        double[] values = new double[2000];
+        for (int i = 0; i < values.length; i++) {
+            double scale = Math.pow(10.0, random.nextInt(33) - 16);
+            values[i] = (random.nextDouble() - 0.5) * scale;
+        }
+        checkAgainstDirectSum(values, 1);
+        checkAgainstDirectSum(values, 7);
+        checkAgainstDirectSum(values, 50);
+    }
+
+    /**
+     * The averages for an {@link XYSeries} (with a time-based window) use
+     * the same running sum.
+     */
+    public void testXYSeriesLargeValuesLeavingTheWindow() {
+        XYSeries s = new XYSeries("Source");
+        double[] values = new double[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i < 10 ? 1.0E16 : 0.3);
+            s.add(i, values[i]);
+        }
+        XYSeries ma = MovingAverage.createMovingAverage(
+                new XYSeriesCollection(s), 0, "MA", 5.0, 0.0);
+        assertEquals(values.length, ma.getItemCount());
+        for (int i = 10; i < values.length; i++) {
+            assertEquals("item " + i, directAverage(values, i, 5),
+                    ma.getY(i).doubleValue(), 1.0E-15);
+        }
+    }
+
+}
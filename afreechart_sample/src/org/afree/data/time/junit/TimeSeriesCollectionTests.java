@@ -0,0 +1,121 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ------------------------------
+ * TimeSeriesCollectionTests.java
+ * ------------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.data.time.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.afree.data.Range;
+import org.afree.data.time.Day;
+import org.afree.data.time.TimeSeries;
+import org.afree.data.time.TimeSeriesCollection;
+
+/**
+ * Tests for the {@link TimeSeriesCollection} class.
+ */
+public class TimeSeriesCollectionTests extends TestCase {
+
+    /**
+     * Returns the range of x-values from the start of one day to the end of
+     * another (in January 2000).
+     *
+     * @param first  the first day of the month.
+     * @param last  the last day of the month.
+     *
+     * @return The range.
+     */
+    private static Range days(int first, int last) {
+        return new Range(new Day(first, 1, 2000).getFirstMillisecond(),
+                new Day(last, 1, 2000).getLastMillisecond());
+    }
+
+    /**
+     * The cached x-values must be rebuilt when an item is deleted inside the
+     * series and another is inserted, even though the item count and the
+     * first and last items are unchanged.
+     */
+    public void testGetRangeBoundsAfterDeleteAndInsert() {
+        TimeSeries s = new TimeSeries("S");
+        s.add(new Day(5, 1, 2000), 10.0);
+        s.add(new Day(10, 1, 2000), 20.0);
+        s.add(new Day(15, 1, 2000), 30.0);
+        s.add(new Day(20, 1, 2000), 40.0);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s);
+        List keys = new ArrayList();
+        keys.add("S");
+        assertEquals(new Range(10.0, 20.0),
+                dataset.getRangeBounds(keys, days(4, 11), false));
+
+        s.delete(new Day(10, 1, 2000));
+        s.add(new Day(17, 1, 2000), 1000.0);
+        assertEquals(new Range(10.0, 10.0),
+                dataset.getRangeBounds(keys, days(4, 11), false));
+        assertEquals(new Range(1000.0, 1000.0),
+                dataset.getRangeBounds(keys, days(16, 18), false));
+        assertEquals(s.getTimePeriod(2).getFirstMillisecond(),
+                (long) dataset.getXValue(0, 2));
+    }
+
+    /**
+     * Appending items and ageing out the oldest items keeps the cached
+     * x-values in step with the series.
+     */
+    public void testGetRangeBoundsAfterAppend() {
+        TimeSeries s = new TimeSeries("S");
+        s.setMaximumItemCount(3);
+        s.add(new Day(1, 1, 2000), 1.0);
+        s.add(new Day(2, 1, 2000), 2.0);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s);
+        List keys = new ArrayList();
+        keys.add("S");
+        assertEquals(new Range(1.0, 2.0),
+                dataset.getRangeBounds(keys, days(1, 31), false));
+        for (int day = 3; day <= 10; day++) {
+            s.add(new Day(day, 1, 2000), day);
+            assertEquals(new Range(day - 2, day),
+                    dataset.getRangeBounds(keys, days(1, 31), false));
+        }
+        assertNull(dataset.getRangeBounds(keys, days(1, 7), false));
+    }
+
+}
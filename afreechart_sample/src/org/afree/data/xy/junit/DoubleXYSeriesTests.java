@@ -0,0 +1,176 @@
+/* ===========================================================
+ * AFreeChart : a free chart library for Android(tm) platform.
+ *              (based on JFreeChart and JCommon)
+ * ===========================================================
+ *
+ * (C) Copyright 2026, by agent.
+ *
+ * Project Info:
+ *    AFreeChart: http://code.google.com/p/afreechart/
+ *    JFreeChart: http://www.jfree.org/jfreechart/index.html
+ *    JCommon   : http://www.jfree.org/jcommon/index.html
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * [Android is a trademark of Google Inc.]
+ *
+ * ------------------------
+ * DoubleXYSeriesTests.java
+ * ------------------------
+ * (C) Copyright 2026, by agent.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ */
+
+package org.afree.data.xy.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.afree.data.xy.DoubleXYSeries;
+
+/**
+ * Tests for the {@link DoubleXYSeries} class.
+ */
+public class DoubleXYSeriesTests extends TestCase {
+
+    /**
+     * Checks a series against a list of (x, y) pairs.
+     *
+     * @param expected  the pairs (instances of <code>double[]</code>).
+     * @param series  the series.
+     */
+    private static void check(List expected, DoubleXYSeries series) {
+        assertEquals(expected.size(), series.getItemCount());
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        for (int i = 0; i < expected.size(); i++) {
+            double[] item = (double[]) expected.get(i);
+            assertEquals(item[0], series.getXValue(i), 0.0);
+            assertEquals(item[1], series.getYValue(i), 0.0);
+            minY = i == 0 ? item[1] : Math.min(minY, item[1]);
+            maxY = i == 0 ? item[1] : Math.max(maxY, item[1]);
+        }
+        if (expected.size() > 0) {
+            assertEquals(((double[]) expected.get(0))[0], series.getMinX(),
+                    0.0);
+            assertEquals(((double[]) expected.get(expected.size() - 1))[0],
+                    series.getMaxX(), 0.0);
+        }
+        assertEquals(minY, series.getMinY(), 0.0);
+        assertEquals(maxY, series.getMaxY(), 0.0);
+    }
+
+    /**
+     * Adds an item to a list of pairs, after any items with the same x-value.
+     *
+     * @param list  the pairs.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private static void add(List list, double x, double y) {
+        int i = list.size();
+        while (i > 0 && ((double[]) list.get(i - 1))[0] > x) {
+            i--;
+        }
+        list.add(i, new double[] {x, y});
+    }
+
+    /**
+     * Appending to a capped series drops the oldest items.
+     */
+    public void testMaximumItemCount() {
+        DoubleXYSeries s = new DoubleXYSeries("S", true, true, 0);
+        s.setMaximumItemCount(3);
+        for (int i = 0; i < 1000; i++) {
+            s.add(i, -i);
+        }
+        assertEquals(3, s.getItemCount());
+        assertEquals(997.0, s.getXValue(0), 0.0);
+        assertEquals(-999.0, s.getYValue(2), 0.0);
+        assertEquals(-999.0, s.getMinY(), 0.0);
+        assertEquals(-997.0, s.getMaxY(), 0.0);
+        assertEquals(1, s.indexOf(998.0));
+        double[][] values = s.toArray();
+        assertEquals(3, values[0].length);
+        assertEquals(997.0, values[0][0], 0.0);
+    }
+
+    /**
+     * A mix of appends, inserts and removals, with items dropped from the
+     * start by the maximum item count, matches a simple list of pairs.
+     */
+    public void testMixedUpdates() throws CloneNotSupportedException {
+        Random random = new Random(17L);
+        DoubleXYSeries s = new DoubleXYSeries("S");
+        s.setMaximumItemCount(40);
+        List expected = new ArrayList();
+        double next = 0.0;
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(10);
+            if (op < 6 || expected.isEmpty()) {
+                double y = random.nextInt(100);
+                s.add(next, y);
+                add(expected, next, y);
+                next++;
+            }
+            else if (op == 6) {
+                double x = ((double[]) expected.get(0))[0]
+                        + random.nextInt((int) (next - ((double[])
+                        expected.get(0))[0]) + 1);
+                double y = random.nextInt(100);
+                s.add(x, y);
+                add(expected, x, y);
+            }
+            else if (op == 7) {
+                int i = random.nextInt(expected.size());
+                s.remove(i);
+                expected.remove(i);
+            }
+            else if (op == 8) {
+                int start = random.nextInt(expected.size());
+                int end = Math.min(expected.size() - 1,
+                        start + random.nextInt(3));
+                s.delete(start, end);
+                for (int i = end; i >= start; i--) {
+                    expected.remove(i);
+                }
+            }
+            else {
+                double[] x = new double[] {next + 1, next};
+                double[] y = new double[] {random.nextInt(100), -1.0};
+                s.addAll(x, y);
+                add(expected, x[1], y[1]);
+                add(expected, x[0], y[0]);
+                next += 2;
+            }
+            while (expected.size() > 40) {
+                expected.remove(0);
+            }
+            check(expected, s);
+        }
+        DoubleXYSeries copy = (DoubleXYSeries) s.clone();
+        assertEquals(s, copy);
+        assertEquals(s.hashCode(), copy.hashCode());
+    }
+
+}